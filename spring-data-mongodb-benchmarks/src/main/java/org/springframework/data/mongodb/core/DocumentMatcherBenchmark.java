@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
+
+/**
+ * Benchmarks for in-memory matching of documents using {@link DocumentMatcher}.
+ */
+@State(Scope.Benchmark)
+public class DocumentMatcherBenchmark extends AbstractMicrobenchmark {
+
+	private Document document;
+	private BsonDocument bsonDocument;
+
+	private Document equalityFilter;
+	private Document rangeFilter;
+	private Document complexFilter;
+
+	private DocumentMatcher equalityMatcher;
+	private DocumentMatcher rangeMatcher;
+	private DocumentMatcher complexMatcher;
+
+	@Setup
+	public void setUp() {
+
+		document = Document.parse("{ '_id' : 'luke', 'firstname' : 'luke', 'lastname' : 'skywalker', 'age' : 19, "
+				+ "'address' : { 'street' : 'melenium falcon 1', 'city' : 'deathstar', 'zip' : 1234 }, "
+				+ "'tags' : ['jedi', 'pilot', 'farmer'], "
+				+ "'ships' : [ { 'name' : 'X-Wing', 'speed' : 1050 }, { 'name' : 'Snowspeeder', 'speed' : 650 } ] }");
+		bsonDocument = BsonDocument.parse(document.toJson());
+
+		equalityFilter = Document.parse("{ 'lastname' : 'skywalker' }");
+		rangeFilter = Document.parse("{ 'age' : { '$gte' : 18, '$lt' : 30 }, 'address.zip' : { '$in' : [1234, 5678] } }");
+		complexFilter = Document.parse("{ '$or' : [ { 'tags' : { '$all' : ['jedi', 'sith'] } }, "
+				+ "{ 'ships' : { '$elemMatch' : { 'name' : { '$regex' : '^x-', '$options' : 'i' }, 'speed' : { '$gt' : 1000 } } } } ], "
+				+ "'address.city' : { '$exists' : true, '$ne' : 'tatooine' } }");
+
+		equalityMatcher = DocumentMatcher.compile(equalityFilter);
+		rangeMatcher = DocumentMatcher.compile(rangeFilter);
+		complexMatcher = DocumentMatcher.compile(complexFilter);
+	}
+
+	@Benchmark
+	public boolean matchEquality() {
+		return equalityMatcher.matches(document);
+	}
+
+	@Benchmark
+	public boolean matchRangeOnNestedPath() {
+		return rangeMatcher.matches(document);
+	}
+
+	@Benchmark
+	public boolean matchElemMatchAndRegex() {
+		return complexMatcher.matches(document);
+	}
+
+	@Benchmark
+	public boolean matchElemMatchAndRegexOnBsonDocument() {
+		return complexMatcher.matches(bsonDocument);
+	}
+
+	@Benchmark
+	public boolean compileAndMatchElemMatchAndRegex() {
+		return DocumentMatcher.compile(complexFilter).matches(document);
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterLoadEvent;
+import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
+
+/**
+ * Compares publishing {@link AfterLoadEvent} and {@link AfterConvertEvent} for every read document directly through the
+ * {@link org.springframework.context.ApplicationContext} with the listener-aware {@link EntityLifecycleEventDelegate}
+ * when the only registered listener is interested in a different domain type.
+ */
+@State(Scope.Benchmark)
+public class LifecycleEventPublishingBenchmark extends AbstractMicrobenchmark {
+
+	private static final String COLLECTION_NAME = "person";
+
+	private GenericApplicationContext context;
+	private EntityLifecycleEventDelegate delegate;
+
+	private Document document;
+	private Person person;
+
+	@Setup
+	public void setUp() {
+
+		context = new GenericApplicationContext();
+		context.registerBean(OrderListener.class, OrderListener::new);
+		context.refresh();
+
+		delegate = new EntityLifecycleEventDelegate();
+		delegate.setPublisher(context);
+
+		document = new Document("_id", "id-1").append("firstname", "luke");
+		person = new Person();
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public void publishUnconditionally() {
+
+		context.publishEvent(new AfterLoadEvent<>(document, Person.class, COLLECTION_NAME));
+		context.publishEvent(new AfterConvertEvent<>(document, person, COLLECTION_NAME));
+	}
+
+	@Benchmark
+	public void publishListenerAware() {
+
+		if (delegate.hasListeners(AfterLoadEvent.class, Person.class)) {
+			delegate.publishEvent(new AfterLoadEvent<>(document, Person.class, COLLECTION_NAME));
+		}
+
+		if (delegate.hasListeners(AfterConvertEvent.class, Person.class)) {
+			delegate.publishEvent(new AfterConvertEvent<>(document, person, COLLECTION_NAME));
+		}
+	}
+
+	static class Person {}
+
+	static class Order {}
+
+	static class OrderListener extends AbstractMongoEventListener<Order> {}
+}
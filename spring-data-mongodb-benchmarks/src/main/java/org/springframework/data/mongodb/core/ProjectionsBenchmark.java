@@ -49,6 +49,7 @@ public class ProjectionsBenchmark extends AbstractMicrobenchmark {
 	private FindWithQuery<DtoProjection> asDtoProjection;
 	private FindWithQuery<ClosedProjection> asClosedProjection;
 	private FindWithQuery<OpenProjection> asOpenProjection;
+	private FindWithQuery<NestedClosedProjection> asNestedClosedProjection;
 
 	private TerminatingFind<Person> asPersonWithFieldsRestriction;
 	private Document fields = new Document("firstname", 1);
@@ -73,6 +74,8 @@ public class ProjectionsBenchmark extends AbstractMicrobenchmark {
 		asDtoProjection = template.query(Person.class).inCollection(COLLECTION_NAME).as(DtoProjection.class);
 		asClosedProjection = template.query(Person.class).inCollection(COLLECTION_NAME).as(ClosedProjection.class);
 		asOpenProjection = template.query(Person.class).inCollection(COLLECTION_NAME).as(OpenProjection.class);
+		asNestedClosedProjection = template.query(Person.class).inCollection(COLLECTION_NAME)
+				.as(NestedClosedProjection.class);
 
 		asPersonWithFieldsRestriction = template.query(Person.class).inCollection(COLLECTION_NAME)
 				.matching(new BasicQuery(new Document(), fields));
@@ -147,6 +150,16 @@ public class ProjectionsBenchmark extends AbstractMicrobenchmark {
 		return asOpenProjection.all();
 	}
 
+	/**
+	 * Read into closed interface projection exposing a single field of a nested closed projection.
+	 *
+	 * @return
+	 */
+	@Benchmark
+	public Object readIntoNestedClosedProjection() {
+		return asNestedClosedProjection.all();
+	}
+
 	static class Person {
 
 		@Id String id;
@@ -171,6 +184,18 @@ public class ProjectionsBenchmark extends AbstractMicrobenchmark {
 		String getFirstname();
 	}
 
+	static interface NestedClosedProjection {
+
+		String getFirstname();
+
+		CityProjection getAddress();
+	}
+
+	static interface CityProjection {
+
+		String getCity();
+	}
+
 	static interface OpenProjection {
 
 		@Value("#{target.firstname}")
@@ -15,6 +15,9 @@
  */
 package org.springframework.data.mongodb;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.lang.Nullable;
 import org.springframework.transaction.TransactionDefinition;
@@ -24,8 +27,10 @@ import org.springframework.transaction.support.AbstractPlatformTransactionManage
 import org.springframework.transaction.support.DefaultTransactionStatus;
 import org.springframework.transaction.support.ResourceTransactionManager;
 import org.springframework.transaction.support.SmartTransactionObject;
+import org.springframework.transaction.support.TransactionCallback;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
@@ -52,7 +57,10 @@ import com.mongodb.client.ClientSession;
  * By default failure of a {@literal commit} operation raises a {@link TransactionSystemException}. One may override
  * {@link #doCommit(MongoTransactionObject)} to implement the
  * <a href="https://docs.mongodb.com/manual/core/transactions/#retry-commit-operation">Retry Commit Operation</a>
- * behavior as outlined in the MongoDB reference manual.
+ * behavior as outlined in the MongoDB reference manual, or configure a {@link TransactionRetryPolicy} via
+ * {@link #setRetryPolicy(TransactionRetryPolicy)} that retries commits with unknown result and, when using
+ * {@link #executeWithRetry(TransactionDefinition, TransactionCallback)}, runs transactions failing with transient
+ * errors again.
  *
  * @author Christoph Strobl
  * @author Mark Paluch
@@ -66,6 +74,8 @@ public class MongoTransactionManager extends AbstractPlatformTransactionManager
 
 	private @Nullable MongoDatabaseFactory dbFactory;
 	private @Nullable TransactionOptions options;
+	private TransactionRetryPolicy retryPolicy = TransactionRetryPolicy.none();
+	private final TransactionRetryStatistics.Recorder retries = new TransactionRetryStatistics.Recorder();
 
 	/**
 	 * Create a new {@link MongoTransactionManager} for bean-style usage.
@@ -196,12 +206,36 @@ public class MongoTransactionManager extends AbstractPlatformTransactionManager
 					debugString(mongoTransactionObject.getSession())));
 		}
 
-		try {
-			doCommit(mongoTransactionObject);
-		} catch (Exception ex) {
+		TransactionRetryPolicy retryPolicy = this.retryPolicy;
+		long start = System.nanoTime();
 
-			throw new TransactionSystemException(String.format("Could not commit Mongo transaction for session %s.",
-					debugString(mongoTransactionObject.getSession())), ex);
+		for (int attempt = 1;; attempt++) {
+
+			try {
+
+				doCommit(mongoTransactionObject);
+				return;
+			} catch (Exception ex) {
+
+				if (retryPolicy.canRetryCommit(ex, attempt, start)) {
+
+					retries.recordCommitRetry();
+
+					if (logger.isDebugEnabled()) {
+						logger.debug(String.format("Commit result unknown for session %s. Retrying commit (attempt %s).",
+								debugString(mongoTransactionObject.getSession()), attempt + 1));
+					}
+
+					if (backOff(retryPolicy.getBackoff(attempt))) {
+						continue;
+					}
+				} else if (retryPolicy.getMaxCommitAttempts() > 1 && TransactionRetryPolicy.isUnknownCommitResult(ex)) {
+					retries.recordExhausted();
+				}
+
+				throw new TransactionSystemException(String.format("Could not commit Mongo transaction for session %s.",
+						debugString(mongoTransactionObject.getSession())), ex);
+			}
 		}
 	}
 
@@ -315,6 +349,102 @@ public class MongoTransactionManager extends AbstractPlatformTransactionManager
 		this.options = options;
 	}
 
+	/**
+	 * Set the {@link TransactionRetryPolicy} to apply to commits and to transactions run via
+	 * {@link #executeWithRetry(TransactionDefinition, TransactionCallback)}. Defaults to
+	 * {@link TransactionRetryPolicy#none()}.
+	 *
+	 * @param retryPolicy must not be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setRetryPolicy(TransactionRetryPolicy retryPolicy) {
+
+		Assert.notNull(retryPolicy, "TransactionRetryPolicy must not be null!");
+		this.retryPolicy = retryPolicy;
+	}
+
+	/**
+	 * @return the {@link TransactionRetryPolicy} in use. Never {@literal null}.
+	 * @since 3.1
+	 */
+	public TransactionRetryPolicy getRetryPolicy() {
+		return retryPolicy;
+	}
+
+	/**
+	 * @return a snapshot of the conflicts and retries observed so far.
+	 * @since 3.1
+	 */
+	public TransactionRetryStatistics getRetryStatistics() {
+		return retries.snapshot();
+	}
+
+	/**
+	 * Execute the given {@link TransactionCallback} within a transaction and run it again in a new transaction if it
+	 * fails with a {@link com.mongodb.MongoException#TRANSIENT_TRANSACTION_ERROR_LABEL transient transaction error}, eg.
+	 * due to a write conflict, as long as the {@link #setRetryPolicy(TransactionRetryPolicy) retry policy} permits.
+	 * Retries back off with jitter so that conflicting transactions are spread out. <br />
+	 * If called within an ongoing transaction, the callback participates in that transaction and is not retried, as
+	 * only the outermost transaction can be run again.
+	 *
+	 * @param definition must not be {@literal null}.
+	 * @param action must not be {@literal null}. Invoked once per attempt and therefore required to be free of side
+	 *          effects outside of the transaction.
+	 * @return the result of the callback. Can be {@literal null}.
+	 * @throws TransactionException in case of initialization, rollback or system errors.
+	 * @since 3.1
+	 */
+	@Nullable
+	public <T> T executeWithRetry(TransactionDefinition definition, TransactionCallback<T> action)
+			throws TransactionException {
+
+		Assert.notNull(definition, "TransactionDefinition must not be null!");
+		Assert.notNull(action, "TransactionCallback must not be null!");
+
+		TransactionTemplate template = new TransactionTemplate(this, definition);
+
+		if (TransactionSynchronizationManager.hasResource(getRequiredDbFactory())
+				&& definition.getPropagationBehavior() != TransactionDefinition.PROPAGATION_REQUIRES_NEW) {
+			return template.execute(action);
+		}
+
+		TransactionRetryPolicy retryPolicy = this.retryPolicy;
+		long start = System.nanoTime();
+
+		for (int attempt = 1;; attempt++) {
+
+			try {
+				return template.execute(action);
+			} catch (RuntimeException ex) {
+
+				if (!TransactionRetryPolicy.isTransientTransactionError(ex)) {
+					throw ex;
+				}
+
+				retries.recordConflict();
+
+				if (!retryPolicy.canRetryTransaction(ex, attempt, start)) {
+
+					if (retryPolicy.getMaxTransactionAttempts() > 1) {
+						retries.recordExhausted();
+					}
+					throw ex;
+				}
+
+				retries.recordTransactionRetry();
+
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Transient transaction error %s. Retrying transaction (attempt %s).",
+							ex.getMessage(), attempt + 1));
+				}
+
+				if (!backOff(retryPolicy.getBackoff(attempt))) {
+					throw ex;
+				}
+			}
+		}
+	}
+
 	/**
 	 * Get the {@link MongoDatabaseFactory} that this instance manages transactions for.
 	 *
@@ -382,6 +512,23 @@ public class MongoTransactionManager extends AbstractPlatformTransactionManager
 		return (MongoTransactionObject) status.getTransaction();
 	}
 
+	/**
+	 * Wait for the given backoff.
+	 *
+	 * @return {@literal false} if interrupted.
+	 */
+	private static boolean backOff(Duration backoff) {
+
+		try {
+			TimeUnit.NANOSECONDS.sleep(backoff.toNanos());
+			return true;
+		} catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
 	private static String debugString(@Nullable ClientSession session) {
 
 		if (session == null) {
@@ -15,16 +15,20 @@
  */
 package org.springframework.data.mongodb;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.NoTransactionException;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionException;
 import org.springframework.transaction.TransactionSystemException;
 import org.springframework.transaction.reactive.AbstractReactiveTransactionManager;
 import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionCallback;
 import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import org.springframework.transaction.support.SmartTransactionObject;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -56,7 +60,10 @@ import com.mongodb.reactivestreams.client.ClientSession;
  * By default failure of a {@literal commit} operation raises a {@link TransactionSystemException}. You can override
  * {@link #doCommit(TransactionSynchronizationManager, ReactiveMongoTransactionObject)} to implement the
  * <a href="https://docs.mongodb.com/manual/core/transactions/#retry-commit-operation">Retry Commit Operation</a>
- * behavior as outlined in the MongoDB reference manual.
+ * behavior as outlined in the MongoDB reference manual, or configure a {@link TransactionRetryPolicy} via
+ * {@link #setRetryPolicy(TransactionRetryPolicy)} that retries commits with unknown result and, when using
+ * {@link #executeWithRetry(TransactionDefinition, TransactionCallback)}, runs transactions failing with transient
+ * errors again.
  *
  * @author Christoph Strobl
  * @author Mark Paluch
@@ -68,6 +75,8 @@ public class ReactiveMongoTransactionManager extends AbstractReactiveTransaction
 
 	private @Nullable ReactiveMongoDatabaseFactory databaseFactory;
 	private @Nullable TransactionOptions options;
+	private TransactionRetryPolicy retryPolicy = TransactionRetryPolicy.none();
+	private final TransactionRetryStatistics.Recorder retries = new TransactionRetryStatistics.Recorder();
 
 	/**
 	 * Create a new {@link ReactiveMongoTransactionManager} for bean-style usage.
@@ -220,7 +229,7 @@ public class ReactiveMongoTransactionManager extends AbstractReactiveTransaction
 						debugString(mongoTransactionObject.getSession())));
 			}
 
-			return doCommit(synchronizationManager, mongoTransactionObject).onErrorMap(ex -> {
+			return commit(synchronizationManager, mongoTransactionObject, retryPolicy, System.nanoTime(), 1).onErrorMap(ex -> {
 				return new TransactionSystemException(String.format("Could not commit Mongo transaction for session %s.",
 						debugString(mongoTransactionObject.getSession())), ex);
 			});
@@ -330,6 +339,66 @@ public class ReactiveMongoTransactionManager extends AbstractReactiveTransaction
 		this.options = options;
 	}
 
+	/**
+	 * Set the {@link TransactionRetryPolicy} to apply to commits and to transactions run via
+	 * {@link #executeWithRetry(TransactionDefinition, TransactionCallback)}. Defaults to
+	 * {@link TransactionRetryPolicy#none()}.
+	 *
+	 * @param retryPolicy must not be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setRetryPolicy(TransactionRetryPolicy retryPolicy) {
+
+		Assert.notNull(retryPolicy, "TransactionRetryPolicy must not be null!");
+		this.retryPolicy = retryPolicy;
+	}
+
+	/**
+	 * @return the {@link TransactionRetryPolicy} in use. Never {@literal null}.
+	 * @since 3.1
+	 */
+	public TransactionRetryPolicy getRetryPolicy() {
+		return retryPolicy;
+	}
+
+	/**
+	 * @return a snapshot of the conflicts and retries observed so far.
+	 * @since 3.1
+	 */
+	public TransactionRetryStatistics getRetryStatistics() {
+		return retries.snapshot();
+	}
+
+	/**
+	 * Execute the given {@link TransactionCallback} within a transaction and run it again in a new transaction if it
+	 * fails with a {@link MongoException#TRANSIENT_TRANSACTION_ERROR_LABEL transient transaction error}, eg. due to a
+	 * write conflict, as long as the {@link #setRetryPolicy(TransactionRetryPolicy) retry policy} permits. Retries back
+	 * off with jitter so that conflicting transactions are spread out. <br />
+	 * Elements emitted by a failed attempt are not retracted, so callbacks should emit their results once the
+	 * transactional work is done. If subscribed within an ongoing transaction, the callback participates in that
+	 * transaction and is not retried, as only the outermost transaction can be run again.
+	 *
+	 * @param definition must not be {@literal null}.
+	 * @param action must not be {@literal null}. Invoked once per attempt and therefore required to be free of side
+	 *          effects outside of the transaction.
+	 * @return the results of the callback.
+	 * @since 3.1
+	 */
+	public <T> Flux<T> executeWithRetry(TransactionDefinition definition, TransactionCallback<T> action) {
+
+		Assert.notNull(definition, "TransactionDefinition must not be null!");
+		Assert.notNull(action, "TransactionCallback must not be null!");
+
+		TransactionalOperator operator = TransactionalOperator.create(this, definition);
+
+		return TransactionSynchronizationManager.forCurrentTransaction() //
+				.map(it -> it.hasResource(getRequiredDatabaseFactory())
+						&& definition.getPropagationBehavior() != TransactionDefinition.PROPAGATION_REQUIRES_NEW) //
+				.onErrorResume(NoTransactionException.class, ex -> Mono.just(false)) //
+				.flatMapMany(participating -> participating ? operator.execute(action)
+						: execute(operator, action, retryPolicy, System.nanoTime(), 1));
+	}
+
 	/**
 	 * Get the {@link ReactiveMongoDatabaseFactory} that this instance manages transactions for.
 	 *
@@ -357,6 +426,63 @@ public class ReactiveMongoTransactionManager extends AbstractReactiveTransaction
 		return dbFactory.getSession(options).map(session -> new ReactiveMongoResourceHolder(session, dbFactory));
 	}
 
+	private Mono<Void> commit(TransactionSynchronizationManager synchronizationManager,
+			ReactiveMongoTransactionObject transactionObject, TransactionRetryPolicy retryPolicy, long start, int attempt) {
+
+		return Mono.defer(() -> doCommit(synchronizationManager, transactionObject)).onErrorResume(ex -> {
+
+			if (retryPolicy.canRetryCommit(ex, attempt, start)) {
+
+				retries.recordCommitRetry();
+
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Commit result unknown for session %s. Retrying commit (attempt %s).",
+							debugString(transactionObject.getSession()), attempt + 1));
+				}
+
+				return Mono.delay(retryPolicy.getBackoff(attempt))
+						.then(commit(synchronizationManager, transactionObject, retryPolicy, start, attempt + 1));
+			}
+
+			if (retryPolicy.getMaxCommitAttempts() > 1 && TransactionRetryPolicy.isUnknownCommitResult(ex)) {
+				retries.recordExhausted();
+			}
+
+			return Mono.error(ex);
+		});
+	}
+
+	private <T> Flux<T> execute(TransactionalOperator operator, TransactionCallback<T> action,
+			TransactionRetryPolicy retryPolicy, long start, int attempt) {
+
+		return operator.execute(action).onErrorResume(ex -> {
+
+			if (!TransactionRetryPolicy.isTransientTransactionError(ex)) {
+				return Flux.error(ex);
+			}
+
+			retries.recordConflict();
+
+			if (!retryPolicy.canRetryTransaction(ex, attempt, start)) {
+
+				if (retryPolicy.getMaxTransactionAttempts() > 1) {
+					retries.recordExhausted();
+				}
+				return Flux.error(ex);
+			}
+
+			retries.recordTransactionRetry();
+
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Transient transaction error %s. Retrying transaction (attempt %s).",
+						ex.getMessage(), attempt + 1));
+			}
+
+			return Mono.delay(retryPolicy.getBackoff(attempt))
+					.thenMany(Flux.defer(() -> execute(operator, action, retryPolicy, start, attempt + 1)));
+		});
+	}
+
 	/**
 	 * @throws IllegalStateException if {@link #databaseFactory} is {@literal null}.
 	 */
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoException;
+
+/**
+ * Value object defining how {@link MongoTransactionManager} and {@link ReactiveMongoTransactionManager} retry
+ * transactions failing due to transient errors.
+ * <p />
+ * Commits failing with the {@link MongoException#UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL} are committed again, up to
+ * {@link #getMaxCommitAttempts()} times. Transactions failing with the
+ * {@link MongoException#TRANSIENT_TRANSACTION_ERROR_LABEL}, eg. due to write conflicts, are run again from the start
+ * up to {@link #getMaxTransactionAttempts()} times when executed via
+ * {@link MongoTransactionManager#executeWithRetry(org.springframework.transaction.TransactionDefinition, org.springframework.transaction.support.TransactionCallback)}.
+ * Retries back off exponentially, randomized by a jitter so that conflicting transactions do not collide again, and
+ * stop once the {@link #getTimeBudget() time budget} is used up.
+ *
+ * @since 3.1
+ */
+public class TransactionRetryPolicy {
+
+	private static final TransactionRetryPolicy NONE = new TransactionRetryPolicy(1, 1, Duration.ZERO, Duration.ZERO, 1D,
+			0D, Duration.ZERO);
+
+	private static final TransactionRetryPolicy DEFAULTS = new TransactionRetryPolicy(3, 5, Duration.ofMillis(10),
+			Duration.ofSeconds(1), 2D, 0.5D, Duration.ofMinutes(2));
+
+	private final int maxCommitAttempts;
+	private final int maxTransactionAttempts;
+	private final Duration initialBackoff;
+	private final Duration maxBackoff;
+	private final double multiplier;
+	private final double jitter;
+	private final Duration timeBudget;
+
+	private TransactionRetryPolicy(int maxCommitAttempts, int maxTransactionAttempts, Duration initialBackoff,
+			Duration maxBackoff, double multiplier, double jitter, Duration timeBudget) {
+
+		this.maxCommitAttempts = maxCommitAttempts;
+		this.maxTransactionAttempts = maxTransactionAttempts;
+		this.initialBackoff = initialBackoff;
+		this.maxBackoff = maxBackoff;
+		this.multiplier = multiplier;
+		this.jitter = jitter;
+		this.timeBudget = timeBudget;
+	}
+
+	/**
+	 * Obtain a {@link TransactionRetryPolicy} that does not retry at all.
+	 *
+	 * @return never {@literal null}.
+	 */
+	public static TransactionRetryPolicy none() {
+		return NONE;
+	}
+
+	/**
+	 * Obtain the default {@link TransactionRetryPolicy} attempting commits up to {@literal 3} and transactions up to
+	 * {@literal 5} times, backing off from {@literal 10ms} up to {@literal 1s} with a jitter of {@literal 50%} within
+	 * the {@literal 2 minutes} also used by the drivers {@code withTransaction} API.
+	 *
+	 * @return never {@literal null}.
+	 */
+	public static TransactionRetryPolicy defaults() {
+		return DEFAULTS;
+	}
+
+	/**
+	 * @param maxCommitAttempts the total number of commit attempts. Must be greater than zero.
+	 * @return new instance of {@link TransactionRetryPolicy}.
+	 */
+	public TransactionRetryPolicy withMaxCommitAttempts(int maxCommitAttempts) {
+
+		Assert.isTrue(maxCommitAttempts > 0, "Max commit attempts must be greater than zero!");
+
+		return new TransactionRetryPolicy(maxCommitAttempts, maxTransactionAttempts, initialBackoff, maxBackoff,
+				multiplier, jitter, timeBudget);
+	}
+
+	/**
+	 * @param maxTransactionAttempts the total number of times a transaction is run. Must be greater than zero.
+	 * @return new instance of {@link TransactionRetryPolicy}.
+	 */
+	public TransactionRetryPolicy withMaxTransactionAttempts(int maxTransactionAttempts) {
+
+		Assert.isTrue(maxTransactionAttempts > 0, "Max transaction attempts must be greater than zero!");
+
+		return new TransactionRetryPolicy(maxCommitAttempts, maxTransactionAttempts, initialBackoff, maxBackoff,
+				multiplier, jitter, timeBudget);
+	}
+
+	/**
+	 * @param initialBackoff the delay before the first retry. Must not be {@literal null} or negative.
+	 * @param maxBackoff the upper bound of the delay between retries. Must not be less than {@code initialBackoff}.
+	 * @return new instance of {@link TransactionRetryPolicy}.
+	 */
+	public TransactionRetryPolicy withBackoff(Duration initialBackoff, Duration maxBackoff) {
+
+		Assert.notNull(initialBackoff, "Initial backoff must not be null!");
+		Assert.notNull(maxBackoff, "Max backoff must not be null!");
+		Assert.isTrue(!initialBackoff.isNegative(), "Initial backoff must not be negative!");
+		Assert.isTrue(maxBackoff.compareTo(initialBackoff) >= 0, "Max backoff must not be less than initial backoff!");
+
+		return new TransactionRetryPolicy(maxCommitAttempts, maxTransactionAttempts, initialBackoff, maxBackoff,
+				multiplier, jitter, timeBudget);
+	}
+
+	/**
+	 * @param multiplier the factor applied to the delay for each subsequent retry. Must be at least {@literal 1}.
+	 * @return new instance of {@link TransactionRetryPolicy}.
+	 */
+	public TransactionRetryPolicy withMultiplier(double multiplier) {
+
+		Assert.isTrue(multiplier >= 1D, "Multiplier must be at least 1!");
+
+		return new TransactionRetryPolicy(maxCommitAttempts, maxTransactionAttempts, initialBackoff, maxBackoff,
+				multiplier, jitter, timeBudget);
+	}
+
+	/**
+	 * @param jitter the fraction of the delay that is randomized, {@literal 0} for fixed delays, {@literal 1} for delays
+	 *          anywhere between zero and the computed backoff.
+	 * @return new instance of {@link TransactionRetryPolicy}.
+	 */
+	public TransactionRetryPolicy withJitter(double jitter) {
+
+		Assert.isTrue(jitter >= 0D && jitter <= 1D, "Jitter must be between 0 and 1!");
+
+		return new TransactionRetryPolicy(maxCommitAttempts, maxTransactionAttempts, initialBackoff, maxBackoff,
+				multiplier, jitter, timeBudget);
+	}
+
+	/**
+	 * @param timeBudget the time after which no further retries are attempted, measured from the first attempt. Must not
+	 *          be {@literal null} or negative.
+	 * @return new instance of {@link TransactionRetryPolicy}.
+	 */
+	public TransactionRetryPolicy withTimeBudget(Duration timeBudget) {
+
+		Assert.notNull(timeBudget, "Time budget must not be null!");
+		Assert.isTrue(!timeBudget.isNegative(), "Time budget must not be negative!");
+
+		return new TransactionRetryPolicy(maxCommitAttempts, maxTransactionAttempts, initialBackoff, maxBackoff,
+				multiplier, jitter, timeBudget);
+	}
+
+	public int getMaxCommitAttempts() {
+		return maxCommitAttempts;
+	}
+
+	public int getMaxTransactionAttempts() {
+		return maxTransactionAttempts;
+	}
+
+	public Duration getInitialBackoff() {
+		return initialBackoff;
+	}
+
+	public Duration getMaxBackoff() {
+		return maxBackoff;
+	}
+
+	public double getMultiplier() {
+		return multiplier;
+	}
+
+	public double getJitter() {
+		return jitter;
+	}
+
+	public Duration getTimeBudget() {
+		return timeBudget;
+	}
+
+	/**
+	 * Check whether the commit failing with the given error after {@code attempt} attempts started at
+	 * {@code startNanos} should be attempted again.
+	 *
+	 * @param error the commit error.
+	 * @param attempt the number of commit attempts so far.
+	 * @param startNanos the {@link System#nanoTime()} of the first attempt.
+	 * @return {@literal true} to commit again.
+	 */
+	public boolean canRetryCommit(Throwable error, int attempt, long startNanos) {
+		return attempt < maxCommitAttempts && isWithinTimeBudget(startNanos) && isUnknownCommitResult(error);
+	}
+
+	/**
+	 * Check whether the transaction failing with the given error after {@code attempt} attempts started at
+	 * {@code startNanos} should be run again.
+	 *
+	 * @param error the transaction error.
+	 * @param attempt the number of transaction attempts so far.
+	 * @param startNanos the {@link System#nanoTime()} of the first attempt.
+	 * @return {@literal true} to run the transaction again.
+	 */
+	public boolean canRetryTransaction(Throwable error, int attempt, long startNanos) {
+		return attempt < maxTransactionAttempts && isWithinTimeBudget(startNanos) && isTransientTransactionError(error);
+	}
+
+	/**
+	 * Compute the delay before the given retry.
+	 *
+	 * @param retry the number of the retry, starting with {@literal 1}.
+	 * @return never {@literal null}.
+	 */
+	public Duration getBackoff(int retry) {
+
+		double backoff = initialBackoff.toNanos() * Math.pow(multiplier, Math.max(0, retry - 1));
+		long capped = (long) Math.min(backoff, maxBackoff.toNanos());
+
+		if (capped <= 0 || jitter == 0D) {
+			return Duration.ofNanos(Math.max(0, capped));
+		}
+
+		long randomized = (long) (capped * jitter * ThreadLocalRandom.current().nextDouble());
+		return Duration.ofNanos(capped - randomized);
+	}
+
+	/**
+	 * @param error can be {@literal null}.
+	 * @return {@literal true} if the error, or one of its causes, carries the
+	 *         {@link MongoException#UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL}.
+	 */
+	public static boolean isUnknownCommitResult(@Nullable Throwable error) {
+		return hasErrorLabel(error, MongoException.UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL);
+	}
+
+	/**
+	 * @param error can be {@literal null}.
+	 * @return {@literal true} if the error, or one of its causes, carries the
+	 *         {@link MongoException#TRANSIENT_TRANSACTION_ERROR_LABEL}.
+	 */
+	public static boolean isTransientTransactionError(@Nullable Throwable error) {
+		return hasErrorLabel(error, MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+	}
+
+	private boolean isWithinTimeBudget(long startNanos) {
+		return System.nanoTime() - startNanos < timeBudget.toNanos();
+	}
+
+	private static boolean hasErrorLabel(@Nullable Throwable error, String label) {
+
+		Throwable current = error;
+
+		while (current != null) {
+
+			if (current instanceof MongoException && ((MongoException) current).hasErrorLabel(label)) {
+				return true;
+			}
+
+			current = current.getCause() != current ? current.getCause() : null;
+		}
+
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("TransactionRetryPolicy[commitAttempts=%s, transactionAttempts=%s, backoff=%s..%s, "
+				+ "multiplier=%s, jitter=%s, timeBudget=%s]", maxCommitAttempts, maxTransactionAttempts, initialBackoff,
+				maxBackoff, multiplier, jitter, timeBudget);
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Snapshot of the conflicts and retries observed by a transaction manager applying a {@link TransactionRetryPolicy}.
+ *
+ * @since 3.1
+ * @see MongoTransactionManager#getRetryStatistics()
+ * @see ReactiveMongoTransactionManager#getRetryStatistics()
+ */
+public class TransactionRetryStatistics {
+
+	private final long conflictCount;
+	private final long transactionRetryCount;
+	private final long commitRetryCount;
+	private final long exhaustedCount;
+
+	TransactionRetryStatistics(long conflictCount, long transactionRetryCount, long commitRetryCount,
+			long exhaustedCount) {
+
+		this.conflictCount = conflictCount;
+		this.transactionRetryCount = transactionRetryCount;
+		this.commitRetryCount = commitRetryCount;
+		this.exhaustedCount = exhaustedCount;
+	}
+
+	/**
+	 * @return the number of transaction attempts failing with a transient transaction error, eg. a write conflict.
+	 */
+	public long getConflictCount() {
+		return conflictCount;
+	}
+
+	/**
+	 * @return the number of times a transaction was run again.
+	 */
+	public long getTransactionRetryCount() {
+		return transactionRetryCount;
+	}
+
+	/**
+	 * @return the number of times a commit with unknown result was attempted again.
+	 */
+	public long getCommitRetryCount() {
+		return commitRetryCount;
+	}
+
+	/**
+	 * @return the number of retryable errors surfaced because attempts or time budget were used up.
+	 */
+	public long getExhaustedCount() {
+		return exhaustedCount;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("TransactionRetryStatistics[conflicts=%s, transactionRetries=%s, commitRetries=%s, exhausted=%s]",
+				conflictCount, transactionRetryCount, commitRetryCount, exhaustedCount);
+	}
+
+	/**
+	 * Thread safe counters backing {@link TransactionRetryStatistics}.
+	 */
+	static class Recorder {
+
+		private final LongAdder conflicts = new LongAdder();
+		private final LongAdder transactionRetries = new LongAdder();
+		private final LongAdder commitRetries = new LongAdder();
+		private final LongAdder exhausted = new LongAdder();
+
+		void recordConflict() {
+			conflicts.increment();
+		}
+
+		void recordTransactionRetry() {
+			transactionRetries.increment();
+		}
+
+		void recordCommitRetry() {
+			commitRetries.increment();
+		}
+
+		void recordExhausted() {
+			exhausted.increment();
+		}
+
+		TransactionRetryStatistics snapshot() {
+			return new TransactionRetryStatistics(conflicts.sum(), transactionRetries.sum(), commitRetries.sum(),
+					exhausted.sum());
+		}
+	}
+}
@@ -57,6 +57,7 @@ import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
 import org.springframework.data.mongodb.core.convert.QueryMapper;
 import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexCreator;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoEntityIndex;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.mapping.event.ValidatingMongoEventListener;
 import org.springframework.lang.Nullable;
@@ -323,12 +324,20 @@ public class MappingMongoConverterParser implements BeanDefinitionParser {
 			return null;
 		}
 
+		Set<String> classes = new ManagedSet<>();
+		MongoEntityIndex index = MongoEntityIndex.load(null);
+
+		if (index != null && index.supports(basePackage)) {
+
+			classes.addAll(index.getEntityClassNames(basePackage));
+			return classes;
+		}
+
 		ClassPathScanningCandidateComponentProvider componentProvider = new ClassPathScanningCandidateComponentProvider(
 				false);
 		componentProvider.addIncludeFilter(new AnnotationTypeFilter(Document.class));
 		componentProvider.addIncludeFilter(new AnnotationTypeFilter(Persistent.class));
 
-		Set<String> classes = new ManagedSet<>();
 		for (BeanDefinition candidate : componentProvider.findCandidateComponents(basePackage)) {
 			classes.add(candidate.getBeanClassName());
 		}
@@ -19,6 +19,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.bson.UuidRepresentation;
 import org.springframework.beans.factory.config.BeanDefinition;
@@ -34,7 +35,9 @@ import org.springframework.data.mapping.model.PropertyNameFieldNamingStrategy;
 import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
 import org.springframework.data.mongodb.core.convert.MongoCustomConversions.MongoConverterConfigurationAdapter;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoEntityIndex;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 
@@ -88,6 +91,8 @@ public abstract class MongoConfigurationSupport {
 		mappingContext.setSimpleTypeHolder(customConversions.getSimpleTypeHolder());
 		mappingContext.setFieldNamingStrategy(fieldNamingStrategy());
 		mappingContext.setAutoIndexCreation(autoIndexCreation());
+		mappingContext.setIndexCreationExecutor(indexCreationExecutor());
+		mappingContext.setFailOnIndexConflict(failOnIndexConflict());
 
 		return mappingContext;
 	}
@@ -141,7 +146,7 @@ public abstract class MongoConfigurationSupport {
 
 	/**
 	 * Scans the given base package for entities, i.e. MongoDB specific types annotated with {@link Document} and
-	 * {@link Persistent}.
+	 * {@link Persistent}. Uses the {@link MongoEntityIndex} instead of scanning the classpath if present.
 	 *
 	 * @param basePackage must not be {@literal null}.
 	 * @return
@@ -156,6 +161,18 @@ public abstract class MongoConfigurationSupport {
 
 		Set<Class<?>> initialEntitySet = new HashSet<Class<?>>();
 
+		ClassLoader classLoader = MongoConfigurationSupport.class.getClassLoader();
+		MongoEntityIndex index = MongoEntityIndex.load(classLoader);
+
+		if (index != null && index.supports(basePackage)) {
+
+			for (String entityClassName : index.getEntityClassNames(basePackage)) {
+				initialEntitySet.add(ClassUtils.forName(entityClassName, classLoader));
+			}
+
+			return initialEntitySet;
+		}
+
 		if (StringUtils.hasText(basePackage)) {
 
 			ClassPathScanningCandidateComponentProvider componentProvider = new ClassPathScanningCandidateComponentProvider(
@@ -165,8 +182,7 @@ public abstract class MongoConfigurationSupport {
 
 			for (BeanDefinition candidate : componentProvider.findCandidateComponents(basePackage)) {
 
-				initialEntitySet
-						.add(ClassUtils.forName(candidate.getBeanClassName(), MongoConfigurationSupport.class.getClassLoader()));
+				initialEntitySet.add(ClassUtils.forName(candidate.getBeanClassName(), classLoader));
 			}
 		}
 
@@ -207,6 +223,29 @@ public abstract class MongoConfigurationSupport {
 		return false;
 	}
 
+	/**
+	 * Configure the {@link Executor} to create indices with if {@link #autoIndexCreation() auto index creation} is
+	 * enabled. Indices are then created via a single command per collection running on the {@link Executor}.
+	 *
+	 * @return {@literal null} by default to create indices one by one on the thread registering the entity.
+	 * @since 3.1
+	 */
+	@Nullable
+	protected Executor indexCreationExecutor() {
+		return null;
+	}
+
+	/**
+	 * Configure whether to wait for indices created using the {@link #indexCreationExecutor() index creation executor}
+	 * and fail on conflicts with existing indices instead of logging them.
+	 *
+	 * @return {@literal false} by default.
+	 * @since 3.1
+	 */
+	protected boolean failOnIndexConflict() {
+		return false;
+	}
+
 	/**
 	 * Return the {@link MongoClientSettings} used to create the actual {@literal MongoClient}. <br />
 	 * Override either this method, or use {@link #configureClientSettings(Builder)} to alter the setup.
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bson.Document;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Keeps track of the {@link Document documents} entities have been read from so that saving an entity only sends the
+ * fields that changed instead of replacing the entire document. Snapshots are held per entity instance, compared by
+ * identity, and released once the entity is garbage collected. Snapshots are copies of the {@link Document documents}
+ * read, as the converter hands out mutable values such as embedded {@link Document documents}, {@link Map maps} and
+ * {@link List lists} to the entity as they are.
+ * <p />
+ * Changes are computed by comparing the snapshot to the document the entity is converted into. Fields are compared
+ * recursively for embedded documents while arrays are compared as a whole. If the share of changed fields exceeds
+ * the configured ratio the entire document is replaced as before.
+ *
+ * @since 3.1
+ * @see MongoTemplate#setChangeTracker(ChangeTracker)
+ */
+public class ChangeTracker {
+
+	private static final String ID_FIELD = "_id";
+
+	private final double maxChangeRatio;
+	private final Map<IdentityKey, Snapshot> snapshots = new ConcurrentHashMap<>();
+	private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+	/**
+	 * Create a new {@link ChangeTracker} replacing documents if more than half of their fields changed.
+	 */
+	public ChangeTracker() {
+		this(0.5D);
+	}
+
+	/**
+	 * Create a new {@link ChangeTracker} replacing documents if the share of changed fields exceeds the given ratio.
+	 *
+	 * @param maxChangeRatio must be between {@literal 0} and {@literal 1}.
+	 */
+	public ChangeTracker(double maxChangeRatio) {
+
+		Assert.isTrue(maxChangeRatio >= 0 && maxChangeRatio <= 1, "Max change ratio must be between 0 and 1!");
+		this.maxChangeRatio = maxChangeRatio;
+	}
+
+	/**
+	 * @return the number of entities currently tracked.
+	 */
+	public int getTrackedCount() {
+
+		purge();
+		return snapshots.size();
+	}
+
+	/**
+	 * Remember the given {@link Document} as the stored state of the given entity. Documents without an identifier are
+	 * ignored.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param collectionName must not be {@literal null}.
+	 * @param document must not be {@literal null}.
+	 */
+	void track(Object entity, String collectionName, Document document) {
+
+		purge();
+
+		if (document.get(ID_FIELD) != null) {
+			snapshots.put(new IdentityKey(entity, queue), new Snapshot(collectionName, (Document) copy(document)));
+		}
+	}
+
+	/**
+	 * Stop tracking the given entity.
+	 *
+	 * @param entity must not be {@literal null}.
+	 */
+	void forget(Object entity) {
+		snapshots.remove(new IdentityKey(entity, null));
+	}
+
+	/**
+	 * Compute the update turning the tracked state of the given entity into the given {@link Document}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param collectionName must not be {@literal null}.
+	 * @param document the mapped entity. Must not be {@literal null}.
+	 * @return the update {@link Document} using {@literal $set} and {@literal $unset}, an empty {@link Document} if
+	 *         nothing changed or {@literal null} if the document needs to be replaced as there is no snapshot, the
+	 *         snapshot belongs to a different document or too many fields changed.
+	 */
+	@Nullable
+	Document getChanges(Object entity, String collectionName, Document document) {
+
+		Snapshot snapshot = snapshots.get(new IdentityKey(entity, null));
+
+		if (snapshot == null || !snapshot.collectionName.equals(collectionName)
+				|| !ObjectUtils.nullSafeEquals(snapshot.document.get(ID_FIELD), document.get(ID_FIELD))) {
+			return null;
+		}
+
+		Document set = new Document();
+		Document unset = new Document();
+
+		if (!diff("", snapshot.document, document, set, unset)) {
+			return null;
+		}
+
+		if (set.size() + unset.size() > maxChangeRatio * Math.max(1, document.size())) {
+			return null;
+		}
+
+		Document update = new Document();
+
+		if (!set.isEmpty()) {
+			update.put("$set", set);
+		}
+
+		if (!unset.isEmpty()) {
+			update.put("$unset", unset);
+		}
+
+		return update;
+	}
+
+	/**
+	 * Collect the differences between the given {@link Document documents}.
+	 *
+	 * @return {@literal false} if the differences cannot be expressed using field paths.
+	 */
+	private static boolean diff(String prefix, Document previous, Document current, Document set, Document unset) {
+
+		for (Entry<String, Object> entry : current.entrySet()) {
+
+			String key = entry.getKey();
+
+			if (!isPathSegment(key)) {
+				return false;
+			}
+
+			Object value = entry.getValue();
+			String path = prefix + key;
+
+			if (!previous.containsKey(key)) {
+				set.put(path, value);
+				continue;
+			}
+
+			Object previousValue = previous.get(key);
+
+			if (value instanceof Document && previousValue instanceof Document && !((Document) value).isEmpty()) {
+
+				if (!diff(path + ".", (Document) previousValue, (Document) value, set, unset)) {
+					return false;
+				}
+			} else if (!ObjectUtils.nullSafeEquals(previousValue, value)) {
+				set.put(path, value);
+			}
+		}
+
+		for (String key : previous.keySet()) {
+
+			if (!current.containsKey(key)) {
+
+				if (!isPathSegment(key)) {
+					return false;
+				}
+
+				unset.put(prefix + key, 1);
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Copy the given value including all nested mutable values.
+	 */
+	private static Object copy(@Nullable Object value) {
+
+		if (value instanceof Document) {
+
+			Document copy = new Document();
+			((Document) value).forEach((key, nested) -> copy.put(key, copy(nested)));
+			return copy;
+		}
+
+		if (value instanceof Map) {
+
+			Map<Object, Object> copy = new LinkedHashMap<>();
+			((Map<?, ?>) value).forEach((key, nested) -> copy.put(key, copy(nested)));
+			return copy;
+		}
+
+		if (value instanceof Collection) {
+
+			List<Object> copy = new ArrayList<>(((Collection<?>) value).size());
+			((Collection<?>) value).forEach(nested -> copy.add(copy(nested)));
+			return copy;
+		}
+
+		if (value instanceof Date) {
+			return new Date(((Date) value).getTime());
+		}
+
+		if (value instanceof byte[]) {
+			return ((byte[]) value).clone();
+		}
+
+		return value;
+	}
+
+	private static boolean isPathSegment(String key) {
+		return !key.isEmpty() && !key.startsWith("$") && key.indexOf('.') == -1;
+	}
+
+	private void purge() {
+
+		Reference<?> reference;
+
+		while ((reference = queue.poll()) != null) {
+			snapshots.remove(reference);
+		}
+	}
+
+	private static class Snapshot {
+
+		private final String collectionName;
+		private final Document document;
+
+		Snapshot(String collectionName, Document document) {
+
+			this.collectionName = collectionName;
+			this.document = document;
+		}
+	}
+
+	/**
+	 * {@link WeakReference} comparing referents by identity.
+	 */
+	private static class IdentityKey extends WeakReference<Object> {
+
+		private final int hash;
+
+		IdentityKey(Object referent, @Nullable ReferenceQueue<Object> queue) {
+
+			super(referent, queue);
+			this.hash = System.identityHashCode(referent);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof IdentityKey)) {
+				return false;
+			}
+
+			Object referent = get();
+			return referent != null && referent == ((IdentityKey) obj).get();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+}
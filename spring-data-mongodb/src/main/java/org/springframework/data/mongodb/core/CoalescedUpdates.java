@@ -0,0 +1,328 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.bson.Document;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.lang.Nullable;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+
+/**
+ * Collection of pending {@link Update updates} keyed by the identifier of the document they target. Updates for the
+ * same document are merged into a single one where possible:
+ * <ul>
+ * <li>{@literal $inc} values are summed up.</li>
+ * <li>{@literal $max} and {@literal $min} values are folded into the greater, respectively lesser, value.</li>
+ * <li>{@literal $set}, {@literal $unset} and {@literal $currentDate} retain the last value.</li>
+ * </ul>
+ * Updates using other operators, array filters or touching the same field path with different operators cannot be
+ * merged and are rejected so that the pending ones can be written first. Not thread safe.
+ *
+ * @since 3.1
+ */
+class CoalescedUpdates {
+
+	private static final Set<String> MERGEABLE_OPERATORS = new HashSet<>(
+			Arrays.asList("$inc", "$max", "$min", "$set", "$unset", "$currentDate"));
+
+	private final Map<Object, MergedUpdate> updates = new LinkedHashMap<>();
+
+	/**
+	 * Add the given {@link Update} for the document with the given identifier.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @param update must not be {@literal null}.
+	 * @return {@literal false} if the update cannot be merged with the one pending for the same document.
+	 */
+	boolean add(Object id, Update update) {
+
+		MergedUpdate pending = updates.get(id);
+
+		if (pending == null) {
+
+			updates.put(id, new MergedUpdate(update));
+			return true;
+		}
+
+		return pending.merge(update);
+	}
+
+	/**
+	 * @return the number of documents with pending updates.
+	 */
+	int size() {
+		return updates.size();
+	}
+
+	boolean isEmpty() {
+		return updates.isEmpty();
+	}
+
+	/**
+	 * Remove and return all pending updates in the order the documents were first updated.
+	 *
+	 * @return never {@literal null}.
+	 */
+	Map<Object, Update> drain() {
+
+		if (updates.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Object, Update> result = new LinkedHashMap<>(updates.size());
+		updates.forEach((id, update) -> result.put(id, update.toUpdate()));
+		updates.clear();
+
+		return result;
+	}
+
+	/**
+	 * Remove and return the pending update of the document with the given identifier.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	Map<Object, Update> remove(Object id) {
+
+		MergedUpdate pending = updates.remove(id);
+		return pending != null ? Collections.singletonMap(id, pending.toUpdate()) : Collections.emptyMap();
+	}
+
+	/**
+	 * Obtain the updates of the given ones that failed with the given error. Considers the individual write errors of a
+	 * {@link MongoBulkWriteException} and all updates otherwise.
+	 *
+	 * @param updates the updates written in the order passed to the bulk write.
+	 * @param error the error raised by the bulk write.
+	 * @return never {@literal null}.
+	 */
+	static Map<Object, Update> getFailedUpdates(Map<Object, Update> updates, Throwable error) {
+
+		Throwable cause = error instanceof MongoBulkWriteException ? error
+				: NestedExceptionUtils.getMostSpecificCause(error);
+
+		if (!(cause instanceof MongoBulkWriteException)
+				|| ((MongoBulkWriteException) cause).getWriteConcernError() != null) {
+			return updates;
+		}
+
+		List<Object> ids = new ArrayList<>(updates.keySet());
+		Map<Object, Update> failed = new LinkedHashMap<>();
+
+		for (BulkWriteError writeError : ((MongoBulkWriteException) cause).getWriteErrors()) {
+
+			Object id = ids.get(writeError.getIndex());
+			failed.put(id, updates.get(id));
+		}
+
+		return failed;
+	}
+
+	/**
+	 * Pending update for a single document.
+	 */
+	private static class MergedUpdate {
+
+		private final @Nullable Update original;
+		private final Document operations = new Document();
+		private final Map<String, String> operatorByPath = new LinkedHashMap<>();
+
+		MergedUpdate(Update update) {
+
+			if (isMergeable(update)) {
+
+				this.original = null;
+				merge(update);
+			} else {
+				this.original = update;
+			}
+		}
+
+		boolean merge(Update update) {
+
+			if (original != null || !isMergeable(update)) {
+				return false;
+			}
+
+			Document updateObject = update.getUpdateObject();
+
+			// check all fields first to not leave a partially merged update behind
+			for (Entry<String, Object> operation : updateObject.entrySet()) {
+				for (Entry<String, Object> field : ((Document) operation.getValue()).entrySet()) {
+
+					if (!canMerge(operation.getKey(), field.getKey(), field.getValue())) {
+						return false;
+					}
+				}
+			}
+
+			for (Entry<String, Object> operation : updateObject.entrySet()) {
+
+				String operator = operation.getKey();
+				Document fields = (Document) operations.computeIfAbsent(operator, key -> new Document());
+
+				for (Entry<String, Object> field : ((Document) operation.getValue()).entrySet()) {
+
+					fields.put(field.getKey(), fold(operator, fields.get(field.getKey()), field.getValue()));
+					operatorByPath.put(field.getKey(), operator);
+				}
+			}
+
+			return true;
+		}
+
+		Update toUpdate() {
+			return original != null ? original : Update.fromDocument(operations);
+		}
+
+		private boolean canMerge(String operator, String path, @Nullable Object value) {
+
+			for (Entry<String, String> existing : operatorByPath.entrySet()) {
+
+				String existingPath = existing.getKey();
+
+				if (existingPath.equals(path)) {
+
+					if (!existing.getValue().equals(operator)) {
+						return false;
+					}
+
+					if (isFolding(operator) && fold(operator, ((Document) operations.get(operator)).get(path), value) == null) {
+						return false;
+					}
+				} else if (existingPath.startsWith(path + ".") || path.startsWith(existingPath + ".")) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		private static boolean isMergeable(Update update) {
+
+			if (update.getArrayFilters().size() > 0 || Boolean.TRUE.equals(update.isIsolated())) {
+				return false;
+			}
+
+			for (Entry<String, Object> operation : update.getUpdateObject().entrySet()) {
+
+				if (!MERGEABLE_OPERATORS.contains(operation.getKey()) || !(operation.getValue() instanceof Document)) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		private static boolean isFolding(String operator) {
+			return operator.equals("$inc") || operator.equals("$max") || operator.equals("$min");
+		}
+
+		/**
+		 * @return the merged value. {@literal null} if the values cannot be folded.
+		 */
+		@Nullable
+		private static Object fold(String operator, @Nullable Object existing, @Nullable Object value) {
+
+			if (existing == null) {
+				return value;
+			}
+
+			switch (operator) {
+				case "$inc":
+					return existing instanceof Number && value instanceof Number ? add((Number) existing, (Number) value) : null;
+				case "$max":
+					return select(existing, value, 1);
+				case "$min":
+					return select(existing, value, -1);
+				default:
+					return value;
+			}
+		}
+
+		@Nullable
+		private static Number add(Number left, Number right) {
+
+			if (isIntegral(left) && isIntegral(right)) {
+
+				long sum;
+
+				try {
+					sum = Math.addExact(left.longValue(), right.longValue());
+				} catch (ArithmeticException ex) {
+					return null;
+				}
+
+				return left instanceof Integer && right instanceof Integer && sum == (int) sum ? (Number) (int) sum
+						: (Number) sum;
+			}
+
+			if (isFloatingPoint(left) && (isFloatingPoint(right) || isIntegral(right))
+					|| isIntegral(left) && isFloatingPoint(right)) {
+				return left.doubleValue() + right.doubleValue();
+			}
+
+			if (left instanceof BigDecimal && right instanceof BigDecimal) {
+				return ((BigDecimal) left).add((BigDecimal) right);
+			}
+
+			return null;
+		}
+
+		@Nullable
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		private static Object select(Object existing, @Nullable Object value, int direction) {
+
+			if (value == null) {
+				return null;
+			}
+
+			int comparison;
+
+			if (isIntegral(existing) && isIntegral(value)) {
+				comparison = Long.compare(((Number) value).longValue(), ((Number) existing).longValue());
+			} else if (existing.getClass().equals(value.getClass()) && value instanceof Comparable) {
+				comparison = ((Comparable) value).compareTo(existing);
+			} else {
+				return null;
+			}
+
+			return comparison * direction > 0 ? value : existing;
+		}
+
+		private static boolean isIntegral(Object value) {
+			return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+		}
+
+		private static boolean isFloatingPoint(Object value) {
+			return value instanceof Double || value instanceof Float;
+		}
+	}
+}
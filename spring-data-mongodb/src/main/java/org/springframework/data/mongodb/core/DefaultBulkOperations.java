@@ -304,6 +304,11 @@ class DefaultBulkOperations implements BulkOperations {
 
 			return result;
 		} finally {
+
+			if (mongoOperations instanceof MongoTemplate) {
+				((MongoTemplate) mongoOperations).evictFromEntityCache(collectionName, null);
+			}
+
 			this.bulkOptions = getBulkWriteOptions(bulkOperationContext.getBulkMode());
 		}
 	}
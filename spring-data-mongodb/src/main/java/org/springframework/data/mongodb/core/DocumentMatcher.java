@@ -0,0 +1,975 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.math.BigDecimal;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.Decimal128;
+import org.springframework.data.mongodb.InvalidMongoDbApiUsageException;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Collation;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.util.BsonUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Evaluates a query filter against {@link Document documents} in memory, e.g. to filter cached entities, change stream
+ * events or tailed documents without a server round trip. The filter is compiled once into a tree of predicates with
+ * field paths already split, so a {@link DocumentMatcher} should be reused for matching multiple documents.
+ * <p />
+ * Supports field equality, {@literal $eq}, {@literal $ne}, {@literal $gt}, {@literal $gte}, {@literal $lt},
+ * {@literal $lte}, {@literal $in}, {@literal $nin}, {@literal $exists}, {@literal $regex}, {@literal $not},
+ * {@literal $size}, {@literal $all}, {@literal $mod}, {@literal $elemMatch}, {@literal $and}, {@literal $or} and
+ * {@literal $nor} on dotted paths following the server semantics for arrays and missing fields. Numbers are compared by
+ * value regardless of their type, while values of different types are never equal nor in range of each other. Strings
+ * are compared using the {@link Collation} if given. Other operators are rejected on compilation.
+ *
+ * @since 3.1
+ */
+public class DocumentMatcher implements Predicate<Bson> {
+
+	private static final Object MISSING = new Object();
+
+	private final Node root;
+
+	private DocumentMatcher(Node root) {
+		this.root = root;
+	}
+
+	/**
+	 * Compile the given, already mapped, filter using binary string comparison.
+	 *
+	 * @param filter must not be {@literal null}.
+	 * @return new instance of {@link DocumentMatcher}.
+	 * @throws InvalidMongoDbApiUsageException if the filter uses unsupported operators.
+	 */
+	public static DocumentMatcher compile(Document filter) {
+		return compile(filter, null);
+	}
+
+	/**
+	 * Compile the given, already mapped, filter comparing strings using the given {@link Collation}.
+	 *
+	 * @param filter must not be {@literal null}.
+	 * @param collation can be {@literal null}.
+	 * @return new instance of {@link DocumentMatcher}.
+	 * @throws InvalidMongoDbApiUsageException if the filter uses unsupported operators.
+	 */
+	public static DocumentMatcher compile(Document filter, @Nullable Collation collation) {
+
+		Assert.notNull(filter, "Filter must not be null!");
+
+		return new DocumentMatcher(new Compiler(collation).compileDocument(filter));
+	}
+
+	/**
+	 * Compile the given {@link Query} mapping it against the given entity type first, just like a query sent to the
+	 * server. Considers the {@link Query#getCollation() collation} of the query.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param entityType can be {@literal null}.
+	 * @return new instance of {@link DocumentMatcher}.
+	 * @throws InvalidMongoDbApiUsageException if the query uses unsupported operators.
+	 */
+	public static DocumentMatcher compile(Query query, MongoConverter converter, @Nullable Class<?> entityType) {
+
+		Assert.notNull(query, "Query must not be null!");
+		Assert.notNull(converter, "MongoConverter must not be null!");
+
+		MongoPersistentEntity<?> entity = entityType != null
+				? converter.getMappingContext().getPersistentEntity(entityType)
+				: null;
+		Document filter = new QueryMapper(converter).getMappedObject(query.getQueryObject(), entity);
+
+		return compile(filter, query.getCollation().orElse(null));
+	}
+
+	/**
+	 * Evaluate the filter against the given document.
+	 *
+	 * @param document must not be {@literal null}.
+	 * @return {@literal true} if the document matches the filter.
+	 */
+	public boolean matches(Bson document) {
+
+		Assert.notNull(document, "Document must not be null!");
+
+		return root.matches(document instanceof Map ? (Map<?, ?>) document : BsonUtils.asMap(document));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.function.Predicate#test(java.lang.Object)
+	 */
+	@Override
+	public boolean test(Bson document) {
+		return matches(document);
+	}
+
+	/**
+	 * Obtain a {@link Predicate} evaluating the filter against entities by writing them using the given
+	 * {@link MongoConverter}.
+	 *
+	 * @param converter must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	public <T> Predicate<T> forEntities(MongoConverter converter) {
+
+		Assert.notNull(converter, "MongoConverter must not be null!");
+
+		return entity -> {
+
+			Document document = new Document();
+			converter.write(entity, document);
+			return root.matches(document);
+		};
+	}
+
+	/**
+	 * Predicate on a document or an embedded document.
+	 */
+	private interface Node {
+		boolean matches(Map<?, ?> document);
+	}
+
+	/**
+	 * Predicate on the values a field path resolves to. Values are {@link #MISSING} if the path does not exist.
+	 */
+	private interface Condition {
+		boolean test(List<Object> values);
+	}
+
+	/**
+	 * Turns a filter {@link Document} into {@link Node nodes} and {@link Condition conditions}.
+	 */
+	private static class Compiler {
+
+		private final Values values;
+
+		Compiler(@Nullable Collation collation) {
+			this.values = new Values(collation);
+		}
+
+		Node compileDocument(Map<?, ?> filter) {
+
+			List<Node> nodes = new ArrayList<>(filter.size());
+
+			for (Entry<?, ?> entry : filter.entrySet()) {
+
+				String key = entry.getKey().toString();
+				Object value = entry.getValue();
+
+				switch (key) {
+					case "$and":
+						nodes.add(and(compileDocuments(key, value)));
+						break;
+					case "$or":
+						nodes.add(or(compileDocuments(key, value)));
+						break;
+					case "$nor":
+						Node any = or(compileDocuments(key, value));
+						nodes.add(document -> !any.matches(document));
+						break;
+					case "$comment":
+						break;
+					default:
+
+						if (key.startsWith("$")) {
+							throw unsupported(key);
+						}
+
+						nodes.add(field(key, compileCondition(value)));
+				}
+			}
+
+			return nodes.size() == 1 ? nodes.get(0) : and(nodes);
+		}
+
+		private List<Node> compileDocuments(String operator, Object value) {
+
+			if (!(value instanceof Collection) || ((Collection<?>) value).isEmpty()) {
+				throw new InvalidMongoDbApiUsageException(String.format("%s requires a non empty array!", operator));
+			}
+
+			List<Node> nodes = new ArrayList<>();
+
+			for (Object element : (Collection<?>) value) {
+
+				if (!(element instanceof Map)) {
+					throw new InvalidMongoDbApiUsageException(String.format("%s requires an array of documents!", operator));
+				}
+
+				nodes.add(compileDocument((Map<?, ?>) element));
+			}
+
+			return nodes;
+		}
+
+		private Condition compileCondition(@Nullable Object value) {
+
+			if (isOperatorDocument(value)) {
+				return compileOperators((Map<?, ?>) value);
+			}
+
+			Pattern pattern = toPattern(value, null);
+
+			if (pattern != null) {
+				return regex(pattern);
+			}
+
+			return eq(value);
+		}
+
+		private Condition compileOperators(Map<?, ?> operators) {
+
+			List<Condition> conditions = new ArrayList<>(operators.size());
+
+			for (Entry<?, ?> entry : operators.entrySet()) {
+
+				String operator = entry.getKey().toString();
+				Object value = entry.getValue();
+
+				switch (operator) {
+					case "$eq":
+						conditions.add(eq(value));
+						break;
+					case "$ne":
+						conditions.add(not(eq(value)));
+						break;
+					case "$gt":
+						conditions.add(range(value, comparison -> comparison > 0));
+						break;
+					case "$gte":
+						conditions.add(range(value, comparison -> comparison >= 0));
+						break;
+					case "$lt":
+						conditions.add(range(value, comparison -> comparison < 0));
+						break;
+					case "$lte":
+						conditions.add(range(value, comparison -> comparison <= 0));
+						break;
+					case "$in":
+						conditions.add(in(operator, value));
+						break;
+					case "$nin":
+						conditions.add(not(in(operator, value)));
+						break;
+					case "$exists":
+						conditions.add(exists(!Boolean.FALSE.equals(value) && !Integer.valueOf(0).equals(value)));
+						break;
+					case "$regex":
+						Object options = operators.get("$options");
+						conditions.add(regex(requirePattern(value, options != null ? options : "")));
+						break;
+					case "$options":
+						if (!operators.containsKey("$regex")) {
+							throw new InvalidMongoDbApiUsageException("$options requires $regex!");
+						}
+						break;
+					case "$not":
+						conditions.add(not(isOperatorDocument(value) ? compileOperators((Map<?, ?>) value)
+								: regex(requirePattern(value, null))));
+						break;
+					case "$size":
+						conditions.add(size(value));
+						break;
+					case "$all":
+						conditions.add(all(value));
+						break;
+					case "$mod":
+						conditions.add(mod(value));
+						break;
+					case "$elemMatch":
+						conditions.add(elemMatch(value));
+						break;
+					default:
+						throw unsupported(operator);
+				}
+			}
+
+			return conditions.size() == 1 ? conditions.get(0) : candidates -> {
+
+				for (Condition condition : conditions) {
+					if (!condition.test(candidates)) {
+						return false;
+					}
+				}
+				return true;
+			};
+		}
+
+		private Node field(String path, Condition condition) {
+
+			String[] segments = StringUtils.delimitedListToStringArray(path, ".");
+
+			return document -> {
+
+				List<Object> resolved = new ArrayList<>(2);
+				resolve(document, segments, 0, resolved);
+				return condition.test(resolved);
+			};
+		}
+
+		private Condition eq(@Nullable Object expected) {
+
+			if (expected == null) {
+				return anyValue(value -> value == MISSING || value == null);
+			}
+
+			return anyValue(value -> value != MISSING && values.isEqual(value, expected));
+		}
+
+		private Condition in(String operator, @Nullable Object value) {
+
+			if (!(value instanceof Collection)) {
+				throw new InvalidMongoDbApiUsageException(String.format("%s requires an array!", operator));
+			}
+
+			List<Condition> conditions = new ArrayList<>();
+
+			for (Object element : (Collection<?>) value) {
+
+				Pattern pattern = toPattern(element, null);
+				conditions.add(pattern != null ? regex(pattern) : eq(element));
+			}
+
+			return candidates -> {
+
+				for (Condition condition : conditions) {
+					if (condition.test(candidates)) {
+						return true;
+					}
+				}
+				return false;
+			};
+		}
+
+		private Condition range(@Nullable Object bound, Predicate<Integer> accept) {
+
+			return anyValue(value -> {
+
+				if (value == MISSING) {
+					return false;
+				}
+
+				Integer comparison = values.compare(value, bound);
+				return comparison != null && accept.test(comparison);
+			});
+		}
+
+		private Condition exists(boolean exists) {
+
+			return candidates -> {
+
+				for (Object candidate : candidates) {
+					if (candidate != MISSING) {
+						return exists;
+					}
+				}
+				return !exists;
+			};
+		}
+
+		private Condition regex(Pattern pattern) {
+			return anyValue(value -> value instanceof String && pattern.matcher((String) value).find());
+		}
+
+		private Condition size(@Nullable Object value) {
+
+			if (!(value instanceof Number)) {
+				throw new InvalidMongoDbApiUsageException("$size requires a number!");
+			}
+
+			int size = ((Number) value).intValue();
+
+			return candidates -> {
+
+				for (Object candidate : candidates) {
+					if (candidate instanceof List && ((List<?>) candidate).size() == size) {
+						return true;
+					}
+				}
+				return false;
+			};
+		}
+
+		private Condition all(@Nullable Object value) {
+
+			if (!(value instanceof Collection)) {
+				throw new InvalidMongoDbApiUsageException("$all requires an array!");
+			}
+
+			List<Condition> conditions = new ArrayList<>();
+
+			for (Object element : (Collection<?>) value) {
+				conditions.add(isOperatorDocument(element) ? compileCondition(element) : eq(element));
+			}
+
+			return candidates -> {
+
+				if (conditions.isEmpty()) {
+					return false;
+				}
+
+				for (Condition condition : conditions) {
+					if (!condition.test(candidates)) {
+						return false;
+					}
+				}
+				return true;
+			};
+		}
+
+		private Condition mod(@Nullable Object value) {
+
+			if (!(value instanceof List) || ((List<?>) value).size() != 2
+					|| !(((List<?>) value).get(0) instanceof Number) || !(((List<?>) value).get(1) instanceof Number)) {
+				throw new InvalidMongoDbApiUsageException("$mod requires an array of divisor and remainder!");
+			}
+
+			long divisor = ((Number) ((List<?>) value).get(0)).longValue();
+			long remainder = ((Number) ((List<?>) value).get(1)).longValue();
+
+			if (divisor == 0) {
+				throw new InvalidMongoDbApiUsageException("$mod divisor must not be zero!");
+			}
+
+			return anyValue(candidate -> candidate instanceof Number && !(candidate instanceof Double
+					&& !Double.isFinite((Double) candidate)) && ((Number) candidate).longValue() % divisor == remainder);
+		}
+
+		private Condition elemMatch(@Nullable Object value) {
+
+			if (!(value instanceof Map)) {
+				throw new InvalidMongoDbApiUsageException("$elemMatch requires a document!");
+			}
+
+			Predicate<Object> element;
+
+			if (isOperatorDocument(value)) {
+
+				Condition condition = compileOperators((Map<?, ?>) value);
+				element = candidate -> condition.test(Collections.singletonList(candidate));
+			} else {
+
+				Node node = compileDocument((Map<?, ?>) value);
+				element = candidate -> candidate instanceof Map && node.matches((Map<?, ?>) candidate);
+			}
+
+			return candidates -> {
+
+				for (Object candidate : candidates) {
+
+					if (candidate instanceof List) {
+						for (Object item : (List<?>) candidate) {
+							if (element.test(normalize(item))) {
+								return true;
+							}
+						}
+					}
+				}
+				return false;
+			};
+		}
+
+		private Pattern requirePattern(@Nullable Object value, @Nullable Object options) {
+
+			Pattern pattern = toPattern(value, options);
+
+			if (pattern == null) {
+				throw new InvalidMongoDbApiUsageException(String.format("Expected regular expression but was %s!", value));
+			}
+
+			return pattern;
+		}
+
+		@Nullable
+		private static Pattern toPattern(@Nullable Object value, @Nullable Object options) {
+
+			if (value instanceof Pattern) {
+				int flags = options != null ? flags(options.toString()) : 0;
+				return flags == 0 ? (Pattern) value
+						: Pattern.compile(((Pattern) value).pattern(), ((Pattern) value).flags() | flags);
+			}
+
+			if (value instanceof BsonRegularExpression) {
+
+				BsonRegularExpression regex = (BsonRegularExpression) value;
+				return Pattern.compile(regex.getPattern(),
+						flags(regex.getOptions()) | (options != null ? flags(options.toString()) : 0));
+			}
+
+			if (value instanceof String && options != null) {
+				return Pattern.compile((String) value, flags(options.toString()));
+			}
+
+			return null;
+		}
+
+		private static int flags(String options) {
+
+			int flags = 0;
+
+			for (char option : options.toCharArray()) {
+
+				switch (option) {
+					case 'i':
+						flags |= Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+						break;
+					case 'm':
+						flags |= Pattern.MULTILINE;
+						break;
+					case 's':
+						flags |= Pattern.DOTALL;
+						break;
+					case 'x':
+						flags |= Pattern.COMMENTS;
+						break;
+					default:
+						break;
+				}
+			}
+
+			return flags;
+		}
+
+		private static boolean isOperatorDocument(@Nullable Object value) {
+
+			if (!(value instanceof Map) || ((Map<?, ?>) value).isEmpty()) {
+				return false;
+			}
+
+			Iterator<?> keys = ((Map<?, ?>) value).keySet().iterator();
+			return keys.next().toString().startsWith("$");
+		}
+
+		private static InvalidMongoDbApiUsageException unsupported(String operator) {
+			return new InvalidMongoDbApiUsageException(
+					String.format("Operator %s is not supported for in-memory matching!", operator));
+		}
+	}
+
+	private static Node and(List<Node> nodes) {
+
+		Node[] all = nodes.toArray(new Node[0]);
+
+		return document -> {
+
+			for (Node node : all) {
+				if (!node.matches(document)) {
+					return false;
+				}
+			}
+			return true;
+		};
+	}
+
+	private static Node or(List<Node> nodes) {
+
+		Node[] any = nodes.toArray(new Node[0]);
+
+		return document -> {
+
+			for (Node node : any) {
+				if (node.matches(document)) {
+					return true;
+				}
+			}
+			return false;
+		};
+	}
+
+	private static Condition not(Condition condition) {
+		return candidates -> !condition.test(candidates);
+	}
+
+	/**
+	 * Match if any value, or any element of an array value, satisfies the given {@link Predicate}.
+	 */
+	private static Condition anyValue(Predicate<Object> predicate) {
+
+		return candidates -> {
+
+			for (Object candidate : candidates) {
+
+				if (predicate.test(candidate)) {
+					return true;
+				}
+
+				if (candidate instanceof List) {
+					for (Object element : (List<?>) candidate) {
+						if (predicate.test(normalize(element))) {
+							return true;
+						}
+					}
+				}
+			}
+			return false;
+		};
+	}
+
+	/**
+	 * Collect the values the given path resolves to, traversing arrays of embedded documents.
+	 */
+	private static void resolve(@Nullable Object source, String[] path, int index, List<Object> target) {
+
+		Object value = normalize(source);
+
+		if (index == path.length) {
+			target.add(value);
+			return;
+		}
+
+		String segment = path[index];
+
+		if (value instanceof Map) {
+
+			Map<?, ?> document = (Map<?, ?>) value;
+
+			if (document.containsKey(segment)) {
+				resolve(document.get(segment), path, index + 1, target);
+			} else {
+				target.add(MISSING);
+			}
+			return;
+		}
+
+		if (value instanceof List) {
+
+			List<?> list = (List<?>) value;
+			int position = toIndex(segment);
+
+			if (position != -1) {
+
+				if (position < list.size()) {
+					resolve(list.get(position), path, index + 1, target);
+				} else {
+					target.add(MISSING);
+				}
+				return;
+			}
+
+			int size = target.size();
+
+			for (Object element : list) {
+
+				Object normalized = normalize(element);
+
+				if (normalized instanceof Map) {
+					resolve(normalized, path, index, target);
+				}
+			}
+
+			if (target.size() == size) {
+				target.add(MISSING);
+			}
+			return;
+		}
+
+		target.add(MISSING);
+	}
+
+	private static int toIndex(String segment) {
+
+		if (segment.isEmpty() || segment.length() > 9) {
+			return -1;
+		}
+
+		for (int i = 0; i < segment.length(); i++) {
+			if (!Character.isDigit(segment.charAt(i))) {
+				return -1;
+			}
+		}
+
+		return Integer.parseInt(segment);
+	}
+
+	/**
+	 * Turn {@link BsonValue} into its Java representation keeping {@link BsonDocument} and {@link BsonArray} as they are
+	 * {@link Map} and {@link List} already.
+	 */
+	@Nullable
+	private static Object normalize(@Nullable Object value) {
+
+		if (value instanceof BsonValue && !(value instanceof BsonDocument) && !(value instanceof BsonArray)) {
+
+			BsonValue bsonValue = (BsonValue) value;
+
+			if (bsonValue.isNull()) {
+				return null;
+			}
+
+			if (bsonValue.isDecimal128()) {
+				return bsonValue.asDecimal128().getValue();
+			}
+
+			return BsonUtils.toJavaType(bsonValue);
+		}
+
+		return value;
+	}
+
+	/**
+	 * Comparison and equality of values.
+	 */
+	private static class Values {
+
+		private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+		private final Comparator<String> strings;
+
+		Values(@Nullable Collation collation) {
+			this.strings = comparator(collation);
+		}
+
+		boolean isEqual(@Nullable Object value, @Nullable Object expected) {
+
+			Object left = normalize(value);
+			Object right = normalize(expected);
+
+			if (left == right) {
+				return true;
+			}
+
+			if (left == null || right == null) {
+				return false;
+			}
+
+			if (left instanceof Number && right instanceof Number) {
+				Integer comparison = compareNumbers((Number) left, (Number) right);
+				return comparison != null && comparison == 0;
+			}
+
+			if (left instanceof String && right instanceof String) {
+				return strings.compare((String) left, (String) right) == 0;
+			}
+
+			if (left instanceof Map && right instanceof Map) {
+				return isEqual((Map<?, ?>) left, (Map<?, ?>) right);
+			}
+
+			if (left instanceof List && right instanceof Collection) {
+				return isEqual((List<?>) left, new ArrayList<>((Collection<?>) right));
+			}
+
+			return ObjectUtils.nullSafeEquals(left, right);
+		}
+
+		/**
+		 * Embedded documents are equal if they contain equal fields in the same order.
+		 */
+		private boolean isEqual(Map<?, ?> left, Map<?, ?> right) {
+
+			if (left.size() != right.size()) {
+				return false;
+			}
+
+			Iterator<? extends Entry<?, ?>> rightEntries = right.entrySet().iterator();
+
+			for (Entry<?, ?> leftEntry : left.entrySet()) {
+
+				Entry<?, ?> rightEntry = rightEntries.next();
+
+				if (!leftEntry.getKey().equals(rightEntry.getKey())
+						|| !isEqual(leftEntry.getValue(), rightEntry.getValue())) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		private boolean isEqual(List<?> left, List<?> right) {
+
+			if (left.size() != right.size()) {
+				return false;
+			}
+
+			for (int i = 0; i < left.size(); i++) {
+				if (!isEqual(left.get(i), right.get(i))) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		/**
+		 * @return {@literal null} if the values cannot be compared as they are of different types.
+		 */
+		@Nullable
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		Integer compare(@Nullable Object value, @Nullable Object bound) {
+
+			Object left = normalize(value);
+			Object right = normalize(bound);
+
+			if (left == null || right == null) {
+				return left == right ? 0 : null;
+			}
+
+			if (left instanceof Number && right instanceof Number) {
+				return compareNumbers((Number) left, (Number) right);
+			}
+
+			if (left instanceof String && right instanceof String) {
+				return strings.compare((String) left, (String) right);
+			}
+
+			if (left instanceof Date && right instanceof Date) {
+				return ((Date) left).compareTo((Date) right);
+			}
+
+			if (left.getClass().equals(right.getClass()) && left instanceof Comparable) {
+				return ((Comparable) left).compareTo(right);
+			}
+
+			return null;
+		}
+
+		@Nullable
+		private static Integer compareNumbers(Number left, Number right) {
+
+			if (isIntegral(left) && isIntegral(right)) {
+				return Long.compare(left.longValue(), right.longValue());
+			}
+
+			if (isDecimal(left) || isDecimal(right)) {
+
+				BigDecimal leftValue = toBigDecimal(left);
+				BigDecimal rightValue = toBigDecimal(right);
+
+				return leftValue != null && rightValue != null ? leftValue.compareTo(rightValue)
+						: Double.compare(left.doubleValue(), right.doubleValue());
+			}
+
+			double leftValue = left.doubleValue();
+			double rightValue = right.doubleValue();
+
+			if (Double.isNaN(leftValue) || Double.isNaN(rightValue)) {
+				return Double.isNaN(leftValue) && Double.isNaN(rightValue) ? 0 : null;
+			}
+
+			// long values beyond 2^53 lose precision as double
+			if ((isIntegral(left) && !isExactDouble(left.longValue()))
+					|| (isIntegral(right) && !isExactDouble(right.longValue()))) {
+
+				if (Double.isFinite(leftValue) && Double.isFinite(rightValue)) {
+					return toExactBigDecimal(left).compareTo(toExactBigDecimal(right));
+				}
+			}
+
+			// unlike Double.compare(…) == considers -0.0 and 0.0 equal
+			return leftValue == rightValue ? 0 : leftValue < rightValue ? -1 : 1;
+		}
+
+		private static boolean isIntegral(Number value) {
+			return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+		}
+
+		private static boolean isExactDouble(long value) {
+			return value <= MAX_EXACT_DOUBLE && value >= -MAX_EXACT_DOUBLE;
+		}
+
+		private static BigDecimal toExactBigDecimal(Number value) {
+			return isIntegral(value) ? BigDecimal.valueOf(value.longValue()) : new BigDecimal(value.doubleValue());
+		}
+
+		private static boolean isDecimal(Number value) {
+			return value instanceof BigDecimal || value instanceof Decimal128;
+		}
+
+		@Nullable
+		private static BigDecimal toBigDecimal(Number value) {
+
+			if (value instanceof BigDecimal) {
+				return (BigDecimal) value;
+			}
+
+			if (value instanceof Decimal128) {
+				return ((Decimal128) value).isNaN() || ((Decimal128) value).isInfinite() ? null
+						: ((Decimal128) value).bigDecimalValue();
+			}
+
+			if (isIntegral(value)) {
+				return BigDecimal.valueOf(value.longValue());
+			}
+
+			double doubleValue = value.doubleValue();
+			return Double.isFinite(doubleValue) ? BigDecimal.valueOf(doubleValue) : null;
+		}
+
+		private static Comparator<String> comparator(@Nullable Collation collation) {
+
+			if (collation == null) {
+				return String::compareTo;
+			}
+
+			Document source = collation.toDocument();
+			String locale = source.getString("locale");
+
+			if (locale == null || "simple".equals(locale)) {
+				return String::compareTo;
+			}
+
+			Collator collator = Collator.getInstance(Locale.forLanguageTag(locale.replace('_', '-')));
+			Object strength = source.get("strength");
+
+			if (strength instanceof Number) {
+
+				switch (((Number) strength).intValue()) {
+					case 1:
+						collator.setStrength(Collator.PRIMARY);
+						break;
+					case 2:
+						collator.setStrength(Collator.SECONDARY);
+						break;
+					default:
+						collator.setStrength(Collator.TERTIARY);
+				}
+			} else {
+				collator.setStrength(Collator.TERTIARY);
+			}
+
+			return collator::compare;
+		}
+	}
+}
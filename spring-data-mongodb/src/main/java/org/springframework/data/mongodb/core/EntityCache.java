@@ -0,0 +1,480 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+
+import org.springframework.data.mongodb.core.mapping.Cached;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+
+/**
+ * Second-level cache for documents of {@link Cached} entities looked up by their identifier through
+ * {@link MongoOperations#findById(Object, Class)} or {@link ReactiveMongoOperations#findById(Object, Class)}. Documents
+ * are held per collection in their encoded {@link RawBsonDocument} form and converted on every read, so that each
+ * caller obtains its own entity instance and lifecycle events and callbacks apply as if the document was read from the
+ * database.
+ * <p />
+ * Documents are evicted when they {@link Cached#expireAfterSeconds() expire}, when exceeding the
+ * {@link Cached#maxSize() maximum size} of their collection (least recently used first) and by write operations issued
+ * through a template using the cache. Modifications bypassing the template, like writes of other processes, are not
+ * observed. Use {@link #invalidate(ChangeStreamDocument)} to evict documents based on
+ * {@link org.springframework.data.mongodb.core.messaging.ChangeStreamRequest change stream} events. A cache must only be
+ * shared between templates operating on the same database.
+ *
+ * @since 3.1
+ */
+public class EntityCache {
+
+	private static final String ID_FIELD = "_id";
+
+	private final Map<String, Region> regions = new ConcurrentHashMap<>();
+	private final LongSupplier clock;
+
+	/**
+	 * Creates a new, empty {@link EntityCache}.
+	 */
+	public EntityCache() {
+		this(System::nanoTime);
+	}
+
+	/**
+	 * Creates a new, empty {@link EntityCache} using the given {@link LongSupplier clock} providing nanoseconds.
+	 *
+	 * @param clock must not be {@literal null}.
+	 */
+	EntityCache(LongSupplier clock) {
+
+		Assert.notNull(clock, "Clock must not be null!");
+
+		this.clock = clock;
+	}
+
+	/**
+	 * Returns whether documents of the given {@link MongoPersistentEntity} are cached.
+	 *
+	 * @param entity can be {@literal null}.
+	 * @return {@literal true} if the entity is annotated with {@link Cached} and has an identifier property.
+	 */
+	static boolean isCached(@Nullable MongoPersistentEntity<?> entity) {
+		return entity != null && entity.hasIdProperty() && entity.isAnnotationPresent(Cached.class);
+	}
+
+	/**
+	 * Look up the cached {@link Document} with the given identifier.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param collectionName must not be {@literal null}.
+	 * @param id the mapped identifier. Must not be {@literal null}.
+	 * @param codecRegistry must not be {@literal null}.
+	 * @return {@literal null} if not present.
+	 */
+	@Nullable
+	Document get(MongoPersistentEntity<?> entity, String collectionName, Object id, CodecRegistry codecRegistry) {
+
+		RawBsonDocument document = getRegion(entity, collectionName).get(id, clock.getAsLong());
+		return document != null ? document.decode(new DocumentCodec(codecRegistry)) : null;
+	}
+
+	/**
+	 * Obtain the current generation of the given collection. The generation changes with every eviction and guards
+	 * {@link #put(MongoPersistentEntity, String, Object, Document, CodecRegistry, long) put} from caching a document
+	 * read before a concurrent write evicted it.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param collectionName must not be {@literal null}.
+	 * @return the current generation.
+	 */
+	long getGeneration(MongoPersistentEntity<?> entity, String collectionName) {
+		return getRegion(entity, collectionName).generation;
+	}
+
+	/**
+	 * Put the given {@link Document} into the cache unless documents of the collection have been evicted since obtaining
+	 * the given {@link #getGeneration(MongoPersistentEntity, String) generation}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param collectionName must not be {@literal null}.
+	 * @param id the mapped identifier. Must not be {@literal null}.
+	 * @param document must not be {@literal null}.
+	 * @param codecRegistry must not be {@literal null}.
+	 * @param generation the generation obtained before reading the document.
+	 */
+	void put(MongoPersistentEntity<?> entity, String collectionName, Object id, Document document,
+			CodecRegistry codecRegistry, long generation) {
+
+		RawBsonDocument raw = new RawBsonDocument(document, new DocumentCodec(codecRegistry));
+		getRegion(entity, collectionName).put(id, raw, clock.getAsLong(), generation);
+	}
+
+	/**
+	 * Returns whether documents of the given collection have been cached.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @return {@literal true} if the cache holds a region for the given collection.
+	 */
+	boolean isActive(String collectionName) {
+		return regions.containsKey(collectionName);
+	}
+
+	/**
+	 * Evict documents that might be affected by a write using the given mapped query. Queries matching the
+	 * {@literal _id} by equality or via {@literal $in} evict the matched documents, any other query evicts all documents
+	 * of the collection.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param mappedQuery can be {@literal null}.
+	 */
+	void evictMatching(String collectionName, @Nullable Bson mappedQuery) {
+
+		Region region = regions.get(collectionName);
+
+		if (region == null) {
+			return;
+		}
+
+		Object id = mappedQuery instanceof Document ? ((Document) mappedQuery).get(ID_FIELD) : null;
+
+		if (id == null) {
+			region.clear();
+			return;
+		}
+
+		if (!(id instanceof Document) || !((Document) id).keySet().stream().anyMatch(key -> key.startsWith("$"))) {
+			region.evict(id);
+			return;
+		}
+
+		Document idQuery = (Document) id;
+		Object in = idQuery.size() == 1 ? idQuery.get("$in") : null;
+
+		if (in instanceof Collection) {
+			((Collection<?>) in).forEach(region::evict);
+		} else {
+			region.clear();
+		}
+	}
+
+	/**
+	 * Evict the document with the given identifier.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param id the mapped identifier. Clears the entire collection if {@literal null}.
+	 */
+	public void evict(String collectionName, @Nullable Object id) {
+
+		Assert.notNull(collectionName, "CollectionName must not be null!");
+
+		if (id == null) {
+			clear(collectionName);
+			return;
+		}
+
+		Region region = regions.get(collectionName);
+
+		if (region != null) {
+			region.evict(id);
+		}
+	}
+
+	/**
+	 * Evict all documents of the given collection.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 */
+	public void clear(String collectionName) {
+
+		Assert.notNull(collectionName, "CollectionName must not be null!");
+
+		Region region = regions.get(collectionName);
+
+		if (region != null) {
+			region.clear();
+		}
+	}
+
+	/**
+	 * Evict all documents.
+	 */
+	public void clear() {
+		regions.values().forEach(Region::clear);
+	}
+
+	/**
+	 * Evict documents affected by the given change stream event. Events carrying a {@literal documentKey} evict the
+	 * referenced document, any other event evicts the entire collection or, if not bound to a collection, all
+	 * documents.
+	 *
+	 * @param event must not be {@literal null}.
+	 */
+	public void invalidate(ChangeStreamDocument<?> event) {
+
+		Assert.notNull(event, "ChangeStreamDocument must not be null!");
+
+		MongoNamespace namespace = event.getNamespace();
+
+		if (namespace == null) {
+			clear();
+			return;
+		}
+
+		BsonDocument documentKey = event.getDocumentKey();
+
+		if (documentKey == null || !documentKey.containsKey(ID_FIELD)) {
+			clear(namespace.getCollectionName());
+			return;
+		}
+
+		Document key = new DocumentCodec().decode(new BsonDocumentReader(documentKey), DecoderContext.builder().build());
+		evict(namespace.getCollectionName(), key.get(ID_FIELD));
+	}
+
+	/**
+	 * @return the names of the collections documents have been cached for.
+	 */
+	public Set<String> getCollectionNames() {
+		return Collections.unmodifiableSet(regions.keySet());
+	}
+
+	/**
+	 * Obtain the {@link CacheStatistics} for the given collection.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	public CacheStatistics getStatistics(String collectionName) {
+
+		Assert.notNull(collectionName, "CollectionName must not be null!");
+
+		Region region = regions.get(collectionName);
+		return region != null ? region.statistics() : new CacheStatistics(0, 0, 0, 0);
+	}
+
+	private Region getRegion(MongoPersistentEntity<?> entity, String collectionName) {
+
+		return regions.computeIfAbsent(collectionName, key -> {
+
+			Cached cached = entity.getRequiredAnnotation(Cached.class);
+			return new Region(cached.expireAfterSeconds(), cached.maxSize());
+		});
+	}
+
+	/**
+	 * Snapshot of the usage of the cache for a single collection.
+	 *
+	 * @since 3.1
+	 */
+	public static class CacheStatistics {
+
+		private final long hitCount;
+		private final long missCount;
+		private final long evictionCount;
+		private final int size;
+
+		CacheStatistics(long hitCount, long missCount, long evictionCount, int size) {
+
+			this.hitCount = hitCount;
+			this.missCount = missCount;
+			this.evictionCount = evictionCount;
+			this.size = size;
+		}
+
+		/**
+		 * @return the number of lookups served from the cache.
+		 */
+		public long getHitCount() {
+			return hitCount;
+		}
+
+		/**
+		 * @return the number of lookups that had to be served by the database.
+		 */
+		public long getMissCount() {
+			return missCount;
+		}
+
+		/**
+		 * @return the number of documents evicted due to expiration or size restrictions.
+		 */
+		public long getEvictionCount() {
+			return evictionCount;
+		}
+
+		/**
+		 * @return the number of documents currently held.
+		 */
+		public int getSize() {
+			return size;
+		}
+
+		/**
+		 * @return the ratio of lookups served from the cache. {@literal 1.0} if there has not been any lookup yet.
+		 */
+		public double getHitRate() {
+
+			long lookups = hitCount + missCount;
+			return lookups == 0 ? 1.0 : (double) hitCount / lookups;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("CacheStatistics[hits=%s, misses=%s, evictions=%s, size=%s]", hitCount, missCount,
+					evictionCount, size);
+		}
+	}
+
+	/**
+	 * Size bounded, least recently used ordered documents of a single collection.
+	 */
+	private static class Region {
+
+		private final long expireAfterNanos;
+		private final LinkedHashMap<Object, Entry> entries;
+
+		private volatile long generation;
+
+		private final LongAdder hits = new LongAdder();
+		private final LongAdder misses = new LongAdder();
+		private final LongAdder evictions = new LongAdder();
+
+		Region(long expireAfterSeconds, int maxSize) {
+
+			this.expireAfterNanos = expireAfterSeconds > 0 ? TimeUnit.SECONDS.toNanos(expireAfterSeconds) : -1;
+			this.entries = new LinkedHashMap<Object, Entry>(16, 0.75f, true) {
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+
+					if (size() > maxSize) {
+
+						evictions.increment();
+						return true;
+					}
+
+					return false;
+				}
+			};
+		}
+
+		@Nullable
+		RawBsonDocument get(Object id, long now) {
+
+			Entry entry;
+
+			synchronized (entries) {
+
+				entry = entries.get(id);
+
+				if (entry != null && entry.isExpired(now)) {
+
+					entries.remove(id);
+					evictions.increment();
+					entry = null;
+				}
+			}
+
+			if (entry == null) {
+
+				misses.increment();
+				return null;
+			}
+
+			hits.increment();
+			return entry.document;
+		}
+
+		void put(Object id, RawBsonDocument document, long now, long expectedGeneration) {
+
+			Entry entry = new Entry(document, expireAfterNanos > 0 ? now + expireAfterNanos : -1);
+
+			synchronized (entries) {
+				if (generation == expectedGeneration) {
+					entries.put(id, entry);
+				}
+			}
+		}
+
+		void evict(Object id) {
+
+			synchronized (entries) {
+
+				generation++;
+				entries.remove(id);
+			}
+		}
+
+		void clear() {
+
+			synchronized (entries) {
+
+				generation++;
+				entries.clear();
+			}
+		}
+
+		CacheStatistics statistics() {
+
+			int size;
+
+			synchronized (entries) {
+				size = entries.size();
+			}
+
+			return new CacheStatistics(hits.sum(), misses.sum(), evictions.sum(), size);
+		}
+	}
+
+	private static class Entry {
+
+		private final RawBsonDocument document;
+		private final long expiresAt;
+
+		Entry(RawBsonDocument document, long expiresAt) {
+
+			this.document = document;
+			this.expiresAt = expiresAt;
+		}
+
+		boolean isExpired(long now) {
+			return expiresAt != -1 && now - expiresAt >= 0;
+		}
+	}
+}
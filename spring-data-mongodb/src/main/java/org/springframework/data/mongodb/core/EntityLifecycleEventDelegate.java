@@ -0,0 +1,322 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.mongodb.core.index.MongoMappingEventPublisher;
+import org.springframework.data.mongodb.core.mapping.event.AbstractDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterLoadEvent;
+import org.springframework.data.mongodb.core.mapping.event.MongoMappingEvent;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Delegate publishing {@link MongoMappingEvent lifecycle events} only if there is at least one
+ * {@link ApplicationListener} that could be interested in them. Whether listeners apply is determined once per event
+ * and domain type and cached until the {@link AbstractApplicationContext} publishing the events is refreshed or
+ * listeners get {@link AbstractApplicationContext#addApplicationListener(ApplicationListener) added} to it.
+ * {@link AbstractMongoEventListener} are matched against their domain type, any other listener accepting the event
+ * type is considered to apply. Listeners added to the
+ * {@link org.springframework.context.event.ApplicationEventMulticaster} directly or to a parent context after it has
+ * been refreshed are not detected. Events are always published to {@link ApplicationEventPublisher publishers} that
+ * do not allow listener introspection.
+ *
+ * @since 3.1
+ */
+class EntityLifecycleEventDelegate {
+
+	private @Nullable ApplicationEventPublisher publisher;
+
+	private volatile boolean active;
+	private volatile @Nullable ListenerCache listenerCache;
+
+	/**
+	 * Set the {@link ApplicationEventPublisher} to use.
+	 *
+	 * @param publisher can be {@literal null}.
+	 */
+	void setPublisher(@Nullable ApplicationEventPublisher publisher) {
+
+		this.publisher = publisher;
+		this.listenerCache = null;
+		this.active = false;
+	}
+
+	/**
+	 * @return the {@link ApplicationEventPublisher} in use. Can be {@literal null}.
+	 */
+	@Nullable
+	ApplicationEventPublisher getPublisher() {
+		return publisher;
+	}
+
+	/**
+	 * Publish the given {@link MongoMappingEvent} if there are listeners applying to it.
+	 *
+	 * @param event must not be {@literal null}.
+	 */
+	void publishEvent(MongoMappingEvent<?> event) {
+
+		ApplicationEventPublisher publisher = this.publisher;
+
+		if (publisher != null && hasListeners(event)) {
+			publisher.publishEvent(event);
+		}
+	}
+
+	/**
+	 * Check whether the given {@link MongoMappingEvent} would be received by any listener.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @return {@literal true} if there is at least one listener that might receive the event.
+	 */
+	boolean hasListeners(MongoMappingEvent<?> event) {
+		return hasListeners(event.getClass(), getDomainType(event));
+	}
+
+	/**
+	 * Check whether an event of the given type for the given domain type would be received by any listener.
+	 *
+	 * @param eventType must not be {@literal null}.
+	 * @param domainType can be {@literal null} if unknown.
+	 * @return {@literal true} if there is at least one listener that might receive the event.
+	 */
+	boolean hasListeners(Class<?> eventType, @Nullable Class<?> domainType) {
+
+		ApplicationEventPublisher publisher = this.publisher;
+
+		if (publisher == null || publisher instanceof MongoMappingEventPublisher) {
+			return false;
+		}
+
+		if (!(publisher instanceof AbstractApplicationContext)) {
+			return true;
+		}
+
+		AbstractApplicationContext context = (AbstractApplicationContext) publisher;
+
+		// once active there is no need to look at the bean factory anymore
+		if (!active) {
+
+			if (!isActive(context)) {
+				return true;
+			}
+
+			active = true;
+		}
+
+		// a refresh starts a new generation of listeners
+		long generation = context.getStartupDate();
+		int listeners = context.getApplicationListeners().size();
+		ListenerCache cache = this.listenerCache;
+
+		// swap the entire cache so that results of outdated registrations never end up in the current one
+		if (cache == null || cache.generation != generation || cache.listeners != listeners) {
+
+			cache = new ListenerCache(generation, listeners);
+			this.listenerCache = cache;
+		}
+
+		return cache.results.computeIfAbsent(new ListenerKey(eventType, domainType),
+				key -> hasListeners(context, key.eventType, key.domainType));
+	}
+
+	private static boolean hasListeners(AbstractApplicationContext context, Class<?> eventType,
+			@Nullable Class<?> domainType) {
+
+		ApplicationContext current = context;
+
+		while (current != null) {
+
+			if (!(current instanceof AbstractApplicationContext)) {
+				return true;
+			}
+
+			AbstractApplicationContext candidate = (AbstractApplicationContext) current;
+
+			for (ApplicationListener<?> listener : candidate.getApplicationListeners()) {
+				if (applies(listener, eventType, domainType)) {
+					return true;
+				}
+			}
+
+			for (String beanName : candidate.getBeanNamesForType(ApplicationListener.class, true, false)) {
+
+				Class<?> listenerType = candidate.getType(beanName);
+
+				if (listenerType == null || applies(listenerType, eventType, domainType)) {
+					return true;
+				}
+			}
+
+			current = candidate.getParent();
+		}
+
+		return false;
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static boolean applies(ApplicationListener<?> listener, Class<?> eventType, @Nullable Class<?> domainType) {
+
+		if (listener instanceof GenericApplicationListener) {
+			return ((GenericApplicationListener) listener).supportsEventType(ResolvableType.forClass(eventType));
+		}
+
+		if (listener instanceof SmartApplicationListener) {
+			return ((SmartApplicationListener) listener).supportsEventType((Class) eventType);
+		}
+
+		return applies(listener.getClass(), eventType, domainType);
+	}
+
+	private static boolean applies(Class<?> listenerType, Class<?> eventType, @Nullable Class<?> domainType) {
+
+		if (AbstractMongoEventListener.class.isAssignableFrom(listenerType)) {
+
+			if (domainType == null) {
+				return false;
+			}
+
+			Class<?> listenerDomainType = GenericTypeResolver.resolveTypeArgument(listenerType,
+					AbstractMongoEventListener.class);
+			return listenerDomainType == null || listenerDomainType.isAssignableFrom(domainType);
+		}
+
+		if (GenericApplicationListener.class.isAssignableFrom(listenerType)
+				|| SmartApplicationListener.class.isAssignableFrom(listenerType)) {
+			return true;
+		}
+
+		ResolvableType acceptedType = ResolvableType.forClass(listenerType).as(ApplicationListener.class).getGeneric();
+		Class<?> acceptedEventType = acceptedType.resolve();
+
+		return acceptedEventType == null || acceptedEventType.isAssignableFrom(eventType);
+	}
+
+	/**
+	 * Listeners are only cached once the context configuration is frozen. Until then bean definitions for listeners
+	 * might still be added.
+	 */
+	private static boolean isActive(AbstractApplicationContext context) {
+
+		try {
+			return context.isActive() && context.getBeanFactory().isConfigurationFrozen();
+		} catch (IllegalStateException o_O) {
+			return false;
+		}
+	}
+
+	/**
+	 * Check whether the given template type overrides the {@code maybeEmitEvent(MongoMappingEvent)} hook declared by
+	 * the given base type. Overriding templates have to see each and every event, listeners or not.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param declaringType the type declaring the hook. Must not be {@literal null}.
+	 * @return {@literal true} if the hook is overridden.
+	 */
+	static boolean overridesEventHook(Class<?> type, Class<?> declaringType) {
+
+		Method hook = ReflectionUtils.findMethod(type, "maybeEmitEvent", MongoMappingEvent.class);
+		return hook != null && !declaringType.equals(hook.getDeclaringClass());
+	}
+
+	/**
+	 * @param event must not be {@literal null}.
+	 * @return the domain type the given {@link MongoMappingEvent} is published for. {@literal null} if unknown.
+	 */
+	@Nullable
+	static Class<?> getDomainType(MongoMappingEvent<?> event) {
+
+		if (event instanceof AfterLoadEvent) {
+			return ((AfterLoadEvent<?>) event).getType();
+		}
+
+		if (event instanceof AbstractDeleteEvent) {
+			return ((AbstractDeleteEvent<?>) event).getType();
+		}
+
+		return event.getSource().getClass();
+	}
+
+	/**
+	 * Results of listener lookups for a given refresh of the publishing context and number of listeners added to it.
+	 */
+	private static class ListenerCache {
+
+		private final long generation;
+		private final int listeners;
+		private final Map<ListenerKey, Boolean> results = new ConcurrentHashMap<>();
+
+		ListenerCache(long generation, int listeners) {
+
+			this.generation = generation;
+			this.listeners = listeners;
+		}
+	}
+
+	private static class ListenerKey {
+
+		private final Class<?> eventType;
+		private final @Nullable Class<?> domainType;
+
+		ListenerKey(Class<?> eventType, @Nullable Class<?> domainType) {
+
+			this.eventType = eventType;
+			this.domainType = domainType;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof ListenerKey)) {
+				return false;
+			}
+
+			ListenerKey that = (ListenerKey) o;
+			return eventType.equals(that.eventType) && ObjectUtils.nullSafeEquals(domainType, that.domainType);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return 31 * eventType.hashCode() + ObjectUtils.nullSafeHashCode(domainType);
+		}
+	}
+}
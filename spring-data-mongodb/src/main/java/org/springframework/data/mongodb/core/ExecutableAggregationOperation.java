@@ -15,9 +15,12 @@
  */
 package org.springframework.data.mongodb.core;
 
+import java.util.function.Consumer;
+
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 import org.springframework.data.util.CloseableIterator;
+import org.springframework.util.Assert;
 
 /**
  * {@link ExecutableAggregationOperation} allows creation and execution of MongoDB aggregation operations in a fluent
@@ -94,6 +97,24 @@ public interface ExecutableAggregationOperation {
 		 *         Never {@literal null}.
 		 */
 		CloseableIterator<T> stream();
+
+		/**
+		 * Apply pipeline operations as specified and pass each result to the given {@link Consumer} as it is read from the
+		 * cursor. Results are not collected, so memory consumption is bounded by the
+		 * {@link org.springframework.data.mongodb.core.aggregation.AggregationOptions#getCursorBatchSize() cursor batch
+		 * size}. The underlying cursor is closed once all results have been consumed or the {@link Consumer} fails.
+		 *
+		 * @param action must not be {@literal null}.
+		 * @since 3.1
+		 */
+		default void forEach(Consumer<? super T> action) {
+
+			Assert.notNull(action, "Action must not be null!");
+
+			try (CloseableIterator<T> iterator = stream()) {
+				iterator.forEachRemaining(action);
+			}
+		}
 	}
 
 	/**
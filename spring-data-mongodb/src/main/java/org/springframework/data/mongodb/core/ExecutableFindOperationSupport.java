@@ -214,6 +214,15 @@ class ExecutableFindOperationSupport implements ExecutableFindOperation {
 
 		private List<T> doFind(@Nullable CursorPreparer preparer) {
 
+			if (!query.getFetchPaths().isEmpty()) {
+
+				int limit = preparer instanceof DelegatingQueryCursorPreparer
+						? ((DelegatingQueryCursorPreparer) preparer).getLimit().orElse(query.getLimit())
+						: query.getLimit();
+
+				return template.doFindAndFetch(getCollectionName(), query, limit, domainType, returnType);
+			}
+
 			Document queryObject = query.getQueryObject();
 			Document fieldsObject = query.getFieldsObject();
 
@@ -274,6 +283,10 @@ class ExecutableFindOperationSupport implements ExecutableFindOperation {
 			return this;
 		}
 
+		Optional<Integer> getLimit() {
+			return limit;
+		}
+
 		@Override
 		public ReadPreference getReadPreference() {
 			return delegate.getReadPreference();
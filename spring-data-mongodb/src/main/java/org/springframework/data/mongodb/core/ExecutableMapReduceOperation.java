@@ -21,6 +21,7 @@ import org.springframework.data.mongodb.core.ExecutableFindOperation.ExecutableF
 import org.springframework.data.mongodb.core.mapreduce.MapReduceOptions;
 import org.springframework.data.mongodb.core.query.CriteriaDefinition;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
 
 /**
  * {@link ExecutableMapReduceOperation} allows creation and execution of MongoDB mapReduce operations in a fluent API
@@ -73,6 +74,14 @@ public interface ExecutableMapReduceOperation {
 		 * @return never {@literal null}.
 		 */
 		List<T> all();
+
+		/**
+		 * Stream the mapReduce results without materializing them all at once.
+		 *
+		 * @return a {@link CloseableIterator} that needs to be closed. Never {@literal null}.
+		 * @since 3.1
+		 */
+		CloseableIterator<T> stream();
 	}
 
 	/**
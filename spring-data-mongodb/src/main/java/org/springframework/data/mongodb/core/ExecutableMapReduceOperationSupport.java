@@ -19,6 +19,7 @@ import java.util.List;
 
 import org.springframework.data.mongodb.core.mapreduce.MapReduceOptions;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -94,6 +95,16 @@ class ExecutableMapReduceOperationSupport implements ExecutableMapReduceOperatio
 					returnType);
 		}
 
+		/*
+		 * (non-Javascript)
+		 * @see in org.springframework.data.mongodb.core.ExecutableMapReduceOperation.TerminatingMapReduce#stream()
+		 */
+		@Override
+		public CloseableIterator<T> stream() {
+			return template.mapReduceStream(query, domainType, getCollectionName(), mapFunction, reduceFunction, options,
+					returnType);
+		}
+
 		/*
 		 * (non-Javascript)
 		 * @see in org.springframework.data.mongodb.core.ExecutableMapReduceOperation.MapReduceWithCollection#inCollection(java.lang.String)
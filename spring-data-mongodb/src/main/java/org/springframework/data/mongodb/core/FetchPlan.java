@@ -0,0 +1,256 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.mapping.context.InvalidPersistentPropertyPath;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.core.mapping.DBRef;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Rewrites a find into an aggregation joining the documents referenced via {@link DBRef} at the requested paths using
+ * {@literal $lookup}. References are replaced by the joined documents in place, so that the converter materializes
+ * them directly instead of resolving them one by one. The {@literal $lookup} stages are applied after sorting,
+ * skipping and limiting, so only the references of the returned documents are joined. <br />
+ * Only references pointing to the collection of the declared target entity within the current database are joined.
+ * Any other reference, e.g. one to a subtype stored in a different collection, is left in place and resolved by the
+ * converter as usual.
+ *
+ * @since 3.1
+ * @see org.springframework.data.mongodb.core.query.Query#fetch(String...)
+ */
+class FetchPlan {
+
+	private static final String TEMP_FIELD_PREFIX = "__fetch_";
+
+	private final List<Lookup> lookups;
+
+	private FetchPlan(List<Lookup> lookups) {
+		this.lookups = lookups;
+	}
+
+	/**
+	 * Create a new {@link FetchPlan} for the given association paths of the given entity.
+	 *
+	 * @param paths property paths pointing to properties annotated with {@link DBRef}.
+	 * @param entity the entity the paths are relative to.
+	 * @param mappingContext must not be {@literal null}.
+	 * @return new instance of {@link FetchPlan}.
+	 * @throws InvalidDataAccessApiUsageException if a path does not point to a reference that can be joined.
+	 */
+	static FetchPlan of(Collection<String> paths, MongoPersistentEntity<?> entity,
+			MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext) {
+
+		List<Lookup> lookups = new ArrayList<>(paths.size());
+
+		for (String path : paths) {
+			lookups.add(createLookup(path, entity, mappingContext, TEMP_FIELD_PREFIX + lookups.size()));
+		}
+
+		return new FetchPlan(lookups);
+	}
+
+	/**
+	 * Create the aggregation pipeline equivalent to a find using the given, already mapped, arguments followed by the
+	 * stages joining the referenced documents.
+	 *
+	 * @param query the mapped query. Must not be {@literal null}.
+	 * @param sort the mapped sort. Can be {@literal null}.
+	 * @param skip number of documents to skip.
+	 * @param limit maximum number of documents to return. Zero or negative for all.
+	 * @param fields the mapped projection. Can be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	List<Document> createPipeline(Document query, @Nullable Document sort, long skip, int limit,
+			@Nullable Document fields) {
+
+		List<Document> pipeline = new ArrayList<>();
+
+		pipeline.add(new Document("$match", query));
+
+		if (!ObjectUtils.isEmpty(sort)) {
+			pipeline.add(new Document("$sort", sort));
+		}
+
+		if (skip > 0) {
+			pipeline.add(new Document("$skip", skip));
+		}
+
+		if (limit > 0) {
+			pipeline.add(new Document("$limit", limit));
+		}
+
+		Document cleanup = new Document();
+
+		for (Lookup lookup : lookups) {
+
+			lookup.appendTo(pipeline);
+
+			cleanup.append(lookup.idsField, 0);
+			cleanup.append(lookup.documentsField, 0);
+		}
+
+		pipeline.add(new Document("$project", cleanup));
+
+		if (!ObjectUtils.isEmpty(fields)) {
+			pipeline.add(new Document("$project", fields));
+		}
+
+		return pipeline;
+	}
+
+	private static Lookup createLookup(String path, MongoPersistentEntity<?> entity,
+			MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext, String tempField) {
+
+		PersistentPropertyPath<MongoPersistentProperty> propertyPath;
+
+		try {
+			propertyPath = mappingContext.getPersistentPropertyPath(path, entity.getType());
+		} catch (InvalidPersistentPropertyPath ex) {
+			throw new InvalidDataAccessApiUsageException(
+					String.format("Cannot fetch %s as it is not a property of %s!", path, entity.getName()), ex);
+		}
+
+		MongoPersistentProperty property = propertyPath.getRequiredLeafProperty();
+
+		for (MongoPersistentProperty segment : propertyPath) {
+
+			if (segment != property && (segment.isCollectionLike() || segment.isMap() || segment.isAssociation())) {
+				throw new InvalidDataAccessApiUsageException(String.format(
+						"Cannot fetch %s as only references within embedded documents that are not part of a collection or map can be fetched!",
+						path));
+			}
+		}
+
+		if (!property.isDbReference() || property.isMap()) {
+			throw new InvalidDataAccessApiUsageException(
+					String.format("Cannot fetch %s as it is not a single or collection valued @DBRef!", path));
+		}
+
+		DBRef dbRef = property.getDBRef();
+
+		if (dbRef != null && StringUtils.hasText(dbRef.db())) {
+			throw new InvalidDataAccessApiUsageException(
+					String.format("Cannot fetch %s as it references documents in another database!", path));
+		}
+
+		MongoPersistentEntity<?> target = mappingContext.getRequiredPersistentEntity(property.getActualType());
+		String fieldPath = propertyPath.toDotPath(MongoPersistentProperty::getFieldName);
+
+		return new Lookup(fieldPath, target.getCollection(), property.isCollectionLike(), tempField + "_ids",
+				tempField + "_docs");
+	}
+
+	/**
+	 * Stages joining the documents referenced by a single field. References hold {@literal $ref}, {@literal $id} and
+	 * optionally {@literal $db} in that order. Aggregation expressions cannot refer to fields starting with
+	 * {@literal $}, so references are turned into an array of their values to access those.
+	 */
+	private static class Lookup {
+
+		private final String field;
+		private final String from;
+		private final boolean collection;
+		private final String idsField;
+		private final String documentsField;
+
+		Lookup(String field, String from, boolean collection, String idsField, String documentsField) {
+
+			this.field = field;
+			this.from = from;
+			this.collection = collection;
+			this.idsField = idsField;
+			this.documentsField = documentsField;
+		}
+
+		void appendTo(List<Document> pipeline) {
+
+			Object ids = collection
+					? new Document("$map", new Document("input", "$" + field).append("as", "ref").append("in", idOf("$$ref")))
+					: idOf("$" + field);
+
+			pipeline.add(new Document("$addFields", new Document(idsField, ids)));
+			pipeline.add(new Document("$lookup", new Document("from", from) //
+					.append("localField", idsField) //
+					.append("foreignField", "_id") //
+					.append("as", documentsField)));
+			pipeline.add(new Document("$addFields", new Document(field, collection ? replaceAll() : replaceSingle())));
+		}
+
+		/**
+		 * Extract {@literal $id} from the reference at the given expression.
+		 */
+		private static Document idOf(String reference) {
+			return new Document("$arrayElemAt", Arrays.asList(valuesOf(reference), 1));
+		}
+
+		private static Document valuesOf(String reference) {
+			return new Document("$map",
+					new Document("input", new Document("$objectToArray", reference)).append("in", "$$this.v"));
+		}
+
+		/**
+		 * Whether the value at the given expression is a reference to the joined collection without an explicit
+		 * {@literal $db}.
+		 */
+		private Document isJoined(String reference) {
+
+			Document values = valuesOf(reference);
+
+			return new Document("$and", Arrays.asList( //
+					new Document("$eq", Arrays.asList(new Document("$type", reference), "object")), //
+					new Document("$eq", Arrays.asList(new Document("$size", values), 2)), //
+					new Document("$eq", Arrays.asList(new Document("$arrayElemAt", Arrays.asList(values, 0)), from))));
+		}
+
+		/**
+		 * Replace the reference with the joined document, keeping {@literal null} values and references not joined.
+		 */
+		private Document replaceSingle() {
+
+			return new Document("$cond", Arrays.asList(isJoined("$" + field),
+					new Document("$arrayElemAt", Arrays.asList("$" + documentsField, 0)), "$" + field));
+		}
+
+		/**
+		 * Replace each reference with the joined document retaining the order of the references.
+		 */
+		private Document replaceAll() {
+
+			Document matching = new Document("$filter", new Document("input", "$" + documentsField).append("cond",
+					new Document("$eq", Arrays.asList("$$this._id", idOf("$$ref")))));
+			Document document = new Document("$cond",
+					Arrays.asList(isJoined("$$ref"), new Document("$arrayElemAt", Arrays.asList(matching, 0)), "$$ref"));
+			Document documents = new Document("$map",
+					new Document("input", "$" + field).append("as", "ref").append("in", document));
+
+			return new Document("$cond",
+					Arrays.asList(new Document("$isArray", "$" + field), documents, "$" + field));
+		}
+	}
+}
@@ -0,0 +1,565 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoNodeIsRecoveringException;
+import com.mongodb.MongoNotPrimaryException;
+import com.mongodb.MongoSocketException;
+import com.mongodb.ReadPreference;
+
+/**
+ * Executes idempotent reads allowed to be served by secondaries so that a slow replica set member does not dominate
+ * tail latency. A read not answered within the configured percentile of previously observed latencies is duplicated
+ * and the first response wins. The duplicate uses the same {@link ReadPreference} and therefore lets the driver select
+ * any eligible member again. A read failing with a network error is retried once the same way.
+ * <p />
+ * Duplicates are limited by a retry budget. Every read deposits a fraction of a token and every duplicate withdraws a
+ * whole one so that hedging does not amplify load when a replica set is degraded as a whole. Reads bound to the
+ * primary are executed as is and only contribute to the latency statistics.
+ *
+ * @since 3.1
+ * @see MongoTemplate#setHedgedReadExecutor(HedgedReadExecutor)
+ */
+public class HedgedReadExecutor {
+
+	static final int MIN_SAMPLES = 100;
+	private static final int WINDOW_SIZE = 1000;
+
+	private final Executor executor;
+	private final double delayPercentile;
+	private final long minDelay;
+	private final long maxDelay;
+	private final long initialDelay;
+	private final RetryBudget budget;
+	private final Map<Operation, OperationMetrics> metrics = new EnumMap<>(Operation.class);
+
+	private HedgedReadExecutor(HedgedReadExecutorBuilder builder) {
+
+		this.executor = builder.executor;
+		this.delayPercentile = builder.delayPercentile;
+		this.minDelay = builder.minDelay.toNanos();
+		this.maxDelay = builder.maxDelay.toNanos();
+		this.initialDelay = builder.initialDelay.toNanos();
+		this.budget = new RetryBudget(builder.budgetRatio, builder.budgetTokens);
+
+		for (Operation operation : Operation.values()) {
+			metrics.put(operation, new OperationMetrics());
+		}
+	}
+
+	/**
+	 * Create a new {@link HedgedReadExecutor} with default settings running attempts on the given {@link Executor}.
+	 *
+	 * @param executor must not be {@literal null}.
+	 * @return new instance of {@link HedgedReadExecutor}.
+	 */
+	public static HedgedReadExecutor create(Executor executor) {
+		return builder(executor).build();
+	}
+
+	/**
+	 * Obtain a new {@link HedgedReadExecutorBuilder} running attempts on the given {@link Executor}.
+	 *
+	 * @param executor must not be {@literal null}.
+	 * @return new instance of {@link HedgedReadExecutorBuilder}.
+	 */
+	public static HedgedReadExecutorBuilder builder(Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null!");
+		return new HedgedReadExecutorBuilder(executor);
+	}
+
+	/**
+	 * Obtain the {@link ReadStatistics} for the given {@link Operation}.
+	 *
+	 * @param operation must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	public ReadStatistics getStatistics(Operation operation) {
+
+		Assert.notNull(operation, "Operation must not be null!");
+		return metrics.get(operation).snapshot();
+	}
+
+	/**
+	 * Execute the given read.
+	 *
+	 * @param operation the kind of read. Must not be {@literal null}.
+	 * @param readPreference the {@link ReadPreference} the read is executed with. {@literal null} is considered
+	 *          {@link ReadPreference#primary() primary}.
+	 * @param read the actual read. Must not be {@literal null}.
+	 * @param discard callback releasing resources held by the result of an attempt that lost the race. Can be
+	 *          {@literal null}.
+	 * @return the result of the first attempt to complete successfully.
+	 */
+	<T> T execute(Operation operation, @Nullable ReadPreference readPreference, Supplier<T> read,
+			@Nullable Consumer<T> discard) {
+
+		OperationMetrics metrics = this.metrics.get(operation);
+
+		if (readPreference == null || ReadPreference.primary().equals(readPreference)) {
+
+			metrics.executions.incrementAndGet();
+
+			long start = System.nanoTime();
+			T result = read.get();
+			metrics.histogram.record(System.nanoTime() - start);
+
+			return result;
+		}
+
+		budget.deposit();
+		return new HedgedRead<>(metrics, read, discard).execute(getDelay(operation));
+	}
+
+	/**
+	 * @param operation must not be {@literal null}.
+	 * @return the delay in nanoseconds after which a read is duplicated.
+	 */
+	long getDelay(Operation operation) {
+
+		LatencyHistogram histogram = metrics.get(operation).histogram;
+		long delay = histogram.getCount() < MIN_SAMPLES ? initialDelay : histogram.getPercentile(delayPercentile);
+
+		return Math.min(maxDelay, Math.max(minDelay, delay));
+	}
+
+	private static boolean isRetryable(Throwable error) {
+
+		return error instanceof MongoSocketException || error instanceof MongoNotPrimaryException
+				|| error instanceof MongoNodeIsRecoveringException;
+	}
+
+	/**
+	 * The kind of read executed.
+	 */
+	public enum Operation {
+
+		/**
+		 * Opening a cursor for a query returning multiple documents.
+		 */
+		FIND,
+
+		/**
+		 * A query returning a single document.
+		 */
+		FIND_ONE,
+
+		/**
+		 * Counting documents.
+		 */
+		COUNT
+	}
+
+	/**
+	 * Single read racing the initial attempt against a duplicate issued after a delay or on failure.
+	 */
+	private class HedgedRead<T> {
+
+		private final OperationMetrics metrics;
+		private final Supplier<T> read;
+		private final @Nullable Consumer<T> discard;
+		private final CompletableFuture<T> result = new CompletableFuture<>();
+		private final AtomicInteger running = new AtomicInteger();
+		private final AtomicBoolean duplicated = new AtomicBoolean();
+
+		HedgedRead(OperationMetrics metrics, Supplier<T> read, @Nullable Consumer<T> discard) {
+
+			this.metrics = metrics;
+			this.read = read;
+			this.discard = discard;
+		}
+
+		T execute(long delay) {
+
+			metrics.executions.incrementAndGet();
+			attempt(false);
+
+			try {
+
+				try {
+					return result.get(delay, TimeUnit.NANOSECONDS);
+				} catch (TimeoutException ex) {
+
+					if (tryDuplicate()) {
+
+						metrics.hedges.incrementAndGet();
+						attempt(true);
+					}
+
+					return result.get();
+				}
+			} catch (ExecutionException ex) {
+
+				Throwable cause = ex.getCause();
+
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+
+				if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+
+				throw new IllegalStateException(cause);
+			} catch (InterruptedException ex) {
+
+				Thread.currentThread().interrupt();
+				release();
+
+				throw new IllegalStateException("Interrupted while waiting for read to complete!", ex);
+			}
+		}
+
+		private void attempt(boolean duplicate) {
+
+			running.incrementAndGet();
+
+			Runnable attempt = () -> {
+
+				long start = System.nanoTime();
+
+				try {
+
+					T value = read.get();
+					metrics.histogram.record(System.nanoTime() - start);
+
+					if (!complete(value, duplicate) && discard != null) {
+						discard.accept(value);
+					}
+
+					running.decrementAndGet();
+				} catch (RuntimeException ex) {
+					onError(ex);
+				}
+			};
+
+			try {
+				executor.execute(attempt);
+			} catch (RejectedExecutionException ex) {
+
+				if (duplicate) {
+					onError(ex);
+				} else {
+					attempt.run();
+				}
+			}
+		}
+
+		private synchronized boolean complete(T value, boolean duplicate) {
+
+			if (result.isDone()) {
+				return false;
+			}
+
+			if (duplicate) {
+				metrics.duplicateWins.incrementAndGet();
+			}
+
+			return result.complete(value);
+		}
+
+		private void onError(RuntimeException error) {
+
+			if (isRetryable(error) && tryDuplicate()) {
+
+				metrics.retries.incrementAndGet();
+				attempt(true);
+			}
+
+			if (running.decrementAndGet() == 0) {
+				result.completeExceptionally(error);
+			}
+		}
+
+		private boolean tryDuplicate() {
+
+			if (result.isDone() || !duplicated.compareAndSet(false, true)) {
+				return false;
+			}
+
+			if (budget.tryWithdraw()) {
+				return true;
+			}
+
+			metrics.budgetExhausted.incrementAndGet();
+			return false;
+		}
+
+		private void release() {
+
+			if (discard != null) {
+				result.thenAccept(discard);
+			}
+		}
+	}
+
+	/**
+	 * Token bucket limiting the number of duplicate reads relative to the overall number of reads.
+	 */
+	private static class RetryBudget {
+
+		private final double ratio;
+		private final int maxTokens;
+		private double tokens;
+
+		RetryBudget(double ratio, int maxTokens) {
+
+			this.ratio = ratio;
+			this.maxTokens = maxTokens;
+			this.tokens = maxTokens;
+		}
+
+		synchronized void deposit() {
+			tokens = Math.min(maxTokens, tokens + ratio);
+		}
+
+		synchronized boolean tryWithdraw() {
+
+			if (tokens < 1) {
+				return false;
+			}
+
+			tokens--;
+			return true;
+		}
+	}
+
+	private static class OperationMetrics {
+
+		private final LatencyHistogram histogram = new LatencyHistogram(WINDOW_SIZE);
+		private final AtomicLong executions = new AtomicLong();
+		private final AtomicLong hedges = new AtomicLong();
+		private final AtomicLong retries = new AtomicLong();
+		private final AtomicLong duplicateWins = new AtomicLong();
+		private final AtomicLong budgetExhausted = new AtomicLong();
+
+		ReadStatistics snapshot() {
+
+			return new ReadStatistics(executions.get(), hedges.get(), retries.get(), duplicateWins.get(),
+					budgetExhausted.get(), Duration.ofNanos(histogram.getPercentile(0.5D)),
+					Duration.ofNanos(histogram.getPercentile(0.95D)), Duration.ofNanos(histogram.getPercentile(0.99D)));
+		}
+	}
+
+	/**
+	 * Value object capturing the statistics of an {@link Operation}. Latencies are computed from the most recent
+	 * attempts and carry a relative error of up to 25%.
+	 */
+	public static class ReadStatistics {
+
+		private final long executionCount;
+		private final long hedgeCount;
+		private final long retryCount;
+		private final long duplicateWinCount;
+		private final long budgetExhaustedCount;
+		private final Duration medianLatency;
+		private final Duration p95Latency;
+		private final Duration p99Latency;
+
+		ReadStatistics(long executionCount, long hedgeCount, long retryCount, long duplicateWinCount,
+				long budgetExhaustedCount, Duration medianLatency, Duration p95Latency, Duration p99Latency) {
+
+			this.executionCount = executionCount;
+			this.hedgeCount = hedgeCount;
+			this.retryCount = retryCount;
+			this.duplicateWinCount = duplicateWinCount;
+			this.budgetExhaustedCount = budgetExhaustedCount;
+			this.medianLatency = medianLatency;
+			this.p95Latency = p95Latency;
+			this.p99Latency = p99Latency;
+		}
+
+		/**
+		 * @return the number of reads executed.
+		 */
+		public long getExecutionCount() {
+			return executionCount;
+		}
+
+		/**
+		 * @return the number of reads duplicated because they exceeded the delay.
+		 */
+		public long getHedgeCount() {
+			return hedgeCount;
+		}
+
+		/**
+		 * @return the number of reads retried because of a network error.
+		 */
+		public long getRetryCount() {
+			return retryCount;
+		}
+
+		/**
+		 * @return the number of reads answered by the duplicate.
+		 */
+		public long getDuplicateWinCount() {
+			return duplicateWinCount;
+		}
+
+		/**
+		 * @return the number of duplicates suppressed because the retry budget was exhausted.
+		 */
+		public long getBudgetExhaustedCount() {
+			return budgetExhaustedCount;
+		}
+
+		/**
+		 * @return the median latency of an attempt.
+		 */
+		public Duration getMedianLatency() {
+			return medianLatency;
+		}
+
+		/**
+		 * @return the 95th percentile latency of an attempt.
+		 */
+		public Duration getP95Latency() {
+			return p95Latency;
+		}
+
+		/**
+		 * @return the 99th percentile latency of an attempt.
+		 */
+		public Duration getP99Latency() {
+			return p99Latency;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format(
+					"ReadStatistics[executions=%s, hedges=%s, retries=%s, duplicateWins=%s, budgetExhausted=%s, p50=%s, p95=%s, p99=%s]",
+					executionCount, hedgeCount, retryCount, duplicateWinCount, budgetExhaustedCount, medianLatency, p95Latency,
+					p99Latency);
+		}
+	}
+
+	/**
+	 * Builder for creating {@link HedgedReadExecutor}.
+	 */
+	public static class HedgedReadExecutorBuilder {
+
+		private final Executor executor;
+		private double delayPercentile = 0.95D;
+		private Duration minDelay = Duration.ofMillis(2);
+		private Duration maxDelay = Duration.ofMillis(500);
+		private Duration initialDelay = Duration.ofMillis(20);
+		private double budgetRatio = 0.1D;
+		private int budgetTokens = 10;
+
+		private HedgedReadExecutorBuilder(Executor executor) {
+			this.executor = executor;
+		}
+
+		/**
+		 * Set the percentile of observed latencies after which a read is duplicated. Defaults to {@literal 0.95}.
+		 *
+		 * @param delayPercentile must be greater than {@literal 0} and less than {@literal 1}.
+		 * @return this.
+		 */
+		public HedgedReadExecutorBuilder delayPercentile(double delayPercentile) {
+
+			Assert.isTrue(delayPercentile > 0 && delayPercentile < 1, "Delay percentile must be between 0 and 1!");
+
+			this.delayPercentile = delayPercentile;
+			return this;
+		}
+
+		/**
+		 * Set the bounds for the delay computed from observed latencies. Defaults to {@literal 2ms} and {@literal 500ms}.
+		 *
+		 * @param minDelay must not be {@literal null}.
+		 * @param maxDelay must not be {@literal null} nor less than {@code minDelay}.
+		 * @return this.
+		 */
+		public HedgedReadExecutorBuilder delayBetween(Duration minDelay, Duration maxDelay) {
+
+			Assert.notNull(minDelay, "Min delay must not be null!");
+			Assert.notNull(maxDelay, "Max delay must not be null!");
+			Assert.isTrue(!minDelay.isNegative() && minDelay.compareTo(maxDelay) <= 0,
+					"Min delay must not be negative nor greater than max delay!");
+
+			this.minDelay = minDelay;
+			this.maxDelay = maxDelay;
+			return this;
+		}
+
+		/**
+		 * Set the delay used until enough latencies have been observed. Defaults to {@literal 20ms}.
+		 *
+		 * @param initialDelay must not be {@literal null} nor negative.
+		 * @return this.
+		 */
+		public HedgedReadExecutorBuilder initialDelay(Duration initialDelay) {
+
+			Assert.notNull(initialDelay, "Initial delay must not be null!");
+			Assert.isTrue(!initialDelay.isNegative(), "Initial delay must not be negative!");
+
+			this.initialDelay = initialDelay;
+			return this;
+		}
+
+		/**
+		 * Set the retry budget. Every read deposits {@code ratio} tokens, up to {@code maxTokens}, and every duplicate
+		 * withdraws one. Defaults to a ratio of {@literal 0.1} and {@literal 10} tokens.
+		 *
+		 * @param ratio must not be negative.
+		 * @param maxTokens must not be negative.
+		 * @return this.
+		 */
+		public HedgedReadExecutorBuilder retryBudget(double ratio, int maxTokens) {
+
+			Assert.isTrue(ratio >= 0, "Ratio must not be negative!");
+			Assert.isTrue(maxTokens >= 0, "Max tokens must not be negative!");
+
+			this.budgetRatio = ratio;
+			this.budgetTokens = maxTokens;
+			return this;
+		}
+
+		/**
+		 * Create the {@link HedgedReadExecutor}.
+		 *
+		 * @return new instance of {@link HedgedReadExecutor}.
+		 */
+		public HedgedReadExecutor build() {
+			return new HedgedReadExecutor(this);
+		}
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.util.Assert;
+
+/**
+ * Lock-free histogram of operation latencies using logarithmic buckets with four sub-buckets per power of two
+ * microseconds, bounding the relative error of reported percentiles to 25%. Samples are recorded in windows of a fixed
+ * size. Percentiles are computed over the current and the previous window so that they adapt to changing latencies.
+ *
+ * @since 3.1
+ */
+class LatencyHistogram {
+
+	private static final int BUCKETS = 252;
+
+	private final int windowSize;
+	private volatile Window current = new Window();
+	private volatile Window previous = new Window();
+
+	/**
+	 * Create a new {@link LatencyHistogram} rotating windows after the given number of samples.
+	 *
+	 * @param windowSize must be greater than zero.
+	 */
+	LatencyHistogram(int windowSize) {
+
+		Assert.isTrue(windowSize > 0, "Window size must be greater than zero!");
+		this.windowSize = windowSize;
+	}
+
+	/**
+	 * Record the given latency.
+	 *
+	 * @param latency the latency in nanoseconds.
+	 */
+	void record(long latency) {
+
+		Window window = current;
+
+		if (window.record(TimeUnit.NANOSECONDS.toMicros(Math.max(0, latency))) == windowSize) {
+
+			synchronized (this) {
+				if (current == window) {
+					previous = window;
+					current = new Window();
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the number of samples the percentiles are computed from.
+	 */
+	long getCount() {
+		return current.count.get() + previous.count.get();
+	}
+
+	/**
+	 * Obtain the latency below which the given fraction of samples fall.
+	 *
+	 * @param percentile between {@literal 0} and {@literal 1}.
+	 * @return the latency in nanoseconds. {@literal 0} if no samples have been recorded.
+	 */
+	long getPercentile(double percentile) {
+
+		Window current = this.current;
+		Window previous = this.previous;
+
+		long[] counts = new long[BUCKETS];
+		long total = 0;
+
+		for (int i = 0; i < BUCKETS; i++) {
+
+			counts[i] = current.buckets.get(i) + previous.buckets.get(i);
+			total += counts[i];
+		}
+
+		if (total == 0) {
+			return 0;
+		}
+
+		long threshold = Math.max(1, (long) Math.ceil(percentile * total));
+		long seen = 0;
+
+		for (int i = 0; i < BUCKETS; i++) {
+
+			seen += counts[i];
+
+			if (seen >= threshold) {
+				return TimeUnit.MICROSECONDS.toNanos(upperBound(i));
+			}
+		}
+
+		return TimeUnit.MICROSECONDS.toNanos(upperBound(BUCKETS - 1));
+	}
+
+	static int indexOf(long micros) {
+
+		if (micros < 4) {
+			return (int) micros;
+		}
+
+		int exponent = 63 - Long.numberOfLeadingZeros(micros);
+		int subBucket = (int) ((micros >>> (exponent - 2)) & 3);
+
+		return (exponent - 1) * 4 + subBucket;
+	}
+
+	static long upperBound(int index) {
+
+		if (index < 4) {
+			return index;
+		}
+
+		int exponent = index / 4 + 1;
+		long lowerBound = (4L + index % 4) << (exponent - 2);
+
+		return lowerBound + (1L << (exponent - 2)) - 1;
+	}
+
+	private static class Window {
+
+		private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+		private final AtomicLong count = new AtomicLong();
+
+		long record(long micros) {
+
+			buckets.incrementAndGet(indexOf(micros));
+			return count.incrementAndGet();
+		}
+	}
+}
@@ -93,6 +93,17 @@ public class MappedDocument {
 		return new MappedUpdate(Update.fromDocument(document, ID_FIELD));
 	}
 
+	/**
+	 * Create an {@link UpdateDefinition} for the given, already mapped, update {@link Document}.
+	 *
+	 * @param update must not be {@literal null}.
+	 * @return new instance of {@link UpdateDefinition}.
+	 * @since 3.1
+	 */
+	public UpdateDefinition toUpdate(Document update) {
+		return new MappedUpdate(Update.fromDocument(update));
+	}
+
 	public Document getDocument() {
 		return this.document;
 	}
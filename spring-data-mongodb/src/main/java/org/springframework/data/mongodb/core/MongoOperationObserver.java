@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Callback notified about the time spent in the individual {@link OperationPhase phases} of operations executed by
+ * {@link MongoTemplate} and {@link ReactiveMongoTemplate}, eg. to tell the latency of the driver apart from the one of
+ * query mapping and entity conversion. Templates only take time if the observer is {@link #isEnabled() enabled}.
+ * <p />
+ * Implementations are invoked on the thread executing the phase and must not block.
+ *
+ * @since 3.1
+ * @see org.springframework.data.mongodb.monitor.MicrometerOperationObserver
+ */
+public interface MongoOperationObserver {
+
+	/**
+	 * {@link MongoOperationObserver} that is never {@link #isEnabled() enabled}.
+	 */
+	MongoOperationObserver NONE = new MongoOperationObserver() {
+
+		@Override
+		public boolean isEnabled() {
+			return false;
+		}
+
+		@Override
+		public void record(OperationPhase phase, String operation, String collectionName, @Nullable Class<?> entityType,
+				@Nullable String repositoryMethod, long durationNanos) {}
+	};
+
+	/**
+	 * @return {@literal true} if phases should be timed and
+	 *         {@link #record(OperationPhase, String, String, Class, String, long) recorded}.
+	 */
+	default boolean isEnabled() {
+		return true;
+	}
+
+	/**
+	 * Record the time spent in the given phase.
+	 *
+	 * @param phase the phase completed. Never {@literal null}.
+	 * @param operation the name of the operation the phase belongs to, eg. {@literal find} or {@literal insert}. Never
+	 *          {@literal null}.
+	 * @param collectionName the collection the operation targets. Never {@literal null}.
+	 * @param entityType the entity type the operation is executed for. Can be {@literal null} if not known.
+	 * @param repositoryMethod the repository query method issuing the operation as
+	 *          {@literal RepositoryInterface.methodName}. Can be {@literal null} if the operation is not issued by a
+	 *          repository query method or the method is not known.
+	 * @param durationNanos the time spent in nanoseconds.
+	 */
+	void record(OperationPhase phase, String operation, String collectionName, @Nullable Class<?> entityType,
+			@Nullable String repositoryMethod, long durationNanos);
+
+	/**
+	 * Run the given action attributing the phases of all operations {@link MongoTemplate} executes on the calling thread
+	 * meanwhile to the given repository query method. Used by imperative repository query methods. Operations of
+	 * {@link ReactiveMongoTemplate} are not attributed as they do not run on the calling thread.
+	 *
+	 * @param repositoryMethod the repository query method as {@literal RepositoryInterface.methodName}. Must not be
+	 *          {@literal null}.
+	 * @param action must not be {@literal null}.
+	 * @return the result of the action.
+	 */
+	static <T> T withRepositoryMethod(String repositoryMethod, Supplier<T> action) {
+
+		Assert.notNull(repositoryMethod, "Repository method must not be null!");
+		Assert.notNull(action, "Action must not be null!");
+
+		String previous = RepositoryMethodContextHolder.setCurrentMethod(repositoryMethod);
+
+		try {
+			return action.get();
+		} finally {
+			RepositoryMethodContextHolder.setCurrentMethod(previous);
+		}
+	}
+}
@@ -15,7 +15,9 @@
  */
 package org.springframework.data.mongodb.core;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -28,6 +30,7 @@ import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.PreparedAggregation;
 import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
@@ -467,6 +470,20 @@ public interface MongoOperations extends FluentMongoOperations {
 	<T> GroupByResults<T> group(@Nullable Criteria criteria, String inputCollectionName, GroupBy groupBy,
 			Class<T> entityClass);
 
+	/**
+	 * Render and map the given {@link TypedAggregation} against its {@link TypedAggregation#getInputType() input type}
+	 * once, so that it can be executed multiple times by {@link PreparedAggregation#bind(Object...) binding} the values
+	 * for the {@link org.springframework.data.mongodb.core.aggregation.AggregationParameter parameters} it contains.
+	 *
+	 * @param aggregation The {@link TypedAggregation} specification holding the aggregation operations. Must not be
+	 *          {@literal null}.
+	 * @return the {@link PreparedAggregation}. Never {@literal null}.
+	 * @since 3.1
+	 */
+	default <I> PreparedAggregation<I> prepareAggregation(TypedAggregation<I> aggregation) {
+		return PreparedAggregation.of(aggregation, getConverter());
+	}
+
 	/**
 	 * Execute an aggregation operation. The raw results will be mapped to the given entity class. The name of the
 	 * inputCollection is derived from the inputType of the aggregation.
@@ -646,6 +663,49 @@ public interface MongoOperations extends FluentMongoOperations {
 	<T> MapReduceResults<T> mapReduce(Query query, String inputCollectionName, String mapFunction, String reduceFunction,
 			@Nullable MapReduceOptions mapReduceOptions, Class<T> entityClass);
 
+	/**
+	 * Execute a map-reduce operation that takes a query and additional map-reduce options and return the results mapped
+	 * to {@literal resultType} as {@link CloseableIterator} without materializing all of them in memory. Results are
+	 * fetched in batches of {@link MapReduceOptions#getBatchSize()} when reading from an output collection.
+	 * <p>
+	 * The default implementation materializes all results via
+	 * {@link #mapReduce(Query, String, String, String, MapReduceOptions, Class)} not mapping the query against the
+	 * {@literal domainType}. Implementations are encouraged to override it.
+	 *
+	 * @param query The query to use to select the data for the map phase. Must not be {@literal null}.
+	 * @param domainType The type used to map the query. Must not be {@literal null}.
+	 * @param inputCollectionName the collection where the map-reduce will read from. Must not be {@literal null}.
+	 * @param mapFunction The JavaScript map function. Must not be {@literal null}.
+	 * @param reduceFunction The JavaScript reduce function. Must not be {@literal null}.
+	 * @param mapReduceOptions Options that specify detailed map-reduce behavior. Can be {@literal null}.
+	 * @param resultType The parametrized type of the returned elements. Must not be {@literal null}.
+	 * @return a {@link CloseableIterator} that needs to be closed. Never {@literal null}.
+	 * @since 3.1
+	 */
+	default <T> CloseableIterator<T> mapReduceStream(Query query, Class<?> domainType, String inputCollectionName,
+			String mapFunction, String reduceFunction, @Nullable MapReduceOptions mapReduceOptions,
+			Class<T> resultType) {
+
+		Iterator<T> results = mapReduce(query, inputCollectionName, mapFunction, reduceFunction, mapReduceOptions,
+				resultType).iterator();
+
+		return new CloseableIterator<T>() {
+
+			@Override
+			public boolean hasNext() {
+				return results.hasNext();
+			}
+
+			@Override
+			public T next() {
+				return results.next();
+			}
+
+			@Override
+			public void close() {}
+		};
+	}
+
 	/**
 	 * Returns {@link GeoResults} for all entities matching the given {@link NearQuery}. Will consider entity mapping
 	 * information to determine the collection the query is ran against. Note, that MongoDB limits the number of results
@@ -1297,6 +1357,27 @@ public interface MongoOperations extends FluentMongoOperations {
 	 */
 	<T> T save(T objectToSave, String collectionName);
 
+	/**
+	 * Save the given objects to the specified collection. Behaves like {@link #save(Object, String)} for each of the
+	 * objects while allowing implementations to resolve data required for all of them at once, such as the shard key
+	 * values of existing documents in a sharded collection.
+	 *
+	 * @param objectsToSave the objects to store in the collection. Must not be {@literal null}.
+	 * @param collectionName name of the collection to store the objects in. Must not be {@literal null}.
+	 * @return the saved objects in the order given.
+	 * @since 3.1
+	 */
+	default <T> List<T> saveAll(Collection<? extends T> objectsToSave, String collectionName) {
+
+		List<T> saved = new ArrayList<>(objectsToSave.size());
+
+		for (T objectToSave : objectsToSave) {
+			saved.add(save(objectToSave, collectionName));
+		}
+
+		return saved;
+	}
+
 	/**
 	 * Performs an upsert. If no document is found that matches the query, a new document is created and inserted by
 	 * combining the query document and the update document. <br />
@@ -21,10 +21,16 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.*;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,12 +60,14 @@ import org.springframework.data.mongodb.SessionSynchronization;
 import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.DefaultBulkOperations.BulkOperationContext;
 import org.springframework.data.mongodb.core.EntityOperations.AdaptibleEntity;
+import org.springframework.data.mongodb.core.HedgedReadExecutor.Operation;
 import org.springframework.data.mongodb.core.QueryOperations.CountContext;
 import org.springframework.data.mongodb.core.QueryOperations.DeleteContext;
 import org.springframework.data.mongodb.core.QueryOperations.DistinctQueryContext;
 import org.springframework.data.mongodb.core.QueryOperations.QueryContext;
 import org.springframework.data.mongodb.core.QueryOperations.UpdateContext;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
 import org.springframework.data.mongodb.core.aggregation.AggregationOperationContext;
 import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
@@ -78,6 +86,7 @@ import org.springframework.data.mongodb.core.convert.UpdateMapper;
 import org.springframework.data.mongodb.core.index.IndexOperations;
 import org.springframework.data.mongodb.core.index.IndexOperationsProvider;
 import org.springframework.data.mongodb.core.index.MongoMappingEventPublisher;
+import org.springframework.data.mongodb.core.index.IndexResolver;
 import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexCreator;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
@@ -103,6 +112,8 @@ import org.springframework.data.util.CloseableIterator;
 import org.springframework.data.util.Optionals;
 import org.springframework.jca.cci.core.ConnectionCallback;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
@@ -159,6 +170,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(MongoTemplate.class);
 	private static final WriteResultChecking DEFAULT_WRITE_RESULT_CHECKING = WriteResultChecking.NONE;
+	private static final String ID_FIELD = "_id";
+	private static final int SHARD_KEY_LOOKUP_BATCH_SIZE = 1000;
 	private static final Collection<String> ITERABLE_CLASSES;
 
 	static {
@@ -187,10 +200,19 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	private WriteConcernResolver writeConcernResolver = DefaultWriteConcernResolver.INSTANCE;
 	private WriteResultChecking writeResultChecking = WriteResultChecking.NONE;
 	private @Nullable ReadPreference readPreference;
-	private @Nullable ApplicationEventPublisher eventPublisher;
+	private final EntityLifecycleEventDelegate eventDelegate = new EntityLifecycleEventDelegate();
+	private final boolean customEventHook = EntityLifecycleEventDelegate.overridesEventHook(getClass(),
+			MongoTemplate.class);
 	private @Nullable EntityCallbacks entityCallbacks;
 	private @Nullable ResourceLoader resourceLoader;
 	private @Nullable MongoPersistentEntityIndexCreator indexCreator;
+	private @Nullable EntityCache entityCache = new EntityCache();
+	private @Nullable Executor streamExecutor;
+	private int streamConversionParallelism = 1;
+	private @Nullable HedgedReadExecutor hedgedReadExecutor;
+	private @Nullable ChangeTracker changeTracker;
+	private MongoOperationObserver operationObserver = MongoOperationObserver.NONE;
+	private @Nullable QueryShapeCollector queryShapeCollector;
 
 	private SessionSynchronization sessionSynchronization = SessionSynchronization.ON_ACTUAL_TRANSACTION;
 
@@ -245,9 +267,11 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 			if (mappingContext.isAutoIndexCreation()) {
 
-				indexCreator = new MongoPersistentEntityIndexCreator(mappingContext, this);
-				eventPublisher = new MongoMappingEventPublisher(indexCreator);
-				mappingContext.setApplicationEventPublisher(eventPublisher);
+				indexCreator = new MongoPersistentEntityIndexCreator(mappingContext, this,
+						IndexResolver.create(mappingContext), mappingContext.getIndexCreationExecutor(),
+						mappingContext.isFailOnIndexConflict());
+				eventDelegate.setPublisher(new MongoMappingEventPublisher(indexCreator));
+				mappingContext.setApplicationEventPublisher(eventDelegate.getPublisher());
 			}
 		}
 	}
@@ -274,6 +298,10 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		this.operations = that.operations;
 		this.propertyOperations = that.propertyOperations;
 		this.queryOperations = that.queryOperations;
+		this.entityCache = that.entityCache;
+		this.changeTracker = that.changeTracker;
+
+		// no stream prefetching nor hedged reads as a session must not be used concurrently
 	}
 
 	/**
@@ -316,6 +344,121 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		this.readPreference = readPreference;
 	}
 
+	/**
+	 * Configure the {@link EntityCache} holding documents of {@link org.springframework.data.mongodb.core.mapping.Cached}
+	 * entities looked up via {@link #findById(Object, Class)}. Setting {@literal null} disables caching. Defaults to a
+	 * cache exclusive to this template.
+	 *
+	 * @param entityCache can be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setEntityCache(@Nullable EntityCache entityCache) {
+		this.entityCache = entityCache;
+	}
+
+	/**
+	 * @return the {@link EntityCache} in use. Can be {@literal null} if caching is disabled.
+	 * @since 3.1
+	 */
+	@Nullable
+	public EntityCache getEntityCache() {
+		return entityCache;
+	}
+
+	/**
+	 * Configure the {@link Executor} used to fetch the next batch of documents in the background while the current one
+	 * is consumed via {@link #stream(Query, Class) stream}, {@link #aggregateStream(Aggregation, String, Class)
+	 * aggregateStream} and {@link #mapReduceStream(Query, Class, String, String, String, MapReduceOptions, Class)
+	 * mapReduceStream}. Prefetching is not applied within transactions. By default documents are fetched on the calling
+	 * thread when requested.
+	 *
+	 * @param streamExecutor can be {@literal null} to fetch documents on the calling thread.
+	 * @since 3.1
+	 */
+	public void setStreamExecutor(@Nullable Executor streamExecutor) {
+		this.streamExecutor = streamExecutor;
+	}
+
+	/**
+	 * Configure the number of chunks each prefetched batch is split into for concurrent conversion using the
+	 * {@link #setStreamExecutor(Executor) stream executor}. The order of the cursor is retained, though entity callbacks
+	 * and events are then invoked from different threads. Defaults to {@literal 1} converting documents on the calling
+	 * thread.
+	 *
+	 * @param streamConversionParallelism must be greater than zero.
+	 * @since 3.1
+	 */
+	public void setStreamConversionParallelism(int streamConversionParallelism) {
+
+		Assert.isTrue(streamConversionParallelism > 0, "Stream conversion parallelism must be greater than zero!");
+		this.streamConversionParallelism = streamConversionParallelism;
+	}
+
+	/**
+	 * Configure the {@link HedgedReadExecutor} used to execute finds and counts allowed to be served by secondaries. Reads
+	 * are not hedged within transactions. By default reads are executed once on the calling thread.
+	 *
+	 * @param hedgedReadExecutor can be {@literal null} to disable hedged reads.
+	 * @since 3.1
+	 */
+	public void setHedgedReadExecutor(@Nullable HedgedReadExecutor hedgedReadExecutor) {
+		this.hedgedReadExecutor = hedgedReadExecutor;
+	}
+
+	/**
+	 * Configure the {@link ChangeTracker} remembering the documents entities have been read from so that
+	 * {@link #save(Object) save} only sends changed fields via {@literal $set} and {@literal $unset} instead of replacing
+	 * the entire document. Changes are not tracked within transactions. By default change tracking is disabled.
+	 *
+	 * @param changeTracker can be {@literal null} to disable change tracking.
+	 * @since 3.1
+	 */
+	public void setChangeTracker(@Nullable ChangeTracker changeTracker) {
+		this.changeTracker = changeTracker;
+	}
+
+	/**
+	 * Configure the {@link MongoOperationObserver} notified about the time spent in query mapping, entity conversion,
+	 * event dispatch, driver execution and cursor iteration of the operations executed. Phases are not timed unless the
+	 * observer is {@link MongoOperationObserver#isEnabled() enabled}. Defaults to {@link MongoOperationObserver#NONE}.
+	 *
+	 * @param operationObserver must not be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setOperationObserver(MongoOperationObserver operationObserver) {
+
+		Assert.notNull(operationObserver, "MongoOperationObserver must not be null!");
+		this.operationObserver = operationObserver;
+	}
+
+	/**
+	 * @return the {@link MongoOperationObserver} in use. Never {@literal null}.
+	 * @since 3.1
+	 */
+	public MongoOperationObserver getOperationObserver() {
+		return operationObserver;
+	}
+
+	/**
+	 * Configure the {@link QueryShapeCollector} recording the latency of queries, updates, removals and aggregations per
+	 * query shape and logging slow ones. Setting {@literal null}, the default, disables collection.
+	 *
+	 * @param queryShapeCollector can be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setQueryShapeCollector(@Nullable QueryShapeCollector queryShapeCollector) {
+		this.queryShapeCollector = queryShapeCollector;
+	}
+
+	/**
+	 * @return the {@link QueryShapeCollector} in use. Can be {@literal null} if collection is disabled.
+	 * @since 3.1
+	 */
+	@Nullable
+	public QueryShapeCollector getQueryShapeCollector() {
+		return queryShapeCollector;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.context.ApplicationContextAware#setApplicationContext(org.springframework.context.ApplicationContext)
@@ -324,14 +467,14 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		prepareIndexCreator(applicationContext);
 
-		eventPublisher = applicationContext;
+		eventDelegate.setPublisher(applicationContext);
 
 		if (entityCallbacks == null) {
 			setEntityCallbacks(EntityCallbacks.create(applicationContext));
 		}
 
 		if (mappingContext instanceof ApplicationEventPublisherAware) {
-			((ApplicationEventPublisherAware) mappingContext).setApplicationEventPublisher(eventPublisher);
+			((ApplicationEventPublisherAware) mappingContext).setApplicationEventPublisher(applicationContext);
 		}
 
 		resourceLoader = applicationContext;
@@ -407,7 +550,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		return doStream(query, entityType, collectionName, entityType);
 	}
 
-	@SuppressWarnings("ConstantConditions")
+	@SuppressWarnings({ "ConstantConditions", "unchecked" })
 	protected <T> CloseableIterator<T> doStream(Query query, Class<?> entityType, String collectionName,
 			Class<T> returnType) {
 
@@ -425,11 +568,19 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			Document mappedQuery = queryContext.getMappedQuery(persistentEntity);
 			Document mappedFields = queryContext.getMappedFields(persistentEntity, returnType, projectionFactory);
 
+			if (isRawDocument(returnType)) {
+
+				MongoIterable<RawBsonDocument> cursor = initiateRawFind(collection, mappedQuery, mappedFields,
+						new QueryCursorPreparer(query, entityType));
+				return (CloseableIterator<T>) new RawDocumentCursorAdapter(cursor.iterator(), exceptionTranslator);
+			}
+
 			FindIterable<Document> cursor = new QueryCursorPreparer(query, entityType).initiateFind(collection,
 					col -> col.find(mappedQuery, Document.class).projection(mappedFields));
 
-			return new CloseableIterableCursorAdapter<>(cursor, exceptionTranslator,
-					new ProjectingReadCallback<>(mongoConverter, entityType, returnType, collectionName));
+			return createCursorAdapter(cursor, query.getMeta().getCursorBatchSize(),
+					new ProjectingReadCallback<>(mongoConverter, entityType, returnType, collectionName, "stream",
+							true));
 		});
 	}
 
@@ -704,6 +855,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		execute(collectionName, (CollectionCallback<Void>) collection -> {
 			collection.drop();
+			evictFromEntityCache(collectionName, null);
 			if (LOGGER.isDebugEnabled()) {
 				LOGGER.debug("Dropped collection [{}]",
 						collection.getNamespace() != null ? collection.getNamespace().getCollectionName() : collectionName);
@@ -755,7 +907,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		DefaultBulkOperations operations = new DefaultBulkOperations(this, collectionName,
 				new BulkOperationContext(mode, Optional.ofNullable(getPersistentEntity(entityType)), queryMapper, updateMapper,
-						eventPublisher, entityCallbacks));
+						eventDelegate.getPublisher(), entityCallbacks));
 
 		operations.setExceptionTranslator(exceptionTranslator);
 		operations.setDefaultWriteConcern(writeConcern);
@@ -788,7 +940,13 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		Assert.notNull(entityClass, "EntityClass must not be null!");
 		Assert.notNull(collectionName, "CollectionName must not be null!");
 
-		if (ObjectUtils.isEmpty(query.getSortObject())) {
+		if (!query.getFetchPaths().isEmpty()) {
+
+			List<T> results = doFindAndFetch(collectionName, query, 1, entityClass, entityClass);
+			return results.isEmpty() ? null : results.get(0);
+		}
+
+		if (ObjectUtils.isEmpty(query.getSortObject()) && !isRawDocument(entityClass)) {
 
 			return doFindOne(collectionName, query.getQueryObject(), query.getFieldsObject(),
 					new QueryCursorPreparer(query, entityClass), entityClass);
@@ -847,6 +1005,10 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		Assert.notNull(collectionName, "CollectionName must not be null!");
 		Assert.notNull(entityClass, "EntityClass must not be null!");
 
+		if (!query.getFetchPaths().isEmpty()) {
+			return doFindAndFetch(collectionName, query, query.getLimit(), entityClass, entityClass);
+		}
+
 		return doFind(collectionName, query.getQueryObject(), query.getFieldsObject(), entityClass,
 				new QueryCursorPreparer(query, entityClass));
 	}
@@ -866,8 +1028,28 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		Assert.notNull(collectionName, "CollectionName must not be null!");
 
 		String idKey = operations.getIdPropertyName(entityClass);
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
+		EntityCache cache = this.entityCache;
+
+		if (cache == null || !EntityCache.isCached(entity) || !canReadFromEntityCache()) {
+			return doFindOne(collectionName, new Document(idKey, id), new Document(), entityClass);
+		}
+
+		Object mappedId = mongoConverter.convertId(id, entity.getRequiredIdProperty().getFieldType());
+		CodecRegistry codecRegistry = mongoDbFactory.getCodecRegistry();
+		Document cached = cache.get(entity, collectionName, mappedId, codecRegistry);
+
+		if (cached != null) {
+			return new ReadDocumentCallback<>(mongoConverter, entityClass, collectionName, "findOne", true)
+					.doWith(cached);
+		}
 
-		return doFindOne(collectionName, new Document(idKey, id), new Document(), entityClass);
+		long generation = cache.getGeneration(entity, collectionName);
+		Consumer<Document> populateCache = document -> cache.put(entity, collectionName, mappedId, document,
+				codecRegistry, generation);
+
+		return doFindOne(collectionName, new Document(idKey, id), new Document(), CursorPreparer.NO_OP_PREPARER,
+				entityClass, populateCache);
 	}
 
 	/*
@@ -961,13 +1143,26 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		String collection = StringUtils.hasText(collectionName) ? collectionName : getCollectionName(domainType);
 		String distanceField = operations.nearQueryDistanceFieldName(domainType);
 
-		Aggregation $geoNear = TypedAggregation.newAggregation(domainType, Aggregation.geoNear(near, distanceField))
+		List<AggregationOperation> pipeline = new ArrayList<>(2);
+		pipeline.add(Aggregation.geoNear(near, distanceField));
+
+		Document fields = queryOperations.createQueryContext(new Query())
+				.getMappedFields(mappingContext.getPersistentEntity(domainType), returnType, projectionFactory);
+
+		if (!fields.isEmpty()) {
+
+			Document projection = fields.append(distanceField, 1);
+			pipeline.add(context -> new Document("$project", projection));
+		}
+
+		Aggregation $geoNear = TypedAggregation.newAggregation(domainType, pipeline)
 				.withOptions(AggregationOptions.builder().collation(near.getCollation()).build());
 
 		AggregationResults<Document> results = aggregate($geoNear, collection, Document.class);
 
 		DocumentCallback<GeoResult<T>> callback = new GeoNearResultDocumentCallback<>(distanceField,
-				new ProjectingReadCallback<>(mongoConverter, domainType, returnType, collection), near.getMetric());
+				new ProjectingReadCallback<>(mongoConverter, domainType, returnType, collection, "geoNear"),
+						near.getMetric());
 
 		List<GeoResult<T>> result = new ArrayList<>();
 
@@ -1055,18 +1250,18 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		Document mappedFields = queryContext.getMappedFields(entity, resultType, projectionFactory);
 		Document mappedSort = queryContext.getMappedSort(entity);
 
-		replacement = maybeCallBeforeConvert(replacement, collectionName);
+		replacement = maybeCallBeforeConvert(replacement, collectionName, "findAndReplace");
 		Document mappedReplacement = operations.forEntity(replacement).toMappedDocument(this.mongoConverter).getDocument();
 
-		maybeEmitEvent(new BeforeSaveEvent<>(replacement, mappedReplacement, collectionName));
-		maybeCallBeforeSave(replacement, mappedReplacement, collectionName);
+		maybeEmitEvent(new BeforeSaveEvent<>(replacement, mappedReplacement, collectionName), "findAndReplace");
+		maybeCallBeforeSave(replacement, mappedReplacement, collectionName, "findAndReplace");
 
 		T saved = doFindAndReplace(collectionName, mappedQuery, mappedFields, mappedSort,
 				queryContext.getCollation(entityType).orElse(null), entityType, mappedReplacement, options, resultType);
 
 		if (saved != null) {
-			maybeEmitEvent(new AfterSaveEvent<>(saved, mappedReplacement, collectionName));
-			return maybeCallAfterSave(saved, mappedReplacement, collectionName);
+			maybeEmitEvent(new AfterSaveEvent<>(saved, mappedReplacement, collectionName), "findAndReplace");
+			return maybeCallAfterSave(saved, mappedReplacement, collectionName, "findAndReplace");
 		}
 
 		return saved;
@@ -1130,8 +1325,13 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			LOGGER.debug("Executing count: {} in collection: {}", serializeToJsonSafely(filter), collectionName);
 		}
 
-		return execute(collectionName,
-				collection -> collection.countDocuments(CountQuery.of(filter).toQueryDocument(), options));
+		long shapeStart = startShapeTiming();
+		try {
+			return execute(collectionName, collection -> executeRead(Operation.COUNT, collection, null,
+					() -> collection.countDocuments(CountQuery.of(filter).toQueryDocument(), options), null));
+		} finally {
+			recordShape(shapeStart, "count", collectionName, filter, null);
+		}
 	}
 
 	/*
@@ -1216,22 +1416,28 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	protected <T> T doInsert(String collectionName, T objectToSave, MongoWriter<T> writer) {
 
 		BeforeConvertEvent<T> event = new BeforeConvertEvent<>(objectToSave, collectionName);
-		T toConvert = maybeEmitEvent(event).getSource();
-		toConvert = maybeCallBeforeConvert(toConvert, collectionName);
+		T toConvert = maybeEmitEvent(event, "insert").getSource();
+		toConvert = maybeCallBeforeConvert(toConvert, collectionName, "insert");
 
 		AdaptibleEntity<T> entity = operations.forEntity(toConvert, mongoConverter.getConversionService());
 		entity.assertUpdateableIdIfNotSet();
 
 		T initialized = entity.initializeVersionProperty();
+
+		long start = startTiming();
 		Document dbDoc = entity.toMappedDocument(writer).getDocument();
+		recordTiming(start, OperationPhase.WRITE_CONVERSION, "insert", collectionName, initialized.getClass());
 
-		maybeEmitEvent(new BeforeSaveEvent<>(initialized, dbDoc, collectionName));
-		initialized = maybeCallBeforeSave(initialized, dbDoc, collectionName);
+		maybeEmitEvent(new BeforeSaveEvent<>(initialized, dbDoc, collectionName), "insert");
+		initialized = maybeCallBeforeSave(initialized, dbDoc, collectionName, "insert");
+
+		start = startTiming();
 		Object id = insertDocument(collectionName, dbDoc, initialized.getClass());
+		recordTiming(start, OperationPhase.EXECUTION, "insert", collectionName, initialized.getClass());
 
 		T saved = populateIdIfNecessary(initialized, id);
-		maybeEmitEvent(new AfterSaveEvent<>(saved, dbDoc, collectionName));
-		return maybeCallAfterSave(saved, dbDoc, collectionName);
+		maybeEmitEvent(new AfterSaveEvent<>(saved, dbDoc, collectionName), "insert");
+		return maybeCallAfterSave(saved, dbDoc, collectionName, "insert");
 	}
 
 	@Override
@@ -1301,22 +1507,30 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		for (T uninitialized : batchToSave) {
 
 			BeforeConvertEvent<T> event = new BeforeConvertEvent<>(uninitialized, collectionName);
-			T toConvert = maybeEmitEvent(event).getSource();
-			toConvert = maybeCallBeforeConvert(toConvert, collectionName);
+			T toConvert = maybeEmitEvent(event, "insert").getSource();
+			toConvert = maybeCallBeforeConvert(toConvert, collectionName, "insert");
 
 			AdaptibleEntity<T> entity = operations.forEntity(toConvert, mongoConverter.getConversionService());
 			entity.assertUpdateableIdIfNotSet();
 
 			T initialized = entity.initializeVersionProperty();
+
+			long start = startTiming();
 			Document document = entity.toMappedDocument(writer).getDocument();
-			maybeEmitEvent(new BeforeSaveEvent<>(initialized, document, collectionName));
-			initialized = maybeCallBeforeSave(initialized, document, collectionName);
+			recordTiming(start, OperationPhase.WRITE_CONVERSION, "insert", collectionName, initialized.getClass());
+
+			maybeEmitEvent(new BeforeSaveEvent<>(initialized, document, collectionName), "insert");
+			initialized = maybeCallBeforeSave(initialized, document, collectionName, "insert");
 
 			documentList.add(document);
 			initializedBatchToSave.add(initialized);
 		}
 
+		long start = startTiming();
 		List<Object> ids = insertDocumentList(collectionName, documentList);
+		recordTiming(start, OperationPhase.EXECUTION, "insert", collectionName,
+				initializedBatchToSave.isEmpty() ? null : initializedBatchToSave.get(0).getClass());
+
 		List<T> savedObjects = new ArrayList<>(documentList.size());
 
 		int i = 0;
@@ -1325,8 +1539,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			if (i < ids.size()) {
 				T saved = populateIdIfNecessary(obj, ids.get(i));
 				Document doc = documentList.get(i);
-				maybeEmitEvent(new AfterSaveEvent<>(saved, doc, collectionName));
-				savedObjects.add(maybeCallAfterSave(saved, doc, collectionName));
+				maybeEmitEvent(new AfterSaveEvent<>(saved, doc, collectionName), "insert");
+				savedObjects.add(maybeCallAfterSave(saved, doc, collectionName, "insert"));
 			} else {
 				savedObjects.add(obj);
 			}
@@ -1358,8 +1572,125 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 	}
 
+	/**
+	 * Objects that do not require shard key values of existing documents are saved via {@link #save(Object, String)}.
+	 * Objects that do are saved directly using the shard key values looked up upfront, bypassing
+	 * {@link #save(Object, String)}.
+	 *
+	 * @see org.springframework.data.mongodb.core.MongoOperations#saveAll(java.util.Collection, java.lang.String)
+	 */
+	@Override
 	@SuppressWarnings("unchecked")
+	public <T> List<T> saveAll(Collection<? extends T> objectsToSave, String collectionName) {
+
+		Assert.notNull(objectsToSave, "ObjectsToSave must not be null!");
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+
+		Map<Object, Document> existingShardKeys = lookupShardKeys(objectsToSave, collectionName);
+		List<T> saved = new ArrayList<>(objectsToSave.size());
+
+		for (T objectToSave : objectsToSave) {
+
+			Assert.notNull(objectToSave, "Object to save must not be null!");
+
+			if (existingShardKeys == null || getShardKeyLookupEntity(objectToSave) == null) {
+
+				saved.add(save(objectToSave, collectionName));
+				continue;
+			}
+
+			AdaptibleEntity<T> source = operations.forEntity(objectToSave, mongoConverter.getConversionService());
+
+			saved.add(source.isVersionedEntity() //
+					? doSaveVersioned(source, collectionName, existingShardKeys) //
+					: (T) doSave(collectionName, objectToSave, this.mongoConverter, existingShardKeys));
+		}
+
+		return saved;
+	}
+
+	/**
+	 * Resolve the shard key values of existing documents for all given objects that require them to complete the
+	 * replacement filter using {@literal $in} queries per type, each one limited to
+	 * {@value #SHARD_KEY_LOOKUP_BATCH_SIZE} identifiers.
+	 *
+	 * @param objectsToSave must not be {@literal null}.
+	 * @param collectionName must not be {@literal null}.
+	 * @return the shard key values by the mapped identifier. {@literal null} values for documents that do not exist.
+	 *         {@literal null} if none of the objects requires shard key values to be looked up.
+	 */
+	@Nullable
+	private Map<Object, Document> lookupShardKeys(Collection<?> objectsToSave, String collectionName) {
+
+		Map<MongoPersistentEntity<?>, List<Object>> idsByEntity = new LinkedHashMap<>(1);
+
+		for (Object objectToSave : objectsToSave) {
+
+			MongoPersistentEntity<?> entity = objectToSave != null ? getShardKeyLookupEntity(objectToSave) : null;
+
+			if (entity == null) {
+				continue;
+			}
+
+			AdaptibleEntity<?> source = operations.forEntity(objectToSave, mongoConverter.getConversionService());
+			Object id = source.getId();
+
+			if (id != null && !(source.isVersionedEntity() && source.isNew())) {
+				idsByEntity.computeIfAbsent(entity, key -> new ArrayList<>())
+						.add(mongoConverter.convertId(id, entity.getRequiredIdProperty().getFieldType()));
+			}
+		}
+
+		if (idsByEntity.isEmpty()) {
+			return null;
+		}
+
+		Map<Object, Document> existingShardKeys = new HashMap<>();
+
+		return execute(collectionName, collection -> {
+
+			idsByEntity.forEach((entity, ids) -> {
+
+				ids.forEach(id -> existingShardKeys.put(id, null));
+
+				for (int from = 0; from < ids.size(); from += SHARD_KEY_LOOKUP_BATCH_SIZE) {
+
+					List<Object> batch = ids.subList(from, Math.min(from + SHARD_KEY_LOOKUP_BATCH_SIZE, ids.size()));
+
+					collection.find(MappedDocument.getIdIn(batch), Document.class) //
+							.projection(queryOperations.getMappedShardKey(entity).getProjection()) //
+							.forEach((Consumer<Document>) it -> existingShardKeys.put(it.get(ID_FIELD), it));
+				}
+			});
+
+			return existingShardKeys;
+		});
+	}
+
+	/**
+	 * @param objectToSave must not be {@literal null}.
+	 * @return the {@link MongoPersistentEntity} of the given object if saving it requires the shard key values of the
+	 *         existing document. {@literal null} otherwise.
+	 */
+	@Nullable
+	private MongoPersistentEntity<?> getShardKeyLookupEntity(Object objectToSave) {
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(ClassUtils.getUserClass(objectToSave));
+
+		if (entity == null || !entity.isSharded() || !queryOperations.getMappedShardKey(entity).requiresLookup()) {
+			return null;
+		}
+
+		return entity;
+	}
+
 	private <T> T doSaveVersioned(AdaptibleEntity<T> source, String collectionName) {
+		return doSaveVersioned(source, collectionName, null);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T doSaveVersioned(AdaptibleEntity<T> source, String collectionName,
+			@Nullable Map<Object, Document> existingShardKeys) {
 
 		if (source.isNew()) {
 			return (T) doInsert(collectionName, source.getBean(), this.mongoConverter);
@@ -1367,12 +1698,13 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		// Create query for entity with the id and old version
 		Query query = source.getQueryForVersion();
+		Object original = source.getBean();
 
 		// Bump version number
 		T toSave = source.incrementVersion();
 
-		toSave = maybeEmitEvent(new BeforeConvertEvent<T>(toSave, collectionName)).getSource();
-		toSave = maybeCallBeforeConvert(toSave, collectionName);
+		toSave = maybeEmitEvent(new BeforeConvertEvent<T>(toSave, collectionName), "save").getSource();
+		toSave = maybeCallBeforeConvert(toSave, collectionName, "save");
 
 		if (source.getBean() != toSave) {
 			source = operations.forEntity(toSave, mongoConverter.getConversionService());
@@ -1382,11 +1714,16 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		MappedDocument mapped = source.toMappedDocument(mongoConverter);
 
-		maybeEmitEvent(new BeforeSaveEvent<>(toSave, mapped.getDocument(), collectionName));
-		toSave = maybeCallBeforeSave(toSave, mapped.getDocument(), collectionName);
-		UpdateDefinition update = mapped.updateWithoutId();
+		maybeEmitEvent(new BeforeSaveEvent<>(toSave, mapped.getDocument(), collectionName), "save");
+		toSave = maybeCallBeforeSave(toSave, mapped.getDocument(), collectionName, "save");
+
+		Document changes = getTrackedChanges(original, mapped.getDocument(), collectionName);
+		UpdateDefinition update = changes != null && !changes.isEmpty() ? mapped.toUpdate(changes)
+				: mapped.updateWithoutId();
 
-		UpdateResult result = doUpdate(collectionName, query, update, toSave.getClass(), false, false);
+		UpdateResult result = existingShardKeys != null
+				? doUpdate(collectionName, query, update, toSave.getClass(), false, false, existingShardKeys)
+				: doUpdate(collectionName, query, update, toSave.getClass(), false, false);
 
 		if (result.getModifiedCount() == 0) {
 
@@ -1394,30 +1731,53 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 					String.format("Cannot save entity %s with version %s to collection %s. Has it been modified meanwhile?",
 							source.getId(), source.getVersion(), collectionName));
 		}
-		maybeEmitEvent(new AfterSaveEvent<>(toSave, mapped.getDocument(), collectionName));
+		maybeEmitEvent(new AfterSaveEvent<>(toSave, mapped.getDocument(), collectionName), "save");
 
-		return maybeCallAfterSave(toSave, mapped.getDocument(), collectionName);
+		T saved = maybeCallAfterSave(toSave, mapped.getDocument(), collectionName, "save");
+		trackChanges(saved, mapped.getDocument(), collectionName);
+
+		return saved;
 	}
 
 	protected <T> T doSave(String collectionName, T objectToSave, MongoWriter<T> writer) {
+		return doSave(collectionName, objectToSave, writer, null);
+	}
+
+	private <T> T doSave(String collectionName, T objectToSave, MongoWriter<T> writer,
+			@Nullable Map<Object, Document> existingShardKeys) {
 
-		objectToSave = maybeEmitEvent(new BeforeConvertEvent<>(objectToSave, collectionName)).getSource();
-		objectToSave = maybeCallBeforeConvert(objectToSave, collectionName);
+		T original = objectToSave;
+
+		objectToSave = maybeEmitEvent(new BeforeConvertEvent<>(objectToSave, collectionName), "save").getSource();
+		objectToSave = maybeCallBeforeConvert(objectToSave, collectionName, "save");
 
 		AdaptibleEntity<T> entity = operations.forEntity(objectToSave, mongoConverter.getConversionService());
 		entity.assertUpdateableIdIfNotSet();
 
+		long start = startTiming();
 		MappedDocument mapped = entity.toMappedDocument(writer);
 		Document dbDoc = mapped.getDocument();
+		recordTiming(start, OperationPhase.WRITE_CONVERSION, "save", collectionName, objectToSave.getClass());
+
+		maybeEmitEvent(new BeforeSaveEvent<>(objectToSave, dbDoc, collectionName), "save");
+		objectToSave = maybeCallBeforeSave(objectToSave, dbDoc, collectionName, "save");
 
-		maybeEmitEvent(new BeforeSaveEvent<>(objectToSave, dbDoc, collectionName));
-		objectToSave = maybeCallBeforeSave(objectToSave, dbDoc, collectionName);
-		Object id = saveDocument(collectionName, dbDoc, objectToSave.getClass());
+		Document changes = getTrackedChanges(original, dbDoc, collectionName);
+
+		start = startTiming();
+		Object id = changes != null
+				? saveChanges(collectionName, dbDoc, changes, objectToSave.getClass(), existingShardKeys)
+				: existingShardKeys != null ? saveDocument(collectionName, dbDoc, objectToSave.getClass(), existingShardKeys)
+						: saveDocument(collectionName, dbDoc, objectToSave.getClass());
+		recordTiming(start, OperationPhase.EXECUTION, "save", collectionName, objectToSave.getClass());
 
 		T saved = populateIdIfNecessary(objectToSave, id);
-		maybeEmitEvent(new AfterSaveEvent<>(saved, dbDoc, collectionName));
+		maybeEmitEvent(new AfterSaveEvent<>(saved, dbDoc, collectionName), "save");
+
+		saved = maybeCallAfterSave(saved, dbDoc, collectionName, "save");
+		trackChanges(saved, dbDoc, collectionName);
 
-		return maybeCallAfterSave(saved, dbDoc, collectionName);
+		return saved;
 	}
 
 	@SuppressWarnings("ConstantConditions")
@@ -1438,6 +1798,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 				collection.withWriteConcern(writeConcernToUse).insertOne(document);
 			}
 
+			evictFromEntityCache(collectionName, MappedDocument.of(document).getIdFilter());
+
 			return operations.forEntity(document).getId();
 		});
 	}
@@ -1464,6 +1826,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 				collection.withWriteConcern(writeConcernToUse).insertMany(documents);
 			}
 
+			evictFromEntityCache(collectionName, MappedDocument.getIdIn(MappedDocument.toIds(documents)));
+
 			return null;
 		});
 
@@ -1471,6 +1835,11 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	}
 
 	protected Object saveDocument(String collectionName, Document dbDoc, Class<?> entityClass) {
+		return saveDocument(collectionName, dbDoc, entityClass, null);
+	}
+
+	private Object saveDocument(String collectionName, Document dbDoc, Class<?> entityClass,
+			@Nullable Map<Object, Document> existingShardKeys) {
 
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug("Saving Document containing fields: {}", dbDoc.keySet());
@@ -1496,20 +1865,62 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 				UpdateContext updateContext = queryOperations.replaceSingleContext(mapped, true);
 				Document replacement = updateContext.getMappedUpdate(entity);
 
-				Document filter = updateContext.getMappedQuery(entity);
+				Document filter = applyShardKey(collection, updateContext, entity, updateContext.getMappedQuery(entity),
+						existingShardKeys);
 
-				if (updateContext.requiresShardKey(filter, entity)) {
+				collectionToUse.replaceOne(filter, replacement, new ReplaceOptions().upsert(true));
+				evictFromEntityCache(collectionName, mapped.getIdFilter());
+			}
+			return mapped.getId();
+		});
+	}
 
-					if (entity.getShardKey().isImmutable()) {
-						filter = updateContext.applyShardKey(entity, filter, null);
-					} else {
-						filter = updateContext.applyShardKey(entity, filter,
-								collection.find(filter, Document.class).projection(updateContext.getMappedShardKey(entity)).first());
-					}
-				}
+	/**
+	 * Update the existing document with the given changes. Falls back to {@link #saveDocument(String, Document, Class)
+	 * replacing} the document if it does not exist anymore. No write is issued if there are no changes.
+	 *
+	 * @param changes the {@literal $set} and {@literal $unset} update computed by the {@link ChangeTracker}.
+	 */
+	private Object saveChanges(String collectionName, Document dbDoc, Document changes, Class<?> entityClass,
+			@Nullable Map<Object, Document> existingShardKeys) {
 
-				collectionToUse.replaceOne(filter, replacement, new ReplaceOptions().upsert(true));
+		MappedDocument mapped = MappedDocument.of(dbDoc);
+
+		if (changes.isEmpty()) {
+
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Skipping save of unchanged Document with id: {}", mapped.getId());
+			}
+			return mapped.getId();
+		}
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Saving changes: {} of Document with id: {}", serializeToJsonSafely(changes), mapped.getId());
+		}
+
+		return execute(collectionName, collection -> {
+
+			MongoAction mongoAction = new MongoAction(writeConcern, MongoActionOperation.SAVE, collectionName, entityClass,
+					dbDoc, null);
+			WriteConcern writeConcernToUse = prepareWriteConcern(mongoAction);
+
+			MongoCollection<Document> collectionToUse = writeConcernToUse == null //
+					? collection //
+					: collection.withWriteConcern(writeConcernToUse);
+
+			MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
+			UpdateContext updateContext = queryOperations.replaceSingleContext(mapped, true);
+
+			Document filter = applyShardKey(collection, updateContext, entity, updateContext.getMappedQuery(entity),
+					existingShardKeys);
+
+			UpdateResult result = collectionToUse.updateOne(filter, changes);
+
+			if (result.wasAcknowledged() && result.getMatchedCount() == 0) {
+				collectionToUse.replaceOne(filter, updateContext.getMappedUpdate(entity), new ReplaceOptions().upsert(true));
 			}
+
+			evictFromEntityCache(collectionName, mapped.getIdFilter());
 			return mapped.getId();
 		});
 	}
@@ -1571,6 +1982,11 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	@SuppressWarnings("ConstantConditions")
 	protected UpdateResult doUpdate(String collectionName, Query query, UpdateDefinition update,
 			@Nullable Class<?> entityClass, boolean upsert, boolean multi) {
+		return doUpdate(collectionName, query, update, entityClass, upsert, multi, null);
+	}
+
+	private UpdateResult doUpdate(String collectionName, Query query, UpdateDefinition update,
+			@Nullable Class<?> entityClass, boolean upsert, boolean multi, @Nullable Map<Object, Document> existingShardKeys) {
 
 		Assert.notNull(collectionName, "CollectionName must not be null!");
 		Assert.notNull(query, "Query must not be null!");
@@ -1588,64 +2004,109 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 				: queryOperations.updateSingleContext(update, query, upsert);
 		updateContext.increaseVersionForUpdateIfNecessary(entity);
 
+		long start = startTiming();
 		Document queryObj = updateContext.getMappedQuery(entity);
+		recordTiming(start, OperationPhase.QUERY_MAPPING, "update", collectionName, entityClass);
+
 		UpdateOptions opts = updateContext.getUpdateOptions(entityClass);
 
 		if (updateContext.isAggregationUpdate()) {
 
+			start = startTiming();
 			List<Document> pipeline = updateContext.getUpdatePipeline(entityClass);
+			recordTiming(start, OperationPhase.QUERY_MAPPING, "update", collectionName, entityClass);
+
 			MongoAction mongoAction = new MongoAction(writeConcern, MongoActionOperation.UPDATE, collectionName, entityClass,
 					update.getUpdateObject(), queryObj);
 			WriteConcern writeConcernToUse = prepareWriteConcern(mongoAction);
 
-			return execute(collectionName, collection -> {
+			start = startTiming();
+			long shapeStart = startShapeTiming();
+			try {
 
-				if (LOGGER.isDebugEnabled()) {
-					LOGGER.debug("Calling update using query: {} and update: {} in collection: {}",
-							serializeToJsonSafely(queryObj), serializeToJsonSafely(pipeline), collectionName);
-				}
+				return executeAndEvictFromEntityCache(collectionName, queryObj, collection -> {
 
-				collection = writeConcernToUse != null ? collection.withWriteConcern(writeConcernToUse) : collection;
+					if (LOGGER.isDebugEnabled()) {
+						LOGGER.debug("Calling update using query: {} and update: {} in collection: {}",
+								serializeToJsonSafely(queryObj), serializeToJsonSafely(pipeline), collectionName);
+					}
 
-				return multi ? collection.updateMany(queryObj, pipeline, opts) : collection.updateOne(queryObj, pipeline, opts);
-			});
+					collection = writeConcernToUse != null ? collection.withWriteConcern(writeConcernToUse) : collection;
+
+					return multi ? collection.updateMany(queryObj, pipeline, opts)
+							: collection.updateOne(queryObj, pipeline, opts);
+				});
+			} finally {
+
+				recordTiming(start, OperationPhase.EXECUTION, "update", collectionName, entityClass);
+				recordShape(shapeStart, "update", collectionName, queryObj, pipeline);
+			}
 		}
 
+		start = startTiming();
 		Document updateObj = updateContext.getMappedUpdate(entity);
+		recordTiming(start, OperationPhase.QUERY_MAPPING, "update", collectionName, entityClass);
+
 		MongoAction mongoAction = new MongoAction(writeConcern, MongoActionOperation.UPDATE, collectionName, entityClass,
 				updateObj, queryObj);
 		WriteConcern writeConcernToUse = prepareWriteConcern(mongoAction);
 
-		return execute(collectionName, collection -> {
+		start = startTiming();
+		long shapeStart = startShapeTiming();
+		try {
 
-			if (LOGGER.isDebugEnabled()) {
-				LOGGER.debug("Calling update using query: {} and update: {} in collection: {}", serializeToJsonSafely(queryObj),
-						serializeToJsonSafely(updateObj), collectionName);
-			}
+			return executeAndEvictFromEntityCache(collectionName, queryObj, collection -> {
 
-			collection = writeConcernToUse != null ? collection.withWriteConcern(writeConcernToUse) : collection;
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Calling update using query: {} and update: {} in collection: {}",
+							serializeToJsonSafely(queryObj), serializeToJsonSafely(updateObj), collectionName);
+				}
 
-			if (!UpdateMapper.isUpdateObject(updateObj)) {
+				collection = writeConcernToUse != null ? collection.withWriteConcern(writeConcernToUse) : collection;
 
-				Document filter = new Document(queryObj);
+				if (!UpdateMapper.isUpdateObject(updateObj)) {
 
-				if (updateContext.requiresShardKey(filter, entity)) {
+					Document filter = applyShardKey(collection, updateContext, entity, new Document(queryObj),
+							existingShardKeys);
 
-					if (entity.getShardKey().isImmutable()) {
-						filter = updateContext.applyShardKey(entity, filter, null);
-					} else {
-						filter = updateContext.applyShardKey(entity, filter,
-								collection.find(filter, Document.class).projection(updateContext.getMappedShardKey(entity)).first());
-					}
+					ReplaceOptions replaceOptions = updateContext.getReplaceOptions(entityClass);
+					return collection.replaceOne(filter, updateObj, replaceOptions);
+				} else {
+					return multi ? collection.updateMany(queryObj, updateObj, opts)
+							: collection.updateOne(queryObj, updateObj, opts);
 				}
+			});
+		} finally {
 
-				ReplaceOptions replaceOptions = updateContext.getReplaceOptions(entityClass);
-				return collection.replaceOne(filter, updateObj, replaceOptions);
-			} else {
-				return multi ? collection.updateMany(queryObj, updateObj, opts)
-						: collection.updateOne(queryObj, updateObj, opts);
-			}
-		});
+			recordTiming(start, OperationPhase.EXECUTION, "update", collectionName, entityClass);
+			recordShape(shapeStart, "update", collectionName, queryObj, updateObj);
+		}
+	}
+
+	/**
+	 * Add the shard key to the given replacement filter if required. Values are taken from the replacement for immutable
+	 * shard keys and from the existing document otherwise.
+	 *
+	 * @param existingShardKeys shard key values already looked up by {@link #saveAll(Collection, String)}. Can be
+	 *          {@literal null} to look up the existing document.
+	 */
+	private Document applyShardKey(MongoCollection<Document> collection, UpdateContext updateContext,
+			@Nullable MongoPersistentEntity<?> entity, Document filter, @Nullable Map<Object, Document> existingShardKeys) {
+
+		if (!updateContext.requiresShardKey(filter, entity)) {
+			return filter;
+		}
+
+		if (entity.getShardKey().isImmutable()) {
+			return updateContext.applyShardKey(entity, filter, null);
+		}
+
+		Object id = filter.get(ID_FIELD);
+		Document existing = existingShardKeys != null && existingShardKeys.containsKey(id) //
+				? existingShardKeys.get(id) //
+				: collection.find(filter, Document.class).projection(updateContext.getMappedShardKey(entity)).first();
+
+		return updateContext.applyShardKey(entity, filter, existing);
 	}
 
 	@Override
@@ -1695,7 +2156,11 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		DeleteContext deleteContext = multi ? queryOperations.deleteQueryContext(query)
 				: queryOperations.deleteSingleContext(query);
+
+		long start = startTiming();
 		Document queryObject = deleteContext.getMappedQuery(entity);
+		recordTiming(start, OperationPhase.QUERY_MAPPING, "remove", collectionName, entityClass);
+
 		DeleteOptions options = deleteContext.getDeleteOptions(entityClass);
 
 		MongoAction mongoAction = new MongoAction(writeConcern, MongoActionOperation.REMOVE, collectionName, entityClass,
@@ -1703,42 +2168,55 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		WriteConcern writeConcernToUse = prepareWriteConcern(mongoAction);
 
-		return execute(collectionName, collection -> {
+		long shapeStart = startShapeTiming();
+		try {
 
-			maybeEmitEvent(new BeforeDeleteEvent<>(queryObject, entityClass, collectionName));
+			return executeAndEvictFromEntityCache(collectionName, queryObject, collection -> {
 
-			Document removeQuery = queryObject;
+				maybeEmitEvent(new BeforeDeleteEvent<>(queryObject, entityClass, collectionName), "remove");
 
-			if (LOGGER.isDebugEnabled()) {
-				LOGGER.debug("Remove using query: {} in collection: {}.",
-						new Object[] { serializeToJsonSafely(removeQuery), collectionName });
-			}
+				Document removeQuery = queryObject;
 
-			if (query.getLimit() > 0 || query.getSkip() > 0) {
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Remove using query: {} in collection: {}.",
+							new Object[] { serializeToJsonSafely(removeQuery), collectionName });
+				}
 
-				MongoCursor<Document> cursor = new QueryCursorPreparer(query, entityClass)
-						.prepare(collection.find(removeQuery).projection(MappedDocument.getIdOnlyProjection())) //
-						.iterator();
+				DeleteResult result;
+				long executionStart = startTiming();
+				try {
 
-				Set<Object> ids = new LinkedHashSet<>();
-				while (cursor.hasNext()) {
-					ids.add(MappedDocument.of(cursor.next()).getId());
-				}
+					if (query.getLimit() > 0 || query.getSkip() > 0) {
 
-				removeQuery = MappedDocument.getIdIn(ids);
-			}
+						MongoCursor<Document> cursor = new QueryCursorPreparer(query, entityClass) //
+								.prepare(collection.find(removeQuery).projection(MappedDocument.getIdOnlyProjection()))
+								.iterator();
 
-			MongoCollection<Document> collectionToUse = writeConcernToUse != null
-					? collection.withWriteConcern(writeConcernToUse)
-					: collection;
+						Set<Object> ids = new LinkedHashSet<>();
+						while (cursor.hasNext()) {
+							ids.add(MappedDocument.of(cursor.next()).getId());
+						}
 
-			DeleteResult result = multi ? collectionToUse.deleteMany(removeQuery, options)
-					: collectionToUse.deleteOne(removeQuery, options);
+						removeQuery = MappedDocument.getIdIn(ids);
+					}
 
-			maybeEmitEvent(new AfterDeleteEvent<>(queryObject, entityClass, collectionName));
+					MongoCollection<Document> collectionToUse = writeConcernToUse != null
+							? collection.withWriteConcern(writeConcernToUse)
+							: collection;
 
-			return result;
-		});
+					result = multi ? collectionToUse.deleteMany(removeQuery, options)
+							: collectionToUse.deleteOne(removeQuery, options);
+				} finally {
+					recordTiming(executionStart, OperationPhase.EXECUTION, "remove", collectionName, entityClass);
+				}
+
+				maybeEmitEvent(new AfterDeleteEvent<>(queryObject, entityClass, collectionName), "remove");
+
+				return result;
+			});
+		} finally {
+			recordShape(shapeStart, "remove", collectionName, queryObject, null);
+		}
 	}
 
 	@Override
@@ -1751,7 +2229,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		return executeFindMultiInternal(
 				new FindCallback(new Document(), new Document(),
 						operations.forType(entityClass).getCollation().map(Collation::toMongoCollation).orElse(null)),
-				CursorPreparer.NO_OP_PREPARER, new ReadDocumentCallback<>(mongoConverter, entityClass, collectionName),
+				CursorPreparer.NO_OP_PREPARER, new ReadDocumentCallback<>(mongoConverter, entityClass, collectionName,
+						"find", true),
 				collectionName);
 	}
 
@@ -1798,9 +2277,44 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	public <T> List<T> mapReduce(Query query, Class<?> domainType, String inputCollectionName, String mapFunction,
 			String reduceFunction, @Nullable MapReduceOptions mapReduceOptions, Class<T> resultType) {
 
+		Assert.notNull(resultType, "Result type must not be null!");
+
+		MapReduceIterable<Document> mapReduce = prepareMapReduce(query, domainType, inputCollectionName, mapFunction,
+				reduceFunction, mapReduceOptions);
+
+		List<T> mappedResults = new ArrayList<>();
+		DocumentCallback<T> callback = new ReadDocumentCallback<>(mongoConverter, resultType, inputCollectionName,
+				"mapReduce");
+
+		for (Document document : mapReduce) {
+			mappedResults.add(callback.doWith(document));
+		}
+
+		return mappedResults;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#mapReduceStream(org.springframework.data.mongodb.core.query.Query, java.lang.Class, java.lang.String, java.lang.String, java.lang.String, org.springframework.data.mongodb.core.mapreduce.MapReduceOptions, java.lang.Class)
+	 */
+	@Override
+	public <T> CloseableIterator<T> mapReduceStream(Query query, Class<?> domainType, String inputCollectionName,
+			String mapFunction, String reduceFunction, @Nullable MapReduceOptions mapReduceOptions, Class<T> resultType) {
+
+		Assert.notNull(resultType, "Result type must not be null!");
+
+		MapReduceIterable<Document> mapReduce = prepareMapReduce(query, domainType, inputCollectionName, mapFunction,
+				reduceFunction, mapReduceOptions);
+
+		return createCursorAdapter(mapReduce, mapReduceOptions != null ? mapReduceOptions.getBatchSize() : null,
+				new ReadDocumentCallback<>(mongoConverter, resultType, inputCollectionName, "mapReduce"));
+	}
+
+	private MapReduceIterable<Document> prepareMapReduce(Query query, Class<?> domainType, String inputCollectionName,
+			String mapFunction, String reduceFunction, @Nullable MapReduceOptions mapReduceOptions) {
+
 		Assert.notNull(domainType, "Domain type must not be null!");
 		Assert.notNull(inputCollectionName, "Input collection name must not be null!");
-		Assert.notNull(resultType, "Result type must not be null!");
 		Assert.notNull(mapFunction, "Map function must not be null!");
 		Assert.notNull(reduceFunction, "Reduce function must not be null!");
 
@@ -1859,6 +2373,10 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 				mapReduce = mapReduce.sharded(mapReduceOptions.getOutputSharded().get());
 			}
 
+			if (mapReduceOptions.getBatchSize() != null) {
+				mapReduce = mapReduce.batchSize(mapReduceOptions.getBatchSize());
+			}
+
 			if (StringUtils.hasText(mapReduceOptions.getOutputCollection()) && !mapReduceOptions.usesInlineOutput()) {
 
 				mapReduce = mapReduce.collectionName(mapReduceOptions.getOutputCollection())
@@ -1874,16 +2392,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			collation = operations.forType(domainType).getCollation();
 		}
 
-		mapReduce = collation.map(Collation::toMongoCollation).map(mapReduce::collation).orElse(mapReduce);
-
-		List<T> mappedResults = new ArrayList<>();
-		DocumentCallback<T> callback = new ReadDocumentCallback<>(mongoConverter, resultType, inputCollectionName);
-
-		for (Document document : mapReduce) {
-			mappedResults.add(callback.doWith(document));
-		}
-
-		return mappedResults;
+		return collation.map(Collation::toMongoCollation).map(mapReduce::collation).orElse(mapReduce);
 	}
 
 	public <T> GroupByResults<T> group(String inputCollectionName, GroupBy groupBy, Class<T> entityClass) {
@@ -1937,7 +2446,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		@SuppressWarnings("unchecked")
 		Iterable<Document> resultSet = (Iterable<Document>) commandResult.get("retval");
 		List<T> mappedResults = new ArrayList<>();
-		DocumentCallback<T> callback = new ReadDocumentCallback<>(mongoConverter, entityClass, inputCollectionName);
+		DocumentCallback<T> callback = new ReadDocumentCallback<>(mongoConverter, entityClass, inputCollectionName,
+				"group");
 
 		for (Document resultDocument : resultSet) {
 			mappedResults.add(callback.doWith(resultDocument));
@@ -2087,11 +2597,12 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		return doAggregate(aggregation, collectionName, outputType, contextToUse);
 	}
 
-	@SuppressWarnings("ConstantConditions")
+	@SuppressWarnings({ "ConstantConditions", "unchecked" })
 	protected <O> AggregationResults<O> doAggregate(Aggregation aggregation, String collectionName, Class<O> outputType,
 			AggregationOperationContext context) {
 
-		ReadDocumentCallback<O> callback = new ReadDocumentCallback<>(mongoConverter, outputType, collectionName);
+		ReadDocumentCallback<O> callback = new ReadDocumentCallback<>(mongoConverter, outputType, collectionName,
+				"aggregate");
 
 		AggregationOptions options = aggregation.getOptions();
 		AggregationUtil aggregationUtil = new AggregationUtil(queryMapper, mappingContext);
@@ -2115,43 +2626,49 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			LOGGER.debug("Executing aggregation: {} in collection {}", serializeToJsonSafely(pipeline), collectionName);
 		}
 
-		return execute(collectionName, collection -> {
+		long shapeStart = startShapeTiming();
+		try {
 
-			List<Document> rawResult = new ArrayList<>();
+			return execute(collectionName, collection -> {
 
-			Class<?> domainType = aggregation instanceof TypedAggregation ? ((TypedAggregation) aggregation).getInputType()
-					: null;
+				if (isRawDocument(outputType)) {
 
-			Optional<Collation> collation = Optionals.firstNonEmpty(options::getCollation,
-					() -> operations.forType(domainType) //
-							.getCollation());
+					List<RawBsonDocument> results = prepareAggregation(
+							collection.aggregate(pipeline, RawBsonDocument.class), aggregation).into(new ArrayList<>());
 
-			AggregateIterable<Document> aggregateIterable = collection.aggregate(pipeline, Document.class) //
-					.collation(collation.map(Collation::toMongoCollation).orElse(null)) //
-					.allowDiskUse(options.isAllowDiskUse());
+					// the mapped results already are the raw documents, nothing to assemble a raw result from
+					return new AggregationResults<>((List<O>) results, new Document());
+				}
 
-			if (options.getCursorBatchSize() != null) {
-				aggregateIterable = aggregateIterable.batchSize(options.getCursorBatchSize());
-			}
+				AggregateIterable<Document> aggregateIterable = prepareAggregation(
+						collection.aggregate(pipeline, Document.class), aggregation);
 
-			options.getComment().ifPresent(aggregateIterable::comment);
+				if (options.isSkipRawResults()) {
+					return new AggregationResults<>(aggregateIterable.map(callback::doWith).into(new ArrayList<>()),
+							new Document("ok", 1.0D));
+				}
 
-			if (options.hasExecutionTimeLimit()) {
-				aggregateIterable = aggregateIterable.maxTime(options.getMaxTime().toMillis(), TimeUnit.MILLISECONDS);
-			}
+				List<Document> rawResult = new ArrayList<>();
+				MongoIterable<O> iterable = aggregateIterable.map(val -> {
 
-			MongoIterable<O> iterable = aggregateIterable.map(val -> {
+					rawResult.add(val);
+					return callback.doWith(val);
+				});
 
-				rawResult.add(val);
-				return callback.doWith(val);
+				return new AggregationResults<>(iterable.into(new ArrayList<>()),
+						new Document("results", rawResult).append("ok", 1.0D));
 			});
+		} finally {
 
-			return new AggregationResults<>(iterable.into(new ArrayList<>()),
-					new Document("results", rawResult).append("ok", 1.0D));
-		});
+			QueryShapeCollector collector = this.queryShapeCollector;
+
+			if (shapeStart != 0L && collector != null) {
+				collector.recordAggregation(collectionName, pipeline, System.nanoTime() - shapeStart);
+			}
+		}
 	}
 
-	@SuppressWarnings("ConstantConditions")
+	@SuppressWarnings({ "ConstantConditions", "unchecked" })
 	protected <O> CloseableIterator<O> aggregateStream(Aggregation aggregation, String collectionName,
 			Class<O> outputType, @Nullable AggregationOperationContext context) {
 
@@ -2170,29 +2687,66 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			LOGGER.debug("Streaming aggregation: {} in collection {}", serializeToJsonSafely(pipeline), collectionName);
 		}
 
-		ReadDocumentCallback<O> readCallback = new ReadDocumentCallback<>(mongoConverter, outputType, collectionName);
+		ReadDocumentCallback<O> readCallback = new ReadDocumentCallback<>(mongoConverter, outputType, collectionName,
+				"aggregate");
 
 		return execute(collectionName, (CollectionCallback<CloseableIterator<O>>) collection -> {
 
-			AggregateIterable<Document> cursor = collection.aggregate(pipeline, Document.class) //
-					.allowDiskUse(options.isAllowDiskUse());
+			if (isRawDocument(outputType)) {
 
-			if (options.getCursorBatchSize() != null) {
-				cursor = cursor.batchSize(options.getCursorBatchSize());
+				AggregateIterable<RawBsonDocument> cursor = prepareAggregation(
+						collection.aggregate(pipeline, RawBsonDocument.class), aggregation);
+				return (CloseableIterator<O>) new RawDocumentCursorAdapter(cursor.iterator(), exceptionTranslator);
 			}
 
-			options.getComment().ifPresent(cursor::comment);
+			AggregateIterable<Document> cursor = prepareAggregation(collection.aggregate(pipeline, Document.class),
+					aggregation);
 
-			Class<?> domainType = aggregation instanceof TypedAggregation ? ((TypedAggregation) aggregation).getInputType()
-					: null;
+			return createCursorAdapter(cursor, options.getCursorBatchSize(), readCallback);
+		});
+	}
 
-			Optionals.firstNonEmpty(options::getCollation, //
-					() -> operations.forType(domainType).getCollation()) //
-					.map(Collation::toMongoCollation) //
-					.ifPresent(cursor::collation);
+	/**
+	 * Apply the {@link AggregationOptions} of the given {@link Aggregation} to the {@link AggregateIterable}.
+	 */
+	private <D> AggregateIterable<D> prepareAggregation(AggregateIterable<D> iterable, Aggregation aggregation) {
 
-			return new CloseableIterableCursorAdapter<>(cursor, exceptionTranslator, readCallback);
-		});
+		AggregationOptions options = aggregation.getOptions();
+		Class<?> domainType = aggregation instanceof TypedAggregation ? ((TypedAggregation<?>) aggregation).getInputType()
+				: null;
+
+		Optional<Collation> collation = Optionals.firstNonEmpty(options::getCollation,
+				() -> operations.forType(domainType) //
+						.getCollation());
+
+		AggregateIterable<D> cursor = iterable //
+				.collation(collation.map(Collation::toMongoCollation).orElse(null)) //
+				.allowDiskUse(options.isAllowDiskUse());
+
+		if (options.getCursorBatchSize() != null) {
+			cursor = cursor.batchSize(options.getCursorBatchSize());
+		}
+
+		options.getComment().ifPresent(cursor::comment);
+
+		if (options.hasExecutionTimeLimit()) {
+			cursor = cursor.maxTime(options.getMaxTime().toMillis(), TimeUnit.MILLISECONDS);
+		}
+
+		return cursor;
+	}
+
+	private <T> CloseableIterator<T> createCursorAdapter(MongoIterable<Document> cursor, @Nullable Integer batchSize,
+			DocumentCallback<T> callback) {
+
+		Executor executor = this.streamExecutor;
+
+		if (executor == null || MongoDatabaseUtils.isTransactionActive(mongoDbFactory)) {
+			return new CloseableIterableCursorAdapter<>(cursor, exceptionTranslator, callback);
+		}
+
+		return new PrefetchingCursorAdapter<>(cursor, batchSize, executor, streamConversionParallelism,
+				exceptionTranslator, callback);
 	}
 
 	/*
@@ -2307,10 +2861,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 	protected <E extends MongoMappingEvent<T>, T> E maybeEmitEvent(E event) {
 
-		if (eventPublisher != null) {
-			eventPublisher.publishEvent(event);
-		}
-
+		eventDelegate.publishEvent(event);
 		return event;
 	}
 
@@ -2350,6 +2901,179 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		return object;
 	}
 
+	/**
+	 * Emit the given event via {@link #maybeEmitEvent(MongoMappingEvent)} timing it for the given operation if
+	 * there are listeners to publish it to.
+	 */
+	private <E extends MongoMappingEvent<T>, T> E maybeEmitEvent(E event, String operation) {
+		return isEventRequired(event.getClass(), EntityLifecycleEventDelegate.getDomainType(event))
+				? emitEvent(event, operation)
+				: event;
+	}
+
+	/**
+	 * Check whether an event of the given type needs to be created at all. That is the case if there are listeners
+	 * applying to it or a subclass overrides {@link #maybeEmitEvent(MongoMappingEvent)}.
+	 */
+	private boolean isEventRequired(Class<?> eventType, @Nullable Class<?> domainType) {
+		return customEventHook || eventDelegate.hasListeners(eventType, domainType);
+	}
+
+	/**
+	 * Emit the given event that is {@link #isEventRequired(Class, Class) required} timing it for the given operation.
+	 */
+	private <E extends MongoMappingEvent<T>, T> E emitEvent(E event, String operation) {
+
+		if (!operationObserver.isEnabled()) {
+			return doEmitEvent(event);
+		}
+
+		long start = startTiming();
+		E result = doEmitEvent(event);
+		recordTiming(start, OperationPhase.EVENTS, operation, event.getCollectionName(),
+				EntityLifecycleEventDelegate.getDomainType(event));
+
+		return result;
+	}
+
+	private <E extends MongoMappingEvent<T>, T> E doEmitEvent(E event) {
+
+		if (customEventHook) {
+			return maybeEmitEvent(event);
+		}
+
+		// listeners have already been checked
+		ApplicationEventPublisher publisher = eventDelegate.getPublisher();
+
+		if (publisher != null) {
+			publisher.publishEvent(event);
+		}
+
+		return event;
+	}
+
+	/**
+	 * Invoke {@link #maybeCallBeforeConvert(Object, String)} timing it for the given operation if callbacks are
+	 * present.
+	 */
+	private <T> T maybeCallBeforeConvert(T object, String collection, String operation) {
+
+		if (entityCallbacks == null) {
+			return maybeCallBeforeConvert(object, collection);
+		}
+
+		long start = startTiming();
+		T result = maybeCallBeforeConvert(object, collection);
+		recordTiming(start, OperationPhase.EVENTS, operation, collection, object.getClass());
+
+		return result;
+	}
+
+	/**
+	 * Invoke {@link #maybeCallBeforeSave(Object, Document, String)} timing it for the given operation if callbacks are
+	 * present.
+	 */
+	private <T> T maybeCallBeforeSave(T object, Document document, String collection, String operation) {
+
+		if (entityCallbacks == null) {
+			return maybeCallBeforeSave(object, document, collection);
+		}
+
+		long start = startTiming();
+		T result = maybeCallBeforeSave(object, document, collection);
+		recordTiming(start, OperationPhase.EVENTS, operation, collection, object.getClass());
+
+		return result;
+	}
+
+	/**
+	 * Invoke {@link #maybeCallAfterSave(Object, Document, String)} timing it for the given operation if callbacks are
+	 * present.
+	 */
+	private <T> T maybeCallAfterSave(T object, Document document, String collection, String operation) {
+
+		if (entityCallbacks == null) {
+			return maybeCallAfterSave(object, document, collection);
+		}
+
+		long start = startTiming();
+		T result = maybeCallAfterSave(object, document, collection);
+		recordTiming(start, OperationPhase.EVENTS, operation, collection, object.getClass());
+
+		return result;
+	}
+
+	/**
+	 * Invoke {@link #maybeCallAfterConvert(Object, Document, String)} timing it for the given operation if callbacks are
+	 * present.
+	 */
+	private <T> T maybeCallAfterConvert(T object, Document document, String collection, String operation) {
+
+		if (entityCallbacks == null) {
+			return maybeCallAfterConvert(object, document, collection);
+		}
+
+		long start = startTiming();
+		T result = maybeCallAfterConvert(object, document, collection);
+		recordTiming(start, OperationPhase.EVENTS, operation, collection, object.getClass());
+
+		return result;
+	}
+
+	/**
+	 * @return the {@link System#nanoTime()} to time a phase from or {@literal 0} if the
+	 *         {@link #setOperationObserver(MongoOperationObserver) operation observer} is disabled.
+	 */
+	private long startTiming() {
+		return operationObserver.isEnabled() ? System.nanoTime() : 0L;
+	}
+
+	/**
+	 * Report the time elapsed since the given start to the {@link MongoOperationObserver}, unless timing was disabled.
+	 */
+	private void recordTiming(long start, OperationPhase phase, String operation, String collectionName,
+			@Nullable Class<?> entityType) {
+
+		if (start != 0L) {
+			operationObserver.record(phase, operation, collectionName, entityType,
+					RepositoryMethodContextHolder.getCurrentMethod(), System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * @return the {@link System#nanoTime()} to time an operation from or {@literal 0} if no
+	 *         {@link #setQueryShapeCollector(QueryShapeCollector) query shape collector} is configured.
+	 */
+	private long startShapeTiming() {
+		return queryShapeCollector != null ? System.nanoTime() : 0L;
+	}
+
+	/**
+	 * Report the time elapsed since the given start to the {@link QueryShapeCollector}, unless timing was disabled, and
+	 * explain the query if requested by the collector.
+	 */
+	private void recordShape(long start, String operation, String collectionName, Document query,
+			@Nullable Object update) {
+
+		QueryShapeCollector collector = this.queryShapeCollector;
+
+		if (start == 0L || collector == null) {
+			return;
+		}
+
+		QueryShapeCollector.Shape shape = collector.recordShape(operation, collectionName,
+				QueryShapeCollector.shapeOf(query, update), System.nanoTime() - start);
+
+		if (shape != null) {
+
+			MongoDatabase database = mongoDbFactory.getMongoDatabase();
+			Document explain = new Document("explain", new Document("find", collectionName).append("filter", query))
+					.append("verbosity", "queryPlanner");
+
+			collector.explain(shape, () -> database.runCommand(explain));
+		}
+	}
+
 	/**
 	 * Create the specified collection using the provided options
 	 *
@@ -2431,23 +3155,52 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	 * @return the {@link List} of converted objects.
 	 * @since 2.2
 	 */
-	@SuppressWarnings("ConstantConditions")
 	protected <T> T doFindOne(String collectionName, Document query, Document fields, CursorPreparer preparer,
 			Class<T> entityClass) {
+		return doFindOne(collectionName, query, fields, preparer, entityClass, null);
+	}
+
+	/**
+	 * Map the result of an ad-hoc query on the given collection to an object using the template's converter handing the
+	 * raw {@link Document} to the given {@link Consumer} before it gets converted.
+	 *
+	 * @param collectionName name of the collection to retrieve the objects from.
+	 * @param query the query document that specifies the criteria used to find a record.
+	 * @param fields the document that specifies the fields to be returned.
+	 * @param preparer the preparer used to modify the cursor on execution.
+	 * @param entityClass the parameterized type of the returned list.
+	 * @param postRead invoked with the document read, if any. Can be {@literal null}.
+	 * @return the converted object or {@literal null} if none found.
+	 */
+	@Nullable
+	@SuppressWarnings("ConstantConditions")
+	private <T> T doFindOne(String collectionName, Document query, Document fields, CursorPreparer preparer,
+			Class<T> entityClass, @Nullable Consumer<Document> postRead) {
 
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
 
+		long start = startTiming();
 		QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields));
 		Document mappedFields = queryContext.getMappedFields(entity, entityClass, projectionFactory);
 		Document mappedQuery = queryContext.getMappedQuery(entity);
+		recordTiming(start, OperationPhase.QUERY_MAPPING, "findOne", collectionName, entityClass);
 
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug("findOne using query: {} fields: {} for class: {} in collection: {}", serializeToJsonSafely(query),
 					mappedFields, entityClass, collectionName);
 		}
 
-		return executeFindOneInternal(new FindOneCallback(mappedQuery, mappedFields, preparer),
-				new ReadDocumentCallback<>(this.mongoConverter, entityClass, collectionName), collectionName);
+		DocumentCallback<T> readCallback = new ReadDocumentCallback<>(this.mongoConverter, entityClass, collectionName,
+				"findOne", true);
+
+		long shapeStart = startShapeTiming();
+		try {
+			return executeFindOneInternal(new FindOneCallback(mappedQuery, mappedFields, preparer),
+					postRead != null ? new PostReadDocumentCallback<>(readCallback, postRead) : readCallback,
+					collectionName);
+		} finally {
+			recordShape(shapeStart, "findOne", collectionName, mappedQuery, null);
+		}
 	}
 
 	/**
@@ -2462,7 +3215,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	 */
 	protected <T> List<T> doFind(String collectionName, Document query, Document fields, Class<T> entityClass) {
 		return doFind(collectionName, query, fields, entityClass, null,
-				new ReadDocumentCallback<>(this.mongoConverter, entityClass, collectionName));
+				new ReadDocumentCallback<>(this.mongoConverter, entityClass, collectionName, "find", true));
 	}
 
 	/**
@@ -2478,10 +3231,16 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	 *          (apply limits, skips and so on).
 	 * @return the {@link List} of converted objects.
 	 */
+	@SuppressWarnings("unchecked")
 	protected <T> List<T> doFind(String collectionName, Document query, Document fields, Class<T> entityClass,
 			CursorPreparer preparer) {
+
+		if (isRawDocument(entityClass)) {
+			return (List<T>) doFindRaw(collectionName, query, fields, entityClass, preparer);
+		}
+
 		return doFind(collectionName, query, fields, entityClass, preparer,
-				new ReadDocumentCallback<>(mongoConverter, entityClass, collectionName));
+				new ReadDocumentCallback<>(mongoConverter, entityClass, collectionName, "find", true));
 	}
 
 	protected <S, T> List<T> doFind(String collectionName, Document query, Document fields, Class<S> entityClass,
@@ -2489,17 +3248,24 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
 
+		long start = startTiming();
 		QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields));
 		Document mappedFields = queryContext.getMappedFields(entity, entityClass, projectionFactory);
 		Document mappedQuery = queryContext.getMappedQuery(entity);
+		recordTiming(start, OperationPhase.QUERY_MAPPING, "find", collectionName, entityClass);
 
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug("find using query: {} fields: {} for class: {} in collection: {}",
 					serializeToJsonSafely(mappedQuery), mappedFields, entityClass, collectionName);
 		}
 
-		return executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields, null),
-				preparer != null ? preparer : CursorPreparer.NO_OP_PREPARER, objectCallback, collectionName);
+		long shapeStart = startShapeTiming();
+		try {
+			return executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields, null),
+					preparer != null ? preparer : CursorPreparer.NO_OP_PREPARER, objectCallback, collectionName);
+		} finally {
+			recordShape(shapeStart, "find", collectionName, mappedQuery, null);
+		}
 	}
 
 	/**
@@ -2508,22 +3274,195 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	 *
 	 * @since 2.0
 	 */
+	@SuppressWarnings("unchecked")
 	<S, T> List<T> doFind(String collectionName, Document query, Document fields, Class<S> sourceClass,
 			Class<T> targetClass, CursorPreparer preparer) {
 
+		if (isRawDocument(targetClass)) {
+			return (List<T>) doFindRaw(collectionName, query, fields, sourceClass, preparer);
+		}
+
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(sourceClass);
 
+		long start = startTiming();
 		QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields));
 		Document mappedFields = queryContext.getMappedFields(entity, targetClass, projectionFactory);
 		Document mappedQuery = queryContext.getMappedQuery(entity);
+		recordTiming(start, OperationPhase.QUERY_MAPPING, "find", collectionName, sourceClass);
 
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug("find using query: {} fields: {} for class: {} in collection: {}",
 					serializeToJsonSafely(mappedQuery), mappedFields, sourceClass, collectionName);
 		}
 
-		return executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields, null), preparer,
-				new ProjectingReadCallback<>(mongoConverter, sourceClass, targetClass, collectionName), collectionName);
+		long shapeStart = startShapeTiming();
+		try {
+			return executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields, null), preparer,
+					new ProjectingReadCallback<>(mongoConverter, sourceClass, targetClass, collectionName, "find",
+							true),
+					collectionName);
+		} finally {
+			recordShape(shapeStart, "find", collectionName, mappedQuery, null);
+		}
+	}
+
+	/**
+	 * Read the results of an ad-hoc query as {@link RawBsonDocument} without decoding them into a {@link Document} and
+	 * without passing them through the {@link MongoConverter}. Query and fields are mapped against the given source type
+	 * if it is a persistent entity.
+	 *
+	 * @since 3.1
+	 */
+	private List<RawBsonDocument> doFindRaw(String collectionName, Document query, Document fields,
+			Class<?> sourceClass, CursorPreparer preparer) {
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(sourceClass);
+
+		QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields));
+		Document mappedFields = queryContext.getMappedFields(entity, sourceClass, projectionFactory);
+		Document mappedQuery = queryContext.getMappedQuery(entity);
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("find raw documents using query: {} fields: {} for class: {} in collection: {}",
+					serializeToJsonSafely(mappedQuery), mappedFields, sourceClass, collectionName);
+		}
+
+		return execute(collectionName, collection -> {
+
+			try (MongoCursor<RawBsonDocument> cursor = executeRead(Operation.FIND, collection, preparer.getReadPreference(),
+					() -> initiateRawFind(collection, mappedQuery, mappedFields, preparer).iterator(), MongoCursor::close)) {
+
+				List<RawBsonDocument> result = new ArrayList<>();
+				cursor.forEachRemaining(result::add);
+				return result;
+			}
+		});
+	}
+
+	/**
+	 * Initiate a find returning {@link RawBsonDocument}s. {@link QueryCursorPreparer} applies its settings to the raw
+	 * cursor directly. Any other {@link CursorPreparer} is bound to {@link Document} results so these get encoded.
+	 */
+	private MongoIterable<RawBsonDocument> initiateRawFind(MongoCollection<Document> collection, Document query,
+			Document fields, CursorPreparer preparer) {
+
+		if (preparer instanceof QueryCursorPreparer) {
+
+			MongoCollection<Document> collectionToUse = preparer.hasReadPreference()
+					? collection.withReadPreference(preparer.getReadPreference())
+					: collection;
+
+			return ((QueryCursorPreparer) preparer)
+					.doPrepare(collectionToUse.find(query, RawBsonDocument.class).projection(fields));
+		}
+
+		Codec<Document> codec = mongoDbFactory.getCodecRegistry().get(Document.class);
+
+		return preparer.initiateFind(collection, it -> it.find(query, Document.class).projection(fields))
+				.map(it -> new RawBsonDocument(it, codec));
+	}
+
+	private static boolean isRawDocument(Class<?> type) {
+		return RawBsonDocument.class.equals(type);
+	}
+
+	/**
+	 * Map the results of the given {@link Query} to a List of the specified targetClass loading the references at the
+	 * {@link Query#getFetchPaths() fetch paths} via a single aggregation.
+	 *
+	 * @param limit the maximum number of documents to read. Zero or negative for all.
+	 * @since 3.1
+	 * @see FetchPlan
+	 */
+	<S, T> List<T> doFindAndFetch(String collectionName, Query query, int limit, Class<S> sourceClass,
+			Class<T> targetClass) {
+
+		MongoPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(sourceClass);
+
+		QueryContext queryContext = queryOperations.createQueryContext(query);
+		Document mappedFields = queryContext.getMappedFields(entity, targetClass, projectionFactory);
+		Document mappedQuery = queryContext.getMappedQuery(entity);
+		Document mappedSort = getMappedSortObject(query, sourceClass);
+
+		List<Document> pipeline = FetchPlan.of(query.getFetchPaths(), entity, mappingContext)
+				.createPipeline(mappedQuery, mappedSort, query.getSkip(), limit, mappedFields);
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("find fetching {} using pipeline: {} for class: {} in collection: {}", query.getFetchPaths(),
+					serializeToJsonSafely(pipeline), sourceClass, collectionName);
+		}
+
+		DocumentCallback<T> readCallback = new ProjectingReadCallback<>(mongoConverter, sourceClass, targetClass,
+				collectionName, "find");
+		Optional<com.mongodb.client.model.Collation> collation = queryContext.getCollation(sourceClass);
+		QueryCursorPreparer preparer = new QueryCursorPreparer(query, sourceClass);
+		Meta meta = query.getMeta();
+
+		for (CursorOption option : meta.getFlags()) {
+
+			if (option != CursorOption.SLAVE_OK) {
+				throw new InvalidDataAccessApiUsageException(
+						String.format("Cannot fetch %s using cursor option %s!", query.getFetchPaths(), option));
+			}
+		}
+
+		return execute(collectionName, collection -> {
+
+			MongoCollection<Document> collectionToUse = preparer.hasReadPreference()
+					? collection.withReadPreference(preparer.getReadPreference())
+					: collection;
+
+			AggregateIterable<Document> cursor = collectionToUse.aggregate(pipeline, Document.class);
+
+			collation.ifPresent(cursor::collation);
+
+			if (StringUtils.hasText(query.getHint())) {
+				cursor = cursor.hint(getHintDocument(collectionToUse, query.getHint()));
+			}
+
+			if (meta.getMaxTimeMsec() != null) {
+				cursor = cursor.maxTime(meta.getMaxTimeMsec(), TimeUnit.MILLISECONDS);
+			}
+
+			if (meta.getCursorBatchSize() != null) {
+				cursor = cursor.batchSize(meta.getCursorBatchSize());
+			}
+
+			if (StringUtils.hasText(meta.getComment())) {
+				cursor = cursor.comment(meta.getComment());
+			}
+
+			List<T> result = new ArrayList<>();
+
+			try (MongoCursor<Document> iterator = executeRead(Operation.FIND, collectionToUse,
+					preparer.getReadPreference(), cursor::iterator, MongoCursor::close)) {
+				while (iterator.hasNext()) {
+					result.add(readCallback.doWith(iterator.next()));
+				}
+			}
+
+			return result;
+		});
+	}
+
+	/**
+	 * Resolve the given hint to the index keys. Other than {@literal find} the {@literal aggregate} command cannot be
+	 * hinted by the index name with the current driver, so a named index is looked up in the collection.
+	 */
+	private Document getHintDocument(MongoCollection<Document> collection, String hint) {
+
+		if (BsonUtils.isJsonDocument(hint)) {
+			return BsonUtils.parse(hint, mongoDbFactory);
+		}
+
+		for (Document index : collection.listIndexes()) {
+			if (hint.equals(index.getString("name"))) {
+				return index.get("key", Document.class);
+			}
+		}
+
+		throw new InvalidDataAccessApiUsageException(String.format("Cannot hint unknown index %s in collection %s!",
+				hint, collection.getNamespace().getCollectionName()));
 	}
 
 	/**
@@ -2614,9 +3553,12 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
 
-		return executeFindOneInternal(
-				new FindAndRemoveCallback(queryMapper.getMappedObject(query, entity), fields, sort, collation),
-				new ReadDocumentCallback<>(readerToUse, entityClass, collectionName), collectionName);
+		Document mappedQuery = queryMapper.getMappedObject(query, entity);
+
+		return executeFindOneInternal(new FindAndRemoveCallback(mappedQuery, fields, sort, collation),
+				evictingFromEntityCache(collectionName, mappedQuery,
+						new ReadDocumentCallback<>(readerToUse, entityClass, collectionName, "findAndRemove")),
+				collectionName);
 	}
 
 	@SuppressWarnings("ConstantConditions")
@@ -2648,7 +3590,9 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		return executeFindOneInternal(
 				new FindAndModifyCallback(mappedQuery, fields, sort, mappedUpdate,
 						update.getArrayFilters().stream().map(ArrayFilter::asDocument).collect(Collectors.toList()), options),
-				new ReadDocumentCallback<>(readerToUse, entityClass, collectionName), collectionName);
+				evictingFromEntityCache(collectionName, mappedQuery,
+						new ReadDocumentCallback<>(readerToUse, entityClass, collectionName, "findAndModify")),
+				collectionName);
 	}
 
 	/**
@@ -2680,7 +3624,106 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		return executeFindOneInternal(
 				new FindAndReplaceCallback(mappedQuery, mappedFields, mappedSort, replacement, collation, options),
-				new ProjectingReadCallback<>(mongoConverter, entityType, resultType, collectionName), collectionName);
+				evictingFromEntityCache(collectionName, mappedQuery,
+						new ProjectingReadCallback<>(mongoConverter, entityType, resultType, collectionName,
+								"findAndReplace")),
+				collectionName);
+	}
+
+	/**
+	 * @return {@literal true} if {@link #findById(Object, Class)} may be served from the {@link EntityCache}. Reads
+	 *         within a transaction must neither observe nor populate the cache.
+	 */
+	boolean canReadFromEntityCache() {
+		return !MongoDatabaseUtils.isTransactionActive(mongoDbFactory);
+	}
+
+	/**
+	 * Remember the {@link Document} the given entity has been read from or saved as if a {@link ChangeTracker} is
+	 * configured. Entities read or saved within a transaction are not tracked as the transaction might be rolled back.
+	 */
+	private void trackChanges(@Nullable Object entity, Document document, String collectionName) {
+
+		ChangeTracker tracker = this.changeTracker;
+
+		if (tracker == null || entity == null) {
+			return;
+		}
+
+		if (MongoDatabaseUtils.isTransactionActive(mongoDbFactory)) {
+			tracker.forget(entity);
+		} else {
+			tracker.track(entity, collectionName, document);
+		}
+	}
+
+	/**
+	 * Compute the changes of the given entity since it has been read if a {@link ChangeTracker} is configured.
+	 *
+	 * @return {@literal null} if the entire document needs to be replaced.
+	 */
+	@Nullable
+	private Document getTrackedChanges(Object entity, Document document, String collectionName) {
+
+		ChangeTracker tracker = this.changeTracker;
+
+		if (tracker == null || MongoDatabaseUtils.isTransactionActive(mongoDbFactory)) {
+			return null;
+		}
+
+		return tracker.getChanges(entity, collectionName, document);
+	}
+
+	private <T> T executeAndEvictFromEntityCache(String collectionName, @Nullable Bson mappedQuery,
+			CollectionCallback<T> callback) {
+
+		try {
+			return execute(collectionName, callback);
+		} finally {
+			evictFromEntityCache(collectionName, mappedQuery);
+		}
+	}
+
+	private <T> DocumentCallback<T> evictingFromEntityCache(String collectionName, Document mappedQuery,
+			DocumentCallback<T> delegate) {
+
+		return document -> {
+
+			evictFromEntityCache(collectionName, document != null && MappedDocument.of(document).hasId()
+					? MappedDocument.of(document).getIdFilter()
+					: mappedQuery);
+			return delegate.doWith(document);
+		};
+	}
+
+	/**
+	 * Evict documents potentially affected by a write using the given mapped query from the {@link EntityCache}. Within
+	 * a transaction the eviction is repeated on completion as concurrent readers might have cached the previous state
+	 * in the meantime.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param mappedQuery can be {@literal null} to evict all documents of the collection.
+	 */
+	void evictFromEntityCache(String collectionName, @Nullable Bson mappedQuery) {
+
+		EntityCache cache = this.entityCache;
+
+		if (cache == null || !cache.isActive(collectionName)) {
+			return;
+		}
+
+		cache.evictMatching(collectionName, mappedQuery);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+				@Override
+				public void afterCompletion(int status) {
+					cache.evictMatching(collectionName, mappedQuery);
+				}
+			});
+		}
 	}
 
 	/**
@@ -2725,8 +3768,21 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		try {
 
-			T result = objectCallback
-					.doWith(collectionCallback.doInCollection(getAndPrepareCollection(doGetDatabase(), collectionName)));
+			MongoCollection<Document> collection = getAndPrepareCollection(doGetDatabase(), collectionName);
+
+			long start = startTiming();
+
+			// finds are idempotent whereas findAndModify and friends are not
+			Document document = collectionCallback instanceof FindOneCallback
+					? executeRead(Operation.FIND_ONE, collection, ((FindOneCallback) collectionCallback).getReadPreference(),
+							() -> collectionCallback.doInCollection(collection), null)
+					: collectionCallback.doInCollection(collection);
+
+			recordTiming(start, OperationPhase.EXECUTION,
+					collectionCallback instanceof FindOneCallback ? "findOne" : "findAndModify", collectionName,
+					objectCallback.getEntityType());
+
+			T result = objectCallback.doWith(document);
 			return result;
 		} catch (RuntimeException e) {
 			throw potentiallyConvertRuntimeException(e, exceptionTranslator);
@@ -2760,17 +3816,39 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 			try {
 
-				cursor = preparer
-						.initiateFind(getAndPrepareCollection(doGetDatabase(), collectionName), collectionCallback::doInCollection)
-						.iterator();
+				MongoCollection<Document> collection = getAndPrepareCollection(doGetDatabase(), collectionName);
+
+				long start = startTiming();
+
+				cursor = executeRead(Operation.FIND, collection, preparer.getReadPreference(),
+						() -> preparer.initiateFind(collection, collectionCallback::doInCollection).iterator(), MongoCursor::close);
+
+				recordTiming(start, OperationPhase.EXECUTION, "find", collectionName, objectCallback.getEntityType());
 
 				List<T> result = new ArrayList<>();
 
-				while (cursor.hasNext()) {
+				if (start == 0L) {
+
+					while (cursor.hasNext()) {
+						Document object = cursor.next();
+						result.add(objectCallback.doWith(object));
+					}
+
+					return result;
+				}
+
+				long iteration = 0L;
+
+				for (long next = System.nanoTime(); cursor.hasNext(); next = System.nanoTime()) {
+
 					Document object = cursor.next();
+					iteration += System.nanoTime() - next;
 					result.add(objectCallback.doWith(object));
 				}
 
+				operationObserver.record(OperationPhase.CURSOR_ITERATION, "find", collectionName,
+						objectCallback.getEntityType(), RepositoryMethodContextHolder.getCurrentMethod(), iteration);
+
 				return result;
 			} finally {
 
@@ -2783,6 +3861,30 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		}
 	}
 
+	/**
+	 * Execute the given idempotent read using the {@link HedgedReadExecutor} if configured.
+	 *
+	 * @param operation the kind of read.
+	 * @param collection the collection to read from.
+	 * @param readPreference the {@link ReadPreference} of the read. Falls back to the one of the collection if
+	 *          {@literal null}.
+	 * @param read the actual read.
+	 * @param discard callback releasing resources held by a result that is not used.
+	 * @return the result of the read.
+	 */
+	private <T> T executeRead(Operation operation, MongoCollection<Document> collection,
+			@Nullable ReadPreference readPreference, Supplier<T> read, @Nullable Consumer<T> discard) {
+
+		HedgedReadExecutor executor = this.hedgedReadExecutor;
+
+		if (executor == null || MongoDatabaseUtils.isTransactionActive(mongoDbFactory)) {
+			return read.get();
+		}
+
+		return executor.execute(operation, readPreference != null ? readPreference : collection.getReadPreference(), read,
+				discard);
+	}
+
 	private void executeQueryInternal(CollectionCallback<FindIterable<Document>> collectionCallback,
 			CursorPreparer preparer, DocumentCallbackHandler callbackHandler, String collectionName) {
 
@@ -2792,9 +3894,10 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 			try {
 
-				cursor = preparer
-						.initiateFind(getAndPrepareCollection(doGetDatabase(), collectionName), collectionCallback::doInCollection)
-						.iterator();
+				MongoCollection<Document> collection = getAndPrepareCollection(doGetDatabase(), collectionName);
+
+				cursor = executeRead(Operation.FIND, collection, preparer.getReadPreference(),
+						() -> preparer.initiateFind(collection, collectionCallback::doInCollection).iterator(), MongoCursor::close);
 
 				while (cursor.hasNext()) {
 					callbackHandler.processDocument(cursor.next());
@@ -2868,7 +3971,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	 * @author Thomas Risberg
 	 * @author Christoph Strobl
 	 */
-	private static class FindOneCallback implements CollectionCallback<Document> {
+	private static class FindOneCallback implements CollectionCallback<Document>, ReadPreferenceAware {
 
 		private final Document query;
 		private final Optional<Document> fields;
@@ -2899,6 +4002,16 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 			return iterable.first();
 		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.ReadPreferenceAware#getReadPreference()
+		 */
+		@Override
+		@Nullable
+		public ReadPreference getReadPreference() {
+			return cursorPreparer.getReadPreference();
+		}
 	}
 
 	/**
@@ -3103,6 +4216,15 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		@Nullable
 		T doWith(@Nullable Document object);
+
+		/**
+		 * @return the entity type documents are read for. {@literal null} if not known.
+		 * @since 3.1
+		 */
+		@Nullable
+		default Class<?> getEntityType() {
+			return null;
+		}
 	}
 
 	/**
@@ -3118,12 +4240,27 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		private final EntityReader<? super T, Bson> reader;
 		private final Class<T> type;
 		private final String collectionName;
+		private final String operation;
+		private final boolean trackChanges;
+
+		ReadDocumentCallback(EntityReader<? super T, Bson> reader, Class<T> type, String collectionName,
+				String operation) {
+			this(reader, type, collectionName, operation, false);
+		}
 
-		ReadDocumentCallback(EntityReader<? super T, Bson> reader, Class<T> type, String collectionName) {
+		/**
+		 * @param operation the name of the operation reading the documents used for timing the read phases.
+		 * @param trackChanges whether to remember the document for change tracking. Only applicable to documents read as
+		 *          stored in the collection.
+		 */
+		ReadDocumentCallback(EntityReader<? super T, Bson> reader, Class<T> type, String collectionName,
+				String operation, boolean trackChanges) {
 
 			this.reader = reader;
 			this.type = type;
 			this.collectionName = collectionName;
+			this.operation = operation;
+			this.trackChanges = trackChanges;
 		}
 
 		@Nullable
@@ -3132,17 +4269,40 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			T source = null;
 
 			if (document != null) {
-				maybeEmitEvent(new AfterLoadEvent<>(document, type, collectionName));
+
+				if (isEventRequired(AfterLoadEvent.class, type)) {
+					emitEvent(new AfterLoadEvent<>(document, type, collectionName), operation);
+				}
+
+				long start = startTiming();
 				source = reader.read(type, document);
+				recordTiming(start, OperationPhase.READ_CONVERSION, operation, collectionName, type);
 			}
 
 			if (source != null) {
-				maybeEmitEvent(new AfterConvertEvent<>(document, source, collectionName));
-				source = maybeCallAfterConvert(source, document, collectionName);
+
+				if (isEventRequired(AfterConvertEvent.class, source.getClass())) {
+					emitEvent(new AfterConvertEvent<>(document, source, collectionName), operation);
+				}
+
+				source = maybeCallAfterConvert(source, document, collectionName, operation);
+
+				if (trackChanges) {
+					trackChanges(source, document, collectionName);
+				}
 			}
 
 			return source;
 		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.MongoTemplate.DocumentCallback#getEntityType()
+		 */
+		@Override
+		public Class<?> getEntityType() {
+			return type;
+		}
 	}
 
 	/**
@@ -3159,14 +4319,28 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		private final Class<S> entityType;
 		private final Class<T> targetType;
 		private final String collectionName;
+		private final String operation;
+		private final boolean trackChanges;
 
 		ProjectingReadCallback(EntityReader<Object, Bson> reader, Class<S> entityType, Class<T> targetType,
-				String collectionName) {
+				String collectionName, String operation) {
+			this(reader, entityType, targetType, collectionName, operation, false);
+		}
+
+		/**
+		 * @param operation the name of the operation reading the documents used for timing the read phases.
+		 * @param trackChanges whether to remember the document for change tracking if read into the entity type. Only
+		 *          applicable to documents read as stored in the collection.
+		 */
+		ProjectingReadCallback(EntityReader<Object, Bson> reader, Class<S> entityType, Class<T> targetType,
+				String collectionName, String operation, boolean trackChanges) {
 
 			this.reader = reader;
 			this.entityType = entityType;
 			this.targetType = targetType;
 			this.collectionName = collectionName;
+			this.operation = operation;
+			this.trackChanges = trackChanges;
 		}
 
 		/*
@@ -3184,18 +4358,39 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			Class<?> typeToRead = targetType.isInterface() || targetType.isAssignableFrom(entityType) ? entityType
 					: targetType;
 
-			maybeEmitEvent(new AfterLoadEvent<>(document, targetType, collectionName));
+			if (isEventRequired(AfterLoadEvent.class, targetType)) {
+				emitEvent(new AfterLoadEvent<>(document, targetType, collectionName), operation);
+			}
 
+			long start = startTiming();
 			Object source = reader.read(typeToRead, document);
 			Object result = targetType.isInterface() ? projectionFactory.createProjection(targetType, source) : source;
+			recordTiming(start, OperationPhase.READ_CONVERSION, operation, collectionName, entityType);
 
 			if (result != null) {
-				maybeEmitEvent(new AfterConvertEvent<>(document, result, collectionName));
-				result = maybeCallAfterConvert(result, document, collectionName);
+
+				if (isEventRequired(AfterConvertEvent.class, result.getClass())) {
+					emitEvent(new AfterConvertEvent<>(document, result, collectionName), operation);
+				}
+
+				result = maybeCallAfterConvert(result, document, collectionName, operation);
+
+				if (trackChanges && typeToRead == entityType && !targetType.isInterface()) {
+					trackChanges(result, document, collectionName);
+				}
 			}
 
 			return (T) result;
 		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.MongoTemplate.DocumentCallback#getEntityType()
+		 */
+		@Override
+		public Class<?> getEntityType() {
+			return entityType;
+		}
 	}
 
 	class QueryCursorPreparer implements CursorPreparer {
@@ -3214,8 +4409,19 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		 * @see org.springframework.data.mongodb.core.CursorPreparer#prepare(com.mongodb.DBCursor)
 		 */
 		public FindIterable<Document> prepare(FindIterable<Document> iterable) {
+			return doPrepare(iterable);
+		}
 
-			FindIterable<Document> cursorToUse = iterable;
+		/**
+		 * Apply the settings of the {@link Query} to the given {@link FindIterable} regardless of its result type.
+		 *
+		 * @param iterable must not be {@literal null}.
+		 * @return never {@literal null}.
+		 * @since 3.1
+		 */
+		<T> FindIterable<T> doPrepare(FindIterable<T> iterable) {
+
+			FindIterable<T> cursorToUse = iterable;
 
 			operations.forType(type).getCollation(query) //
 					.map(Collation::toMongoCollation) //
@@ -3337,6 +4543,59 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 			return new GeoResult<>(doWith, new Distance(distance, metric));
 		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.MongoTemplate.DocumentCallback#getEntityType()
+		 */
+		@Nullable
+		@Override
+		public Class<?> getEntityType() {
+			return delegate.getEntityType();
+		}
+	}
+
+	/**
+	 * {@link DocumentCallback} handing the raw {@link Document} to a {@link Consumer} before delegating to the actual
+	 * {@link DocumentCallback}.
+	 *
+	 * @since 3.1
+	 */
+	static class PostReadDocumentCallback<T> implements DocumentCallback<T> {
+
+		private final DocumentCallback<T> delegate;
+		private final Consumer<Document> postRead;
+
+		PostReadDocumentCallback(DocumentCallback<T> delegate, Consumer<Document> postRead) {
+
+			this.delegate = delegate;
+			this.postRead = postRead;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.MongoTemplate.DocumentCallback#doWith(org.bson.Document)
+		 */
+		@Nullable
+		@Override
+		public T doWith(@Nullable Document object) {
+
+			if (object != null) {
+				postRead.accept(object);
+			}
+
+			return delegate.doWith(object);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.MongoTemplate.DocumentCallback#getEntityType()
+		 */
+		@Nullable
+		@Override
+		public Class<?> getEntityType() {
+			return delegate.getEntityType();
+		}
 	}
 
 	/**
@@ -3427,6 +4686,53 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		}
 	}
 
+	/**
+	 * A {@link CloseableIterator} handing out the {@link RawBsonDocument}s of a {@link MongoCursor} as they are.
+	 *
+	 * @since 3.1
+	 */
+	static class RawDocumentCursorAdapter implements CloseableIterator<RawBsonDocument> {
+
+		private final MongoCursor<RawBsonDocument> cursor;
+		private final PersistenceExceptionTranslator exceptionTranslator;
+
+		RawDocumentCursorAdapter(MongoCursor<RawBsonDocument> cursor, PersistenceExceptionTranslator exceptionTranslator) {
+
+			this.cursor = cursor;
+			this.exceptionTranslator = exceptionTranslator;
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			try {
+				return cursor.hasNext();
+			} catch (RuntimeException ex) {
+				throw potentiallyConvertRuntimeException(ex, exceptionTranslator);
+			}
+		}
+
+		@Override
+		public RawBsonDocument next() {
+
+			try {
+				return cursor.next();
+			} catch (RuntimeException ex) {
+				throw potentiallyConvertRuntimeException(ex, exceptionTranslator);
+			}
+		}
+
+		@Override
+		public void close() {
+
+			try {
+				cursor.close();
+			} catch (RuntimeException ex) {
+				throw potentiallyConvertRuntimeException(ex, exceptionTranslator);
+			}
+		}
+	}
+
 	public MongoDatabaseFactory getMongoDbFactory() {
 		return mongoDbFactory;
 	}
@@ -3479,5 +4785,14 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			// native MongoDB objects that offer methods with ClientSession must not be proxied.
 			return delegate.getDb();
 		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.MongoTemplate#canReadFromEntityCache()
+		 */
+		@Override
+		boolean canReadFromEntityCache() {
+			return false;
+		}
 	}
 }
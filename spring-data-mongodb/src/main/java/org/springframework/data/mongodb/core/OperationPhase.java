@@ -0,0 +1,69 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+/**
+ * Phases of an operation executed by {@link MongoTemplate} and {@link ReactiveMongoTemplate} reported to a
+ * {@link MongoOperationObserver}.
+ *
+ * @since 3.1
+ */
+public enum OperationPhase {
+
+	/**
+	 * Mapping query, fields and update against the entity type via the
+	 * {@link org.springframework.data.mongodb.core.convert.QueryMapper}.
+	 */
+	QUERY_MAPPING("query-mapping"),
+
+	/**
+	 * Executing the operation via the driver. For queries this covers opening the cursor, ie. fetching the first batch.
+	 */
+	EXECUTION("execution"),
+
+	/**
+	 * Iterating a cursor, including fetching further batches, excluding the conversion of the documents.
+	 */
+	CURSOR_ITERATION("cursor-iteration"),
+
+	/**
+	 * Converting a document read into the requested type.
+	 */
+	READ_CONVERSION("read-conversion"),
+
+	/**
+	 * Converting an entity into the document to write.
+	 */
+	WRITE_CONVERSION("write-conversion"),
+
+	/**
+	 * Publishing mapping events and invoking entity callbacks.
+	 */
+	EVENTS("events");
+
+	private final String tagValue;
+
+	OperationPhase(String tagValue) {
+		this.tagValue = tagValue;
+	}
+
+	/**
+	 * @return the name of the phase suitable as metric tag value.
+	 */
+	public String getTagValue() {
+		return tagValue;
+	}
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import org.bson.Document;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.mongodb.core.MongoTemplate.DocumentCallback;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.lang.Nullable;
+
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoIterable;
+
+/**
+ * {@link CloseableIterator} reading documents from a {@link MongoCursor} in batches. The next batch is fetched on the
+ * given {@link Executor} while the documents of the current one are converted and consumed so that network round trips
+ * for {@literal getMore} overlap with the work on the calling thread. At most two batches are held in memory at a time.
+ * <p />
+ * Documents are converted on the calling thread unless a conversion parallelism greater than one is configured. In
+ * that case each batch is split into chunks converted concurrently while retaining the order of the cursor.
+ *
+ * @since 3.1
+ */
+class PrefetchingCursorAdapter<T> implements CloseableIterator<T> {
+
+	static final int DEFAULT_BATCH_SIZE = 101;
+
+	private final MongoCursor<Document> cursor;
+	private final int batchSize;
+	private final Executor executor;
+	private final int conversionParallelism;
+	private final PersistenceExceptionTranslator exceptionTranslator;
+	private final DocumentCallback<T> objectReadCallback;
+
+	private Iterator<T> current = Collections.emptyIterator();
+	private @Nullable CompletableFuture<List<Document>> next;
+	private volatile boolean closed;
+
+	/**
+	 * Creates a new {@link PrefetchingCursorAdapter} for the given {@link MongoIterable} and immediately starts fetching
+	 * the first batch.
+	 *
+	 * @param iterable must not be {@literal null}.
+	 * @param batchSize the number of documents to fetch at once. Can be {@literal null} to use the default.
+	 * @param executor must not be {@literal null}.
+	 * @param conversionParallelism number of chunks converted concurrently per batch. Values less than two convert on
+	 *          the calling thread.
+	 * @param exceptionTranslator must not be {@literal null}.
+	 * @param objectReadCallback must not be {@literal null}.
+	 */
+	PrefetchingCursorAdapter(MongoIterable<Document> iterable, @Nullable Integer batchSize, Executor executor,
+			int conversionParallelism, PersistenceExceptionTranslator exceptionTranslator,
+			DocumentCallback<T> objectReadCallback) {
+
+		this.batchSize = batchSize != null && batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+		this.executor = executor;
+		this.conversionParallelism = conversionParallelism;
+		this.exceptionTranslator = exceptionTranslator;
+		this.objectReadCallback = objectReadCallback;
+		this.cursor = iterable.iterator();
+		this.next = fetchNextBatch();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#hasNext()
+	 */
+	@Override
+	public boolean hasNext() {
+
+		while (!closed && !current.hasNext()) {
+
+			CompletableFuture<List<Document>> pending = next;
+
+			if (pending == null) {
+				return false;
+			}
+
+			List<Document> documents = await(pending);
+
+			next = documents.size() < batchSize ? null : fetchNextBatch();
+			current = conversionParallelism > 1 ? convertInParallel(documents).iterator()
+					: new ConvertingIterator(documents);
+		}
+
+		return !closed;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#next()
+	 */
+	@Nullable
+	@Override
+	public T next() {
+
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		try {
+			return current.next();
+		} catch (RuntimeException ex) {
+			throw MongoTemplate.potentiallyConvertRuntimeException(ex, exceptionTranslator);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.util.CloseableIterator#close()
+	 */
+	@Override
+	public void close() {
+
+		if (closed) {
+			return;
+		}
+
+		closed = true;
+
+		CompletableFuture<List<Document>> pending = next;
+		next = null;
+		current = Collections.emptyIterator();
+
+		try {
+
+			// the cursor must not be closed while a getMore is in flight
+			if (pending != null) {
+				pending.handle((documents, error) -> null).join();
+			}
+
+			cursor.close();
+		} catch (RuntimeException ex) {
+			throw MongoTemplate.potentiallyConvertRuntimeException(ex, exceptionTranslator);
+		}
+	}
+
+	private CompletableFuture<List<Document>> fetchNextBatch() {
+
+		return submit(() -> {
+
+			List<Document> documents = new ArrayList<>(batchSize);
+
+			while (!closed && documents.size() < batchSize && cursor.hasNext()) {
+				documents.add(cursor.next());
+			}
+
+			return documents;
+		});
+	}
+
+	private List<T> convertInParallel(List<Document> documents) {
+
+		int chunkSize = Math.max(1, (documents.size() + conversionParallelism - 1) / conversionParallelism);
+		List<CompletableFuture<List<T>>> chunks = new ArrayList<>(conversionParallelism);
+
+		for (int from = chunkSize; from < documents.size(); from += chunkSize) {
+
+			List<Document> chunk = documents.subList(from, Math.min(from + chunkSize, documents.size()));
+			chunks.add(submit(() -> convert(chunk)));
+		}
+
+		List<T> result = new ArrayList<>(documents.size());
+		result.addAll(convert(documents.subList(0, Math.min(chunkSize, documents.size()))));
+
+		for (CompletableFuture<List<T>> chunk : chunks) {
+			result.addAll(await(chunk));
+		}
+
+		return result;
+	}
+
+	private List<T> convert(List<Document> documents) {
+
+		List<T> result = new ArrayList<>(documents.size());
+
+		for (Document document : documents) {
+			result.add(objectReadCallback.doWith(document));
+		}
+
+		return result;
+	}
+
+	private <S> CompletableFuture<S> submit(Supplier<S> supplier) {
+
+		try {
+			return CompletableFuture.supplyAsync(supplier, executor);
+		} catch (RejectedExecutionException ex) {
+
+			CompletableFuture<S> future = new CompletableFuture<>();
+
+			try {
+				future.complete(supplier.get());
+			} catch (RuntimeException e) {
+				future.completeExceptionally(e);
+			}
+
+			return future;
+		}
+	}
+
+	private <S> S await(CompletableFuture<S> future) {
+
+		try {
+			return future.join();
+		} catch (CompletionException ex) {
+
+			Throwable cause = ex.getCause();
+
+			if (cause instanceof RuntimeException) {
+				throw MongoTemplate.potentiallyConvertRuntimeException((RuntimeException) cause, exceptionTranslator);
+			}
+
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw ex;
+		}
+	}
+
+	/**
+	 * {@link Iterator} converting documents of a batch on access.
+	 */
+	private class ConvertingIterator implements Iterator<T> {
+
+		private final Iterator<Document> documents;
+
+		ConvertingIterator(List<Document> documents) {
+			this.documents = documents.iterator();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return documents.hasNext();
+		}
+
+		@Override
+		public T next() {
+			return objectReadCallback.doWith(documents.next());
+		}
+	}
+}
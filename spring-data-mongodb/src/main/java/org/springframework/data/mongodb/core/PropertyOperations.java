@@ -15,14 +15,40 @@
  */
 package org.springframework.data.mongodb.core;
 
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.SimplePropertyHandler;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.ProjectionInformation;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.data.util.Pair;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ParseException;
+import org.springframework.expression.ParserContext;
+import org.springframework.expression.common.CompositeStringExpression;
+import org.springframework.expression.spel.SpelNode;
+import org.springframework.expression.spel.ast.CompoundExpression;
+import org.springframework.expression.spel.ast.PropertyOrFieldReference;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
 
 /**
  * Common operations performed on properties of an entity like extracting fields information for projection creation.
@@ -32,7 +58,11 @@ import org.springframework.util.ClassUtils;
  */
 class PropertyOperations {
 
+	private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+	private static final String TARGET = "target";
+
 	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
+	private final Map<Pair<Class<?>, Class<?>>, Document> projectedFieldsCache = new ConcurrentHashMap<>();
 
 	PropertyOperations(MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext) {
 		this.mappingContext = mappingContext;
@@ -41,7 +71,10 @@ class PropertyOperations {
 	/**
 	 * For cases where {@code fields} is {@link Document#isEmpty() empty} include only fields that are required for
 	 * creating the projection (target) type if the {@code targetType} is a {@literal DTO projection} or a
-	 * {@literal closed interface projection}.
+	 * {@literal closed interface projection}. Nested closed interface projections contribute the paths of their
+	 * properties. Open interface projections are restricted to the properties referenced via {@code target.…} in their
+	 * {@link Value @Value} expressions as long as they do not use the {@code target} object as a whole. The fields are
+	 * computed once per domain and target type.
 	 *
 	 * @param projectionFactory must not be {@literal null}.
 	 * @param fields must not be {@literal null}.
@@ -56,14 +89,23 @@ class PropertyOperations {
 			return fields;
 		}
 
+		Document projectedFields = projectedFieldsCache.computeIfAbsent(Pair.of(domainType, targetType),
+				key -> doComputeFieldsForProjection(projectionFactory, domainType, targetType));
+
+		return new Document(projectedFields);
+	}
+
+	private Document doComputeFieldsForProjection(ProjectionFactory projectionFactory, Class<?> domainType,
+			Class<?> targetType) {
+
 		Document projectedFields = new Document();
 
 		if (targetType.isInterface()) {
 
-			ProjectionInformation projectionInformation = projectionFactory.getProjectionInformation(targetType);
+			List<String> paths = new ArrayList<>();
 
-			if (projectionInformation.isClosed()) {
-				projectionInformation.getInputProperties().forEach(it -> projectedFields.append(it.getName(), 1));
+			if (collectProjectionPaths(projectionFactory, domainType, targetType, "", paths)) {
+				removeNestedPaths(paths).forEach(it -> projectedFields.append(it, 1));
 			}
 		} else {
 
@@ -76,4 +118,229 @@ class PropertyOperations {
 
 		return projectedFields;
 	}
+
+	/**
+	 * Collect the property paths of {@code domainType} that are read by the given projection interface.
+	 *
+	 * @return {@literal false} if the projection requires the whole document.
+	 */
+	private boolean collectProjectionPaths(ProjectionFactory projectionFactory, Class<?> domainType,
+			Class<?> projectionType, String prefix, List<String> paths) {
+
+		ProjectionInformation projectionInformation = projectionFactory.getProjectionInformation(projectionType);
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(domainType);
+
+		for (PropertyDescriptor descriptor : projectionInformation.getInputProperties()) {
+
+			String path = prefix + descriptor.getName();
+			MongoPersistentProperty property = entity != null ? entity.getPersistentProperty(descriptor.getName()) : null;
+			Class<?> nestedProjectionType = getNestedProjectionType(descriptor, property);
+
+			if (nestedProjectionType != null) {
+
+				List<String> nestedPaths = new ArrayList<>();
+
+				if (collectProjectionPaths(projectionFactory, property.getActualType(), nestedProjectionType, path + ".",
+						nestedPaths)) {
+
+					paths.addAll(nestedPaths);
+					continue;
+				}
+			}
+
+			paths.add(path);
+		}
+
+		return projectionInformation.isClosed() || collectExpressionPaths(domainType, projectionType, prefix, paths);
+	}
+
+	/**
+	 * Collect the property paths referenced by the {@link Value @Value} expressions of an open projection.
+	 *
+	 * @return {@literal false} if the paths cannot be determined.
+	 */
+	private boolean collectExpressionPaths(Class<?> domainType, Class<?> projectionType, String prefix,
+			List<String> paths) {
+
+		for (Method method : projectionType.getMethods()) {
+
+			if (method.isDefault() || Modifier.isStatic(method.getModifiers())) {
+				continue;
+			}
+
+			Value value = AnnotationUtils.findAnnotation(method, Value.class);
+
+			if (value == null) {
+				continue;
+			}
+
+			List<String> targetPaths = new ArrayList<>();
+
+			if (!collectTargetPaths(value.value(), targetPaths)) {
+				return false;
+			}
+
+			for (String targetPath : targetPaths) {
+
+				String projectionPath = getProjectionPath(targetPath, domainType);
+
+				if (projectionPath == null) {
+					return false;
+				}
+
+				paths.add(prefix + projectionPath);
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Resolve the given path against the {@code domainType} and cut it off at the first association as references are
+	 * resolved from the whole stored reference only.
+	 *
+	 * @return {@literal null} if the path is not a persistent property path.
+	 */
+	@Nullable
+	private String getProjectionPath(String path, Class<?> domainType) {
+
+		PersistentPropertyPath<MongoPersistentProperty> propertyPath;
+
+		try {
+			propertyPath = mappingContext.getPersistentPropertyPath(path, domainType);
+		} catch (MappingException o_O) {
+			return null;
+		}
+
+		List<String> segments = new ArrayList<>();
+
+		for (MongoPersistentProperty property : propertyPath) {
+
+			segments.add(property.getName());
+
+			if (isReference(property)) {
+				break;
+			}
+		}
+
+		return StringUtils.collectionToDelimitedString(segments, ".");
+	}
+
+	private static boolean isReference(MongoPersistentProperty property) {
+		return property.isAssociation() || property.isDbReference();
+	}
+
+	@Nullable
+	private static Class<?> getNestedProjectionType(PropertyDescriptor descriptor,
+			@Nullable MongoPersistentProperty property) {
+
+		Method readMethod = descriptor.getReadMethod();
+
+		if (readMethod == null || property == null || !property.isEntity() || property.isMap() || isReference(property)) {
+			return null;
+		}
+
+		TypeInformation<?> returnType = ClassTypeInformation.fromReturnTypeOf(readMethod).getActualType();
+		Class<?> type = returnType != null ? returnType.getType() : null;
+
+		return type != null && type.isInterface() && !ClassUtils.isAssignable(type, property.getActualType()) ? type
+				: null;
+	}
+
+	private static boolean collectTargetPaths(String expressionString, List<String> paths) {
+
+		Expression expression;
+
+		try {
+			expression = PARSER.parseExpression(expressionString, ParserContext.TEMPLATE_EXPRESSION);
+		} catch (ParseException o_O) {
+			return false;
+		}
+
+		return collectTargetPaths(expression, paths);
+	}
+
+	private static boolean collectTargetPaths(Expression expression, List<String> paths) {
+
+		if (expression instanceof CompositeStringExpression) {
+
+			for (Expression nested : ((CompositeStringExpression) expression).getExpressions()) {
+				if (!collectTargetPaths(nested, paths)) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		if (expression instanceof SpelExpression) {
+			return collectTargetPaths(((SpelExpression) expression).getAST(), paths);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Collect the paths following a {@code target} reference. Any other usage of {@code target}, like passing it on to a
+	 * method, prevents the paths from being determined.
+	 */
+	private static boolean collectTargetPaths(SpelNode node, List<String> paths) {
+
+		if (isTargetReference(node)) {
+			return false;
+		}
+
+		int index = 0;
+
+		if (node instanceof CompoundExpression && isTargetReference(node.getChild(0))) {
+
+			List<String> segments = new ArrayList<>();
+
+			for (index = 1; index < node.getChildCount() && node.getChild(index) instanceof PropertyOrFieldReference; index++) {
+				segments.add(((PropertyOrFieldReference) node.getChild(index)).getName());
+			}
+
+			if (segments.isEmpty()) {
+				return false;
+			}
+
+			paths.add(StringUtils.collectionToDelimitedString(segments, "."));
+		}
+
+		for (; index < node.getChildCount(); index++) {
+			if (!collectTargetPaths(node.getChild(index), paths)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static boolean isTargetReference(SpelNode node) {
+		return node instanceof PropertyOrFieldReference && TARGET.equals(((PropertyOrFieldReference) node).getName());
+	}
+
+	/**
+	 * Remove duplicates and paths already covered by one of their parents as MongoDB rejects projections with path
+	 * collisions.
+	 */
+	private static List<String> removeNestedPaths(List<String> paths) {
+
+		List<String> result = new ArrayList<>(paths.size());
+
+		for (String path : paths) {
+
+			if (result.contains(path)) {
+				continue;
+			}
+
+			boolean covered = paths.stream().anyMatch(it -> path.startsWith(it + "."));
+
+			if (!covered) {
+				result.add(path);
+			}
+		}
+
+		return result;
+	}
 }
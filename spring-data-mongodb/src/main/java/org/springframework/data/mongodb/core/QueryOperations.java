@@ -76,7 +76,7 @@ class QueryOperations {
 	private final CodecRegistryProvider codecRegistryProvider;
 	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
 	private final AggregationUtil aggregationUtil;
-	private final Map<Class<?>, Document> mappedShardKey = new ConcurrentHashMap<>(1);
+	private final Map<Class<?>, MappedShardKey> mappedShardKeys = new ConcurrentHashMap<>(1);
 
 	/**
 	 * Create a new instance of {@link QueryOperations}.
@@ -174,6 +174,19 @@ class QueryOperations {
 		return new UpdateContext(replacement, upsert);
 	}
 
+	/**
+	 * Obtain the {@link MappedShardKey} for the given {@link MongoPersistentEntity}. The shard key is mapped once per
+	 * type and reused for subsequent operations.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 3.1
+	 */
+	MappedShardKey getMappedShardKey(MongoPersistentEntity<?> entity) {
+		return mappedShardKeys.computeIfAbsent(entity.getType(), key -> new MappedShardKey(entity,
+				queryMapper.getMappedFields(entity.getShardKey().getDocument(), entity)));
+	}
+
 	/**
 	 * Create a new {@link DeleteContext} instance removing all matching documents.
 	 *
@@ -268,7 +281,8 @@ class QueryOperations {
 			Document projectedFields = propertyOperations.computeFieldsForProjection(projectionFactory, fields,
 					entity.getType(), targetType);
 
-			if (ObjectUtils.nullSafeEquals(fields, projectedFields)) {
+			// interface projections are backed by the domain type and therefore use its field names
+			if (ObjectUtils.nullSafeEquals(fields, projectedFields) || targetType.isInterface()) {
 				mappedFields = queryMapper.getMappedFields(projectedFields, entity);
 			} else {
 				mappedFields = queryMapper.getMappedFields(projectedFields,
@@ -657,37 +671,17 @@ class QueryOperations {
 			Document shardKeySource = existing != null ? existing
 					: mappedDocument != null ? mappedDocument.getDocument() : getMappedUpdate(domainType);
 
-			Document filterWithShardKey = new Document(filter);
-			getMappedShardKeyFields(domainType).forEach(key -> filterWithShardKey.putIfAbsent(key, shardKeySource.get(key)));
-
-			return filterWithShardKey;
+			return QueryOperations.this.getMappedShardKey(domainType).applyTo(filter, shardKeySource);
 		}
 
 		boolean requiresShardKey(Document filter, @Nullable MongoPersistentEntity<?> domainType) {
 
-			return !multi && domainType != null && domainType.isSharded() && !shardedById(domainType)
-					&& !filter.keySet().containsAll(getMappedShardKeyFields(domainType));
-		}
-
-		/**
-		 * @return {@literal true} if the {@link MongoPersistentEntity#getShardKey() shard key} is the entities
-		 *         {@literal id} property.
-		 * @since 3.0
-		 */
-		private boolean shardedById(MongoPersistentEntity<?> domainType) {
-
-			ShardKey shardKey = domainType.getShardKey();
-			if (shardKey.size() != 1) {
+			if (multi || domainType == null || !domainType.isSharded()) {
 				return false;
 			}
 
-			String key = shardKey.getPropertyNames().iterator().next();
-			if ("_id".equals(key)) {
-				return true;
-			}
-
-			MongoPersistentProperty idProperty = domainType.getIdProperty();
-			return idProperty != null && idProperty.getName().equals(key);
+			MappedShardKey shardKey = QueryOperations.this.getMappedShardKey(domainType);
+			return !shardKey.isShardedById() && !shardKey.isContainedIn(filter);
 		}
 
 		Set<String> getMappedShardKeyFields(MongoPersistentEntity<?> entity) {
@@ -695,8 +689,7 @@ class QueryOperations {
 		}
 
 		Document getMappedShardKey(MongoPersistentEntity<?> entity) {
-			return mappedShardKey.computeIfAbsent(entity.getType(),
-					key -> queryMapper.getMappedFields(entity.getShardKey().getDocument(), entity));
+			return QueryOperations.this.getMappedShardKey(entity).getProjection();
 		}
 
 		/**
@@ -760,4 +753,105 @@ class QueryOperations {
 			return multi;
 		}
 	}
+
+	/**
+	 * The {@link MongoPersistentEntity#getShardKey() shard key} of an entity mapped to its field names along with
+	 * precomputed metadata required to complete filters of single document replacements.
+	 *
+	 * @since 3.1
+	 */
+	static class MappedShardKey {
+
+		private final Document projection;
+		private final String[] fieldNames;
+		private final boolean shardedById;
+		private final boolean immutable;
+
+		MappedShardKey(MongoPersistentEntity<?> entity, Document mappedFields) {
+
+			this.projection = new Document();
+			mappedFields.keySet().forEach(key -> projection.put(key, 1));
+
+			this.fieldNames = mappedFields.keySet().toArray(new String[0]);
+			this.shardedById = isShardedById(entity);
+			this.immutable = entity.getShardKey().isImmutable();
+		}
+
+		/**
+		 * @return the projection document including the shard key fields.
+		 */
+		Document getProjection() {
+			return projection;
+		}
+
+		/**
+		 * @return {@literal true} if the shard key is the entities {@literal id} property.
+		 */
+		boolean isShardedById() {
+			return shardedById;
+		}
+
+		/**
+		 * @return {@literal true} if the shard key values cannot change and can be taken from the document to write.
+		 */
+		boolean isImmutable() {
+			return immutable;
+		}
+
+		/**
+		 * @return {@literal true} if completing a filter requires the shard key values of the existing document.
+		 */
+		boolean requiresLookup() {
+			return !shardedById && !immutable;
+		}
+
+		/**
+		 * @param filter must not be {@literal null}.
+		 * @return {@literal true} if the given filter contains all shard key fields.
+		 */
+		boolean isContainedIn(Document filter) {
+
+			for (String fieldName : fieldNames) {
+				if (!filter.containsKey(fieldName)) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		/**
+		 * Add shard key fields missing in the given filter using the values of the given source.
+		 *
+		 * @param filter must not be {@literal null}.
+		 * @param source must not be {@literal null}.
+		 * @return a new {@link Document} containing the filter along with the shard key fields.
+		 */
+		Document applyTo(Document filter, Document source) {
+
+			Document filterWithShardKey = new Document(filter);
+
+			for (String fieldName : fieldNames) {
+				filterWithShardKey.putIfAbsent(fieldName, source.get(fieldName));
+			}
+
+			return filterWithShardKey;
+		}
+
+		private static boolean isShardedById(MongoPersistentEntity<?> entity) {
+
+			ShardKey shardKey = entity.getShardKey();
+			if (shardKey.size() != 1) {
+				return false;
+			}
+
+			String key = shardKey.getPropertyNames().iterator().next();
+			if ("_id".equals(key)) {
+				return true;
+			}
+
+			MongoPersistentProperty idProperty = entity.getIdProperty();
+			return idProperty != null && idProperty.getName().equals(key);
+		}
+	}
 }
@@ -0,0 +1,402 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Collector of per query shape latencies for the operations executed by {@link MongoTemplate} and
+ * {@link ReactiveMongoTemplate}. The shape of an operation is its mapped query, update or aggregation pipeline with
+ * all values replaced by {@literal ?}, so that operations differing only in their parameters share the same
+ * {@link QueryShapeStatistics statistics} and no values show up in logs.
+ * <p />
+ * Operations exceeding the {@link #setSlowOperationThreshold(Duration) slow operation threshold} are logged on
+ * {@literal WARN} level. If an {@link #setExplainExecutor(Executor) explain executor} is configured, the query plan of
+ * the first slow operation of a query shape is obtained via {@literal explain} to flag shapes answered by a collection
+ * scan. Counters and histograms are lock-free. The number of shapes tracked is bounded by
+ * {@link #setMaxShapes(int)}.
+ *
+ * @since 3.1
+ * @see MongoTemplate#setQueryShapeCollector(QueryShapeCollector)
+ * @see ReactiveMongoTemplate#setQueryShapeCollector(QueryShapeCollector)
+ */
+public class QueryShapeCollector {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(QueryShapeCollector.class);
+
+	private static final int WINDOW_SIZE = 1000;
+
+	private final Map<String, Shape> shapes = new ConcurrentHashMap<>();
+	private final LongAdder dropped = new LongAdder();
+
+	private long slowOperationThreshold = TimeUnit.MILLISECONDS.toNanos(100);
+	private int maxShapes = 500;
+	private @Nullable Executor explainExecutor;
+
+	/**
+	 * Configure the latency above which operations are logged as slow. Defaults to {@literal 100ms}.
+	 *
+	 * @param slowOperationThreshold must not be {@literal null} or negative.
+	 */
+	public void setSlowOperationThreshold(Duration slowOperationThreshold) {
+
+		Assert.notNull(slowOperationThreshold, "Slow operation threshold must not be null!");
+		Assert.isTrue(!slowOperationThreshold.isNegative(), "Slow operation threshold must not be negative!");
+
+		this.slowOperationThreshold = slowOperationThreshold.toNanos();
+	}
+
+	/**
+	 * Configure the maximum number of query shapes to track. Operations of further shapes are only counted as
+	 * {@link #getDroppedCount() dropped}. Defaults to {@literal 500}.
+	 *
+	 * @param maxShapes must be greater than zero.
+	 */
+	public void setMaxShapes(int maxShapes) {
+
+		Assert.isTrue(maxShapes > 0, "Max shapes must be greater than zero!");
+		this.maxShapes = maxShapes;
+	}
+
+	/**
+	 * Configure the {@link Executor} to run {@literal explain} for the first slow operation of each query shape on.
+	 * Explaining is disabled by default.
+	 *
+	 * @param explainExecutor can be {@literal null} to disable explaining slow query shapes.
+	 */
+	public void setExplainExecutor(@Nullable Executor explainExecutor) {
+		this.explainExecutor = explainExecutor;
+	}
+
+	/**
+	 * Record an operation.
+	 *
+	 * @param operation the name of the operation, eg. {@literal find}. Must not be {@literal null}.
+	 * @param collectionName must not be {@literal null}.
+	 * @param query the mapped query. Must not be {@literal null}.
+	 * @param update the mapped update {@link Document} or aggregation pipeline. Can be {@literal null}.
+	 * @param durationNanos the latency of the operation in nanoseconds.
+	 */
+	public void record(String operation, String collectionName, Document query, @Nullable Object update,
+			long durationNanos) {
+		recordShape(operation, collectionName, shapeOf(query, update), durationNanos);
+	}
+
+	/**
+	 * Record an aggregation.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param pipeline the mapped aggregation pipeline. Must not be {@literal null}.
+	 * @param durationNanos the latency of the aggregation in nanoseconds.
+	 */
+	public void recordAggregation(String collectionName, List<? extends Document> pipeline, long durationNanos) {
+		recordShape("aggregate", collectionName, shapeOf(pipeline, null), durationNanos);
+	}
+
+	/**
+	 * @return a snapshot of the statistics of all tracked query shapes, ordered by their total time descending.
+	 */
+	public List<QueryShapeStatistics> getStatistics() {
+
+		List<QueryShapeStatistics> statistics = new ArrayList<>(shapes.size());
+
+		for (Shape shape : shapes.values()) {
+			statistics.add(shape.snapshot());
+		}
+
+		statistics.sort(Comparator.comparing(QueryShapeStatistics::getTotalTime).reversed());
+		return statistics;
+	}
+
+	/**
+	 * @return the number of operations not recorded because {@link #setMaxShapes(int) max shapes} were tracked already.
+	 */
+	public long getDroppedCount() {
+		return dropped.sum();
+	}
+
+	/**
+	 * Remove all tracked query shapes.
+	 */
+	public void reset() {
+
+		shapes.clear();
+		dropped.reset();
+	}
+
+	/**
+	 * Record an operation and hand out the {@link Shape} if its plan should be {@link #explain(Shape, Supplier)
+	 * explained}.
+	 *
+	 * @return the {@link Shape} if the operation was slow and is the first one of its shape to be explained.
+	 *         {@literal null} otherwise.
+	 */
+	@Nullable
+	Shape recordShape(String operation, String collectionName, String shapeValue, long durationNanos) {
+
+		boolean slow = durationNanos > slowOperationThreshold;
+
+		if (slow && LOGGER.isWarnEnabled()) {
+			LOGGER.warn("Slow {} on collection '{}' took {} ms; Shape: {}", operation, collectionName,
+					TimeUnit.NANOSECONDS.toMillis(durationNanos), shapeValue);
+		}
+
+		String key = collectionName + '.' + operation + ' ' + shapeValue;
+		Shape shape = shapes.get(key);
+
+		if (shape == null) {
+
+			if (shapes.size() >= maxShapes) {
+
+				dropped.increment();
+				return null;
+			}
+
+			shape = shapes.computeIfAbsent(key, it -> new Shape(operation, collectionName, shapeValue));
+		}
+
+		shape.record(durationNanos, slow);
+
+		return slow && explainExecutor != null && shape.startExplain() ? shape : null;
+	}
+
+	/**
+	 * Obtain the query plan of the given {@link Shape} on the {@link #setExplainExecutor(Executor) explain executor}.
+	 *
+	 * @param shape must not be {@literal null}.
+	 * @param explain runs the {@literal explain} command. Must not be {@literal null}.
+	 */
+	void explain(Shape shape, Supplier<Document> explain) {
+
+		Executor executor = this.explainExecutor;
+
+		if (executor == null) {
+			return;
+		}
+
+		executor.execute(() -> {
+
+			try {
+
+				boolean collectionScan = isCollectionScan(explain.get());
+				shape.explained(collectionScan);
+
+				if (collectionScan && LOGGER.isWarnEnabled()) {
+					LOGGER.warn("{} on collection '{}' performs a collection scan; Shape: {}", shape.operation,
+							shape.collectionName, shape.shape);
+				}
+			} catch (RuntimeException e) {
+
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug(String.format("Failed to explain %s on collection '%s'; Shape: %s", shape.operation,
+							shape.collectionName, shape.shape), e);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Compute the shape of the given query and optional update by replacing all values with {@literal ?}. Lists of
+	 * documents, like {@literal $or} clauses or aggregation stages, retain their elements while lists of values are
+	 * collapsed to {@literal [?]}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param update can be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	static String shapeOf(Object query, @Nullable Object update) {
+
+		StringBuilder shape = new StringBuilder();
+		appendShape(shape, query);
+
+		if (update != null) {
+
+			shape.append(" <- ");
+			appendShape(shape, update);
+		}
+
+		return shape.toString();
+	}
+
+	/**
+	 * @param explain the result of the {@literal explain} command.
+	 * @return {@literal true} if the winning plan contains a {@literal COLLSCAN} stage.
+	 */
+	static boolean isCollectionScan(Document explain) {
+
+		Object queryPlanner = explain.get("queryPlanner");
+		return queryPlanner instanceof Map && containsCollectionScan(((Map<?, ?>) queryPlanner).get("winningPlan"));
+	}
+
+	private static boolean containsCollectionScan(@Nullable Object plan) {
+
+		if (plan instanceof Map) {
+
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) plan).entrySet()) {
+
+				if ("stage".equals(entry.getKey()) && "COLLSCAN".equals(entry.getValue())
+						|| containsCollectionScan(entry.getValue())) {
+					return true;
+				}
+			}
+		}
+
+		if (plan instanceof Collection) {
+
+			for (Object element : (Collection<?>) plan) {
+				if (containsCollectionScan(element)) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private static void appendShape(StringBuilder shape, @Nullable Object value) {
+
+		if (value instanceof Map) {
+
+			shape.append('{');
+			boolean first = true;
+
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+
+				if (!first) {
+					shape.append(", ");
+				}
+
+				shape.append(entry.getKey()).append(": ");
+				appendShape(shape, entry.getValue());
+				first = false;
+			}
+
+			shape.append('}');
+			return;
+		}
+
+		if (value instanceof Collection && isDocumentList((Collection<?>) value)) {
+
+			shape.append('[');
+			boolean first = true;
+
+			for (Object element : (Collection<?>) value) {
+
+				if (!first) {
+					shape.append(", ");
+				}
+
+				appendShape(shape, element);
+				first = false;
+			}
+
+			shape.append(']');
+			return;
+		}
+
+		shape.append(value instanceof Collection ? "[?]" : "?");
+	}
+
+	private static boolean isDocumentList(Collection<?> values) {
+
+		if (values.isEmpty()) {
+			return false;
+		}
+
+		for (Object value : values) {
+			if (!(value instanceof Map)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Lock-free metrics of a single query shape.
+	 */
+	static class Shape {
+
+		private static final int NOT_EXPLAINED = 0;
+		private static final int EXPLAINING = 1;
+
+		private final String operation;
+		private final String collectionName;
+		private final String shape;
+
+		private final LongAdder count = new LongAdder();
+		private final LongAdder slowCount = new LongAdder();
+		private final LongAdder totalTime = new LongAdder();
+		private final AtomicLong maxTime = new AtomicLong();
+		private final LatencyHistogram histogram = new LatencyHistogram(WINDOW_SIZE);
+		private final AtomicInteger explainState = new AtomicInteger(NOT_EXPLAINED);
+
+		private volatile @Nullable Boolean collectionScan;
+
+		Shape(String operation, String collectionName, String shape) {
+
+			this.operation = operation;
+			this.collectionName = collectionName;
+			this.shape = shape;
+		}
+
+		void record(long durationNanos, boolean slow) {
+
+			count.increment();
+			totalTime.add(durationNanos);
+			maxTime.accumulateAndGet(durationNanos, Math::max);
+			histogram.record(durationNanos);
+
+			if (slow) {
+				slowCount.increment();
+			}
+		}
+
+		boolean startExplain() {
+			return explainState.compareAndSet(NOT_EXPLAINED, EXPLAINING);
+		}
+
+		void explained(boolean collectionScan) {
+			this.collectionScan = collectionScan;
+		}
+
+		QueryShapeStatistics snapshot() {
+
+			return new QueryShapeStatistics(operation, collectionName, shape, count.sum(), slowCount.sum(),
+					Duration.ofNanos(totalTime.sum()), Duration.ofNanos(maxTime.get()),
+					Duration.ofNanos(histogram.getPercentile(0.5D)), Duration.ofNanos(histogram.getPercentile(0.95D)),
+					Duration.ofNanos(histogram.getPercentile(0.99D)), collectionScan);
+		}
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.time.Duration;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Value object capturing the statistics of a query shape tracked by a {@link QueryShapeCollector}. Percentiles are
+ * computed from the most recent operations and carry a relative error of up to 25%.
+ *
+ * @since 3.1
+ */
+public class QueryShapeStatistics {
+
+	private final String operation;
+	private final String collectionName;
+	private final String shape;
+	private final long count;
+	private final long slowCount;
+	private final Duration totalTime;
+	private final Duration maxLatency;
+	private final Duration medianLatency;
+	private final Duration p95Latency;
+	private final Duration p99Latency;
+	private final @Nullable Boolean collectionScan;
+
+	QueryShapeStatistics(String operation, String collectionName, String shape, long count, long slowCount,
+			Duration totalTime, Duration maxLatency, Duration medianLatency, Duration p95Latency, Duration p99Latency,
+			@Nullable Boolean collectionScan) {
+
+		this.operation = operation;
+		this.collectionName = collectionName;
+		this.shape = shape;
+		this.count = count;
+		this.slowCount = slowCount;
+		this.totalTime = totalTime;
+		this.maxLatency = maxLatency;
+		this.medianLatency = medianLatency;
+		this.p95Latency = p95Latency;
+		this.p99Latency = p99Latency;
+		this.collectionScan = collectionScan;
+	}
+
+	/**
+	 * @return the name of the operation, eg. {@literal find}.
+	 */
+	public String getOperation() {
+		return operation;
+	}
+
+	public String getCollectionName() {
+		return collectionName;
+	}
+
+	/**
+	 * @return the query shape, eg. <code>{lastname: ?, age: {$gt: ?}}</code>.
+	 */
+	public String getShape() {
+		return shape;
+	}
+
+	/**
+	 * @return the number of operations recorded.
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * @return the number of operations exceeding the slow operation threshold.
+	 */
+	public long getSlowCount() {
+		return slowCount;
+	}
+
+	/**
+	 * @return the time spent in all operations recorded.
+	 */
+	public Duration getTotalTime() {
+		return totalTime;
+	}
+
+	public Duration getMaxLatency() {
+		return maxLatency;
+	}
+
+	public Duration getMedianLatency() {
+		return medianLatency;
+	}
+
+	public Duration getP95Latency() {
+		return p95Latency;
+	}
+
+	public Duration getP99Latency() {
+		return p99Latency;
+	}
+
+	/**
+	 * @return {@literal true} if the query plan of the shape has been obtained via {@literal explain}.
+	 */
+	public boolean isExplained() {
+		return collectionScan != null;
+	}
+
+	/**
+	 * @return {@literal true} if the {@link #isExplained() explained} query plan scans the whole collection.
+	 */
+	public boolean isCollectionScan() {
+		return Boolean.TRUE.equals(collectionScan);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("QueryShapeStatistics[%s %s %s, count=%s, slow=%s, total=%s, max=%s, p50=%s, p95=%s, "
+				+ "p99=%s, collectionScan=%s]", collectionName, operation, shape, count, slowCount, totalTime, maxLatency,
+				medianLatency, p95Latency, p99Latency, collectionScan);
+	}
+}
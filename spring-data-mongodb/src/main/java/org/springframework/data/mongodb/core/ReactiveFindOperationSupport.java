@@ -214,6 +214,8 @@ class ReactiveFindOperationSupport implements ReactiveFindOperation {
 
 		private Flux<T> doFind(@Nullable FindPublisherPreparer preparer) {
 
+			ReactiveMongoTemplate.assertNoFetchPaths(query);
+
 			Document queryObject = query.getQueryObject();
 			Document fieldsObject = query.getFieldsObject();
 
@@ -30,6 +30,7 @@ import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
 import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.PreparedAggregation;
 import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
@@ -545,6 +546,20 @@ public interface ReactiveMongoOperations extends ReactiveFluentMongoOperations {
 		return findDistinct(query, field, collection, Object.class, resultClass);
 	}
 
+	/**
+	 * Render and map the given {@link TypedAggregation} against its {@link TypedAggregation#getInputType() input type}
+	 * once, so that it can be executed multiple times by {@link PreparedAggregation#bind(Object...) binding} the values
+	 * for the {@link org.springframework.data.mongodb.core.aggregation.AggregationParameter parameters} it contains.
+	 *
+	 * @param aggregation The {@link TypedAggregation} specification holding the aggregation operations. Must not be
+	 *          {@literal null}.
+	 * @return the {@link PreparedAggregation}. Never {@literal null}.
+	 * @since 3.1
+	 */
+	default <I> PreparedAggregation<I> prepareAggregation(TypedAggregation<I> aggregation) {
+		return PreparedAggregation.of(aggregation, getConverter());
+	}
+
 	/**
 	 * Execute an aggregation operation.
 	 * <p>
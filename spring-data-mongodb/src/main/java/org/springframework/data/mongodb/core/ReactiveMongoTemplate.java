@@ -24,12 +24,17 @@ import reactor.util.function.Tuples;
 
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 import org.bson.types.ObjectId;
 import org.reactivestreams.Publisher;
@@ -66,6 +71,7 @@ import org.springframework.data.mongodb.core.QueryOperations.DistinctQueryContex
 import org.springframework.data.mongodb.core.QueryOperations.QueryContext;
 import org.springframework.data.mongodb.core.QueryOperations.UpdateContext;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
 import org.springframework.data.mongodb.core.aggregation.AggregationOperationContext;
 import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
 import org.springframework.data.mongodb.core.aggregation.PrefixingDelegatingAggregationOperationContext;
@@ -103,6 +109,9 @@ import org.springframework.data.mongodb.util.BsonUtils;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.util.Optionals;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
@@ -192,9 +201,14 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	private WriteConcernResolver writeConcernResolver = DefaultWriteConcernResolver.INSTANCE;
 	private WriteResultChecking writeResultChecking = WriteResultChecking.NONE;
 	private @Nullable ReadPreference readPreference;
-	private @Nullable ApplicationEventPublisher eventPublisher;
+	private final EntityLifecycleEventDelegate eventDelegate = new EntityLifecycleEventDelegate();
+	private final boolean customEventHook = EntityLifecycleEventDelegate.overridesEventHook(getClass(),
+			ReactiveMongoTemplate.class);
 	private @Nullable ReactiveEntityCallbacks entityCallbacks;
 	private @Nullable ReactiveMongoPersistentEntityIndexCreator indexCreator;
+	private @Nullable EntityCache entityCache = new EntityCache();
+	private MongoOperationObserver operationObserver = MongoOperationObserver.NONE;
+	private @Nullable QueryShapeCollector queryShapeCollector;
 
 	private SessionSynchronization sessionSynchronization = SessionSynchronization.ON_ACTUAL_TRANSACTION;
 
@@ -266,9 +280,9 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 			if (mongoMappingContext.isAutoIndexCreation()) {
 				this.indexCreator = new ReactiveMongoPersistentEntityIndexCreator(mongoMappingContext, this::indexOps);
-				this.eventPublisher = new MongoMappingEventPublisher(this.indexCreatorListener);
+				this.eventDelegate.setPublisher(new MongoMappingEventPublisher(this.indexCreatorListener));
 
-				mongoMappingContext.setApplicationEventPublisher(this.eventPublisher);
+				mongoMappingContext.setApplicationEventPublisher(this.eventDelegate.getPublisher());
 				this.mappingContext.getPersistentEntities()
 						.forEach(entity -> onCheckForIndexes(entity, subscriptionExceptionHandler));
 			}
@@ -291,6 +305,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		this.propertyOperations = that.propertyOperations;
 		this.sessionSynchronization = that.sessionSynchronization;
 		this.queryOperations = that.queryOperations;
+		this.entityCache = that.entityCache;
 	}
 
 	private void onCheckForIndexes(MongoPersistentEntity<?> entity, Consumer<Throwable> subscriptionExceptionHandler) {
@@ -343,6 +358,69 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		this.readPreference = readPreference;
 	}
 
+	/**
+	 * Configure the {@link EntityCache} holding documents of {@link org.springframework.data.mongodb.core.mapping.Cached}
+	 * entities looked up via {@link #findById(Object, Class)}. Setting {@literal null} disables caching. Defaults to a
+	 * cache exclusive to this template.
+	 *
+	 * @param entityCache can be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setEntityCache(@Nullable EntityCache entityCache) {
+		this.entityCache = entityCache;
+	}
+
+	/**
+	 * @return the {@link EntityCache} in use. Can be {@literal null} if caching is disabled.
+	 * @since 3.1
+	 */
+	@Nullable
+	public EntityCache getEntityCache() {
+		return entityCache;
+	}
+
+	/**
+	 * Configure the {@link MongoOperationObserver} notified about the time spent in query mapping, entity conversion,
+	 * event dispatch and driver execution of the operations executed. Phases are not timed unless the observer is
+	 * {@link MongoOperationObserver#isEnabled() enabled}. Defaults to {@link MongoOperationObserver#NONE}.
+	 *
+	 * @param operationObserver must not be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setOperationObserver(MongoOperationObserver operationObserver) {
+
+		Assert.notNull(operationObserver, "MongoOperationObserver must not be null!");
+		this.operationObserver = operationObserver;
+	}
+
+	/**
+	 * @return the {@link MongoOperationObserver} in use. Never {@literal null}.
+	 * @since 3.1
+	 */
+	public MongoOperationObserver getOperationObserver() {
+		return operationObserver;
+	}
+
+	/**
+	 * Configure the {@link QueryShapeCollector} recording the latency of queries per query shape and logging slow ones.
+	 * Setting {@literal null}, the default, disables collection. Query plans of slow shapes are not explained.
+	 *
+	 * @param queryShapeCollector can be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setQueryShapeCollector(@Nullable QueryShapeCollector queryShapeCollector) {
+		this.queryShapeCollector = queryShapeCollector;
+	}
+
+	/**
+	 * @return the {@link QueryShapeCollector} in use. Can be {@literal null} if collection is disabled.
+	 * @since 3.1
+	 */
+	@Nullable
+	public QueryShapeCollector getQueryShapeCollector() {
+		return queryShapeCollector;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.context.ApplicationContextAware#setApplicationContext(org.springframework.context.ApplicationContext)
@@ -351,14 +429,14 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		prepareIndexCreator(applicationContext);
 
-		eventPublisher = applicationContext;
+		eventDelegate.setPublisher(applicationContext);
 
 		if (entityCallbacks == null) {
 			setEntityCallbacks(ReactiveEntityCallbacks.create(applicationContext));
 		}
 
 		if (mappingContext instanceof ApplicationEventPublisherAware) {
-			((ApplicationEventPublisherAware) mappingContext).setApplicationEventPublisher(eventPublisher);
+			((ApplicationEventPublisherAware) mappingContext).setApplicationEventPublisher(applicationContext);
 		}
 
 		projectionFactory.setBeanFactory(applicationContext);
@@ -755,11 +833,12 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	 */
 	public Mono<Void> dropCollection(String collectionName) {
 
-		return createMono(collectionName, MongoCollection::drop).doOnSuccess(success -> {
-			if (LOGGER.isDebugEnabled()) {
-				LOGGER.debug("Dropped collection [" + collectionName + "]");
-			}
-		}).then();
+		return evictingFromEntityCache(createMono(collectionName, MongoCollection::drop), collectionName, () -> null)
+				.doOnSuccess(success -> {
+					if (LOGGER.isDebugEnabled()) {
+						LOGGER.debug("Dropped collection [" + collectionName + "]");
+					}
+				}).then();
 	}
 
 	/*
@@ -792,7 +871,9 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	 */
 	public <T> Mono<T> findOne(Query query, Class<T> entityClass, String collectionName) {
 
-		if (ObjectUtils.isEmpty(query.getSortObject())) {
+		assertNoFetchPaths(query);
+
+		if (ObjectUtils.isEmpty(query.getSortObject()) && !isRawDocument(entityClass)) {
 			return doFindOne(collectionName, query.getQueryObject(), query.getFieldsObject(), entityClass,
 					new QueryFindPublisherPreparer(query, entityClass));
 		}
@@ -863,6 +944,8 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			return findAll(entityClass, collectionName);
 		}
 
+		assertNoFetchPaths(query);
+
 		return doFind(collectionName, query.getQueryObject(), query.getFieldsObject(), entityClass,
 				new QueryFindPublisherPreparer(query, entityClass));
 	}
@@ -882,8 +965,42 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	public <T> Mono<T> findById(Object id, Class<T> entityClass, String collectionName) {
 
 		String idKey = operations.getIdPropertyName(entityClass);
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
+		EntityCache cache = this.entityCache;
+
+		if (cache == null || !EntityCache.isCached(entity)) {
+			return doFindOne(collectionName, new Document(idKey, id), null, entityClass, (Collation) null);
+		}
+
+		return canReadFromEntityCache().flatMap(readable -> {
+
+			if (!readable) {
+				return doFindOne(collectionName, new Document(idKey, id), null, entityClass, (Collation) null);
+			}
+
+			Object mappedId = mongoConverter.convertId(id, entity.getRequiredIdProperty().getFieldType());
+			CodecRegistry codecRegistry = mongoDatabaseFactory.getCodecRegistry();
+			ReadDocumentCallback<T> readCallback = new ReadDocumentCallback<>(mongoConverter, entityClass,
+					collectionName, "findOne");
 
-		return doFindOne(collectionName, new Document(idKey, id), null, entityClass, (Collation) null);
+			Document cached = cache.get(entity, collectionName, mappedId, codecRegistry);
+
+			if (cached != null) {
+				return readCallback.doWith(cached);
+			}
+
+			long generation = cache.getGeneration(entity, collectionName);
+			Document mappedQuery = queryOperations.createQueryContext(new BasicQuery(new Document(idKey, id)))
+					.getMappedQuery(entity);
+
+			FindOneCallback callback = new FindOneCallback(mappedQuery, new Document(), FindPublisherPreparer.NO_OP_PREPARER);
+
+			return executeFindOneInternal(callback, document -> {
+
+				cache.put(entity, collectionName, mappedId, document, codecRegistry, generation);
+				return readCallback.doWith(document);
+			}, collectionName);
+		});
 	}
 
 	/*
@@ -993,6 +1110,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	 * @param context can be {@literal null} and will be defaulted to {@link Aggregation#DEFAULT_CONTEXT}.
 	 * @return never {@literal null}.
 	 */
+	@SuppressWarnings("unchecked")
 	protected <O> Flux<O> aggregate(Aggregation aggregation, String collectionName, Class<O> outputType,
 			@Nullable AggregationOperationContext context) {
 
@@ -1012,16 +1130,28 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			LOGGER.debug("Streaming aggregation: {} in collection {}", serializeToJsonSafely(pipeline), collectionName);
 		}
 
-		ReadDocumentCallback<O> readCallback = new ReadDocumentCallback<>(mongoConverter, outputType, collectionName);
-		return execute(collectionName, collection -> aggregateAndMap(collection, pipeline, options, readCallback,
-				aggregation instanceof TypedAggregation ? ((TypedAggregation) aggregation).getInputType() : null));
+		Class<?> inputType = aggregation instanceof TypedAggregation ? ((TypedAggregation) aggregation).getInputType()
+				: null;
+
+		if (isRawDocument(outputType)) {
+			return (Flux<O>) execute(collectionName, collection -> prepareAggregation(
+					collection.aggregate(pipeline, RawBsonDocument.class), options, inputType));
+		}
+
+		ReadDocumentCallback<O> readCallback = new ReadDocumentCallback<>(mongoConverter, outputType, collectionName,
+				"aggregate");
+		return execute(collectionName, collection -> Flux
+				.from(prepareAggregation(collection.aggregate(pipeline, Document.class), options, inputType))
+				.concatMap(readCallback::doWith));
 	}
 
-	private <O> Flux<O> aggregateAndMap(MongoCollection<Document> collection, List<Document> pipeline,
-			AggregationOptions options, ReadDocumentCallback<O> readCallback, @Nullable Class<?> inputType) {
+	/**
+	 * Apply the given {@link AggregationOptions} to the {@link AggregatePublisher}.
+	 */
+	private <D> AggregatePublisher<D> prepareAggregation(AggregatePublisher<D> publisher, AggregationOptions options,
+			@Nullable Class<?> inputType) {
 
-		AggregatePublisher<Document> cursor = collection.aggregate(pipeline, Document.class)
-				.allowDiskUse(options.isAllowDiskUse());
+		AggregatePublisher<D> cursor = publisher.allowDiskUse(options.isAllowDiskUse());
 
 		if (options.getCursorBatchSize() != null) {
 			cursor = cursor.batchSize(options.getCursorBatchSize());
@@ -1037,7 +1167,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			cursor = cursor.maxTime(options.getMaxTime().toMillis(), TimeUnit.MILLISECONDS);
 		}
 
-		return Flux.from(cursor).concatMap(readCallback::doWith);
+		return cursor;
 	}
 
 	/*
@@ -1074,9 +1204,22 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		String distanceField = operations.nearQueryDistanceFieldName(entityClass);
 
 		GeoNearResultDocumentCallback<T> callback = new GeoNearResultDocumentCallback<>(distanceField,
-				new ProjectingReadCallback<>(mongoConverter, entityClass, returnType, collection), near.getMetric());
+				new ProjectingReadCallback<>(mongoConverter, entityClass, returnType, collection, "geoNear"),
+						near.getMetric());
+
+		List<AggregationOperation> pipeline = new ArrayList<>(2);
+		pipeline.add(Aggregation.geoNear(near, distanceField));
+
+		Document fields = queryOperations.createQueryContext(new Query())
+				.getMappedFields(mappingContext.getPersistentEntity(entityClass), returnType, projectionFactory);
+
+		if (!fields.isEmpty()) {
 
-		Aggregation $geoNear = TypedAggregation.newAggregation(entityClass, Aggregation.geoNear(near, distanceField))
+			Document projection = fields.append(distanceField, 1);
+			pipeline.add(context -> new Document("$project", projection));
+		}
+
+		Aggregation $geoNear = TypedAggregation.newAggregation(entityClass, pipeline)
 				.withOptions(AggregationOptions.builder().collation(near.getCollation()).build());
 
 		return aggregate($geoNear, collection, Document.class) //
@@ -1162,12 +1305,13 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 			PersistableEntityModel<S> pem = PersistableEntityModel.of(replacement, collectionName);
 
-			maybeEmitEvent(new BeforeConvertEvent<>(pem.getSource(), pem.getCollection()));
+			maybeEmitEvent(new BeforeConvertEvent<>(pem.getSource(), pem.getCollection()), "findAndReplace");
 
 			return maybeCallBeforeConvert(pem.getSource(), pem.getCollection()).map(pem::mutate).flatMap(it -> {
 				PersistableEntityModel<S> mapped = it
 						.addTargetDocument(operations.forEntity(it.getSource()).toMappedDocument(mongoConverter).getDocument());
-				maybeEmitEvent(new BeforeSaveEvent(mapped.getSource(), mapped.getTarget(), mapped.getCollection()));
+				maybeEmitEvent(new BeforeSaveEvent(mapped.getSource(), mapped.getTarget(), mapped.getCollection()),
+						"findAndReplace");
 
 				return maybeCallBeforeSave(it.getSource(), mapped.getTarget(), mapped.getCollection())
 						.map(potentiallyModified -> PersistableEntityModel.of(potentiallyModified, mapped.getTarget(),
@@ -1177,7 +1321,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 				Mono<T> afterFindAndReplace = doFindAndReplace(it.getCollection(), mappedQuery, mappedFields, mappedSort,
 						queryContext.getCollation(entityType).orElse(null), entityType, it.getTarget(), options, resultType);
 				return afterFindAndReplace.flatMap(saved -> {
-					maybeEmitEvent(new AfterSaveEvent<>(saved, it.getTarget(), it.getCollection()));
+					maybeEmitEvent(new AfterSaveEvent<>(saved, it.getTarget(), it.getCollection()), "findAndReplace");
 					return maybeCallAfterSave(saved, it.getTarget(), it.getCollection());
 				});
 			});
@@ -1321,17 +1465,26 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	protected <T> Mono<T> doInsert(String collectionName, T objectToSave, MongoWriter<Object> writer) {
 
 		return Mono.just(PersistableEntityModel.of(objectToSave, collectionName)) //
-				.doOnNext(it -> maybeEmitEvent(new BeforeConvertEvent<>(it.getSource(), it.getCollection()))) //
+				.doOnNext(it -> maybeEmitEvent(new BeforeConvertEvent<>(it.getSource(), it.getCollection()),
+						"insert")) //
 				.flatMap(it -> maybeCallBeforeConvert(it.getSource(), it.getCollection()).map(it::mutate)) //
 				.map(it -> {
 
 					AdaptibleEntity<T> entity = operations.forEntity(it.getSource(), mongoConverter.getConversionService());
 					entity.assertUpdateableIdIfNotSet();
 
-					PersistableEntityModel<T> model = PersistableEntityModel.of(entity.initializeVersionProperty(),
-							entity.toMappedDocument(writer).getDocument(), it.getCollection());
+					T initialized = entity.initializeVersionProperty();
+
+					long start = startTiming();
+					Document document = entity.toMappedDocument(writer).getDocument();
+					recordTiming(start, OperationPhase.WRITE_CONVERSION, "insert", it.getCollection(),
+							initialized.getClass());
+
+					PersistableEntityModel<T> model = PersistableEntityModel.of(initialized, document,
+							it.getCollection());
 
-					maybeEmitEvent(new BeforeSaveEvent<>(model.getSource(), model.getTarget(), model.getCollection()));
+					maybeEmitEvent(new BeforeSaveEvent<>(model.getSource(), model.getTarget(), model.getCollection()),
+							"insert");
 					return model;
 				})//
 				.flatMap(it -> {
@@ -1342,7 +1495,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 						T saved = operations.forEntity(it.getSource(), mongoConverter.getConversionService())
 								.populateIdIfNecessary(id);
-						maybeEmitEvent(new AfterSaveEvent<>(saved, it.getTarget(), collectionName));
+						maybeEmitEvent(new AfterSaveEvent<>(saved, it.getTarget(), collectionName), "insert");
 						return maybeCallAfterSave(saved, it.getTarget(), collectionName);
 					});
 				});
@@ -1406,7 +1559,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 				.flatMap(uninitialized -> {
 
 					BeforeConvertEvent<T> event = new BeforeConvertEvent<>(uninitialized, collectionName);
-					T toConvert = maybeEmitEvent(event).getSource();
+					T toConvert = maybeEmitEvent(event, "insert").getSource();
 
 					return maybeCallBeforeConvert(toConvert, collectionName).flatMap(it -> {
 
@@ -1414,9 +1567,13 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 						entity.assertUpdateableIdIfNotSet();
 
 						T initialized = entity.initializeVersionProperty();
+
+						long start = startTiming();
 						Document dbDoc = entity.toMappedDocument(writer).getDocument();
+						recordTiming(start, OperationPhase.WRITE_CONVERSION, "insert", collectionName,
+								initialized.getClass());
 
-						maybeEmitEvent(new BeforeSaveEvent<>(initialized, dbDoc, collectionName));
+						maybeEmitEvent(new BeforeSaveEvent<>(initialized, dbDoc, collectionName), "insert");
 
 						return maybeCallBeforeSave(initialized, dbDoc, collectionName).thenReturn(Tuples.of(entity, dbDoc));
 					});
@@ -1435,7 +1592,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			Object id = MappedDocument.of(document).getId();
 
 			T saved = tuple.getT1().populateIdIfNecessary(id);
-			maybeEmitEvent(new AfterSaveEvent<>(saved, document, collectionName));
+			maybeEmitEvent(new AfterSaveEvent<>(saved, document, collectionName), "insert");
 			return maybeCallAfterSave(saved, document, collectionName);
 		});
 	}
@@ -1506,19 +1663,19 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			source.assertUpdateableIdIfNotSet();
 
 			BeforeConvertEvent<T> event = new BeforeConvertEvent<>(toSave, collectionName);
-			T afterEvent = maybeEmitEvent(event).getSource();
+			T afterEvent = maybeEmitEvent(event, "save").getSource();
 
 			return maybeCallBeforeConvert(afterEvent, collectionName).flatMap(toConvert -> {
 
 				MappedDocument mapped = operations.forEntity(toConvert).toMappedDocument(mongoConverter);
 				Document document = mapped.getDocument();
 
-				maybeEmitEvent(new BeforeSaveEvent<>(toConvert, document, collectionName));
+				maybeEmitEvent(new BeforeSaveEvent<>(toConvert, document, collectionName), "save");
 				return maybeCallBeforeSave(toConvert, document, collectionName).flatMap(it -> {
 
 					return doUpdate(collectionName, query, mapped.updateWithoutId(), it.getClass(), false, false)
 							.flatMap(result -> {
-								maybeEmitEvent(new AfterSaveEvent<T>(it, document, collectionName));
+								maybeEmitEvent(new AfterSaveEvent<T>(it, document, collectionName), "save");
 								return maybeCallAfterSave(it, document, collectionName);
 							});
 				});
@@ -1532,20 +1689,24 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		return createMono(collectionName, collection -> {
 
-			T toSave = maybeEmitEvent(new BeforeConvertEvent<T>(objectToSave, collectionName)).getSource();
+			T toSave = maybeEmitEvent(new BeforeConvertEvent<T>(objectToSave, collectionName), "save").getSource();
 
 			return maybeCallBeforeConvert(toSave, collectionName).flatMap(toConvert -> {
 
 				AdaptibleEntity<T> entity = operations.forEntity(toConvert, mongoConverter.getConversionService());
+
+				long start = startTiming();
 				Document dbDoc = entity.toMappedDocument(writer).getDocument();
-				maybeEmitEvent(new BeforeSaveEvent<T>(toConvert, dbDoc, collectionName));
+				recordTiming(start, OperationPhase.WRITE_CONVERSION, "save", collectionName, toConvert.getClass());
+
+				maybeEmitEvent(new BeforeSaveEvent<T>(toConvert, dbDoc, collectionName), "save");
 
 				return maybeCallBeforeSave(toConvert, dbDoc, collectionName).flatMap(it -> {
 
 					return saveDocument(collectionName, dbDoc, it.getClass()).flatMap(id -> {
 
 						T saved = entity.populateIdIfNecessary(id);
-						maybeEmitEvent(new AfterSaveEvent<>(saved, dbDoc, collectionName));
+						maybeEmitEvent(new AfterSaveEvent<>(saved, dbDoc, collectionName), "save");
 						return maybeCallAfterSave(saved, dbDoc, collectionName);
 					});
 				});
@@ -1572,7 +1733,8 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			return collectionToUse.insertOne(document);
 		});
 
-		return Flux.from(execute).last().map(success -> MappedDocument.of(document).getId());
+		return evictingFromEntityCache(Flux.from(execute).last().map(success -> MappedDocument.of(document).getId()),
+				collectionName, () -> MappedDocument.of(document).getIdFilter());
 	}
 
 	protected Flux<ObjectId> insertDocumentList(String collectionName, List<Document> dbDocList) {
@@ -1586,8 +1748,9 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		}
 
 		List<Document> documents = new ArrayList<>();
+		Supplier<Bson> idFilter = () -> MappedDocument.getIdIn(MappedDocument.toIds(documents));
 
-		return execute(collectionName, collection -> {
+		return registerEntityCacheEviction(collectionName, idFilter).thenMany(execute(collectionName, collection -> {
 
 			MongoAction mongoAction = new MongoAction(writeConcern, MongoActionOperation.INSERT_LIST, collectionName, null,
 					null, null);
@@ -1600,11 +1763,14 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		}).flatMap(s -> {
 
+			evictFromEntityCache(collectionName, idFilter.get());
+
 			return Flux.fromStream(documents.stream() //
 					.map(MappedDocument::of) //
 					.filter(it -> it.isIdPresent(ObjectId.class)) //
 					.map(it -> it.getId(ObjectId.class)));
-		});
+		}).doOnError(e -> evictFromEntityCache(collectionName, idFilter.get())) //
+				.doOnCancel(() -> evictFromEntityCache(collectionName, idFilter.get())));
 	}
 
 	private MongoCollection<Document> prepareCollection(MongoCollection<Document> collection,
@@ -1623,7 +1789,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			LOGGER.debug("Saving Document containing fields: " + document.keySet());
 		}
 
-		return createMono(collectionName, collection -> {
+		Mono<Object> save = createMono(collectionName, collection -> {
 
 			MongoAction mongoAction = new MongoAction(writeConcern, MongoActionOperation.SAVE, collectionName, entityClass,
 					document, null);
@@ -1666,6 +1832,8 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			return Mono.from(publisher).map(o -> mapped.getId());
 		});
 
+		return evictingFromEntityCache(save, collectionName, () -> MappedDocument.of(document).getIdFilter());
+
 	}
 
 	/*
@@ -1836,7 +2004,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			}
 		});
 
-		return result.next();
+		return evictingFromEntityCache(result.next(), collectionName, () -> queryObj);
 	}
 
 	private boolean containsVersionProperty(Document document, @Nullable MongoPersistentEntity<?> persistentEntity) {
@@ -1952,9 +2120,9 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 				null, removeQuery);
 		WriteConcern writeConcernToUse = prepareWriteConcern(mongoAction);
 
-		return execute(collectionName, collection -> {
+		Flux<DeleteResult> result = execute(collectionName, collection -> {
 
-			maybeEmitEvent(new BeforeDeleteEvent<>(removeQuery, entityClass, collectionName));
+			maybeEmitEvent(new BeforeDeleteEvent<>(removeQuery, entityClass, collectionName), "remove");
 
 			MongoCollection<Document> collectionToUse = prepareCollection(collection, writeConcernToUse);
 
@@ -1980,8 +2148,11 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 				return collectionToUse.deleteMany(removeQuery, deleteOptions);
 			}
 
-		}).doOnNext(it -> maybeEmitEvent(new AfterDeleteEvent<>(queryObject, entityClass, collectionName))) //
-				.next();
+		});
+
+		return evictingFromEntityCache(result.next(), collectionName, () -> removeQuery) //
+				.doOnNext(it -> maybeEmitEvent(new AfterDeleteEvent<>(queryObject, entityClass, collectionName),
+						"remove"));
 	}
 
 	/*
@@ -1998,7 +2169,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	 */
 	public <T> Flux<T> findAll(Class<T> entityClass, String collectionName) {
 		return executeFindMultiInternal(new FindCallback(null), FindPublisherPreparer.NO_OP_PREPARER,
-				new ReadDocumentCallback<>(mongoConverter, entityClass, collectionName), collectionName);
+				new ReadDocumentCallback<>(mongoConverter, entityClass, collectionName, "find"), collectionName);
 	}
 
 	/*
@@ -2051,10 +2222,13 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 			return executeFindMultiInternal(
 					collection -> new FindCallback(null).doInCollection(collection).cursorType(CursorType.TailableAwait),
-					FindPublisherPreparer.NO_OP_PREPARER, new ReadDocumentCallback<>(mongoConverter, entityClass, collectionName),
+					FindPublisherPreparer.NO_OP_PREPARER, new ReadDocumentCallback<>(mongoConverter, entityClass,
+							collectionName, "tail"),
 					collectionName);
 		}
 
+		assertNoFetchPaths(query);
+
 		return doFind(collectionName, query.getQueryObject(), query.getFieldsObject(), entityClass,
 				new TailingQueryFindPublisherPreparer(query, entityClass));
 	}
@@ -2215,7 +2389,8 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			publisher = collation.map(Collation::toMongoCollation).map(publisher::collation).orElse(publisher);
 
 			return Flux.from(publisher)
-					.concatMap(new ReadDocumentCallback<>(mongoConverter, resultType, inputCollectionName)::doWith);
+					.concatMap(new ReadDocumentCallback<>(mongoConverter, resultType, inputCollectionName,
+							"mapReduce")::doWith);
 		});
 	}
 
@@ -2369,18 +2544,23 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
 
+		long start = startTiming();
 		QueryContext queryContext = queryOperations
 				.createQueryContext(new BasicQuery(query, fields != null ? fields : new Document()));
 		Document mappedFields = queryContext.getMappedFields(entity, entityClass, projectionFactory);
 		Document mappedQuery = queryContext.getMappedQuery(entity);
+		recordTiming(start, OperationPhase.QUERY_MAPPING, "findOne", collectionName, entityClass);
 
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug(String.format("findOne using query: %s fields: %s for class: %s in collection: %s",
 					serializeToJsonSafely(query), mappedFields, entityClass, collectionName));
 		}
 
-		return executeFindOneInternal(new FindOneCallback(mappedQuery, mappedFields, preparer),
-				new ReadDocumentCallback<>(this.mongoConverter, entityClass, collectionName), collectionName);
+		Mono<T> result = executeFindOneInternal(new FindOneCallback(mappedQuery, mappedFields, preparer),
+				new ReadDocumentCallback<>(this.mongoConverter, entityClass, collectionName, "findOne"),
+						collectionName);
+
+		return recordShape(result.flux(), "findOne", collectionName, mappedQuery).next();
 	}
 
 	/**
@@ -2395,7 +2575,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	 */
 	protected <T> Flux<T> doFind(String collectionName, Document query, Document fields, Class<T> entityClass) {
 		return doFind(collectionName, query, fields, entityClass, null,
-				new ReadDocumentCallback<>(this.mongoConverter, entityClass, collectionName));
+				new ReadDocumentCallback<>(this.mongoConverter, entityClass, collectionName, "find"));
 	}
 
 	/**
@@ -2411,10 +2591,16 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	 *          the result set, (apply limits, skips and so on).
 	 * @return the {@link List} of converted objects.
 	 */
+	@SuppressWarnings("unchecked")
 	protected <T> Flux<T> doFind(String collectionName, Document query, Document fields, Class<T> entityClass,
 			FindPublisherPreparer preparer) {
+
+		if (isRawDocument(entityClass)) {
+			return (Flux<T>) doFindRaw(collectionName, query, fields, entityClass, preparer);
+		}
+
 		return doFind(collectionName, query, fields, entityClass, preparer,
-				new ReadDocumentCallback<>(mongoConverter, entityClass, collectionName));
+				new ReadDocumentCallback<>(mongoConverter, entityClass, collectionName, "find"));
 	}
 
 	protected <S, T> Flux<T> doFind(String collectionName, Document query, Document fields, Class<S> entityClass,
@@ -2422,17 +2608,21 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
 
+		long start = startTiming();
 		QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields));
 		Document mappedFields = queryContext.getMappedFields(entity, entityClass, projectionFactory);
 		Document mappedQuery = queryContext.getMappedQuery(entity);
+		recordTiming(start, OperationPhase.QUERY_MAPPING, "find", collectionName, entityClass);
 
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug(String.format("find using query: %s fields: %s for class: %s in collection: %s",
 					serializeToJsonSafely(mappedQuery), mappedFields, entityClass, collectionName));
 		}
 
-		return executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields), preparer, objectCallback,
+		Flux<T> result = executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields), preparer, objectCallback,
 				collectionName);
+
+		return recordShape(result, "find", collectionName, mappedQuery);
 	}
 
 	/**
@@ -2441,22 +2631,101 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	 *
 	 * @since 2.0
 	 */
+	@SuppressWarnings("unchecked")
 	<S, T> Flux<T> doFind(String collectionName, Document query, Document fields, Class<S> sourceClass,
 			Class<T> targetClass, FindPublisherPreparer preparer) {
 
+		if (isRawDocument(targetClass)) {
+			return (Flux<T>) doFindRaw(collectionName, query, fields, sourceClass, preparer);
+		}
+
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(sourceClass);
 
+		long start = startTiming();
 		QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields));
 		Document mappedFields = queryContext.getMappedFields(entity, targetClass, projectionFactory);
 		Document mappedQuery = queryContext.getMappedQuery(entity);
+		recordTiming(start, OperationPhase.QUERY_MAPPING, "find", collectionName, sourceClass);
 
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug("find using query: {} fields: {} for class: {} in collection: {}",
 					serializeToJsonSafely(mappedQuery), mappedFields, sourceClass, collectionName);
 		}
 
-		return executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields), preparer,
-				new ProjectingReadCallback<>(mongoConverter, sourceClass, targetClass, collectionName), collectionName);
+		Flux<T> result = executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields), preparer,
+				new ProjectingReadCallback<>(mongoConverter, sourceClass, targetClass, collectionName, "find"),
+						collectionName);
+
+		return recordShape(result, "find", collectionName, mappedQuery);
+	}
+
+	/**
+	 * Read the results of an ad-hoc query as {@link RawBsonDocument} without decoding them into a {@link Document} and
+	 * without passing them through the {@link MongoConverter}. Query and fields are mapped against the given source type
+	 * if it is a persistent entity.
+	 *
+	 * @since 3.1
+	 */
+	private Flux<RawBsonDocument> doFindRaw(String collectionName, Document query, Document fields,
+			Class<?> sourceClass, FindPublisherPreparer preparer) {
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(sourceClass);
+
+		QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields));
+		Document mappedFields = queryContext.getMappedFields(entity, sourceClass, projectionFactory);
+		Document mappedQuery = queryContext.getMappedQuery(entity);
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("find raw documents using query: {} fields: {} for class: {} in collection: {}",
+					serializeToJsonSafely(mappedQuery), mappedFields, sourceClass, collectionName);
+		}
+
+		return createFlux(collectionName, collection -> initiateRawFind(collection, mappedQuery, mappedFields, preparer));
+	}
+
+	/**
+	 * Initiate a find returning {@link RawBsonDocument}s. {@link QueryFindPublisherPreparer} applies its settings to the
+	 * raw publisher directly. Any other {@link FindPublisherPreparer} is bound to {@link Document} results so these get
+	 * encoded.
+	 */
+	private Publisher<RawBsonDocument> initiateRawFind(MongoCollection<Document> collection, Document query,
+			Document fields, FindPublisherPreparer preparer) {
+
+		if (preparer instanceof QueryFindPublisherPreparer) {
+
+			MongoCollection<Document> collectionToUse = preparer.hasReadPreference()
+					? collection.withReadPreference(preparer.getReadPreference())
+					: collection;
+
+			return ((QueryFindPublisherPreparer) preparer)
+					.doPrepare(collectionToUse.find(query, RawBsonDocument.class).projection(fields));
+		}
+
+		Codec<Document> codec = mongoDatabaseFactory.getCodecRegistry().get(Document.class);
+
+		return Flux.from(preparer.initiateFind(collection, it -> it.find(query, Document.class).projection(fields)))
+				.map(it -> new RawBsonDocument(it, codec));
+	}
+
+	private static boolean isRawDocument(Class<?> type) {
+		return RawBsonDocument.class.equals(type);
+	}
+
+	/**
+	 * Reject {@link Query#getFetchPaths() fetch paths} as references cannot be fetched along with the query using the
+	 * reactive API.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @throws InvalidDataAccessApiUsageException if the {@link Query} declares fetch paths.
+	 * @since 3.1
+	 */
+	static void assertNoFetchPaths(Query query) {
+
+		if (!query.getFetchPaths().isEmpty()) {
+			throw new InvalidDataAccessApiUsageException(
+					String.format("Cannot fetch %s as fetching references is not supported by the reactive API!",
+							query.getFetchPaths()));
+		}
 	}
 
 	private Document getMappedFieldsObject(Document fields, @Nullable MongoPersistentEntity<?> entity,
@@ -2542,9 +2811,14 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
 
-		return executeFindOneInternal(
-				new FindAndRemoveCallback(queryMapper.getMappedObject(query, entity), fields, sort, collation),
-				new ReadDocumentCallback<>(this.mongoConverter, entityClass, collectionName), collectionName);
+		Document mappedQuery = queryMapper.getMappedObject(query, entity);
+
+		return registerEntityCacheEviction(collectionName, () -> mappedQuery)
+				.then(executeFindOneInternal(new FindAndRemoveCallback(mappedQuery, fields, sort, collation),
+						evictingFromEntityCache(collectionName,
+								new ReadDocumentCallback<>(this.mongoConverter, entityClass, collectionName,
+										"findAndRemove")),
+						collectionName));
 	}
 
 	protected <T> Mono<T> doFindAndModify(String collectionName, Document query, Document fields, Document sort,
@@ -2567,10 +2841,13 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 						collectionName));
 			}
 
-			return executeFindOneInternal(
+			return registerEntityCacheEviction(collectionName, () -> mappedQuery).then(executeFindOneInternal(
 					new FindAndModifyCallback(mappedQuery, fields, sort, mappedUpdate,
 							update.getArrayFilters().stream().map(ArrayFilter::asDocument).collect(Collectors.toList()), options),
-					new ReadDocumentCallback<>(this.mongoConverter, entityClass, collectionName), collectionName);
+					evictingFromEntityCache(collectionName,
+							new ReadDocumentCallback<>(this.mongoConverter, entityClass, collectionName,
+									"findAndModify")),
+					collectionName));
 		});
 	}
 
@@ -2604,22 +2881,194 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 						serializeToJsonSafely(replacement), collectionName);
 			}
 
-			return executeFindOneInternal(
+			return registerEntityCacheEviction(collectionName, () -> mappedQuery).then(executeFindOneInternal(
 					new FindAndReplaceCallback(mappedQuery, mappedFields, mappedSort, replacement, collation, options),
-					new ProjectingReadCallback<>(this.mongoConverter, entityType, resultType, collectionName), collectionName);
+					evictingFromEntityCache(collectionName,
+							new ProjectingReadCallback<>(this.mongoConverter, entityType, resultType, collectionName,
+									"findAndReplace")),
+					collectionName));
 
 		});
 	}
 
+	/**
+	 * @return emits {@literal true} if {@link #findById(Object, Class)} may be served from the {@link EntityCache}.
+	 *         Reads within a transaction must neither observe nor populate the cache.
+	 */
+	Mono<Boolean> canReadFromEntityCache() {
+		return ReactiveMongoDatabaseUtils.isTransactionActive(mongoDatabaseFactory).map(active -> !active);
+	}
+
+	private <T> DocumentCallback<T> evictingFromEntityCache(String collectionName, DocumentCallback<T> delegate) {
+
+		return document -> {
+
+			evictFromEntityCache(collectionName, MappedDocument.of(document).hasId()
+					? MappedDocument.of(document).getIdFilter()
+					: null);
+			return delegate.doWith(document);
+		};
+	}
+
+	/**
+	 * Evict documents potentially affected by the given write from the {@link EntityCache} before its result is emitted.
+	 *
+	 * @param write the write to execute.
+	 * @param collectionName must not be {@literal null}.
+	 * @param mappedQuery supplies the mapped query of the write, evaluated once the write has been executed.
+	 * @return the write evicting the cached documents.
+	 * @see #registerEntityCacheEviction(String, Supplier)
+	 */
+	private <T> Mono<T> evictingFromEntityCache(Mono<T> write, String collectionName, Supplier<Bson> mappedQuery) {
+
+		if (this.entityCache == null) {
+			return write;
+		}
+
+		return registerEntityCacheEviction(collectionName, mappedQuery).then(write //
+				.doOnSuccess(it -> evictFromEntityCache(collectionName, mappedQuery.get())) //
+				.doOnError(e -> evictFromEntityCache(collectionName, mappedQuery.get())) //
+				.doOnCancel(() -> evictFromEntityCache(collectionName, mappedQuery.get())));
+	}
+
+	/**
+	 * Register the eviction of documents affected by a write for the completion of the current transaction, if any.
+	 * Reads outside the transaction may cache the previous state of the documents until the transaction is committed.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param mappedQuery supplies the mapped query of the write, evaluated on transaction completion.
+	 * @return a {@link Mono} completing once the eviction has been registered.
+	 */
+	private Mono<Void> registerEntityCacheEviction(String collectionName, Supplier<Bson> mappedQuery) {
+
+		if (this.entityCache == null) {
+			return Mono.empty();
+		}
+
+		return TransactionSynchronizationManager.forCurrentTransaction() //
+				.filter(TransactionSynchronizationManager::isSynchronizationActive) //
+				.doOnNext(it -> it.registerSynchronization(new TransactionSynchronization() {
+
+					@Override
+					public Mono<Void> afterCompletion(int status) {
+						return Mono.fromRunnable(() -> evictFromEntityCache(collectionName, mappedQuery.get()));
+					}
+				})) //
+				.onErrorResume(NoTransactionException.class, e -> Mono.empty()) //
+				.then();
+	}
+
+	/**
+	 * Evict documents potentially affected by a write using the given mapped query from the {@link EntityCache}.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param mappedQuery can be {@literal null} to evict all documents of the collection.
+	 */
+	private void evictFromEntityCache(String collectionName, @Nullable Bson mappedQuery) {
+
+		EntityCache cache = this.entityCache;
+
+		if (cache != null) {
+			cache.evictMatching(collectionName, mappedQuery);
+		}
+	}
+
 	protected <E extends MongoMappingEvent<T>, T> E maybeEmitEvent(E event) {
 
-		if (eventPublisher != null) {
-			eventPublisher.publishEvent(event);
+		eventDelegate.publishEvent(event);
+		return event;
+	}
+
+	/**
+	 * Emit the given event via {@link #maybeEmitEvent(MongoMappingEvent)} timing it for the given operation if
+	 * there are listeners to publish it to.
+	 */
+	private <E extends MongoMappingEvent<T>, T> E maybeEmitEvent(E event, String operation) {
+		return isEventRequired(event.getClass(), EntityLifecycleEventDelegate.getDomainType(event))
+				? emitEvent(event, operation)
+				: event;
+	}
+
+	/**
+	 * Check whether an event of the given type needs to be created at all. That is the case if there are listeners
+	 * applying to it or a subclass overrides {@link #maybeEmitEvent(MongoMappingEvent)}.
+	 */
+	private boolean isEventRequired(Class<?> eventType, @Nullable Class<?> domainType) {
+		return customEventHook || eventDelegate.hasListeners(eventType, domainType);
+	}
+
+	/**
+	 * Emit the given event that is {@link #isEventRequired(Class, Class) required} timing it for the given operation.
+	 */
+	private <E extends MongoMappingEvent<T>, T> E emitEvent(E event, String operation) {
+
+		if (!operationObserver.isEnabled()) {
+			return doEmitEvent(event);
+		}
+
+		long start = startTiming();
+		E result = doEmitEvent(event);
+		recordTiming(start, OperationPhase.EVENTS, operation, event.getCollectionName(),
+				EntityLifecycleEventDelegate.getDomainType(event));
+
+		return result;
+	}
+
+	private <E extends MongoMappingEvent<T>, T> E doEmitEvent(E event) {
+
+		if (customEventHook) {
+			return maybeEmitEvent(event);
+		}
+
+		// listeners have already been checked
+		ApplicationEventPublisher publisher = eventDelegate.getPublisher();
+
+		if (publisher != null) {
+			publisher.publishEvent(event);
 		}
 
 		return event;
 	}
 
+	/**
+	 * Report the time from subscription until termination or cancellation of the given {@link Flux} to the
+	 * {@link QueryShapeCollector}. Returns the source as is if no collector is configured.
+	 */
+	private <T> Flux<T> recordShape(Flux<T> source, String operation, String collectionName, Document query) {
+
+		QueryShapeCollector collector = this.queryShapeCollector;
+
+		if (collector == null) {
+			return source;
+		}
+
+		return Flux.defer(() -> {
+
+			long start = System.nanoTime();
+			return source.doFinally(
+					signal -> collector.record(operation, collectionName, query, null, System.nanoTime() - start));
+		});
+	}
+
+	/**
+	 * @return the {@link System#nanoTime()} to time a phase from or {@literal 0} if the
+	 *         {@link #setOperationObserver(MongoOperationObserver) operation observer} is disabled.
+	 */
+	private long startTiming() {
+		return operationObserver.isEnabled() ? System.nanoTime() : 0L;
+	}
+
+	/**
+	 * Report the time elapsed since the given start to the {@link MongoOperationObserver}, unless timing was disabled.
+	 */
+	private void recordTiming(long start, OperationPhase phase, String operation, String collectionName,
+			@Nullable Class<?> entityType) {
+
+		if (start != 0L) {
+			operationObserver.record(phase, operation, collectionName, entityType, null, System.nanoTime() - start);
+		}
+	}
+
 	protected <T> Mono<T> maybeCallBeforeConvert(T object, String collection) {
 
 		if (entityCallbacks != null) {
@@ -2742,8 +3191,11 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	private <T> Mono<T> executeFindOneInternal(ReactiveCollectionCallback<Document> collectionCallback,
 			DocumentCallback<T> objectCallback, String collectionName) {
 
+		String operation = collectionCallback instanceof FindOneCallback ? "findOne" : "findAndModify";
+
 		return createMono(collectionName,
-				collection -> Mono.from(collectionCallback.doInCollection(collection)).flatMap(objectCallback::doWith));
+				collection -> recordExecution(Flux.from(collectionCallback.doInCollection(collection)), operation,
+						collectionName, objectCallback.getEntityType()).next().flatMap(objectCallback::doWith));
 	}
 
 	/**
@@ -2768,11 +3220,38 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			@Nullable FindPublisherPreparer preparer, DocumentCallback<T> objectCallback, String collectionName) {
 
 		return createFlux(collectionName, collection -> {
-			return Flux.from(preparer.initiateFind(collection, collectionCallback::doInCollection))
+
+			Flux<Document> documents = Flux.from(preparer.initiateFind(collection, collectionCallback::doInCollection));
+			return recordExecution(documents, "find", collectionName, objectCallback.getEntityType())
 					.concatMap(objectCallback::doWith);
 		});
 	}
 
+	/**
+	 * Time the driver execution of the given {@link Flux} from subscription until it emits its first {@link Document}
+	 * or terminates. Returns the source as is if the {@link MongoOperationObserver} is disabled.
+	 */
+	private Flux<Document> recordExecution(Flux<Document> documents, String operation, String collectionName,
+			@Nullable Class<?> entityType) {
+
+		if (!operationObserver.isEnabled()) {
+			return documents;
+		}
+
+		return Flux.defer(() -> {
+
+			long start = System.nanoTime();
+			AtomicBoolean recorded = new AtomicBoolean();
+			Runnable record = () -> {
+				if (recorded.compareAndSet(false, true)) {
+					recordTiming(start, OperationPhase.EXECUTION, operation, collectionName, entityType);
+				}
+			};
+
+			return documents.doOnNext(it -> record.run()).doOnTerminate(record);
+		});
+	}
+
 	/**
 	 * Exception translation {@link Function} intended for {@link Flux#onErrorMap(Function)} usage.
 	 *
@@ -3091,6 +3570,15 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	interface DocumentCallback<T> {
 
 		Mono<T> doWith(Document object);
+
+		/**
+		 * @return the type of the entity read or {@literal null} if not known.
+		 * @since 3.1
+		 */
+		@Nullable
+		default Class<?> getEntityType() {
+			return null;
+		}
 	}
 
 	/**
@@ -3126,8 +3614,13 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		private final EntityReader<? super T, Bson> reader;
 		private final Class<T> type;
 		private final String collectionName;
+		private final String operation;
 
-		ReadDocumentCallback(EntityReader<? super T, Bson> reader, Class<T> type, String collectionName) {
+		/**
+		 * @param operation the name of the operation reading the documents used for timing the read phases.
+		 */
+		ReadDocumentCallback(EntityReader<? super T, Bson> reader, Class<T> type, String collectionName,
+				String operation) {
 
 			Assert.notNull(reader, "EntityReader must not be null!");
 			Assert.notNull(type, "Entity type must not be null!");
@@ -3135,20 +3628,39 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			this.reader = reader;
 			this.type = type;
 			this.collectionName = collectionName;
+			this.operation = operation;
 		}
 
 		public Mono<T> doWith(Document document) {
 
-			maybeEmitEvent(new AfterLoadEvent<>(document, type, collectionName));
+			if (isEventRequired(AfterLoadEvent.class, type)) {
+				emitEvent(new AfterLoadEvent<>(document, type, collectionName), operation);
+			}
 
+			long start = startTiming();
 			T source = reader.read(type, document);
+			recordTiming(start, OperationPhase.READ_CONVERSION, operation, collectionName, type);
+
 			if (source != null) {
-				maybeEmitEvent(new AfterConvertEvent<>(document, source, collectionName));
+
+				if (isEventRequired(AfterConvertEvent.class, source.getClass())) {
+					emitEvent(new AfterConvertEvent<>(document, source, collectionName), operation);
+				}
+
 				return maybeCallAfterConvert(source, document, collectionName);
 			}
 
 			return Mono.empty();
 		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.ReactiveMongoTemplate.DocumentCallback#getEntityType()
+		 */
+		@Override
+		public Class<?> getEntityType() {
+			return type;
+		}
 	}
 
 	/**
@@ -3167,13 +3679,18 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		private final Class<S> entityType;
 		private final Class<T> targetType;
 		private final String collectionName;
+		private final String operation;
 
+		/**
+		 * @param operation the name of the operation reading the documents used for timing the read phases.
+		 */
 		ProjectingReadCallback(EntityReader<Object, Bson> reader, Class<S> entityType, Class<T> targetType,
-				String collectionName) {
+				String collectionName, String operation) {
 			this.reader = reader;
 			this.entityType = entityType;
 			this.targetType = targetType;
 			this.collectionName = collectionName;
+			this.operation = operation;
 		}
 
 		@SuppressWarnings("unchecked")
@@ -3183,19 +3700,37 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 					? entityType //
 					: targetType;
 
-			maybeEmitEvent(new AfterLoadEvent<>(document, typeToRead, collectionName));
+			if (isEventRequired(AfterLoadEvent.class, typeToRead)) {
+				emitEvent(new AfterLoadEvent<>(document, typeToRead, collectionName), operation);
+			}
 
+			long start = startTiming();
 			Object source = reader.read(typeToRead, document);
+			recordTiming(start, OperationPhase.READ_CONVERSION, operation, collectionName, typeToRead);
+
 			Object result = targetType.isInterface() ? projectionFactory.createProjection(targetType, source) : source;
 
 			T castEntity = (T) result;
 			if (castEntity != null) {
-				maybeEmitEvent(new AfterConvertEvent<>(document, castEntity, collectionName));
+
+				if (isEventRequired(AfterConvertEvent.class, castEntity.getClass())) {
+					emitEvent(new AfterConvertEvent<>(document, castEntity, collectionName), operation);
+				}
+
 				return maybeCallAfterConvert(castEntity, document, collectionName);
 			}
 
 			return Mono.empty();
 		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.ReactiveMongoTemplate.DocumentCallback#getEntityType()
+		 */
+		@Override
+		public Class<?> getEntityType() {
+			return entityType;
+		}
 	}
 
 	/**
@@ -3260,9 +3795,24 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			this.type = type;
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.FindPublisherPreparer#prepare(com.mongodb.reactivestreams.client.FindPublisher)
+		 */
 		public FindPublisher<Document> prepare(FindPublisher<Document> findPublisher) {
+			return doPrepare(findPublisher);
+		}
+
+		/**
+		 * Apply the settings of the {@link Query} to the given {@link FindPublisher} regardless of its result type.
+		 *
+		 * @param findPublisher must not be {@literal null}.
+		 * @return never {@literal null}.
+		 * @since 3.1
+		 */
+		<T> FindPublisher<T> doPrepare(FindPublisher<T> findPublisher) {
 
-			FindPublisher<Document> findPublisherToUse = operations.forType(type) //
+			FindPublisher<T> findPublisherToUse = operations.forType(type) //
 					.getCollation(query) //
 					.map(Collation::toMongoCollation) //
 					.map(findPublisher::collation) //
@@ -3335,8 +3885,8 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		}
 
 		@Override
-		public FindPublisher<Document> prepare(FindPublisher<Document> findPublisher) {
-			return super.prepare(findPublisher.cursorType(CursorType.TailableAwait));
+		<T> FindPublisher<T> doPrepare(FindPublisher<T> findPublisher) {
+			return super.doPrepare(findPublisher.cursorType(CursorType.TailableAwait));
 		}
 	}
 
@@ -3392,6 +3942,15 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			// native MongoDB objects that offer methods with ClientSession must not be proxied.
 			return delegate.getMongoDatabase();
 		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.ReactiveMongoTemplate#canReadFromEntityCache()
+		 */
+		@Override
+		Mono<Boolean> canReadFromEntityCache() {
+			return Mono.just(false);
+		}
 	}
 
 	class IndexCreatorEventListener implements ApplicationListener<MappingContextEvent<?, ?>> {
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.util.Assert;
+
+/**
+ * Reactive strategy to determine the tenant the current operation is executed for, typically from the subscriber
+ * {@link reactor.util.context.Context}.
+ *
+ * @since 3.1
+ * @see TenantRoutingReactiveMongoDatabaseFactory
+ */
+@FunctionalInterface
+public interface ReactiveTenantResolver {
+
+	/**
+	 * Resolve the current tenant.
+	 *
+	 * @return a {@link Mono} emitting the tenant identifier or completing empty if the current operation is not bound to
+	 *         a tenant.
+	 */
+	Mono<String> resolveTenant();
+
+	/**
+	 * Create a {@link ReactiveTenantResolver} reading the tenant from the subscriber {@link reactor.util.context.Context}
+	 * using the given key, eg. populated via {@code subscriberContext(Context.of(key, tenant))}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return new instance of {@link ReactiveTenantResolver}.
+	 */
+	static ReactiveTenantResolver fromContext(Object key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return () -> Mono.subscriberContext() //
+				.filter(context -> context.hasKey(key)) //
+				.map(context -> context.get(key).toString());
+	}
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.convert.UpdateMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
+
+/**
+ * Reactive variant of {@link UpdateBuffer} writing merged updates via a single unordered bulk write once the configured
+ * number of documents is reached, in the configured interval or when the buffer is {@link #close() closed}. Flushes
+ * are executed one after another so that the order of updates per document is retained.
+ *
+ * @since 3.1
+ * @see UpdateBuffer
+ */
+public class ReactiveUpdateBuffer {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveUpdateBuffer.class);
+
+	private final ReactiveMongoOperations operations;
+	private final @Nullable Class<?> entityType;
+	private final String collectionName;
+	private final int maxSize;
+	private final boolean upsert;
+	private final UpdateBufferListener listener;
+	private final QueryMapper queryMapper;
+	private final UpdateMapper updateMapper;
+	private final @Nullable Disposable scheduledFlush;
+
+	private final Object monitor = new Object();
+	private final CoalescedUpdates updates = new CoalescedUpdates();
+	private CompletableFuture<Void> lastFlush = CompletableFuture.completedFuture(null);
+	private boolean closed;
+
+	private ReactiveUpdateBuffer(ReactiveUpdateBufferBuilder builder) {
+
+		this.operations = builder.operations;
+		this.entityType = builder.entityType;
+		this.collectionName = builder.collectionName != null ? builder.collectionName
+				: operations.getCollectionName(builder.entityType);
+		this.maxSize = builder.maxSize;
+		this.upsert = builder.upsert;
+		this.listener = builder.listener;
+
+		MongoConverter converter = operations.getConverter();
+		this.queryMapper = new QueryMapper(converter);
+		this.updateMapper = new UpdateMapper(converter);
+
+		this.scheduledFlush = builder.flushInterval != null ? Flux.interval(builder.flushInterval) //
+				.onBackpressureDrop() //
+				.concatMap(tick -> flush().onErrorResume(this::logFlushError)) //
+				.subscribe() : null;
+	}
+
+	/**
+	 * Obtain a new {@link ReactiveUpdateBufferBuilder} for updates of the given entity type.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @return new instance of {@link ReactiveUpdateBufferBuilder}.
+	 */
+	public static ReactiveUpdateBufferBuilder builder(ReactiveMongoOperations operations, Class<?> entityType) {
+
+		Assert.notNull(operations, "ReactiveMongoOperations must not be null!");
+		Assert.notNull(entityType, "EntityType must not be null!");
+
+		return new ReactiveUpdateBufferBuilder(operations, entityType, null);
+	}
+
+	/**
+	 * Obtain a new {@link ReactiveUpdateBufferBuilder} for updates of documents in the given collection.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 * @return new instance of {@link ReactiveUpdateBufferBuilder}.
+	 */
+	public static ReactiveUpdateBufferBuilder builder(ReactiveMongoOperations operations, String collectionName) {
+
+		Assert.notNull(operations, "ReactiveMongoOperations must not be null!");
+		Assert.hasText(collectionName, "CollectionName must not be null or empty!");
+
+		return new ReactiveUpdateBufferBuilder(operations, null, collectionName);
+	}
+
+	/**
+	 * Buffer the given {@link Update} for the document with the given identifier. The returned {@link Mono} completes
+	 * once the update is buffered, or once pending updates are written if the buffer is full. If the update cannot be
+	 * merged with the pending one for the same document, the pending update of the document is written first.
+	 *
+	 * @param id the identifier of the document to update. Must not be {@literal null}.
+	 * @param update must not be {@literal null}.
+	 * @return a {@link Mono} emitting an {@link IllegalStateException} if the buffer has been closed.
+	 */
+	public Mono<Void> update(Object id, Update update) {
+
+		Assert.notNull(id, "Id must not be null!");
+		Assert.notNull(update, "Update must not be null!");
+
+		return Mono.defer(() -> {
+
+			boolean added;
+			boolean full;
+
+			synchronized (monitor) {
+
+				if (closed) {
+					return Mono.error(new IllegalStateException("ReactiveUpdateBuffer has been closed!"));
+				}
+
+				added = updates.add(id, update);
+				full = updates.size() >= maxSize;
+			}
+
+			if (added) {
+				return full ? flush() : Mono.empty();
+			}
+
+			return flush(id).then(update(id, update));
+		});
+	}
+
+	/**
+	 * @return the number of documents with pending updates.
+	 */
+	public int getPendingCount() {
+
+		synchronized (monitor) {
+			return updates.size();
+		}
+	}
+
+	/**
+	 * Write all pending updates once a previous flush has completed. Failed updates are passed on to the
+	 * {@link UpdateBufferListener} and discarded.
+	 *
+	 * @return a {@link Mono} completing once the updates are written.
+	 */
+	public Mono<Void> flush() {
+		return doFlush(CoalescedUpdates::drain);
+	}
+
+	private Mono<Void> flush(Object id) {
+		return doFlush(it -> it.remove(id));
+	}
+
+	private Mono<Void> doFlush(Function<CoalescedUpdates, Map<Object, Update>> drain) {
+
+		return Mono.defer(() -> {
+
+			CompletableFuture<Void> previous;
+			CompletableFuture<Void> done = new CompletableFuture<>();
+
+			synchronized (monitor) {
+
+				previous = lastFlush;
+				lastFlush = done;
+			}
+
+			// drain once the previous flush completed so that cancelling while waiting retains the updates
+			return Mono.fromFuture(previous) //
+					.then(Mono.defer(() -> {
+
+						Map<Object, Update> pending;
+
+						synchronized (monitor) {
+							pending = drain.apply(updates);
+						}
+
+						return pending.isEmpty() ? Mono.<Void> empty() : write(pending);
+					})) //
+					.doFinally(signal -> done.complete(null));
+		});
+	}
+
+	/**
+	 * Stop the scheduled flush and write all pending updates. Further updates are rejected.
+	 *
+	 * @return a {@link Mono} completing once the updates are written.
+	 */
+	public Mono<Void> close() {
+
+		return Mono.defer(() -> {
+
+			synchronized (monitor) {
+				closed = true;
+			}
+
+			if (scheduledFlush != null) {
+				scheduledFlush.dispose();
+			}
+
+			return flush();
+		});
+	}
+
+	private Mono<Void> write(Map<Object, Update> pending) {
+
+		List<Object> mappedIds = new ArrayList<>(pending.size());
+
+		return Mono.defer(() -> {
+
+			listener.beforeFlush(pending);
+
+			MongoPersistentEntity<?> entity = entityType != null
+					? operations.getConverter().getMappingContext().getPersistentEntity(entityType)
+					: null;
+
+			List<WriteModel<Document>> models = new ArrayList<>(pending.size());
+			UpdateOptions options = new UpdateOptions().upsert(upsert);
+
+			pending.forEach((id, update) -> {
+
+				Document filter = queryMapper.getMappedObject(new Document("_id", id), entity);
+				mappedIds.add(filter.get("_id"));
+				models.add(new UpdateOneModel<>(filter, updateMapper.getMappedObject(update.getUpdateObject(), entity),
+						options));
+			});
+
+			return operations
+					.execute(collectionName, collection -> collection.bulkWrite(models, new BulkWriteOptions().ordered(false)))
+					.next();
+		}) //
+				.doOnSuccess(result -> evictFromEntityCache(mappedIds)) //
+				.doOnError(error -> evictFromEntityCache(mappedIds)) //
+				.doOnNext(result -> listener.afterFlush(pending, result)) //
+				.doOnError(error -> listener.onFlushError(CoalescedUpdates.getFailedUpdates(pending, error), error)) //
+				.then();
+	}
+
+	/**
+	 * Evict the updated documents from the {@link EntityCache} of the template as the bulk write is not issued through
+	 * one of its write operations.
+	 */
+	private void evictFromEntityCache(List<Object> mappedIds) {
+
+		EntityCache cache = operations instanceof ReactiveMongoTemplate
+				? ((ReactiveMongoTemplate) operations).getEntityCache()
+				: null;
+
+		if (cache != null && !mappedIds.isEmpty()) {
+			cache.evictMatching(collectionName, new Document("_id", new Document("$in", mappedIds)));
+		}
+	}
+
+	private Mono<Void> logFlushError(Throwable error) {
+
+		if (LOGGER.isWarnEnabled()) {
+			LOGGER.warn(String.format("Failed to write buffered updates to collection %s.", collectionName), error);
+		}
+
+		return Mono.empty();
+	}
+
+	/**
+	 * Builder for creating {@link ReactiveUpdateBuffer}.
+	 */
+	public static class ReactiveUpdateBufferBuilder {
+
+		private final ReactiveMongoOperations operations;
+		private final @Nullable Class<?> entityType;
+		private final @Nullable String collectionName;
+		private int maxSize = 1000;
+		private boolean upsert;
+		private UpdateBufferListener listener = new UpdateBufferListener() {};
+		private @Nullable Duration flushInterval;
+
+		private ReactiveUpdateBufferBuilder(ReactiveMongoOperations operations, @Nullable Class<?> entityType,
+				@Nullable String collectionName) {
+
+			this.operations = operations;
+			this.entityType = entityType;
+			this.collectionName = collectionName;
+		}
+
+		/**
+		 * Set the number of documents with pending updates that triggers a flush. Defaults to {@literal 1000}.
+		 *
+		 * @param maxSize must be greater than zero.
+		 * @return this.
+		 */
+		public ReactiveUpdateBufferBuilder maxSize(int maxSize) {
+
+			Assert.isTrue(maxSize > 0, "Max size must be greater than zero!");
+
+			this.maxSize = maxSize;
+			return this;
+		}
+
+		/**
+		 * Write pending updates in the given interval. By default updates are only written when the buffer is full, on
+		 * {@link ReactiveUpdateBuffer#flush()} and on {@link ReactiveUpdateBuffer#close()}.
+		 *
+		 * @param flushInterval must not be {@literal null}, zero or negative.
+		 * @return this.
+		 */
+		public ReactiveUpdateBufferBuilder flushInterval(Duration flushInterval) {
+
+			Assert.notNull(flushInterval, "Flush interval must not be null!");
+			Assert.isTrue(!flushInterval.isNegative() && !flushInterval.isZero(), "Flush interval must be positive!");
+
+			this.flushInterval = flushInterval;
+			return this;
+		}
+
+		/**
+		 * Insert documents that do not exist.
+		 *
+		 * @return this.
+		 */
+		public ReactiveUpdateBufferBuilder upsert() {
+
+			this.upsert = true;
+			return this;
+		}
+
+		/**
+		 * Set the {@link UpdateBufferListener} to notify on flush.
+		 *
+		 * @param listener must not be {@literal null}.
+		 * @return this.
+		 */
+		public ReactiveUpdateBufferBuilder listener(UpdateBufferListener listener) {
+
+			Assert.notNull(listener, "Listener must not be null!");
+
+			this.listener = listener;
+			return this;
+		}
+
+		/**
+		 * Create the {@link ReactiveUpdateBuffer} and start the scheduled flush if configured.
+		 *
+		 * @return new instance of {@link ReactiveUpdateBuffer}.
+		 */
+		public ReactiveUpdateBuffer build() {
+			return new ReactiveUpdateBuffer(this);
+		}
+	}
+}
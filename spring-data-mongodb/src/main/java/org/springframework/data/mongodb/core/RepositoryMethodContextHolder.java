@@ -0,0 +1,61 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Holder binding the repository query method currently executed to the calling thread so that {@link MongoTemplate}
+ * can attribute the phases reported to its {@link MongoOperationObserver} to the method. Bindings are established via
+ * {@link MongoOperationObserver#withRepositoryMethod(String, java.util.function.Supplier)} only.
+ *
+ * @since 3.1
+ */
+final class RepositoryMethodContextHolder {
+
+	private static final ThreadLocal<String> CURRENT_METHOD = new ThreadLocal<>();
+
+	private RepositoryMethodContextHolder() {}
+
+	/**
+	 * @return the name of the repository method executed by the current thread. {@literal null} if none.
+	 */
+	@Nullable
+	static String getCurrentMethod() {
+		return CURRENT_METHOD.get();
+	}
+
+	/**
+	 * Bind the given repository method to the current thread.
+	 *
+	 * @param method can be {@literal null} to remove the binding.
+	 * @return the previously bound repository method to be restored via {@link #setCurrentMethod(String)} once done.
+	 *         Can be {@literal null}.
+	 */
+	@Nullable
+	static String setCurrentMethod(@Nullable String method) {
+
+		String previous = CURRENT_METHOD.get();
+
+		if (method == null) {
+			CURRENT_METHOD.remove();
+		} else {
+			CURRENT_METHOD.set(method);
+		}
+
+		return previous;
+	}
+}
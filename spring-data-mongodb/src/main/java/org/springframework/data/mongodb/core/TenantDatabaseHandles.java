@@ -0,0 +1,292 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.data.mongodb.core.TenantRoutingStatistics.TenantStatistics;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Size bounded cache of database handles by database name along with the bookkeeping of the tenants routed to them.
+ * Lookups of cached handles do not lock but merely mark the handle as referenced. Once the cache exceeds its size,
+ * handles are evicted in the order they were created, giving referenced ones a second chance. This approximates
+ * evicting the least recently used handles at constant amortized cost per miss. Tenants are retained for the lifetime
+ * of the cache, so that their statistics and initialization state survive the eviction of their database handle.
+ *
+ * @param <D> the database handle type.
+ * @since 3.1
+ */
+class TenantDatabaseHandles<D> {
+
+	static final int DEFAULT_MAX_SIZE = 1000;
+
+	private final Function<String, D> databaseFactory;
+	private final ConcurrentHashMap<String, Handle<D>> handles = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, Tenant> tenants = new ConcurrentHashMap<>();
+	private final Queue<Handle<D>> evictionQueue = new ArrayDeque<>();
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	private volatile Function<String, String> databaseNaming = Function.identity();
+	private volatile int maxSize = DEFAULT_MAX_SIZE;
+
+	/**
+	 * @param databaseFactory creates the handle for a given database name.
+	 */
+	TenantDatabaseHandles(Function<String, D> databaseFactory) {
+		this.databaseFactory = databaseFactory;
+	}
+
+	void setDatabaseNaming(Function<String, String> databaseNaming) {
+
+		Assert.notNull(databaseNaming, "Database naming function must not be null!");
+
+		this.databaseNaming = databaseNaming;
+		this.tenants.clear();
+	}
+
+	void setMaxSize(int maxSize) {
+
+		Assert.isTrue(maxSize > 0, "Max size must be greater than zero!");
+
+		this.maxSize = maxSize;
+
+		synchronized (evictionQueue) {
+			evictIfNecessary();
+		}
+	}
+
+	/**
+	 * Obtain the bookkeeping of the given tenant.
+	 *
+	 * @param tenant must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	Tenant getTenant(String tenant) {
+
+		Tenant existing = tenants.get(tenant);
+		return existing != null ? existing : tenants.computeIfAbsent(tenant, it -> {
+
+			String databaseName = databaseNaming.apply(it);
+			Assert.hasText(databaseName, () -> String.format("No database name for tenant %s!", it));
+
+			return new Tenant(it, databaseName);
+		});
+	}
+
+	/**
+	 * Obtain the cached handle of the given database or create and cache one.
+	 *
+	 * @param databaseName must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	D getDatabase(String databaseName) {
+
+		Handle<D> handle = handles.get(databaseName);
+
+		if (handle != null) {
+
+			hits.increment();
+
+			// avoid writing to the shared handle on every hit
+			if (!handle.referenced) {
+				handle.referenced = true;
+			}
+
+			return handle.database;
+		}
+
+		synchronized (evictionQueue) {
+
+			handle = handles.get(databaseName);
+
+			if (handle == null) {
+
+				misses.increment();
+				handle = new Handle<>(databaseName, databaseFactory.apply(databaseName));
+				handles.put(databaseName, handle);
+				evictionQueue.offer(handle);
+				evictIfNecessary();
+			}
+
+			return handle.database;
+		}
+	}
+
+	/**
+	 * Drop all cached handles, eg. because the settings applied to them changed.
+	 */
+	void clear() {
+
+		synchronized (evictionQueue) {
+
+			handles.clear();
+			evictionQueue.clear();
+		}
+	}
+
+	TenantRoutingStatistics getStatistics() {
+
+		Map<String, TenantStatistics> statistics = new LinkedHashMap<>(tenants.size());
+
+		for (Tenant tenant : tenants.values()) {
+			statistics.put(tenant.getId(), new TenantStatistics(tenant.getId(), tenant.getDatabaseName(),
+					tenant.lookups.sum(), tenant.isInitialized()));
+		}
+
+		return new TenantRoutingStatistics(hits.sum(), misses.sum(), evictions.sum(), handles.size(), statistics);
+	}
+
+	/**
+	 * Must be called holding the lock on the {@link #evictionQueue}.
+	 */
+	private void evictIfNecessary() {
+
+		while (handles.size() > maxSize) {
+
+			Handle<D> eldest = evictionQueue.poll();
+
+			if (eldest == null) {
+				return;
+			}
+
+			if (eldest.referenced) {
+
+				eldest.referenced = false;
+				evictionQueue.offer(eldest);
+				continue;
+			}
+
+			handles.remove(eldest.databaseName);
+			evictions.increment();
+		}
+	}
+
+	private static class Handle<D> {
+
+		private final String databaseName;
+		private final D database;
+		private volatile boolean referenced;
+
+		Handle(String databaseName, D database) {
+
+			this.databaseName = databaseName;
+			this.database = database;
+		}
+	}
+
+	/**
+	 * A tenant along with the name of its database, its usage and initialization state.
+	 */
+	static class Tenant {
+
+		private final String id;
+		private final String databaseName;
+		private final LongAdder lookups = new LongAdder();
+		private volatile boolean initialized;
+		private @Nullable Thread initializingThread;
+		private @Nullable Object initialization;
+
+		Tenant(String id, String databaseName) {
+
+			this.id = id;
+			this.databaseName = databaseName;
+		}
+
+		String getId() {
+			return id;
+		}
+
+		String getDatabaseName() {
+			return databaseName;
+		}
+
+		/**
+		 * Record a lookup of the tenant database.
+		 */
+		void recordLookup() {
+			lookups.increment();
+		}
+
+		boolean isInitialized() {
+			return initialized;
+		}
+
+		void markInitialized() {
+			this.initialized = true;
+		}
+
+		/**
+		 * Run the given initialization unless the tenant is initialized already. Concurrent callers wait for the
+		 * initialization to complete. Calls issued by the initialization itself, eg. through a template using the same
+		 * factory, skip the initialization in progress. A failed initialization is attempted again on the next call.
+		 */
+		void initialize(Runnable initialization) {
+
+			if (initialized) {
+				return;
+			}
+
+			synchronized (this) {
+
+				if (initialized || initializingThread == Thread.currentThread()) {
+					return;
+				}
+
+				initializingThread = Thread.currentThread();
+
+				try {
+
+					initialization.run();
+					initialized = true;
+				} finally {
+					initializingThread = null;
+				}
+			}
+		}
+
+		/**
+		 * Obtain the pending initialization or register the one supplied. Used by reactive initializations that complete
+		 * asynchronously.
+		 */
+		@SuppressWarnings("unchecked")
+		synchronized <T> T getOrStartInitialization(Function<Tenant, T> initialization) {
+
+			if (this.initialization == null) {
+				this.initialization = initialization.apply(this);
+			}
+
+			return (T) this.initialization;
+		}
+
+		/**
+		 * Discard the pending initialization, eg. because it failed.
+		 */
+		synchronized void resetInitialization() {
+			this.initialization = null;
+		}
+	}
+}
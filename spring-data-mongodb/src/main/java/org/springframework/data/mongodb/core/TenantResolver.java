@@ -0,0 +1,38 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Strategy to determine the tenant the current operation is executed for, eg. from a thread bound holder populated per
+ * request or from the attributes of the current session. Called for every database access, so implementations should
+ * be cheap.
+ *
+ * @since 3.1
+ * @see TenantRoutingMongoDatabaseFactory
+ */
+@FunctionalInterface
+public interface TenantResolver {
+
+	/**
+	 * Resolve the current tenant.
+	 *
+	 * @return the tenant identifier or {@literal null} if the current operation is not bound to a tenant.
+	 */
+	@Nullable
+	String resolveTenant();
+}
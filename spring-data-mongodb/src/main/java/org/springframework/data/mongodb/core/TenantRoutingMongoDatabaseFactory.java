@@ -0,0 +1,190 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.TenantDatabaseHandles.Tenant;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoDatabase;
+
+/**
+ * {@link org.springframework.data.mongodb.MongoDatabaseFactory} routing {@link #getMongoDatabase()} to the database
+ * of the tenant determined by a {@link TenantResolver}. Operations not bound to a tenant use the default database.
+ * <p>
+ * {@link MongoDatabase} handles, including the configured {@link WriteConcern}, are created once per database and kept
+ * in a size bounded cache that evicts the least recently used handles. An optional tenant initializer, eg. creating
+ * indexes, runs lazily when a tenant database is used for the first time instead of for all tenants on startup.
+ * <p>
+ * The tenant is resolved on every call of {@link #getMongoDatabase()}. Session bound factories obtained via
+ * {@link #withSession(ClientSession)} route the same way.
+ *
+ * @since 3.1
+ */
+public class TenantRoutingMongoDatabaseFactory extends MongoDatabaseFactorySupport<MongoClient>
+		implements DisposableBean {
+
+	private final TenantResolver tenantResolver;
+	private final TenantDatabaseHandles<MongoDatabase> databases;
+
+	private @Nullable BiConsumer<String, MongoDatabase> tenantInitializer;
+
+	/**
+	 * Create a new {@link TenantRoutingMongoDatabaseFactory}.
+	 *
+	 * @param mongoClient must not be {@literal null}.
+	 * @param defaultDatabaseName the database to use if no tenant can be resolved. Must not be {@literal null} or empty.
+	 * @param tenantResolver must not be {@literal null}.
+	 */
+	public TenantRoutingMongoDatabaseFactory(MongoClient mongoClient, String defaultDatabaseName,
+			TenantResolver tenantResolver) {
+
+		super(mongoClient, defaultDatabaseName, false, new MongoExceptionTranslator());
+
+		Assert.notNull(tenantResolver, "TenantResolver must not be null!");
+
+		this.tenantResolver = tenantResolver;
+		this.databases = new TenantDatabaseHandles<>(this::createMongoDatabase);
+	}
+
+	/**
+	 * Configure the function deriving the database name from the tenant identifier. Defaults to using the tenant
+	 * identifier as is.
+	 *
+	 * @param databaseNaming must not be {@literal null}.
+	 */
+	public void setDatabaseNaming(Function<String, String> databaseNaming) {
+		databases.setDatabaseNaming(databaseNaming);
+	}
+
+	/**
+	 * Configure the maximum number of {@link MongoDatabase} handles to cache. Defaults to {@literal 1000}.
+	 *
+	 * @param maxCachedDatabases must be greater than zero.
+	 */
+	public void setMaxCachedDatabases(int maxCachedDatabases) {
+		databases.setMaxSize(maxCachedDatabases);
+	}
+
+	/**
+	 * Configure a callback invoked with the tenant identifier and its {@link MongoDatabase} when the tenant is routed to
+	 * for the first time, eg. to create indexes. Concurrent operations of the same tenant wait for the initializer to
+	 * complete. If the initializer fails, the operation fails and initialization is attempted again on next use.
+	 * Operations issued by the initializer itself, eg. via a template using this factory, use the tenant database
+	 * without waiting for the initialization.
+	 *
+	 * @param tenantInitializer can be {@literal null}.
+	 */
+	public void setTenantInitializer(@Nullable BiConsumer<String, MongoDatabase> tenantInitializer) {
+		this.tenantInitializer = tenantInitializer;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoDatabaseFactorySupport#setWriteConcern(com.mongodb.WriteConcern)
+	 */
+	@Override
+	public void setWriteConcern(WriteConcern writeConcern) {
+
+		super.setWriteConcern(writeConcern);
+		databases.clear();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoDatabaseFactorySupport#getMongoDatabase()
+	 */
+	@Override
+	public MongoDatabase getMongoDatabase() throws DataAccessException {
+
+		String tenantId = tenantResolver.resolveTenant();
+
+		if (tenantId == null) {
+			return getMongoDatabase(getDefaultDatabaseName());
+		}
+
+		Tenant tenant = databases.getTenant(tenantId);
+		tenant.recordLookup();
+
+		MongoDatabase database = databases.getDatabase(tenant.getDatabaseName());
+
+		BiConsumer<String, MongoDatabase> initializer = this.tenantInitializer;
+		if (initializer != null && !tenant.isInitialized()) {
+			tenant.initialize(() -> initializer.accept(tenantId, database));
+		}
+
+		return database;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoDatabaseFactorySupport#getMongoDatabase(java.lang.String)
+	 */
+	@Override
+	public MongoDatabase getMongoDatabase(String dbName) throws DataAccessException {
+
+		Assert.hasText(dbName, "Database name must not be empty!");
+
+		return databases.getDatabase(dbName);
+	}
+
+	/**
+	 * @return a snapshot of the handle cache and per tenant usage.
+	 */
+	public TenantRoutingStatistics getStatistics() {
+		return databases.getStatistics();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.MongoDatabaseFactory#getSession(com.mongodb.ClientSessionOptions)
+	 */
+	@Override
+	public ClientSession getSession(ClientSessionOptions options) {
+		return getMongoClient().startSession(options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoDatabaseFactorySupport#closeClient()
+	 */
+	@Override
+	protected void closeClient() {
+		getMongoClient().close();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoDatabaseFactorySupport#doGetMongoDatabase(java.lang.String)
+	 */
+	@Override
+	protected MongoDatabase doGetMongoDatabase(String dbName) {
+		return getMongoClient().getDatabase(dbName);
+	}
+
+	private MongoDatabase createMongoDatabase(String dbName) {
+		return super.getMongoDatabase(dbName);
+	}
+}
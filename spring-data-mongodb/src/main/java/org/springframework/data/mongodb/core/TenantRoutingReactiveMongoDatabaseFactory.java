@@ -0,0 +1,188 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.TenantDatabaseHandles.Tenant;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.mongodb.WriteConcern;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+
+/**
+ * {@link org.springframework.data.mongodb.ReactiveMongoDatabaseFactory} routing {@link #getMongoDatabase()} to the
+ * database of the tenant determined by a {@link ReactiveTenantResolver}, typically from the subscriber
+ * {@link reactor.util.context.Context}. Operations not bound to a tenant use the default database.
+ * <p>
+ * {@link MongoDatabase} handles, including the configured {@link WriteConcern}, are created once per database and kept
+ * in a size bounded cache that evicts the least recently used handles. An optional tenant initializer, eg. creating
+ * indexes, runs lazily when a tenant database is used for the first time instead of for all tenants on startup.
+ *
+ * @since 3.1
+ * @see TenantRoutingMongoDatabaseFactory
+ */
+public class TenantRoutingReactiveMongoDatabaseFactory extends SimpleReactiveMongoDatabaseFactory {
+
+	private static final String INITIALIZING_TENANT = TenantRoutingReactiveMongoDatabaseFactory.class.getName()
+			+ ".INITIALIZING_TENANT";
+
+	private final String defaultDatabaseName;
+	private final ReactiveTenantResolver tenantResolver;
+	private final TenantDatabaseHandles<Mono<MongoDatabase>> databases;
+
+	private @Nullable BiFunction<String, MongoDatabase, ? extends Publisher<?>> tenantInitializer;
+
+	/**
+	 * Create a new {@link TenantRoutingReactiveMongoDatabaseFactory}.
+	 *
+	 * @param mongoClient must not be {@literal null}.
+	 * @param defaultDatabaseName the database to use if no tenant can be resolved. Must not be {@literal null} or empty.
+	 * @param tenantResolver must not be {@literal null}.
+	 */
+	public TenantRoutingReactiveMongoDatabaseFactory(MongoClient mongoClient, String defaultDatabaseName,
+			ReactiveTenantResolver tenantResolver) {
+
+		super(mongoClient, defaultDatabaseName);
+
+		Assert.notNull(tenantResolver, "ReactiveTenantResolver must not be null!");
+
+		this.defaultDatabaseName = defaultDatabaseName;
+		this.tenantResolver = tenantResolver;
+		this.databases = new TenantDatabaseHandles<>(this::createMongoDatabase);
+	}
+
+	/**
+	 * Configure the function deriving the database name from the tenant identifier. Defaults to using the tenant
+	 * identifier as is.
+	 *
+	 * @param databaseNaming must not be {@literal null}.
+	 */
+	public void setDatabaseNaming(Function<String, String> databaseNaming) {
+		databases.setDatabaseNaming(databaseNaming);
+	}
+
+	/**
+	 * Configure the maximum number of {@link MongoDatabase} handles to cache. Defaults to {@literal 1000}.
+	 *
+	 * @param maxCachedDatabases must be greater than zero.
+	 */
+	public void setMaxCachedDatabases(int maxCachedDatabases) {
+		databases.setMaxSize(maxCachedDatabases);
+	}
+
+	/**
+	 * Configure a callback invoked with the tenant identifier and its {@link MongoDatabase} when the tenant is routed to
+	 * for the first time, eg. to create indexes. Operations of the tenant are deferred until the returned
+	 * {@link Publisher} completes. If it fails, the operation fails and initialization is attempted again on next use.
+	 * Operations composed into the returned {@link Publisher}, eg. via a template using this factory, use the tenant
+	 * database without waiting for the initialization.
+	 *
+	 * @param tenantInitializer can be {@literal null}.
+	 */
+	public void setTenantInitializer(
+			@Nullable BiFunction<String, MongoDatabase, ? extends Publisher<?>> tenantInitializer) {
+		this.tenantInitializer = tenantInitializer;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.SimpleReactiveMongoDatabaseFactory#setWriteConcern(com.mongodb.WriteConcern)
+	 */
+	@Override
+	public void setWriteConcern(WriteConcern writeConcern) {
+
+		super.setWriteConcern(writeConcern);
+		databases.clear();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.SimpleReactiveMongoDatabaseFactory#getMongoDatabase()
+	 */
+	@Override
+	public Mono<MongoDatabase> getMongoDatabase() throws DataAccessException {
+
+		return tenantResolver.resolveTenant() //
+				.flatMap(this::getTenantDatabase) //
+				.switchIfEmpty(Mono.defer(() -> getMongoDatabase(defaultDatabaseName)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.SimpleReactiveMongoDatabaseFactory#getMongoDatabase(java.lang.String)
+	 */
+	@Override
+	public Mono<MongoDatabase> getMongoDatabase(String dbName) throws DataAccessException {
+
+		Assert.hasText(dbName, "Database name must not be empty!");
+
+		return databases.getDatabase(dbName);
+	}
+
+	/**
+	 * @return a snapshot of the handle cache and per tenant usage.
+	 */
+	public TenantRoutingStatistics getStatistics() {
+		return databases.getStatistics();
+	}
+
+	private Mono<MongoDatabase> getTenantDatabase(String tenantId) {
+
+		Tenant tenant = databases.getTenant(tenantId);
+		tenant.recordLookup();
+
+		Mono<MongoDatabase> database = databases.getDatabase(tenant.getDatabaseName());
+		BiFunction<String, MongoDatabase, ? extends Publisher<?>> initializer = this.tenantInitializer;
+
+		if (initializer == null || tenant.isInitialized()) {
+			return database;
+		}
+
+		return Mono.subscriberContext().flatMap(context -> {
+
+			// operations issued by the initializer itself must not wait for the initialization in progress
+			if (tenantId.equals(context.getOrDefault(INITIALIZING_TENANT, null))) {
+				return database;
+			}
+
+			return database.flatMap(it -> initialize(tenant, it, initializer).thenReturn(it));
+		});
+	}
+
+	private static Mono<Void> initialize(Tenant tenant, MongoDatabase database,
+			BiFunction<String, MongoDatabase, ? extends Publisher<?>> initializer) {
+
+		return tenant.getOrStartInitialization(it -> Mono.defer(() -> Mono.from(initializer.apply(it.getId(), database))) //
+				.subscriberContext(Context.of(INITIALIZING_TENANT, it.getId())) //
+				.then() //
+				.doOnSuccess(ignore -> it.markInitialized()) //
+				.doOnError(ignore -> it.resetInitialization()) //
+				.cache());
+	}
+
+	private Mono<MongoDatabase> createMongoDatabase(String dbName) {
+		return super.getMongoDatabase(dbName).cache();
+	}
+}
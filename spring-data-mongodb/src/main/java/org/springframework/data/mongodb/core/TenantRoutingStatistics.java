@@ -0,0 +1,158 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Snapshot of the database handle cache and per tenant usage of a tenant routing database factory.
+ *
+ * @since 3.1
+ * @see TenantRoutingMongoDatabaseFactory#getStatistics()
+ * @see TenantRoutingReactiveMongoDatabaseFactory#getStatistics()
+ */
+public class TenantRoutingStatistics {
+
+	private final long hitCount;
+	private final long missCount;
+	private final long evictionCount;
+	private final int size;
+	private final Map<String, TenantStatistics> tenants;
+
+	TenantRoutingStatistics(long hitCount, long missCount, long evictionCount, int size,
+			Map<String, TenantStatistics> tenants) {
+
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.evictionCount = evictionCount;
+		this.size = size;
+		this.tenants = Collections.unmodifiableMap(tenants);
+	}
+
+	/**
+	 * @return the number of database lookups served from the handle cache.
+	 */
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return the number of database lookups that had to create a new handle.
+	 */
+	public long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * @return the number of handles evicted due to size restrictions.
+	 */
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * @return the number of database handles currently held.
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * @return the statistics of all tenants seen so far by tenant identifier.
+	 */
+	public Map<String, TenantStatistics> getTenants() {
+		return tenants;
+	}
+
+	/**
+	 * @param tenant the tenant identifier.
+	 * @return the statistics of the given tenant or {@literal null} if the tenant has not been seen so far.
+	 */
+	@Nullable
+	public TenantStatistics getTenant(String tenant) {
+		return tenants.get(tenant);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("TenantRoutingStatistics[hits=%s, misses=%s, evictions=%s, size=%s, tenants=%s]", hitCount,
+				missCount, evictionCount, size, tenants.size());
+	}
+
+	/**
+	 * Usage of a single tenant.
+	 */
+	public static class TenantStatistics {
+
+		private final String tenant;
+		private final String databaseName;
+		private final long lookupCount;
+		private final boolean initialized;
+
+		TenantStatistics(String tenant, String databaseName, long lookupCount, boolean initialized) {
+
+			this.tenant = tenant;
+			this.databaseName = databaseName;
+			this.lookupCount = lookupCount;
+			this.initialized = initialized;
+		}
+
+		/**
+		 * @return the tenant identifier.
+		 */
+		public String getTenant() {
+			return tenant;
+		}
+
+		/**
+		 * @return the name of the database the tenant is routed to.
+		 */
+		public String getDatabaseName() {
+			return databaseName;
+		}
+
+		/**
+		 * @return the number of times the tenant database has been obtained.
+		 */
+		public long getLookupCount() {
+			return lookupCount;
+		}
+
+		/**
+		 * @return {@literal true} if the tenant initializer completed successfully for the tenant.
+		 */
+		public boolean isInitialized() {
+			return initialized;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("TenantStatistics[tenant=%s, database=%s, lookups=%s, initialized=%s]", tenant,
+					databaseName, lookupCount, initialized);
+		}
+	}
+}
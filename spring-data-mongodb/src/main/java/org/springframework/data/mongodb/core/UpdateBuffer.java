@@ -0,0 +1,350 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.mongodb.bulk.BulkWriteResult;
+
+/**
+ * Write-behind buffer for frequent updates of a small set of documents, such as counters or last-seen timestamps.
+ * Updates are buffered by the identifier of the document they target and merged where possible: {@literal $inc}
+ * values are summed up, {@literal $max} and {@literal $min} values folded and {@literal $set} values overwritten. The
+ * merged updates are written via a single unordered {@link BulkOperations bulk write} once the configured number of
+ * documents is reached, in the configured interval or when the buffer is {@link #close() closed}.
+ * <p />
+ * An update that cannot be merged with the pending one for the same document causes the pending updates to be written
+ * first so that the order of updates per document is retained. Flushes triggered by {@link #update(Object, Update)}
+ * run on the calling thread and block concurrent callers exceeding the limit until completed. Buffered updates are
+ * lost on process failure. Use an {@link UpdateBufferListener} to persist or recover them.
+ *
+ * @since 3.1
+ * @see ReactiveUpdateBuffer
+ */
+public class UpdateBuffer implements AutoCloseable {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(UpdateBuffer.class);
+
+	private final MongoOperations operations;
+	private final @Nullable Class<?> entityType;
+	private final String collectionName;
+	private final int maxSize;
+	private final boolean upsert;
+	private final UpdateBufferListener listener;
+	private final @Nullable ScheduledFuture<?> scheduledFlush;
+
+	private final Object monitor = new Object();
+	private final ReentrantLock flushLock = new ReentrantLock();
+	private final CoalescedUpdates updates = new CoalescedUpdates();
+	private volatile boolean closed;
+
+	private UpdateBuffer(UpdateBufferBuilder builder) {
+
+		this.operations = builder.operations;
+		this.entityType = builder.entityType;
+		this.collectionName = builder.collectionName != null ? builder.collectionName
+				: operations.getCollectionName(builder.entityType);
+		this.maxSize = builder.maxSize;
+		this.upsert = builder.upsert;
+		this.listener = builder.listener;
+
+		if (builder.scheduler != null) {
+
+			long interval = builder.flushInterval.toNanos();
+			this.scheduledFlush = builder.scheduler.scheduleWithFixedDelay(this::flushQuietly, interval, interval,
+					TimeUnit.NANOSECONDS);
+		} else {
+			this.scheduledFlush = null;
+		}
+	}
+
+	/**
+	 * Obtain a new {@link UpdateBufferBuilder} for updates of the given entity type.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @return new instance of {@link UpdateBufferBuilder}.
+	 */
+	public static UpdateBufferBuilder builder(MongoOperations operations, Class<?> entityType) {
+
+		Assert.notNull(operations, "MongoOperations must not be null!");
+		Assert.notNull(entityType, "EntityType must not be null!");
+
+		return new UpdateBufferBuilder(operations, entityType, null);
+	}
+
+	/**
+	 * Obtain a new {@link UpdateBufferBuilder} for updates of documents in the given collection.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 * @return new instance of {@link UpdateBufferBuilder}.
+	 */
+	public static UpdateBufferBuilder builder(MongoOperations operations, String collectionName) {
+
+		Assert.notNull(operations, "MongoOperations must not be null!");
+		Assert.hasText(collectionName, "CollectionName must not be null or empty!");
+
+		return new UpdateBufferBuilder(operations, null, collectionName);
+	}
+
+	/**
+	 * Buffer the given {@link Update} for the document with the given identifier. Writes pending updates if the buffer
+	 * is full. Writes the pending update of the document if the update cannot be merged with it.
+	 *
+	 * @param id the identifier of the document to update. Must not be {@literal null}.
+	 * @param update must not be {@literal null}.
+	 * @throws IllegalStateException if the buffer has been closed.
+	 */
+	public void update(Object id, Update update) {
+
+		Assert.notNull(id, "Id must not be null!");
+		Assert.notNull(update, "Update must not be null!");
+
+		while (true) {
+
+			boolean added;
+			boolean full;
+
+			synchronized (monitor) {
+
+				Assert.state(!closed, "UpdateBuffer has been closed!");
+
+				added = updates.add(id, update);
+				full = updates.size() >= maxSize;
+			}
+
+			if (!added) {
+				flush(id);
+			} else if (full) {
+				flush();
+			}
+
+			if (added) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * @return the number of documents with pending updates.
+	 */
+	public int getPendingCount() {
+
+		synchronized (monitor) {
+			return updates.size();
+		}
+	}
+
+	/**
+	 * Write all pending updates.
+	 *
+	 * @throws org.springframework.dao.DataAccessException if the write failed. The failed updates are passed on to the
+	 *           {@link UpdateBufferListener} and discarded.
+	 */
+	public void flush() {
+		doFlush(CoalescedUpdates::drain);
+	}
+
+	private void flush(Object id) {
+		doFlush(it -> it.remove(id));
+	}
+
+	private void doFlush(Function<CoalescedUpdates, Map<Object, Update>> drain) {
+
+		flushLock.lock();
+
+		try {
+
+			Map<Object, Update> pending;
+
+			synchronized (monitor) {
+				pending = drain.apply(updates);
+			}
+
+			if (!pending.isEmpty()) {
+				write(pending);
+			}
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	/**
+	 * Stop the scheduled flush and write all pending updates. Further updates are rejected.
+	 */
+	@Override
+	public void close() {
+
+		synchronized (monitor) {
+			closed = true;
+		}
+
+		if (scheduledFlush != null) {
+			scheduledFlush.cancel(false);
+		}
+
+		flush();
+	}
+
+	private void write(Map<Object, Update> pending) {
+
+		listener.beforeFlush(pending);
+
+		List<Pair<Query, Update>> pairs = new ArrayList<>(pending.size());
+		pending.forEach((id, update) -> pairs.add(Pair.of(Query.query(Criteria.where("_id").is(id)), update)));
+
+		BulkOperations bulk = operations.bulkOps(BulkMode.UNORDERED, entityType, collectionName);
+
+		if (upsert) {
+			bulk.upsert(pairs);
+		} else {
+			bulk.updateOne(pairs);
+		}
+
+		BulkWriteResult result;
+
+		try {
+			result = bulk.execute();
+		} catch (RuntimeException ex) {
+
+			listener.onFlushError(CoalescedUpdates.getFailedUpdates(pending, ex), ex);
+			throw ex;
+		}
+
+		listener.afterFlush(pending, result);
+	}
+
+	private void flushQuietly() {
+
+		try {
+			flush();
+		} catch (RuntimeException ex) {
+
+			if (LOGGER.isWarnEnabled()) {
+				LOGGER.warn(String.format("Failed to write buffered updates to collection %s.", collectionName), ex);
+			}
+		}
+	}
+
+	/**
+	 * Builder for creating {@link UpdateBuffer}.
+	 */
+	public static class UpdateBufferBuilder {
+
+		private final MongoOperations operations;
+		private final @Nullable Class<?> entityType;
+		private final @Nullable String collectionName;
+		private int maxSize = 1000;
+		private boolean upsert;
+		private UpdateBufferListener listener = new UpdateBufferListener() {};
+		private @Nullable ScheduledExecutorService scheduler;
+		private Duration flushInterval = Duration.ZERO;
+
+		private UpdateBufferBuilder(MongoOperations operations, @Nullable Class<?> entityType,
+				@Nullable String collectionName) {
+
+			this.operations = operations;
+			this.entityType = entityType;
+			this.collectionName = collectionName;
+		}
+
+		/**
+		 * Set the number of documents with pending updates that triggers a flush. Defaults to {@literal 1000}.
+		 *
+		 * @param maxSize must be greater than zero.
+		 * @return this.
+		 */
+		public UpdateBufferBuilder maxSize(int maxSize) {
+
+			Assert.isTrue(maxSize > 0, "Max size must be greater than zero!");
+
+			this.maxSize = maxSize;
+			return this;
+		}
+
+		/**
+		 * Write pending updates in the given interval using the given {@link ScheduledExecutorService}. By default updates
+		 * are only written when the buffer is full, on {@link UpdateBuffer#flush()} and on {@link UpdateBuffer#close()}.
+		 *
+		 * @param flushInterval must not be {@literal null}, zero or negative.
+		 * @param scheduler must not be {@literal null}.
+		 * @return this.
+		 */
+		public UpdateBufferBuilder flushInterval(Duration flushInterval, ScheduledExecutorService scheduler) {
+
+			Assert.notNull(flushInterval, "Flush interval must not be null!");
+			Assert.isTrue(!flushInterval.isNegative() && !flushInterval.isZero(), "Flush interval must be positive!");
+			Assert.notNull(scheduler, "Scheduler must not be null!");
+
+			this.flushInterval = flushInterval;
+			this.scheduler = scheduler;
+			return this;
+		}
+
+		/**
+		 * Insert documents that do not exist.
+		 *
+		 * @return this.
+		 */
+		public UpdateBufferBuilder upsert() {
+
+			this.upsert = true;
+			return this;
+		}
+
+		/**
+		 * Set the {@link UpdateBufferListener} to notify on flush.
+		 *
+		 * @param listener must not be {@literal null}.
+		 * @return this.
+		 */
+		public UpdateBufferBuilder listener(UpdateBufferListener listener) {
+
+			Assert.notNull(listener, "Listener must not be null!");
+
+			this.listener = listener;
+			return this;
+		}
+
+		/**
+		 * Create the {@link UpdateBuffer} and start the scheduled flush if configured.
+		 *
+		 * @return new instance of {@link UpdateBuffer}.
+		 */
+		public UpdateBuffer build() {
+			return new UpdateBuffer(this);
+		}
+	}
+}
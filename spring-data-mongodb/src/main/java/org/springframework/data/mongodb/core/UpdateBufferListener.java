@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.Map;
+
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.mongodb.bulk.BulkWriteResult;
+
+/**
+ * Callback interface notified when an {@link UpdateBuffer} or {@link ReactiveUpdateBuffer} writes its pending updates.
+ * Updates are only held in memory until written. Implementations may persist them, e.g. to a local journal, before a
+ * flush and replay or store those that failed.
+ *
+ * @since 3.1
+ */
+public interface UpdateBufferListener {
+
+	/**
+	 * Called before the given updates are written.
+	 *
+	 * @param updates the merged updates by the identifier of the document they target.
+	 */
+	default void beforeFlush(Map<Object, Update> updates) {}
+
+	/**
+	 * Called after the given updates have been written.
+	 *
+	 * @param updates the merged updates by the identifier of the document they target.
+	 * @param result the {@link BulkWriteResult} of the write.
+	 */
+	default void afterFlush(Map<Object, Update> updates, BulkWriteResult result) {}
+
+	/**
+	 * Called if writing the given updates failed. The updates are not retried.
+	 *
+	 * @param failedUpdates the updates that failed by the identifier of the document they target.
+	 * @param error the error raised.
+	 */
+	default void onFlushError(Map<Object, Update> failedUpdates, Throwable error) {}
+}
@@ -473,6 +473,18 @@ public class Aggregation {
 		return new SkipOperation(elementsToSkip);
 	}
 
+	/**
+	 * Creates a new {@link SkipOperation} skipping the number of elements bound to the given {@link AggregationParameter}
+	 * when executing a {@link PreparedAggregation}.
+	 *
+	 * @param elementsToSkip must not be {@literal null}.
+	 * @return new instance of {@link SkipOperation}.
+	 * @since 3.1
+	 */
+	public static SkipOperation skip(AggregationParameter elementsToSkip) {
+		return new SkipOperation(elementsToSkip);
+	}
+
 	/**
 	 * Creates a new {@link LimitOperation} limiting the result to the given number of elements.
 	 *
@@ -483,6 +495,18 @@ public class Aggregation {
 		return new LimitOperation(maxElements);
 	}
 
+	/**
+	 * Creates a new {@link LimitOperation} limiting the result to the number of elements bound to the given
+	 * {@link AggregationParameter} when executing a {@link PreparedAggregation}.
+	 *
+	 * @param maxElements must not be {@literal null}.
+	 * @return new instance of {@link LimitOperation}.
+	 * @since 3.1
+	 */
+	public static LimitOperation limit(AggregationParameter maxElements) {
+		return new LimitOperation(maxElements);
+	}
+
 	/**
 	 * Creates a new {@link SampleOperation} to select the specified number of documents from its input randomly.
 	 *
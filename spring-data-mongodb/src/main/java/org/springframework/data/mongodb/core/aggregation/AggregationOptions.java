@@ -45,6 +45,7 @@ public class AggregationOptions {
 	private static final String COLLATION = "collation";
 	private static final String COMMENT = "comment";
 	private static final String MAX_TIME = "maxTimeMS";
+	private static final String SKIP_RAW_RESULTS = "skipRawResults";
 
 	private final boolean allowDiskUse;
 	private final boolean explain;
@@ -52,6 +53,7 @@ public class AggregationOptions {
 	private final Optional<Collation> collation;
 	private final Optional<String> comment;
 	private Duration maxTime = Duration.ZERO;
+	private boolean skipRawResults = false;
 
 	/**
 	 * Creates a new {@link AggregationOptions}.
@@ -134,6 +136,7 @@ public class AggregationOptions {
 		if (document.containsKey(MAX_TIME)) {
 			options.maxTime = Duration.ofMillis(document.getLong(MAX_TIME));
 		}
+		options.skipRawResults = document.getBoolean(SKIP_RAW_RESULTS, false);
 		return options;
 	}
 
@@ -219,6 +222,15 @@ public class AggregationOptions {
 		return maxTime;
 	}
 
+	/**
+	 * @return {@literal true} if the raw {@link Document documents} returned by the server should not be retained in
+	 *         {@link AggregationResults#getRawResults()} once they have been mapped.
+	 * @since 3.1
+	 */
+	public boolean isSkipRawResults() {
+		return skipRawResults;
+	}
+
 	/**
 	 * Returns a new potentially adjusted copy for the given {@code aggregationCommandObject} with the configuration
 	 * applied.
@@ -272,6 +284,10 @@ public class AggregationOptions {
 			document.append(MAX_TIME, maxTime.toMillis());
 		}
 
+		if (skipRawResults) {
+			document.append(SKIP_RAW_RESULTS, true);
+		}
+
 		return document;
 	}
 
@@ -309,6 +325,7 @@ public class AggregationOptions {
 		private @Nullable Collation collation;
 		private @Nullable String comment;
 		private @Nullable Duration maxTime;
+		private boolean skipRawResults;
 
 		/**
 		 * Defines whether to off-load intensive sort-operations to disk.
@@ -399,6 +416,20 @@ public class AggregationOptions {
 			return this;
 		}
 
+		/**
+		 * Do not retain the raw {@link Document documents} returned by the server once they have been mapped to the
+		 * output type. {@link AggregationResults#getRawResults()} will then not contain any {@literal results}, which
+		 * avoids holding every result twice in memory.
+		 *
+		 * @return this.
+		 * @since 3.1
+		 */
+		public Builder skipRawResults() {
+
+			this.skipRawResults = true;
+			return this;
+		}
+
 		/**
 		 * Returns a new {@link AggregationOptions} instance with the given configuration.
 		 *
@@ -410,6 +441,7 @@ public class AggregationOptions {
 			if (maxTime != null) {
 				options.maxTime = maxTime;
 			}
+			options.skipRawResults = skipRawResults;
 
 			return options;
 		}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.aggregation;
+
+import java.util.function.Function;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * A named placeholder for a value that is bound late when executing a {@link PreparedAggregation}. Parameters can be
+ * used wherever the aggregation pipeline accepts a plain value, eg. as the value of a {@link MatchOperation}
+ * {@link org.springframework.data.mongodb.core.query.Criteria} or as the number of elements to
+ * {@link Aggregation#limit(AggregationParameter) limit} or {@link Aggregation#skip(AggregationParameter) skip}.
+ *
+ * <pre class="code">
+ * TypedAggregation&lt;Order&gt; aggregation = newAggregation(Order.class,
+ * 		match(where("tenantId").is(parameter("tenant"))),
+ * 		limit(parameter("limit", Long.class)));
+ * </pre>
+ *
+ * Parameters pass through field and type mapping so that their position within the rendered pipeline can be resolved
+ * once. Mapping a parameter captures the conversion of the property it is compared against, so bound values are
+ * converted just like plain values, eg. a {@link String} bound against an {@link org.bson.types.ObjectId} identifier.
+ * Values of parameters not compared against a property are converted via
+ * {@link org.springframework.data.mongodb.core.convert.MongoConverter#convertToMongoType(Object)}.
+ *
+ * @since 3.1
+ */
+public final class AggregationParameter {
+
+	private final String name;
+	private final Class<?> type;
+	private final @Nullable Function<Object, Object> valueConverter;
+
+	private AggregationParameter(String name, Class<?> type, @Nullable Function<Object, Object> valueConverter) {
+
+		this.name = name;
+		this.type = type;
+		this.valueConverter = valueConverter;
+	}
+
+	/**
+	 * Create a new {@link AggregationParameter} with the given name accepting values of any type.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @return new instance of {@link AggregationParameter}.
+	 */
+	public static AggregationParameter parameter(String name) {
+		return parameter(name, Object.class);
+	}
+
+	/**
+	 * Create a new {@link AggregationParameter} with the given name accepting only values assignable to the given
+	 * {@literal type}.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param type must not be {@literal null}.
+	 * @return new instance of {@link AggregationParameter}.
+	 */
+	public static AggregationParameter parameter(String name, Class<?> type) {
+
+		Assert.hasText(name, "Parameter name must not be null or empty!");
+		Assert.notNull(type, "Parameter type must not be null!");
+
+		return new AggregationParameter(name, ClassUtils.resolvePrimitiveIfNecessary(type), null);
+	}
+
+	/**
+	 * @return the parameter name. Never {@literal null}.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return the type values bound to the parameter need to be assignable to. Never {@literal null}.
+	 */
+	public Class<?> getType() {
+		return type;
+	}
+
+	/**
+	 * Create a new {@link AggregationParameter} applying the given {@link Function} to values bound to this occurrence
+	 * of the parameter, eg. to convert them into the store representation of the property the parameter is compared
+	 * against. The converter does not take part in {@link #equals(Object)}, so the same parameter can be used at
+	 * different positions of the pipeline with different converters.
+	 *
+	 * @param valueConverter must not be {@literal null}. Not called for {@literal null} values.
+	 * @return new instance of {@link AggregationParameter}.
+	 */
+	public AggregationParameter withValueConverter(Function<Object, Object> valueConverter) {
+
+		Assert.notNull(valueConverter, "Value converter must not be null!");
+		return new AggregationParameter(name, type, valueConverter);
+	}
+
+	/**
+	 * @return {@literal true} if a value converter has been registered via {@link #withValueConverter(Function)}.
+	 */
+	boolean hasValueConverter() {
+		return valueConverter != null;
+	}
+
+	/**
+	 * Convert the given {@literal value} using the value converter registered via {@link #withValueConverter(Function)}.
+	 *
+	 * @param value can be {@literal null}.
+	 * @return the converted value.
+	 */
+	@Nullable
+	Object convert(@Nullable Object value) {
+		return value != null && valueConverter != null ? valueConverter.apply(value) : value;
+	}
+
+	/**
+	 * Verify the given {@literal value} can be bound to this parameter.
+	 *
+	 * @param value can be {@literal null}.
+	 * @throws IllegalArgumentException if the value is not assignable to {@link #getType()}.
+	 */
+	void verify(@Nullable Object value) {
+
+		if (value != null && !type.isInstance(value)) {
+			throw new IllegalArgumentException(
+					String.format("Value '%s' of type %s cannot be bound to parameter '%s' of type %s!", value,
+							value.getClass().getName(), name, type.getName()));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof AggregationParameter)) {
+			return false;
+		}
+
+		AggregationParameter that = (AggregationParameter) o;
+		return ObjectUtils.nullSafeEquals(name, that.name) && ObjectUtils.nullSafeEquals(type, that.type);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+
+		int result = ObjectUtils.nullSafeHashCode(name);
+		result = 31 * result + ObjectUtils.nullSafeHashCode(type);
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "?" + name;
+	}
+}
@@ -96,7 +96,11 @@ public class AggregationResults<T> implements Iterable<T> {
 	}
 
 	/**
-	 * Returns the raw result that was returned by the server.
+	 * Returns the raw result that was returned by the server. As aggregations are executed via a cursor, the raw result
+	 * is assembled from the documents read from the cursor and contains them as {@literal results} along with
+	 * {@literal ok : 1.0}. {@literal results} is not present if the aggregation was executed with
+	 * {@link AggregationOptions#isSkipRawResults()}. The raw result is empty for aggregations reading
+	 * {@link org.bson.RawBsonDocument} results as these are the raw documents already.
 	 *
 	 * @return the raw response.
 	 * @since 1.6
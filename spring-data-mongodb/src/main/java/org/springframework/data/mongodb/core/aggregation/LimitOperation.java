@@ -16,6 +16,7 @@
 package org.springframework.data.mongodb.core.aggregation;
 
 import org.bson.Document;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -33,6 +34,7 @@ import org.springframework.util.Assert;
 public class LimitOperation implements AggregationOperation {
 
 	private final long maxElements;
+	private final @Nullable AggregationParameter maxElementsParameter;
 
 	/**
 	 * @param maxElements Number of documents to consider.
@@ -41,6 +43,26 @@ public class LimitOperation implements AggregationOperation {
 
 		Assert.isTrue(maxElements >= 0, "Maximum number of elements must be greater or equal to zero!");
 		this.maxElements = maxElements;
+		this.maxElementsParameter = null;
+	}
+
+	/**
+	 * @param maxElements the {@link AggregationParameter} providing the number of documents to consider. Must not be
+	 *          {@literal null}.
+	 * @since 3.1
+	 */
+	public LimitOperation(AggregationParameter maxElements) {
+
+		Assert.notNull(maxElements, "Maximum number of elements parameter must not be null!");
+
+		this.maxElements = -1;
+		this.maxElementsParameter = maxElements.withValueConverter(value -> {
+
+			Assert.isTrue(value instanceof Number && ((Number) value).longValue() >= 0,
+					() -> String.format("Maximum number of elements must be a number greater or equal to zero but was %s!",
+							value));
+			return value;
+		});
 	}
 
 	/*
@@ -49,6 +71,6 @@ public class LimitOperation implements AggregationOperation {
 	 */
 	@Override
 	public Document toDocument(AggregationOperationContext context) {
-		return new Document("$limit", Long.valueOf(maxElements));
+		return new Document("$limit", maxElementsParameter != null ? maxElementsParameter : Long.valueOf(maxElements));
 	}
 }
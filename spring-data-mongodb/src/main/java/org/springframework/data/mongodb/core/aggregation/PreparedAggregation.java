@@ -0,0 +1,448 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.aggregation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.SerializationUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link TypedAggregation} that has been rendered and mapped against its input type once. Rendering resolves all
+ * field references and maps the {@code $match} criteria so that executing the very same pipeline multiple times only
+ * requires binding the actual values for the {@link AggregationParameter parameters} contained in the pipeline.
+ * <p>
+ * Binding creates new {@link Document documents} only for the parts of the pipeline containing parameters. Stages
+ * without any parameter are shared between all bound aggregations and must therefore not be modified.
+ *
+ * <pre class="code">
+ * PreparedAggregation&lt;Order&gt; prepared = template.prepareAggregation(newAggregation(Order.class,
+ * 		match(where("tenantId").is(parameter("tenant"))), //
+ * 		group("status").count().as("count"), //
+ * 		limit(parameter("limit", Long.class))));
+ *
+ * template.aggregate(prepared.bind("acme", 10L), OrderStats.class);
+ * </pre>
+ *
+ * Instances are immutable and can safely be shared across threads.
+ *
+ * @since 3.1
+ * @see AggregationParameter
+ */
+public class PreparedAggregation<I> {
+
+	private final Class<I> inputType;
+	private final AggregationOptions options;
+	private final List<AggregationParameter> parameters;
+	private final List<Object> stages;
+
+	private PreparedAggregation(Class<I> inputType, AggregationOptions options, List<AggregationParameter> parameters,
+			List<Object> stages) {
+
+		this.inputType = inputType;
+		this.options = options;
+		this.parameters = parameters;
+		this.stages = stages;
+	}
+
+	/**
+	 * Render and map the given {@link TypedAggregation} against its {@link TypedAggregation#getInputType() input type}
+	 * and create a new {@link PreparedAggregation} from the resulting pipeline. {@link AggregationParameter Parameters}
+	 * are kept in place while mapping, capturing the conversion of the property they are compared against.
+	 *
+	 * @param aggregation must not be {@literal null}.
+	 * @param converter the {@link MongoConverter} used for mapping and to convert values bound to parameters not
+	 *          compared against a property. Must not be {@literal null}.
+	 * @return new instance of {@link PreparedAggregation}.
+	 * @throws IllegalArgumentException if the pipeline uses the same parameter name with different types.
+	 */
+	public static <I> PreparedAggregation<I> of(TypedAggregation<I> aggregation, MongoConverter converter) {
+
+		Assert.notNull(aggregation, "Aggregation must not be null!");
+		Assert.notNull(converter, "MongoConverter must not be null!");
+
+		AggregationOperationContext context = new TypeBasedAggregationOperationContext(aggregation.getInputType(),
+				converter.getMappingContext(), new ParameterRetainingQueryMapper(converter));
+
+		return of(aggregation.getInputType(), aggregation.toPipeline(context), aggregation.getOptions(), converter);
+	}
+
+	private static <I> PreparedAggregation<I> of(Class<I> inputType, List<Document> pipeline, AggregationOptions options,
+			MongoConverter converter) {
+
+		Map<String, Integer> indexes = new LinkedHashMap<>();
+		List<AggregationParameter> parameters = new ArrayList<>();
+		List<Object> stages = new ArrayList<>(pipeline.size());
+
+		for (Document stage : pipeline) {
+			stages.add(compile(stage, indexes, parameters, converter));
+		}
+
+		return new PreparedAggregation<>(inputType, options, Collections.unmodifiableList(parameters),
+				Collections.unmodifiableList(stages));
+	}
+
+	/**
+	 * @return the input type of the aggregation. Never {@literal null}.
+	 */
+	public Class<I> getInputType() {
+		return inputType;
+	}
+
+	/**
+	 * @return the {@link AggregationOptions} used for executing the bound aggregation. Never {@literal null}.
+	 */
+	public AggregationOptions getOptions() {
+		return options;
+	}
+
+	/**
+	 * Get the {@link AggregationParameter parameters} contained in the pipeline in the order of their first occurrence.
+	 * This is the order expected by {@link #bind(Object...)}.
+	 *
+	 * @return never {@literal null}.
+	 */
+	public List<AggregationParameter> getParameters() {
+		return parameters;
+	}
+
+	/**
+	 * Bind the given values to the parameters of the pipeline in the order defined by {@link #getParameters()}.
+	 *
+	 * @param values the values to bind.
+	 * @return a new {@link TypedAggregation} ready to be executed. Never {@literal null}.
+	 * @throws IllegalArgumentException if the number of values does not match the number of parameters or a value is
+	 *           not assignable to its parameter type.
+	 */
+	public TypedAggregation<I> bind(Object... values) {
+
+		Assert.notNull(values, "Values must not be null!");
+		Assert.isTrue(values.length == parameters.size(), () -> String
+				.format("Expected %s parameter values but got %s!", parameters.size(), values.length));
+
+		for (int i = 0; i < values.length; i++) {
+			parameters.get(i).verify(values[i]);
+		}
+
+		List<Document> pipeline = render(values, true);
+		List<AggregationOperation> operations = new ArrayList<>(pipeline.size());
+
+		for (Document stage : pipeline) {
+			operations.add(new RenderedStage(stage));
+		}
+
+		return new TypedAggregation<>(inputType, operations, options);
+	}
+
+	/**
+	 * Bind the given values to the parameters of the pipeline by their {@link AggregationParameter#getName() name}.
+	 *
+	 * @param values must not be {@literal null}.
+	 * @return a new {@link TypedAggregation} ready to be executed. Never {@literal null}.
+	 * @throws IllegalArgumentException if a value for a parameter is missing or a value is not assignable to its
+	 *           parameter type.
+	 */
+	public TypedAggregation<I> bind(Map<String, ?> values) {
+
+		Assert.notNull(values, "Values must not be null!");
+
+		Object[] ordered = new Object[parameters.size()];
+		for (int i = 0; i < ordered.length; i++) {
+
+			String name = parameters.get(i).getName();
+			Assert.isTrue(values.containsKey(name), () -> String.format("No value given for parameter '%s'!", name));
+			ordered[i] = values.get(name);
+		}
+
+		return bind(ordered);
+	}
+
+	private List<Document> render(Object[] values, boolean convert) {
+
+		List<Document> pipeline = new ArrayList<>(stages.size());
+		for (Object stage : stages) {
+			pipeline.add((Document) resolve(stage, values, convert));
+		}
+		return pipeline;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return SerializationUtils.serializeToJsonSafely(render(parameters.toArray(), false));
+	}
+
+	@Nullable
+	private static Object resolve(@Nullable Object candidate, Object[] values, boolean convert) {
+		return candidate instanceof Binding ? ((Binding) candidate).bind(values, convert) : candidate;
+	}
+
+	/**
+	 * Compile the given source into either the source itself if it does not contain any {@link AggregationParameter} or
+	 * into a {@link Binding} that creates a copy of the source with the parameters replaced by the actual values.
+	 */
+	@Nullable
+	private static Object compile(@Nullable Object source, Map<String, Integer> indexes,
+			List<AggregationParameter> parameters, MongoConverter converter) {
+
+		if (source instanceof AggregationParameter) {
+
+			AggregationParameter parameter = (AggregationParameter) source;
+			Integer index = indexes.get(parameter.getName());
+
+			if (index == null) {
+
+				index = parameters.size();
+				indexes.put(parameter.getName(), index);
+				parameters.add(parameter);
+			} else if (!parameters.get(index).equals(parameter)) {
+				throw new IllegalArgumentException(
+						String.format("Parameter '%s' is used with different types!", parameter.getName()));
+			}
+
+			return new ParameterBinding(index, parameter, converter);
+		}
+
+		if (source instanceof Document) {
+
+			Document document = (Document) source;
+			String[] keys = new String[document.size()];
+			Object[] values = new Object[document.size()];
+			boolean containsBinding = false;
+
+			int i = 0;
+			for (Entry<String, Object> entry : document.entrySet()) {
+
+				keys[i] = entry.getKey();
+				values[i] = compile(entry.getValue(), indexes, parameters, converter);
+				containsBinding |= values[i] instanceof Binding;
+				i++;
+			}
+
+			return containsBinding ? new DocumentBinding(keys, values) : document;
+		}
+
+		if (source instanceof Collection) {
+
+			Collection<?> collection = (Collection<?>) source;
+			Object[] elements = new Object[collection.size()];
+			boolean containsBinding = false;
+
+			int i = 0;
+			for (Object element : collection) {
+
+				elements[i] = compile(element, indexes, parameters, converter);
+				containsBinding |= elements[i] instanceof Binding;
+				i++;
+			}
+
+			return containsBinding ? new ListBinding(elements) : source;
+		}
+
+		return source;
+	}
+
+	/**
+	 * Creates the bound representation of a pipeline fragment containing parameters.
+	 */
+	private interface Binding {
+
+		/**
+		 * @param values the values in the order of {@link PreparedAggregation#getParameters()}.
+		 * @param convert whether to convert the values into their store representation.
+		 */
+		Object bind(Object[] values, boolean convert);
+	}
+
+	/**
+	 * Binds a single occurrence of a parameter applying the conversion captured when mapping the parameter against its
+	 * property or the default {@link MongoConverter#convertToMongoType(Object) conversion} if no property specific
+	 * conversion applies.
+	 */
+	private static class ParameterBinding implements Binding {
+
+		private final int index;
+		private final AggregationParameter parameter;
+		private final MongoConverter converter;
+
+		ParameterBinding(int index, AggregationParameter parameter, MongoConverter converter) {
+
+			this.index = index;
+			this.parameter = parameter;
+			this.converter = converter;
+		}
+
+		@Override
+		public Object bind(Object[] values, boolean convert) {
+
+			Object value = values[index];
+
+			if (!convert) {
+				return value;
+			}
+
+			return parameter.hasValueConverter() ? parameter.convert(value) : converter.convertToMongoType(value);
+		}
+	}
+
+	private static class DocumentBinding implements Binding {
+
+		private final String[] keys;
+		private final Object[] values;
+
+		DocumentBinding(String[] keys, Object[] values) {
+
+			this.keys = keys;
+			this.values = values;
+		}
+
+		@Override
+		public Object bind(Object[] parameterValues, boolean convert) {
+
+			Document document = new Document();
+			for (int i = 0; i < keys.length; i++) {
+				document.put(keys[i], resolve(values[i], parameterValues, convert));
+			}
+			return document;
+		}
+	}
+
+	private static class ListBinding implements Binding {
+
+		private final Object[] elements;
+
+		ListBinding(Object[] elements) {
+			this.elements = elements;
+		}
+
+		@Override
+		public Object bind(Object[] parameterValues, boolean convert) {
+
+			List<Object> list = new ArrayList<>(elements.length);
+			for (Object element : elements) {
+				list.add(resolve(element, parameterValues, convert));
+			}
+			return list;
+		}
+	}
+
+	/**
+	 * {@link QueryMapper} retaining {@link AggregationParameter parameters} instead of converting them. Parameters
+	 * compared against a property capture its conversion to apply it to the values bound later on.
+	 */
+	private static class ParameterRetainingQueryMapper extends QueryMapper {
+
+		private final MongoConverter converter;
+
+		ParameterRetainingQueryMapper(MongoConverter converter) {
+
+			super(converter);
+			this.converter = converter;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.convert.QueryMapper#getMappedValue(org.springframework.data.mongodb.core.convert.QueryMapper.Field, java.lang.Object)
+		 */
+		@Override
+		protected Object getMappedValue(Field documentField, Object sourceValue) {
+
+			if (sourceValue instanceof AggregationParameter) {
+				return ((AggregationParameter) sourceValue)
+						.withValueConverter(value -> super.getMappedValue(documentField, value));
+			}
+
+			return super.getMappedValue(documentField, sourceValue);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.convert.QueryMapper#convertId(java.lang.Object, java.lang.Class)
+		 */
+		@Override
+		public Object convertId(@Nullable Object id, Class<?> targetType) {
+
+			if (id instanceof AggregationParameter) {
+				return ((AggregationParameter) id).withValueConverter(value -> converter.convertId(value, targetType));
+			}
+
+			return super.convertId(id, targetType);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.convert.QueryMapper#delegateConvertToMongoType(java.lang.Object, org.springframework.data.mongodb.core.mapping.MongoPersistentEntity)
+		 */
+		@Override
+		protected Object delegateConvertToMongoType(Object source, @Nullable MongoPersistentEntity<?> entity) {
+
+			if (source instanceof AggregationParameter) {
+				return source;
+			}
+
+			if (source instanceof Collection && containsParameter((Collection<?>) source)) {
+
+				List<Object> converted = new ArrayList<>(((Collection<?>) source).size());
+				for (Object element : (Collection<?>) source) {
+					converted.add(element != null ? delegateConvertToMongoType(element, entity) : null);
+				}
+				return converted;
+			}
+
+			return super.delegateConvertToMongoType(source, entity);
+		}
+
+		private static boolean containsParameter(Collection<?> source) {
+			return source.stream().anyMatch(AggregationParameter.class::isInstance);
+		}
+	}
+
+	/**
+	 * {@link AggregationOperation} for a single pipeline stage that has already been rendered and mapped and is therefore
+	 * used as is regardless of the {@link AggregationOperationContext}.
+	 */
+	private static class RenderedStage implements AggregationOperation {
+
+		private final Document stage;
+
+		RenderedStage(Document stage) {
+			this.stage = stage;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.aggregation.AggregationOperation#toDocument(org.springframework.data.mongodb.core.aggregation.AggregationOperationContext)
+		 */
+		@Override
+		public Document toDocument(AggregationOperationContext context) {
+			return stage;
+		}
+	}
+}
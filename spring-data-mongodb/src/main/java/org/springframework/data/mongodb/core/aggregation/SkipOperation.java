@@ -16,6 +16,7 @@
 package org.springframework.data.mongodb.core.aggregation;
 
 import org.bson.Document;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -33,6 +34,7 @@ import org.springframework.util.Assert;
 public class SkipOperation implements AggregationOperation {
 
 	private final long skipCount;
+	private final @Nullable AggregationParameter skipCountParameter;
 
 	/**
 	 * Creates a new {@link SkipOperation} skipping the given number of elements.
@@ -43,6 +45,27 @@ public class SkipOperation implements AggregationOperation {
 
 		Assert.isTrue(skipCount >= 0, "Skip count must not be negative!");
 		this.skipCount = skipCount;
+		this.skipCountParameter = null;
+	}
+
+	/**
+	 * Creates a new {@link SkipOperation} skipping the number of elements bound to the given
+	 * {@link AggregationParameter}.
+	 *
+	 * @param skipCount must not be {@literal null}.
+	 * @since 3.1
+	 */
+	public SkipOperation(AggregationParameter skipCount) {
+
+		Assert.notNull(skipCount, "Skip count parameter must not be null!");
+
+		this.skipCount = -1;
+		this.skipCountParameter = skipCount.withValueConverter(value -> {
+
+			Assert.isTrue(value instanceof Number && ((Number) value).longValue() >= 0,
+					() -> String.format("Skip count must be a number greater or equal to zero but was %s!", value));
+			return value;
+		});
 	}
 
 	/*
@@ -51,6 +74,6 @@ public class SkipOperation implements AggregationOperation {
 	 */
 	@Override
 	public Document toDocument(AggregationOperationContext context) {
-		return new Document("$skip", skipCount);
+		return new Document("$skip", skipCountParameter != null ? skipCountParameter : Long.valueOf(skipCount));
 	}
 }
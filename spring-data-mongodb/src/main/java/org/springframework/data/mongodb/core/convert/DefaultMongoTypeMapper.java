@@ -15,10 +15,12 @@
  */
 package org.springframework.data.mongodb.core.convert;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.UnaryOperator;
 
 import org.bson.Document;
@@ -31,9 +33,11 @@ import org.springframework.data.convert.TypeInformationMapper;
 import org.springframework.data.mapping.Alias;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 
 import com.mongodb.BasicDBList;
@@ -58,6 +62,7 @@ public class DefaultMongoTypeMapper extends DefaultTypeMapper<Bson> implements M
 
 	private final TypeAliasAccessor<Bson> accessor;
 	private final @Nullable String typeKey;
+	private final Map<TypeInformation<?>, Alias> aliasCache = new ConcurrentHashMap<>();
 	private UnaryOperator<Class<?>> writeTarget = UnaryOperator.identity();
 
 	/**
@@ -84,8 +89,7 @@ public class DefaultMongoTypeMapper extends DefaultTypeMapper<Bson> implements M
 	 */
 	public DefaultMongoTypeMapper(@Nullable String typeKey,
 			MappingContext<? extends PersistentEntity<?, ?>, ?> mappingContext) {
-		this(typeKey, new DocumentTypeAliasAccessor(typeKey), mappingContext,
-				Collections.singletonList(new SimpleTypeInformationMapper()));
+		this(typeKey, new DocumentTypeAliasAccessor(typeKey), mappingContext, defaultMappers(mappingContext));
 	}
 
 	/**
@@ -98,8 +102,7 @@ public class DefaultMongoTypeMapper extends DefaultTypeMapper<Bson> implements M
 	 */
 	public DefaultMongoTypeMapper(@Nullable String typeKey,
 			MappingContext<? extends PersistentEntity<?, ?>, ?> mappingContext, UnaryOperator<Class<?>> writeTarget) {
-		this(typeKey, new DocumentTypeAliasAccessor(typeKey), mappingContext,
-				Collections.singletonList(new SimpleTypeInformationMapper()));
+		this(typeKey, new DocumentTypeAliasAccessor(typeKey), mappingContext, defaultMappers(mappingContext));
 		this.writeTarget = writeTarget;
 	}
 
@@ -147,7 +150,7 @@ public class DefaultMongoTypeMapper extends DefaultTypeMapper<Bson> implements M
 
 		for (Class<?> restrictedType : restrictedTypes) {
 
-			Alias typeAlias = getAliasFor(ClassTypeInformation.from(restrictedType));
+			Alias typeAlias = getCachedAliasFor(ClassTypeInformation.from(restrictedType));
 
 			if (!ObjectUtils.nullSafeEquals(Alias.NONE, typeAlias) && typeAlias.isPresent()) {
 				restrictedMappedTypes.add(typeAlias.getValue());
@@ -157,6 +160,39 @@ public class DefaultMongoTypeMapper extends DefaultTypeMapper<Bson> implements M
 		accessor.writeTypeTo(result, new Document("$in", restrictedMappedTypes));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.convert.DefaultTypeMapper#readType(java.lang.Object, org.springframework.data.util.TypeInformation)
+	 */
+	@Override
+	public <T> TypeInformation<? extends T> readType(Bson source, TypeInformation<T> basicType) {
+
+		Alias alias = accessor.readAliasFrom(source);
+
+		// most documents carry the alias of the declared type so there's no need to resolve and compare the actual type
+		if (alias.isPresent() && alias.equals(getCachedAliasFor(basicType))) {
+			return basicType;
+		}
+
+		return super.readType(source, basicType);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.convert.DefaultTypeMapper#writeType(org.springframework.data.util.TypeInformation, java.lang.Object)
+	 */
+	@Override
+	public void writeType(TypeInformation<?> info, Bson sink) {
+
+		Assert.notNull(info, "TypeInformation must not be null!");
+
+		Alias alias = getCachedAliasFor(info);
+
+		if (alias.isPresent()) {
+			accessor.writeTypeTo(sink, alias.getValue());
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.core.convert.MongoTypeMapper#getWriteTargetTypeFor(java.lang.Class)
@@ -175,6 +211,63 @@ public class DefaultMongoTypeMapper extends DefaultTypeMapper<Bson> implements M
 		return source instanceof BasicDBList ? LIST_TYPE_INFO : MAP_TYPE_INFO;
 	}
 
+	/**
+	 * Look up the {@link Alias} for the given {@link TypeInformation} caching the result (including {@link Alias#NONE})
+	 * as resolution potentially involves all registered {@link TypeInformationMapper mappers}. Resolving an
+	 * {@link Alias} into its {@link TypeInformation} is already cached by {@link DefaultTypeMapper}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	private Alias getCachedAliasFor(TypeInformation<?> type) {
+		return aliasCache.computeIfAbsent(type, this::getAliasFor);
+	}
+
+	private static List<? extends TypeInformationMapper> defaultMappers(
+			MappingContext<? extends PersistentEntity<?, ?>, ?> mappingContext) {
+
+		if (mappingContext instanceof MongoMappingContext) {
+			return Arrays.asList(new TypeDiscriminatorInformationMapper((MongoMappingContext) mappingContext),
+					new SimpleTypeInformationMapper());
+		}
+
+		return Collections.singletonList(new SimpleTypeInformationMapper());
+	}
+
+	/**
+	 * {@link TypeInformationMapper} using the type discriminators registered with the {@link MongoMappingContext}.
+	 *
+	 * @since 3.1
+	 * @see MongoMappingContext#registerTypeDiscriminators(Class, Map)
+	 */
+	private static class TypeDiscriminatorInformationMapper implements TypeInformationMapper {
+
+		private final MongoMappingContext mappingContext;
+
+		TypeDiscriminatorInformationMapper(MongoMappingContext mappingContext) {
+			this.mappingContext = mappingContext;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.convert.TypeInformationMapper#resolveTypeFrom(org.springframework.data.mapping.Alias)
+		 */
+		@Nullable
+		@Override
+		public TypeInformation<?> resolveTypeFrom(Alias alias) {
+			return mappingContext.getTypeForDiscriminator(alias);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.convert.TypeInformationMapper#createAliasFor(org.springframework.data.util.TypeInformation)
+		 */
+		@Override
+		public Alias createAliasFor(TypeInformation<?> type) {
+			return mappingContext.getTypeDiscriminator(type.getType());
+		}
+	}
+
 	/**
 	 * {@link TypeAliasAccessor} to store aliases in a {@link Document}.
 	 *
@@ -15,8 +15,6 @@
  */
 package org.springframework.data.mongodb.core.convert;
 
-import java.util.Arrays;
-import java.util.Iterator;
 import java.util.Map;
 
 import org.bson.Document;
@@ -78,26 +76,20 @@ class DocumentAccessor {
 	public void put(MongoPersistentProperty prop, @Nullable Object value) {
 
 		Assert.notNull(prop, "MongoPersistentProperty must not be null!");
-		String fieldName = prop.getFieldName();
+		String[] parts = prop.getFieldNameSegments();
 
-		if (!fieldName.contains(".")) {
-			BsonUtils.addToMap(document, fieldName, value);
+		if (parts.length == 1) {
+			BsonUtils.addToMap(document, parts[0], value);
 			return;
 		}
 
-		Iterator<String> parts = Arrays.asList(fieldName.split("\\.")).iterator();
 		Bson document = this.document;
 
-		while (parts.hasNext()) {
-
-			String part = parts.next();
-
-			if (parts.hasNext()) {
-				document = getOrCreateNestedDocument(part, document);
-			} else {
-				BsonUtils.addToMap(document, part, value);
-			}
+		for (int i = 0; i < parts.length - 1; i++) {
+			document = getOrCreateNestedDocument(parts[i], document);
 		}
+
+		BsonUtils.addToMap(document, parts[parts.length - 1], value);
 	}
 
 	/**
@@ -111,22 +103,20 @@ class DocumentAccessor {
 	@Nullable
 	public Object get(MongoPersistentProperty property) {
 
-		String fieldName = property.getFieldName();
-		Map<String, Object> map = BsonUtils.asMap(document);
+		String[] parts = property.getFieldNameSegments();
+		Map<String, Object> source = BsonUtils.asMap(document);
 
-		if (!fieldName.contains(".")) {
-			return map.get(fieldName);
+		if (parts.length == 1) {
+			return source.get(parts[0]);
 		}
 
-		Iterator<String> parts = Arrays.asList(fieldName.split("\\.")).iterator();
-		Map<String, Object> source = map;
 		Object result = null;
 
-		while (source != null && parts.hasNext()) {
+		for (int i = 0; source != null && i < parts.length; i++) {
 
-			result = source.get(parts.next());
+			result = source.get(parts[i]);
 
-			if (parts.hasNext()) {
+			if (i < parts.length - 1) {
 				source = getAsMap(result);
 			}
 		}
@@ -171,11 +161,12 @@ class DocumentAccessor {
 			}
 		}
 
-		if (!fieldName.contains(".")) {
+		String[] parts = property.getFieldNameSegments();
+
+		if (parts.length == 1) {
 			return false;
 		}
 
-		String[] parts = fieldName.split("\\.");
 		Map<String, Object> source;
 
 		if (this.document instanceof Document) {
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link List} view on a raw {@link List} read from the store converting each element on first access. Converted
+ * elements are retained so that modifications to them are visible on subsequent access. Structural modifications
+ * convert all remaining elements.
+ *
+ * @since 3.1
+ * @see org.springframework.data.mongodb.core.mapping.LazyElements
+ */
+class LazyConvertingList extends AbstractList<Object> implements RandomAccess {
+
+	private static final Object UNCONVERTED = new Object();
+
+	private final List<?> source;
+	private final Function<Object, Object> converter;
+	private final Object[] elements;
+	private @Nullable List<Object> converted;
+
+	/**
+	 * Creates a new {@link LazyConvertingList} for the given source and element {@link Function converter}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 */
+	LazyConvertingList(List<?> source, Function<Object, Object> converter) {
+
+		this.source = source;
+		this.converter = converter;
+		this.elements = new Object[source.size()];
+
+		Arrays.fill(elements, UNCONVERTED);
+	}
+
+	/**
+	 * Returns whether the element at the given index has been accessed and therefore potentially been modified.
+	 *
+	 * @param index the element index.
+	 * @return {@literal true} if the element has been converted.
+	 */
+	boolean isConverted(int index) {
+		return converted != null || elements[index] != UNCONVERTED;
+	}
+
+	/**
+	 * Returns the raw element at the given index. Only valid for elements not {@link #isConverted(int) converted} yet.
+	 *
+	 * @param index the element index.
+	 * @return can be {@literal null}.
+	 */
+	@Nullable
+	Object getSource(int index) {
+		return source.get(index);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractList#get(int)
+	 */
+	@Override
+	public Object get(int index) {
+
+		if (converted != null) {
+			return converted.get(index);
+		}
+
+		Object element = elements[index];
+
+		if (element == UNCONVERTED) {
+
+			element = converter.apply(source.get(index));
+			elements[index] = element;
+		}
+
+		return element;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractList#set(int, java.lang.Object)
+	 */
+	@Override
+	public Object set(int index, Object element) {
+
+		if (converted != null) {
+			return converted.set(index, element);
+		}
+
+		Object previous = get(index);
+		elements[index] = element;
+
+		return previous;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractList#add(int, java.lang.Object)
+	 */
+	@Override
+	public void add(int index, Object element) {
+
+		convertAll().add(index, element);
+		modCount++;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractList#remove(int)
+	 */
+	@Override
+	public Object remove(int index) {
+
+		Object removed = convertAll().remove(index);
+		modCount++;
+
+		return removed;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractCollection#size()
+	 */
+	@Override
+	public int size() {
+		return converted != null ? converted.size() : elements.length;
+	}
+
+	private List<Object> convertAll() {
+
+		if (converted == null) {
+
+			List<Object> result = new ArrayList<>(elements.length + 1);
+
+			for (int i = 0; i < elements.length; i++) {
+				result.add(get(i));
+			}
+
+			converted = result;
+		}
+
+		return converted;
+	}
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * {@link Map} view on raw values read from the store converting each value on first access. Keys are expected to be
+ * converted already. Converted values are retained so that modifications to them are visible on subsequent access.
+ *
+ * @since 3.1
+ * @see org.springframework.data.mongodb.core.mapping.LazyElements
+ */
+class LazyConvertingMap extends AbstractMap<Object, Object> {
+
+	private final Map<Object, Object> values;
+	private final Function<Object, Object> converter;
+
+	/**
+	 * Creates a new {@link LazyConvertingMap} for the given source and value {@link Function converter}.
+	 *
+	 * @param source the converted keys along with their raw values. Must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 */
+	LazyConvertingMap(Map<Object, Object> source, Function<Object, Object> converter) {
+
+		this.values = new LinkedHashMap<>(source.size() + source.size() / 3 + 1);
+		this.converter = converter;
+
+		source.forEach((key, value) -> values.put(key, new Unconverted(value)));
+	}
+
+	/**
+	 * Returns whether the value for the given key has been accessed and therefore potentially been modified.
+	 *
+	 * @param key can be {@literal null}.
+	 * @return {@literal true} if the value has been converted or the key is not present.
+	 */
+	boolean isConverted(@Nullable Object key) {
+		return !(values.get(key) instanceof Unconverted);
+	}
+
+	/**
+	 * Returns the raw value for the given key. Only valid for values not {@link #isConverted(Object) converted} yet.
+	 *
+	 * @param key can be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	@Nullable
+	Object getSource(@Nullable Object key) {
+
+		Object value = values.get(key);
+		return value instanceof Unconverted ? ((Unconverted) value).source : null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractMap#get(java.lang.Object)
+	 */
+	@Override
+	public Object get(Object key) {
+
+		Object value = values.get(key);
+
+		if (!(value instanceof Unconverted)) {
+			return value;
+		}
+
+		Object converted = converter.apply(((Unconverted) value).source);
+		values.put(key, converted);
+
+		return converted;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractMap#containsKey(java.lang.Object)
+	 */
+	@Override
+	public boolean containsKey(Object key) {
+		return values.containsKey(key);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractMap#put(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public Object put(Object key, Object value) {
+		return convert(values.put(key, value));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractMap#remove(java.lang.Object)
+	 */
+	@Override
+	public Object remove(Object key) {
+		return convert(values.remove(key));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractMap#clear()
+	 */
+	@Override
+	public void clear() {
+		values.clear();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractMap#size()
+	 */
+	@Override
+	public int size() {
+		return values.size();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractMap#entrySet()
+	 */
+	@Override
+	public Set<Entry<Object, Object>> entrySet() {
+
+		return new AbstractSet<Entry<Object, Object>>() {
+
+			@Override
+			public Iterator<Entry<Object, Object>> iterator() {
+
+				Iterator<Entry<Object, Object>> delegate = values.entrySet().iterator();
+
+				return new Iterator<Entry<Object, Object>>() {
+
+					@Override
+					public boolean hasNext() {
+						return delegate.hasNext();
+					}
+
+					@Override
+					public Entry<Object, Object> next() {
+						return new ConvertingEntry(delegate.next());
+					}
+
+					@Override
+					public void remove() {
+						delegate.remove();
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return values.size();
+			}
+		};
+	}
+
+	@Nullable
+	private Object convert(@Nullable Object value) {
+		return value instanceof Unconverted ? converter.apply(((Unconverted) value).source) : value;
+	}
+
+	/**
+	 * {@link Entry} converting the value of the backing {@link Entry} on first access.
+	 */
+	private class ConvertingEntry implements Entry<Object, Object> {
+
+		private final Entry<Object, Object> delegate;
+
+		ConvertingEntry(Entry<Object, Object> delegate) {
+			this.delegate = delegate;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Map.Entry#getKey()
+		 */
+		@Override
+		public Object getKey() {
+			return delegate.getKey();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Map.Entry#getValue()
+		 */
+		@Override
+		public Object getValue() {
+
+			Object value = delegate.getValue();
+
+			if (!(value instanceof Unconverted)) {
+				return value;
+			}
+
+			Object converted = converter.apply(((Unconverted) value).source);
+			delegate.setValue(converted);
+
+			return converted;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Map.Entry#setValue(java.lang.Object)
+		 */
+		@Override
+		public Object setValue(Object value) {
+			return convert(delegate.setValue(value));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object o) {
+
+			if (!(o instanceof Entry)) {
+				return false;
+			}
+
+			Entry<?, ?> that = (Entry<?, ?>) o;
+			return ObjectUtils.nullSafeEquals(getKey(), that.getKey())
+					&& ObjectUtils.nullSafeEquals(getValue(), that.getValue());
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return ObjectUtils.nullSafeHashCode(getKey()) ^ ObjectUtils.nullSafeHashCode(getValue());
+		}
+	}
+
+	/**
+	 * Holder for a raw value that has not been converted yet.
+	 */
+	private static class Unconverted {
+
+		private final @Nullable Object source;
+
+		Unconverted(@Nullable Object source) {
+			this.source = source;
+		}
+	}
+}
@@ -17,6 +17,7 @@ package org.springframework.data.mongodb.core.convert;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -111,6 +112,7 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 	protected MongoTypeMapper typeMapper;
 	protected @Nullable String mapKeyDotReplacement = null;
 	protected @Nullable CodecRegistryProvider codecRegistryProvider;
+	protected boolean omitTypeHintsForFinalTypes = false;
 
 	private SpELContext spELContext;
 	private @Nullable EntityCallbacks entityCallbacks;
@@ -189,6 +191,20 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		this.mapKeyDotReplacement = mapKeyDotReplacement;
 	}
 
+	/**
+	 * Configure whether to omit the type hint (aka {@literal _class} attribute) for {@literal final} types written as
+	 * root document. Nested values still carry a type hint if their type differs from the declared property type. <br />
+	 * <strong>NOTE:</strong> Documents without type hint can only be read back as their very type. Reading them via a
+	 * super type (eg. an interface) or restricting a {@link org.springframework.data.mongodb.core.query.Query} to the
+	 * type does no longer work.
+	 *
+	 * @param omitTypeHintsForFinalTypes {@literal true} to omit type hints for {@literal final} types.
+	 * @since 3.1
+	 */
+	public void setOmitTypeHintsForFinalTypes(boolean omitTypeHintsForFinalTypes) {
+		this.omitTypeHintsForFinalTypes = omitTypeHintsForFinalTypes;
+	}
+
 	/**
 	 * Configure a {@link CodecRegistryProvider} that provides native MongoDB {@link org.bson.codecs.Codec codecs} for
 	 * reading values.
@@ -468,10 +484,36 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 			return;
 		}
 
+		// referenced documents already joined into the source document are read directly, even for lazy references
+		if (!property.isMap() && isJoinedReference(value)) {
+
+			accessor.setProperty(property, callback.resolve(property));
+			return;
+		}
+
 		DBRef dbref = value instanceof DBRef ? (DBRef) value : null;
 		accessor.setProperty(property, dbRefResolver.resolveDbRef(property, dbref, callback, handler));
 	}
 
+	private static boolean isJoinedReference(Object value) {
+
+		if (!(value instanceof Collection)) {
+			return isJoinedDocument(value);
+		}
+
+		for (Object element : (Collection<?>) value) {
+			if (isJoinedDocument(element)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean isJoinedDocument(@Nullable Object value) {
+		return value instanceof Document && !((Document) value).containsKey("$ref");
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.core.convert.MongoWriter#toDBRef(java.lang.Object, org.springframework.data.mongodb.core.mapping.MongoPersistentProperty)
@@ -524,10 +566,15 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 	 * Check if a given type requires a type hint (aka {@literal _class} attribute) when writing to the document.
 	 *
 	 * @param type must not be {@literal null}.
-	 * @return {@literal true} if not a simple type, {@link Collection} or type with custom write target.
+	 * @return {@literal true} if not a simple type, {@link Collection}, type with custom write target or {@literal final}
+	 *         type when {@link #setOmitTypeHintsForFinalTypes(boolean) omitting type hints for final types}.
 	 */
 	private boolean requiresTypeHint(Class<?> type) {
 
+		if (omitTypeHintsForFinalTypes && Modifier.isFinal(type.getModifiers())) {
+			return false;
+		}
+
 		return !conversions.isSimpleType(type) && !ClassUtils.isAssignable(Collection.class, type)
 				&& !conversions.hasCustomWriteTarget(type, Document.class);
 	}
@@ -807,25 +854,44 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 			componentType = type.getComponentType();
 		}
 
-		for (Object element : source) {
+		if (source instanceof LazyConvertingList) {
 
-			Class<?> elementType = element == null ? null : element.getClass();
+			// elements never accessed are written as they have been read
+			LazyConvertingList list = (LazyConvertingList) source;
 
-			if (elementType == null || conversions.isSimpleType(elementType)) {
-				collection.add(getPotentiallyConvertedSimpleWrite(element,
-						componentType != null ? componentType.getType() : Object.class));
-			} else if (element instanceof Collection || elementType.isArray()) {
-				collection.add(writeCollectionInternal(asCollection(element), componentType, new BasicDBList()));
-			} else {
-				Document document = new Document();
-				writeInternal(element, document, componentType);
-				collection.add(document);
+			for (int i = 0; i < list.size(); i++) {
+				collection.add(list.isConverted(i) ? writeCollectionElement(list.get(i), componentType) : list.getSource(i));
 			}
+
+			return collection;
+		}
+
+		for (Object element : source) {
+			collection.add(writeCollectionElement(element, componentType));
 		}
 
 		return collection;
 	}
 
+	@Nullable
+	private Object writeCollectionElement(@Nullable Object element, @Nullable TypeInformation<?> componentType) {
+
+		Class<?> elementType = element == null ? null : element.getClass();
+
+		if (elementType == null || conversions.isSimpleType(elementType)) {
+			return getPotentiallyConvertedSimpleWrite(element, componentType != null ? componentType.getType() : Object.class);
+		}
+
+		if (element instanceof Collection || elementType.isArray()) {
+			return writeCollectionInternal(asCollection(element), componentType, new BasicDBList());
+		}
+
+		Document document = new Document();
+		writeInternal(element, document, componentType);
+
+		return document;
+	}
+
 	/**
 	 * Writes the given {@link Map} to the given {@link Document} considering the given {@link TypeInformation}.
 	 *
@@ -839,11 +905,20 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		for (Map.Entry<Object, Object> entry : obj.entrySet()) {
 
 			Object key = entry.getKey();
-			Object val = entry.getValue();
 
 			if (conversions.isSimpleType(key.getClass())) {
 
 				String simpleKey = prepareMapKey(key);
+
+				if (obj instanceof LazyConvertingMap && !((LazyConvertingMap) obj).isConverted(key)) {
+
+					// values never accessed are written as they have been read
+					addToMap(bson, simpleKey, ((LazyConvertingMap) obj).getSource(key));
+					continue;
+				}
+
+				Object val = entry.getValue();
+
 				if (val == null || conversions.isSimpleType(val.getClass())) {
 					writeSimpleInternal(val, bson, simpleKey);
 				} else if (val instanceof Collection || val.getClass().isArray()) {
@@ -1111,31 +1186,51 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		}
 
 		for (Object element : source) {
+			items.add(readCollectionElement(element, componentType, path));
+		}
 
-			if (element instanceof DBRef) {
-				items.add(DBRef.class.equals(rawComponentType) ? element
-						: readAndConvertDBRef((DBRef) element, componentType, path, rawComponentType));
-			} else if (element instanceof Document) {
-				items.add(read(componentType, (Document) element, path));
-			} else if (element instanceof BasicDBObject) {
-				items.add(read(componentType, (BasicDBObject) element, path));
-			} else {
+		return getPotentiallyConvertedSimpleRead(items, targetType.getType());
+	}
 
-				if (!Object.class.equals(rawComponentType) && element instanceof Collection) {
-					if (!rawComponentType.isArray() && !ClassUtils.isAssignable(Iterable.class, rawComponentType)) {
-						throw new MappingException(
-								String.format(INCOMPATIBLE_TYPES, element, element.getClass(), rawComponentType, path));
-					}
-				}
-				if (element instanceof List) {
-					items.add(readCollectionOrArray(componentType, (Collection<Object>) element, path));
-				} else {
-					items.add(getPotentiallyConvertedSimpleRead(element, rawComponentType));
-				}
+	/**
+	 * Reads a single element of a {@link Collection} into the given component {@link TypeInformation}.
+	 *
+	 * @param element can be {@literal null}.
+	 * @param componentType must not be {@literal null}.
+	 * @param path must not be {@literal null}.
+	 * @return the converted element.
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private Object readCollectionElement(@Nullable Object element, TypeInformation<?> componentType, ObjectPath path) {
+
+		Class<?> rawComponentType = componentType.getType();
+
+		if (element instanceof DBRef) {
+			return DBRef.class.equals(rawComponentType) ? element
+					: readAndConvertDBRef((DBRef) element, componentType, path, rawComponentType);
+		}
+
+		if (element instanceof Document) {
+			return read(componentType, (Document) element, path);
+		}
+
+		if (element instanceof BasicDBObject) {
+			return read(componentType, (BasicDBObject) element, path);
+		}
+
+		if (!Object.class.equals(rawComponentType) && element instanceof Collection) {
+			if (!rawComponentType.isArray() && !ClassUtils.isAssignable(Iterable.class, rawComponentType)) {
+				throw new MappingException(
+						String.format(INCOMPATIBLE_TYPES, element, element.getClass(), rawComponentType, path));
 			}
 		}
 
-		return getPotentiallyConvertedSimpleRead(items, targetType.getType());
+		if (element instanceof List) {
+			return readCollectionOrArray(componentType, (Collection<Object>) element, path);
+		}
+
+		return getPotentiallyConvertedSimpleRead(element, rawComponentType);
 	}
 
 	/**
@@ -1174,31 +1269,113 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 				continue;
 			}
 
-			Object key = potentiallyUnescapeMapKey(entry.getKey());
+			map.put(readMapKey(entry.getKey(), rawKeyType), readMapValue(entry.getValue(), valueType, path));
+		}
 
-			if (rawKeyType != null && !rawKeyType.isAssignableFrom(key.getClass())) {
-				key = conversionService.convert(key, rawKeyType);
-			}
+		return map;
+	}
 
-			Object value = entry.getValue();
-			TypeInformation<?> defaultedValueType = valueType != null ? valueType : ClassTypeInformation.OBJECT;
-
-			if (value instanceof Document) {
-				map.put(key, read(defaultedValueType, (Document) value, path));
-			} else if (value instanceof BasicDBObject) {
-				map.put(key, read(defaultedValueType, (BasicDBObject) value, path));
-			} else if (value instanceof DBRef) {
-				map.put(key, DBRef.class.equals(rawValueType) ? value
-						: readAndConvertDBRef((DBRef) value, defaultedValueType, ObjectPath.ROOT, rawValueType));
-			} else if (value instanceof List) {
-				map.put(key, readCollectionOrArray(valueType != null ? valueType : ClassTypeInformation.LIST,
-						(List<Object>) value, path));
-			} else {
-				map.put(key, getPotentiallyConvertedSimpleRead(value, rawValueType));
+	private Object readMapKey(String source, @Nullable Class<?> rawKeyType) {
+
+		Object key = potentiallyUnescapeMapKey(source);
+
+		if (rawKeyType != null && !rawKeyType.isAssignableFrom(key.getClass())) {
+			key = conversionService.convert(key, rawKeyType);
+		}
+
+		return key;
+	}
+
+	/**
+	 * Reads a single {@link Map} value into the given value {@link TypeInformation}.
+	 *
+	 * @param value can be {@literal null}.
+	 * @param valueType can be {@literal null} if unknown.
+	 * @param path must not be {@literal null}.
+	 * @return the converted value.
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private Object readMapValue(@Nullable Object value, @Nullable TypeInformation<?> valueType, ObjectPath path) {
+
+		Class<?> rawValueType = valueType != null ? valueType.getType() : null;
+		TypeInformation<?> defaultedValueType = valueType != null ? valueType : ClassTypeInformation.OBJECT;
+
+		if (value instanceof Document) {
+			return read(defaultedValueType, (Document) value, path);
+		}
+
+		if (value instanceof BasicDBObject) {
+			return read(defaultedValueType, (BasicDBObject) value, path);
+		}
+
+		if (value instanceof DBRef) {
+			return DBRef.class.equals(rawValueType) ? value
+					: readAndConvertDBRef((DBRef) value, defaultedValueType, ObjectPath.ROOT, rawValueType);
+		}
+
+		if (value instanceof List) {
+			return readCollectionOrArray(valueType != null ? valueType : ClassTypeInformation.LIST, (List<Object>) value,
+					path);
+		}
+
+		return getPotentiallyConvertedSimpleRead(value, rawValueType);
+	}
+
+	/**
+	 * Reads the given raw {@link List} or {@link Document} into a view converting its elements on first access if the
+	 * given {@link MongoPersistentProperty} is {@link MongoPersistentProperty#hasLazyElements() annotated} accordingly
+	 * and its type allows to do so.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @param property must not be {@literal null}.
+	 * @param path must not be {@literal null}.
+	 * @return {@literal null} if the value needs to be read eagerly.
+	 */
+	@Nullable
+	private Object readLazily(Object value, MongoPersistentProperty property, ObjectPath path) {
+
+		if (!property.hasLazyElements() || property.isDbReference()) {
+			return null;
+		}
+
+		TypeInformation<?> type = property.getTypeInformation();
+		Class<?> rawType = type.getType();
+
+		if (conversions.hasCustomReadTarget(value.getClass(), rawType)) {
+			return null;
+		}
+
+		if (value instanceof List && property.isCollectionLike() && rawType.isAssignableFrom(LazyConvertingList.class)) {
+
+			TypeInformation<?> componentType = type.getComponentType() != null //
+					? type.getComponentType() //
+					: ClassTypeInformation.OBJECT;
+
+			return new LazyConvertingList((List<?>) value, element -> readCollectionElement(element, componentType, path));
+		}
+
+		if (value instanceof Bson && property.isMap() && rawType.isAssignableFrom(LazyConvertingMap.class)
+				&& rawType.equals(typeMapper.readType((Bson) value, type).getType())) {
+
+			TypeInformation<?> keyType = type.getComponentType();
+			TypeInformation<?> valueType = type.getMapValueType();
+			Class<?> rawKeyType = keyType != null ? keyType.getType() : null;
+
+			Map<String, Object> sourceMap = asMap((Bson) value);
+			Map<Object, Object> source = new LinkedHashMap<>(sourceMap.size() + sourceMap.size() / 3 + 1);
+
+			for (Entry<String, Object> entry : sourceMap.entrySet()) {
+
+				if (!typeMapper.isTypeKey(entry.getKey())) {
+					source.put(readMapKey(entry.getKey(), rawKeyType), entry.getValue());
+				}
 			}
+
+			return new LazyConvertingMap(source, element -> readMapValue(element, valueType, path));
 		}
 
-		return map;
+		return null;
 	}
 
 	@SuppressWarnings("unchecked")
@@ -1466,6 +1643,7 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		 * @see org.springframework.data.convert.PropertyValueProvider#getPropertyValue(org.springframework.data.mapping.PersistentProperty)
 		 */
 		@Nullable
+		@SuppressWarnings("unchecked")
 		public <T> T getPropertyValue(MongoPersistentProperty property) {
 
 			String expression = property.getSpelExpression();
@@ -1475,7 +1653,9 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 				return null;
 			}
 
-			return readValue(value, property.getTypeInformation(), path);
+			Object lazy = expression == null ? readLazily(value, property, path) : null;
+
+			return lazy != null ? (T) lazy : readValue(value, property.getTypeInformation(), path);
 		}
 	}
 
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.mongodb.core.index;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -35,6 +36,24 @@ public interface IndexOperations {
 	 */
 	String ensureIndex(IndexDefinition indexDefinition);
 
+	/**
+	 * Ensure that indexes for all provided {@link IndexDefinition index definitions} exist for the collection indicated
+	 * by the entity class. Implementations may create all indexes via a single command. Defaults to calling
+	 * {@link #ensureIndex(IndexDefinition)} for each definition.
+	 *
+	 * @param indexDefinitions must not be {@literal null}.
+	 * @return the names of the indexes in the order of the given definitions.
+	 * @since 3.1
+	 */
+	default List<String> ensureIndexes(List<? extends IndexDefinition> indexDefinitions) {
+
+		List<String> indexNames = new ArrayList<>(indexDefinitions.size());
+		for (IndexDefinition indexDefinition : indexDefinitions) {
+			indexNames.add(ensureIndex(indexDefinition));
+		}
+		return indexNames;
+	}
+
 	/**
 	 * Drops an index from this collection.
 	 *
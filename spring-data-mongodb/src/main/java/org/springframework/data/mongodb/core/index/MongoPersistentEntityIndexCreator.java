@@ -15,14 +15,28 @@
  */
 package org.springframework.data.mongodb.core.index;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationListener;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.context.MappingContextEvent;
@@ -42,6 +56,12 @@ import com.mongodb.MongoException;
 /**
  * Component that inspects {@link MongoPersistentEntity} instances contained in the given {@link MongoMappingContext}
  * for indexing metadata and ensures the indexes to be available.
+ * <p>
+ * By default indexes are created one by one on the calling thread. When created with an {@link Executor}, indexes are
+ * resolved up front and created via a single command per collection using the {@link Executor}. Indexes already present
+ * in the collection with the same keys and options are skipped. Use {@link #getIndexCreation()} to find out whether
+ * index creation has finished. Failures, such as conflicts with existing indexes, are only logged unless the creator is
+ * configured to fail on index conflicts, which makes the calling thread wait for the indexes and propagate failures.
  *
  * @author Jon Brisbin
  * @author Oliver Gierke
@@ -54,11 +74,17 @@ import com.mongodb.MongoException;
 public class MongoPersistentEntityIndexCreator implements ApplicationListener<MappingContextEvent<?, ?>> {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(MongoPersistentEntityIndexCreator.class);
+	private static final Set<String> COMPARABLE_OPTIONS = new HashSet<>(
+			Arrays.asList("name", "unique", "sparse", "expireAfterSeconds", "background"));
 
 	private final Map<Class<?>, Boolean> classesSeen = new ConcurrentHashMap<Class<?>, Boolean>();
 	private final IndexOperationsProvider indexOperationsProvider;
 	private final MongoMappingContext mappingContext;
 	private final IndexResolver indexResolver;
+	private final @Nullable Executor executor;
+	private final boolean failOnIndexConflict;
+
+	private volatile CompletableFuture<Void> indexCreation = CompletableFuture.completedFuture(null);
 
 	/**
 	 * Creates a new {@link MongoPersistentEntityIndexCreator} for the given {@link MongoMappingContext} and
@@ -82,6 +108,44 @@ public class MongoPersistentEntityIndexCreator implements ApplicationListener<Ma
 	 */
 	public MongoPersistentEntityIndexCreator(MongoMappingContext mappingContext,
 			IndexOperationsProvider indexOperationsProvider, IndexResolver indexResolver) {
+		this(mappingContext, indexOperationsProvider, indexResolver, null);
+	}
+
+	/**
+	 * Creates a new {@link MongoPersistentEntityIndexCreator} for the given {@link MongoMappingContext} and
+	 * {@link MongoDatabaseFactory} creating indexes using the given {@link Executor}. Indexes are grouped per collection
+	 * and created via a single command for each one of them. Indexes already present with the same keys and options
+	 * are skipped. Use a bounded {@link Executor} to limit the number of collections processed in parallel.
+	 *
+	 * @param mappingContext must not be {@literal null}.
+	 * @param indexOperationsProvider must not be {@literal null}.
+	 * @param indexResolver must not be {@literal null}.
+	 * @param executor the {@link Executor} to run index creation. Can be {@literal null} to create indexes one by one on
+	 *          the calling thread.
+	 * @since 3.1
+	 */
+	public MongoPersistentEntityIndexCreator(MongoMappingContext mappingContext,
+			IndexOperationsProvider indexOperationsProvider, IndexResolver indexResolver, @Nullable Executor executor) {
+		this(mappingContext, indexOperationsProvider, indexResolver, executor, false);
+	}
+
+	/**
+	 * Creates a new {@link MongoPersistentEntityIndexCreator} for the given {@link MongoMappingContext} and
+	 * {@link MongoDatabaseFactory} creating indexes using the given {@link Executor}.
+	 *
+	 * @param mappingContext must not be {@literal null}.
+	 * @param indexOperationsProvider must not be {@literal null}.
+	 * @param indexResolver must not be {@literal null}.
+	 * @param executor the {@link Executor} to run index creation. Can be {@literal null} to create indexes one by one on
+	 *          the calling thread.
+	 * @param failOnIndexConflict {@literal true} to let the calling thread wait for indexes created using the
+	 *          {@link Executor} and propagate failures, such as conflicts with existing indexes, instead of logging
+	 *          them. Failures of index creation on the calling thread are always propagated.
+	 * @since 3.1
+	 */
+	public MongoPersistentEntityIndexCreator(MongoMappingContext mappingContext,
+			IndexOperationsProvider indexOperationsProvider, IndexResolver indexResolver, @Nullable Executor executor,
+			boolean failOnIndexConflict) {
 
 		Assert.notNull(mappingContext, "MongoMappingContext must not be null!");
 		Assert.notNull(indexOperationsProvider, "IndexOperationsProvider must not be null!");
@@ -90,10 +154,10 @@ public class MongoPersistentEntityIndexCreator implements ApplicationListener<Ma
 		this.indexOperationsProvider = indexOperationsProvider;
 		this.mappingContext = mappingContext;
 		this.indexResolver = indexResolver;
+		this.executor = executor;
+		this.failOnIndexConflict = failOnIndexConflict;
 
-		for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
-			checkForIndexes(entity);
-		}
+		checkForIndexes(mappingContext.getPersistentEntities());
 	}
 
 	/*
@@ -111,7 +175,81 @@ public class MongoPersistentEntityIndexCreator implements ApplicationListener<Ma
 		// Double check type as Spring infrastructure does not consider nested generics
 		if (entity instanceof MongoPersistentEntity) {
 
-			checkForIndexes((MongoPersistentEntity<?>) entity);
+			checkForIndexes(Collections.singletonList((MongoPersistentEntity<?>) entity));
+		}
+	}
+
+	/**
+	 * Returns the {@link CompletableFuture} tracking the creation of all indexes scheduled so far. The future completes
+	 * exceptionally if creating the indexes for any collection failed. Useful to back a readiness or health check when
+	 * creating indexes using an {@link Executor}.
+	 *
+	 * @return never {@literal null}. Already completed when creating indexes on the calling thread.
+	 * @since 3.1
+	 */
+	public CompletableFuture<Void> getIndexCreation() {
+		return indexCreation;
+	}
+
+	private void checkForIndexes(Collection<? extends MongoPersistentEntity<?>> entities) {
+
+		if (executor == null) {
+
+			for (MongoPersistentEntity<?> entity : entities) {
+				checkForIndexes(entity);
+			}
+			return;
+		}
+
+		Map<String, List<IndexDefinitionHolder>> indexesPerCollection = new LinkedHashMap<>();
+
+		for (MongoPersistentEntity<?> entity : entities) {
+
+			if (classesSeen.putIfAbsent(entity.getType(), Boolean.TRUE) != null) {
+				continue;
+			}
+
+			for (IndexDefinitionHolder index : resolveIndexes(entity)) {
+				indexesPerCollection.computeIfAbsent(index.getCollection(), key -> new ArrayList<>()).add(index);
+			}
+		}
+
+		CompletableFuture<?>[] creations = indexesPerCollection.entrySet().stream()
+				.map(it -> scheduleIndexCreation(it.getKey(), it.getValue())).toArray(CompletableFuture[]::new);
+
+		if (failOnIndexConflict) {
+			awaitIndexCreation(CompletableFuture.allOf(creations));
+		}
+	}
+
+	private CompletableFuture<Void> scheduleIndexCreation(String collection, List<IndexDefinitionHolder> indexes) {
+
+		CompletableFuture<Void> creation = CompletableFuture.runAsync(() -> createIndexes(collection, indexes), executor)
+				.whenComplete((result, error) -> {
+
+					if (error != null && !failOnIndexConflict) {
+						LOGGER.error(String.format("Failed to create indexes for collection '%s'.", collection), error);
+					}
+				});
+
+		synchronized (this) {
+			indexCreation = CompletableFuture.allOf(indexCreation, creation);
+		}
+
+		return creation;
+	}
+
+	private static void awaitIndexCreation(CompletableFuture<Void> creation) {
+
+		try {
+			creation.join();
+		} catch (CompletionException ex) {
+
+			if (ex.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) ex.getCause();
+			}
+
+			throw ex;
 		}
 	}
 
@@ -133,19 +271,144 @@ public class MongoPersistentEntityIndexCreator implements ApplicationListener<Ma
 
 	private void checkForAndCreateIndexes(MongoPersistentEntity<?> entity) {
 
-		if (entity.isAnnotationPresent(Document.class)) {
+		for (IndexDefinitionHolder indexToCreate : resolveIndexes(entity)) {
+			createIndex(indexToCreate);
+		}
+	}
+
+	private List<IndexDefinitionHolder> resolveIndexes(MongoPersistentEntity<?> entity) {
 
-			String collection = entity.getCollection();
+		if (!entity.isAnnotationPresent(Document.class)) {
+			return Collections.emptyList();
+		}
 
-			for (IndexDefinition indexDefinition : indexResolver.resolveIndexFor(entity.getTypeInformation())) {
+		String collection = entity.getCollection();
+		List<IndexDefinitionHolder> indexes = new ArrayList<>();
 
-				IndexDefinitionHolder indexToCreate = indexDefinition instanceof IndexDefinitionHolder
-						? (IndexDefinitionHolder) indexDefinition
-						: new IndexDefinitionHolder("", indexDefinition, collection);
+		for (IndexDefinition indexDefinition : indexResolver.resolveIndexFor(entity.getTypeInformation())) {
 
-				createIndex(indexToCreate);
+			indexes.add(indexDefinition instanceof IndexDefinitionHolder ? (IndexDefinitionHolder) indexDefinition
+					: new IndexDefinitionHolder("", indexDefinition, collection));
+		}
+
+		return indexes;
+	}
+
+	/**
+	 * Create the given indexes for the collection via a single command skipping the ones already present. Falls back to
+	 * creating the indexes one by one in case of a conflict with an existing index to report the offending definition.
+	 */
+	void createIndexes(String collection, List<IndexDefinitionHolder> indexes) {
+
+		IndexOperations indexOperations = indexOperationsProvider.indexOps(collection);
+
+		List<IndexInfo> existingIndexes = indexOperations.getIndexInfo();
+		List<IndexDefinitionHolder> indexesToCreate = indexes.stream()
+				.filter(index -> existingIndexes.stream().noneMatch(existing -> matches(index, existing)))
+				.collect(Collectors.toList());
+
+		if (indexesToCreate.isEmpty()) {
+
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug(String.format("All indexes for collection '%s' already present.", collection));
+			}
+			return;
+		}
+
+		try {
+			indexOperations.ensureIndexes(indexesToCreate);
+		} catch (UncategorizedMongoDbException ex) {
+
+			if (ex.getCause() instanceof MongoException
+					&& MongoDbErrorCodes.isDataIntegrityViolationCode(((MongoException) ex.getCause()).getCode())) {
+
+				indexesToCreate.forEach(this::createIndex);
+				return;
+			}
+
+			throw ex;
+		}
+	}
+
+	/**
+	 * Returns whether the given existing index has the name, keys and options of the given {@link IndexDefinition}.
+	 * Definitions using key types or options that cannot be compared against {@link IndexInfo} reliably never match and
+	 * are left to the server that ignores identical indexes and rejects conflicting ones.
+	 */
+	private static boolean matches(IndexDefinition index, IndexInfo existing) {
+
+		if (!getIndexName(index).equals(existing.getName())) {
+			return false;
+		}
+
+		org.bson.Document keys = index.getIndexKeys();
+		List<IndexField> fields = existing.getIndexFields();
+
+		if (keys.size() != fields.size()) {
+			return false;
+		}
+
+		int position = 0;
+
+		for (Map.Entry<String, Object> key : keys.entrySet()) {
+
+			IndexField field = toIndexField(key.getKey(), key.getValue());
+
+			if (field == null || !field.equals(fields.get(position++))) {
+				return false;
+			}
+		}
+
+		org.bson.Document options = index.getIndexOptions();
+
+		if (!COMPARABLE_OPTIONS.containsAll(options.keySet())) {
+			return false;
+		}
+
+		Optional<Duration> expireAfter = Optional.ofNullable(options.get("expireAfterSeconds", Number.class))
+				.map(it -> Duration.ofSeconds(it.longValue()));
+
+		return existing.isUnique() == Boolean.TRUE.equals(options.get("unique"))
+				&& existing.isSparse() == Boolean.TRUE.equals(options.get("sparse"))
+				&& existing.getExpireAfter().equals(expireAfter);
+	}
+
+	@Nullable
+	private static IndexField toIndexField(String key, Object value) {
+
+		if ("hashed".equals(value)) {
+			return IndexField.hashed(key);
+		}
+
+		if (value instanceof Number) {
+
+			double direction = ((Number) value).doubleValue();
+
+			if (direction == 1) {
+				return IndexField.create(key, Direction.ASC);
 			}
+
+			if (direction == -1) {
+				return IndexField.create(key, Direction.DESC);
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the explicitly configured index name or the one MongoDB derives from the index keys.
+	 */
+	private static String getIndexName(IndexDefinition index) {
+
+		Object name = index.getIndexOptions().get("name");
+
+		if (name != null) {
+			return name.toString();
 		}
+
+		return index.getIndexKeys().entrySet().stream().map(entry -> entry.getKey() + "_" + entry.getValue())
+				.collect(Collectors.joining("_"));
 	}
 
 	void createIndex(IndexDefinitionHolder indexDefinition) {
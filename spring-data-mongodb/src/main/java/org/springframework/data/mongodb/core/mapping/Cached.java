@@ -0,0 +1,53 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@link Cached} marks a {@link Document} type whose documents are kept in the
+ * {@link org.springframework.data.mongodb.core.EntityCache} of the template when looked up by their identifier.
+ * Intended for frequently read and rarely changed reference data.
+ *
+ * @since 3.1
+ * @see org.springframework.data.mongodb.core.EntityCache
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.ANNOTATION_TYPE })
+public @interface Cached {
+
+	/**
+	 * Time in seconds after which a cached document expires. A value less or equal to zero keeps documents until they
+	 * are evicted by a write operation or due to {@link #maxSize() size} restrictions.
+	 *
+	 * @return {@literal 60} by default.
+	 */
+	long expireAfterSeconds() default 60;
+
+	/**
+	 * The maximum number of documents to keep per collection. Exceeding the limit evicts the least recently used ones.
+	 *
+	 * @return {@literal 1000} by default.
+	 */
+	int maxSize() default 1000;
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@link LazyElements} marks a {@link java.util.List} or {@link java.util.Map} property whose elements are converted on
+ * first access instead of when reading the entity. Converted elements are retained, elements never accessed are written
+ * back as they have been read. <br />
+ * <b>NOTE</b> The annotation only applies to properties declared as {@link java.util.List},
+ * {@link java.util.Collection}, {@link Iterable} or {@link java.util.Map}, that are not {@link DBRef references} and
+ * do not use a custom read converter. Those are read eagerly. The resulting views are not thread-safe.
+ *
+ * @since 3.1
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.ANNOTATION_TYPE })
+public @interface LazyElements {
+
+}
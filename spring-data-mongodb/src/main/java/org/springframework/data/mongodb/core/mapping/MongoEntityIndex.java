@@ -0,0 +1,185 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.mapping;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.SpringProperties;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.StringUtils;
+
+/**
+ * Index of entity types, i.e. types annotated with {@link Document} or
+ * {@link org.springframework.data.annotation.Persistent}, computed at build time by {@code MongoEntityIndexProcessor}.
+ * Looking up entities of a base package via the index avoids scanning the classpath on startup. <br />
+ * The index is read from all {@value #INDEX_LOCATION} resources visible to the {@link ClassLoader}. Therefore all
+ * modules contributing entities need to generate the index, otherwise entities of modules without an index are not
+ * found. Set the {@value #IGNORE_INDEX_PROPERTY} system or {@link SpringProperties Spring property} to
+ * {@literal true} to ignore the index and scan the classpath instead.
+ *
+ * @since 3.1
+ */
+public class MongoEntityIndex {
+
+	/**
+	 * The location of the index within the classpath.
+	 */
+	public static final String INDEX_LOCATION = "META-INF/spring-data-mongodb.entities";
+
+	/**
+	 * The property to set to {@literal true} for ignoring the index.
+	 */
+	public static final String IGNORE_INDEX_PROPERTY = "spring.data.mongodb.entity-index.ignore";
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(MongoEntityIndex.class);
+	private static final Map<ClassLoader, Optional<MongoEntityIndex>> CACHE = new ConcurrentReferenceHashMap<>();
+
+	private final Set<String> entityClassNames;
+
+	MongoEntityIndex(Set<String> entityClassNames) {
+		this.entityClassNames = Collections.unmodifiableSet(entityClassNames);
+	}
+
+	/**
+	 * Load the index from the given {@link ClassLoader}.
+	 *
+	 * @param classLoader can be {@literal null} to use the default {@link ClassLoader}.
+	 * @return the {@link MongoEntityIndex} or {@literal null} if no index is present or the index is
+	 *         {@link #IGNORE_INDEX_PROPERTY ignored}.
+	 */
+	@Nullable
+	public static MongoEntityIndex load(@Nullable ClassLoader classLoader) {
+
+		if (SpringProperties.getFlag(IGNORE_INDEX_PROPERTY)) {
+			return null;
+		}
+
+		ClassLoader classLoaderToUse = classLoader != null ? classLoader : ClassUtils.getDefaultClassLoader();
+
+		if (classLoaderToUse == null) {
+			return null;
+		}
+
+		return CACHE.computeIfAbsent(classLoaderToUse, MongoEntityIndex::doLoad).orElse(null);
+	}
+
+	private static Optional<MongoEntityIndex> doLoad(ClassLoader classLoader) {
+
+		try {
+
+			Enumeration<URL> urls = classLoader.getResources(INDEX_LOCATION);
+
+			if (!urls.hasMoreElements()) {
+				return Optional.empty();
+			}
+
+			Set<String> entityClassNames = new LinkedHashSet<>();
+
+			while (urls.hasMoreElements()) {
+				try (Reader reader = new InputStreamReader(urls.nextElement().openStream(), StandardCharsets.UTF_8)) {
+					entityClassNames.addAll(read(reader));
+				}
+			}
+
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Loaded {} entities from {}.", entityClassNames.size(), INDEX_LOCATION);
+			}
+
+			return Optional.of(new MongoEntityIndex(entityClassNames));
+		} catch (IOException e) {
+			throw new IllegalStateException(String.format("Unable to load entity index from %s!", INDEX_LOCATION), e);
+		}
+	}
+
+	/**
+	 * Read the entity type names from the given index content, one name per line. Blank lines and lines starting with
+	 * {@literal #} are skipped.
+	 *
+	 * @param reader must not be {@literal null}.
+	 * @return the entity type names.
+	 * @throws IOException
+	 */
+	static Set<String> read(Reader reader) throws IOException {
+
+		return new BufferedReader(reader).lines() //
+				.map(String::trim) //
+				.filter(line -> !line.isEmpty() && !line.startsWith("#")) //
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+	}
+
+	/**
+	 * Return whether the given base package can be looked up in the index. Packages using ant style patterns require
+	 * scanning.
+	 *
+	 * @param basePackage must not be {@literal null}.
+	 * @return {@literal true} if the index can be used for the given package.
+	 */
+	public boolean supports(String basePackage) {
+		return !basePackage.contains("*") && !basePackage.contains("?") && !basePackage.contains("/");
+	}
+
+	/**
+	 * Return the names of the entity types within the given package and its sub packages.
+	 *
+	 * @param basePackage must not be {@literal null}.
+	 * @return never {@literal null}. Empty if the base package is empty.
+	 */
+	public Set<String> getEntityClassNames(String basePackage) {
+
+		Assert.notNull(basePackage, "Base package must not be null!");
+
+		if (!StringUtils.hasText(basePackage)) {
+			return Collections.emptySet();
+		}
+
+		String prefix = basePackage.trim() + ".";
+
+		return entityClassNames.stream() //
+				.filter(it -> it.startsWith(prefix)) //
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+	}
+
+	/**
+	 * @return the names of all indexed entity types.
+	 */
+	public Set<String> getEntityClassNames() {
+		return entityClassNames;
+	}
+
+	/**
+	 * Clear the cache of loaded indexes.
+	 */
+	static void clearCache() {
+		CACHE.clear();
+	}
+}
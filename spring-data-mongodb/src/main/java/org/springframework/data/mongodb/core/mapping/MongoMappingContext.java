@@ -16,18 +16,28 @@
 package org.springframework.data.mongodb.core.mapping;
 
 import java.util.AbstractMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.mapping.Alias;
 import org.springframework.data.mapping.context.AbstractMappingContext;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.FieldNamingStrategy;
 import org.springframework.data.mapping.model.Property;
 import org.springframework.data.mapping.model.PropertyNameFieldNamingStrategy;
 import org.springframework.data.mapping.model.SimpleTypeHolder;
+import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Default implementation of a {@link MappingContext} for MongoDB using {@link BasicMongoPersistentEntity} and
@@ -43,6 +53,11 @@ public class MongoMappingContext extends AbstractMappingContext<BasicMongoPersis
 
 	private FieldNamingStrategy fieldNamingStrategy = DEFAULT_NAMING_STRATEGY;
 	private boolean autoIndexCreation = false;
+	private @Nullable Executor indexCreationExecutor;
+	private boolean failOnIndexConflict = false;
+
+	private final Map<Class<?>, Alias> typeDiscriminators = new ConcurrentHashMap<>();
+	private final Map<Object, TypeInformation<?>> discriminatedTypes = new ConcurrentHashMap<>();
 
 	/**
 	 * Creates a new {@link MongoMappingContext}.
@@ -126,4 +141,139 @@ public class MongoMappingContext extends AbstractMappingContext<BasicMongoPersis
 	public void setAutoIndexCreation(boolean autoCreateIndexes) {
 		this.autoIndexCreation = autoCreateIndexes;
 	}
+
+	/**
+	 * Returns the {@link Executor} to create indexes with if {@link #isAutoIndexCreation() auto-index creation} is
+	 * enabled.
+	 *
+	 * @return {@literal null} if indexes are created one by one on the thread registering the entity.
+	 * @since 3.1
+	 * @see org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexCreator
+	 */
+	@Nullable
+	public Executor getIndexCreationExecutor() {
+		return indexCreationExecutor;
+	}
+
+	/**
+	 * Configures the {@link Executor} to create indexes with if {@link #isAutoIndexCreation() auto-index creation} is
+	 * enabled. Indexes are then created via a single command per collection running on the given {@link Executor}.
+	 *
+	 * @param indexCreationExecutor can be {@literal null} to create indexes one by one on the thread registering the
+	 *          entity.
+	 * @since 3.1
+	 * @see org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexCreator
+	 */
+	public void setIndexCreationExecutor(@Nullable Executor indexCreationExecutor) {
+		this.indexCreationExecutor = indexCreationExecutor;
+	}
+
+	/**
+	 * Returns whether failures of indexes created using the {@link #getIndexCreationExecutor() index creation executor},
+	 * such as conflicts with existing indexes, are propagated.
+	 *
+	 * @return {@literal false} by default.
+	 * @since 3.1
+	 */
+	public boolean isFailOnIndexConflict() {
+		return failOnIndexConflict;
+	}
+
+	/**
+	 * Configures whether to wait for indexes created using the {@link #getIndexCreationExecutor() index creation
+	 * executor} and propagate failures, such as conflicts with existing indexes, instead of logging them. Failures of
+	 * indexes created without an {@link Executor} are always propagated.
+	 *
+	 * @param failOnIndexConflict
+	 * @since 3.1
+	 */
+	public void setFailOnIndexConflict(boolean failOnIndexConflict) {
+		this.failOnIndexConflict = failOnIndexConflict;
+	}
+
+	/**
+	 * Register compact type discriminators for a sealed type hierarchy. Discriminators are written as type hint instead of
+	 * the fully qualified class name and resolved back to the type via the registered table without inspecting the
+	 * {@link #getPersistentEntities() known entities} or loading classes by name. <br />
+	 * <strong>NOTE:</strong> Discriminators need to be registered before reading or writing any of the given types
+	 * (ideally during application startup) as type hints resolved by the converter are cached.
+	 *
+	 * <pre class="code">
+	 * Map&lt;Class&lt;?&gt;, Object&gt; discriminators = new HashMap&lt;&gt;();
+	 * discriminators.put(Circle.class, 1);
+	 * discriminators.put(Square.class, 2);
+	 *
+	 * context.registerTypeDiscriminators(Shape.class, discriminators);
+	 * </pre>
+	 *
+	 * @param rootType the root type of the hierarchy. Must not be {@literal null}.
+	 * @param discriminators the discriminator per type. Each type must be assignable to the {@literal rootType},
+	 *          discriminators must be either {@link String} or {@link Integer} values unique across all registered
+	 *          hierarchies. Must not be {@literal null}.
+	 * @throws IllegalArgumentException if a type is not part of the hierarchy, uses {@link TypeAlias} or either the type
+	 *           or the discriminator has already been registered differently.
+	 * @since 3.1
+	 */
+	public void registerTypeDiscriminators(Class<?> rootType, Map<Class<?>, ?> discriminators) {
+
+		Assert.notNull(rootType, "Root type must not be null!");
+		Assert.notNull(discriminators, "Discriminators must not be null!");
+		Assert.isTrue(new HashSet<>(discriminators.values()).size() == discriminators.size(),
+				"Discriminators must be unique!");
+
+		for (Entry<Class<?>, ?> entry : discriminators.entrySet()) {
+
+			Class<?> type = entry.getKey();
+			Object discriminator = entry.getValue();
+
+			Assert.isTrue(rootType.isAssignableFrom(type),
+					() -> String.format("Type %s is not assignable to %s!", type.getName(), rootType.getName()));
+			Assert.isTrue(discriminator instanceof String || discriminator instanceof Integer,
+					() -> String.format("Discriminator for %s must be a String or Integer but was %s!", type.getName(),
+							discriminator));
+			Assert.isTrue(!AnnotatedElementUtils.hasAnnotation(type, TypeAlias.class), () -> String
+					.format("Type %s uses @TypeAlias and cannot be registered with a discriminator!", type.getName()));
+
+			Alias existingDiscriminator = typeDiscriminators.get(type);
+			Assert.isTrue(existingDiscriminator == null || existingDiscriminator.hasValue(discriminator),
+					() -> String.format("Type %s already registered with discriminator %s!", type.getName(),
+							existingDiscriminator));
+
+			TypeInformation<?> existingType = discriminatedTypes.get(discriminator);
+			Assert.isTrue(existingType == null || existingType.getType().equals(type),
+					() -> String.format("Discriminator %s already registered for type %s!", discriminator,
+							existingType.getType().getName()));
+		}
+
+		discriminators.forEach((type, discriminator) -> {
+
+			typeDiscriminators.put(type, Alias.of(discriminator));
+			discriminatedTypes.put(discriminator, ClassTypeInformation.from(type));
+		});
+	}
+
+	/**
+	 * Get the type discriminator registered for the given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return {@link Alias#NONE} if no discriminator has been registered for the given type.
+	 * @since 3.1
+	 * @see #registerTypeDiscriminators(Class, Map)
+	 */
+	public Alias getTypeDiscriminator(Class<?> type) {
+		return typeDiscriminators.getOrDefault(type, Alias.NONE);
+	}
+
+	/**
+	 * Get the type registered for the given type discriminator.
+	 *
+	 * @param discriminator must not be {@literal null}.
+	 * @return {@literal null} if the discriminator has not been registered.
+	 * @since 3.1
+	 * @see #registerTypeDiscriminators(Class, Map)
+	 */
+	@Nullable
+	public TypeInformation<?> getTypeForDiscriminator(Alias discriminator) {
+		return discriminator.isPresent() ? discriminatedTypes.get(discriminator.getValue()) : null;
+	}
 }
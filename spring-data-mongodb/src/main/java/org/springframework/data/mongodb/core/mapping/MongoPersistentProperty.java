@@ -38,6 +38,18 @@ public interface MongoPersistentProperty extends PersistentProperty<MongoPersist
 	 */
 	String getFieldName();
 
+	/**
+	 * Returns the segments of the {@link #getFieldName() field name} split by {@literal .}. Field names using a path
+	 * expression like {@code address.street} refer to a value in a nested document. Plain field names result in a single
+	 * element array.
+	 *
+	 * @return never {@literal null}. Must not be modified.
+	 * @since 3.1
+	 */
+	default String[] getFieldNameSegments() {
+		return getFieldName().split("\\.");
+	}
+
 	/**
 	 * Returns the {@link Class Java FieldType} of the field a property is persisted to.
 	 *
@@ -123,6 +135,14 @@ public interface MongoPersistentProperty extends PersistentProperty<MongoPersist
 		return field != null ? !FieldType.IMPLICIT.equals(field.targetType()) : false;
 	}
 
+	/**
+	 * @return {@literal true} if the property is annotated with {@link LazyElements}.
+	 * @since 3.1
+	 */
+	default boolean hasLazyElements() {
+		return isAnnotationPresent(LazyElements.class);
+	}
+
 	/**
 	 * Simple {@link Converter} implementation to transform a {@link MongoPersistentProperty} into its field name.
 	 *
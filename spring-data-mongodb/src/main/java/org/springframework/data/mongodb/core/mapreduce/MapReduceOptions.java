@@ -42,6 +42,7 @@ public class MapReduceOptions {
 	private @Nullable Boolean jsMode;
 	private Boolean verbose = Boolean.TRUE;
 	private @Nullable Integer limit;
+	private @Nullable Integer batchSize;
 
 	private Optional<Boolean> outputSharded = Optional.empty();
 	private Optional<String> finalizeFunction = Optional.empty();
@@ -69,6 +70,19 @@ public class MapReduceOptions {
 		return this;
 	}
 
+	/**
+	 * Set the number of documents to fetch per batch when reading the results of the map-reduce operation.
+	 *
+	 * @param batchSize the number of documents to return per batch.
+	 * @return MapReduceOptions so that methods can be chained in a fluent API style
+	 * @since 3.1
+	 */
+	public MapReduceOptions batchSize(int batchSize) {
+
+		this.batchSize = batchSize;
+		return this;
+	}
+
 	/**
 	 * The collection where the results from the map-reduce operation will be stored. Note, you can set the database name
 	 * as well with the outputDatabase option.
@@ -336,6 +350,17 @@ public class MapReduceOptions {
 		return limit;
 	}
 
+	/**
+	 * Get the number of documents to fetch per batch.
+	 *
+	 * @return {@literal null} if not set.
+	 * @since 3.1
+	 */
+	@Nullable
+	public Integer getBatchSize() {
+		return batchSize;
+	}
+
 	/**
 	 * Get the Collation specifying language-specific rules for string comparison.
 	 *
@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -63,6 +64,8 @@ public class Query {
 
 	private Optional<Collation> collation = Optional.empty();
 
+	private final Set<String> fetchPaths = new LinkedHashSet<>();
+
 	/**
 	 * Static factory method to create a {@link Query} using the provided {@link CriteriaDefinition}.
 	 *
@@ -475,6 +478,34 @@ public class Query {
 		return collation;
 	}
 
+	/**
+	 * Load the documents referenced via {@link org.springframework.data.mongodb.core.mapping.DBRef} at the given property
+	 * paths along with the matching documents. The find is executed as a single aggregation joining the referenced
+	 * documents using {@literal $lookup} instead of resolving references one by one. Queries with fetch paths are
+	 * rejected by {@link org.springframework.data.mongodb.core.ReactiveMongoOperations}.
+	 *
+	 * @param associationPaths must not be {@literal null}.
+	 * @return this.
+	 * @since 3.1
+	 */
+	public Query fetch(String... associationPaths) {
+
+		Assert.notNull(associationPaths, "AssociationPaths must not be null!");
+
+		fetchPaths.addAll(Arrays.asList(associationPaths));
+		return this;
+	}
+
+	/**
+	 * Get the property paths of references to load along with the matching documents.
+	 *
+	 * @return never {@literal null}.
+	 * @since 3.1
+	 */
+	public Set<String> getFetchPaths() {
+		return fetchPaths;
+	}
+
 	protected List<CriteriaDefinition> getCriteria() {
 		return new ArrayList<>(this.criteria.values());
 	}
@@ -524,6 +555,7 @@ public class Query {
 		target.hint = source.getHint();
 		target.collation = source.getCollation();
 		target.restrictedTypes.addAll(source.getRestrictedTypes());
+		target.fetchPaths.addAll(source.getFetchPaths());
 
 		if (source.getMeta().hasValues()) {
 			target.setMeta(new Meta(source.getMeta()));
@@ -576,9 +608,10 @@ public class Query {
 		boolean limitEqual = this.limit == that.limit;
 		boolean metaEqual = nullSafeEquals(this.meta, that.meta);
 		boolean collationEqual = nullSafeEquals(this.collation.orElse(null), that.collation.orElse(null));
+		boolean fetchPathsEqual = this.fetchPaths.equals(that.fetchPaths);
 
 		return criteriaEqual && fieldsEqual && sortEqual && hintEqual && skipEqual && limitEqual && metaEqual
-				&& collationEqual;
+				&& collationEqual && fetchPathsEqual;
 	}
 
 	/*
@@ -598,6 +631,7 @@ public class Query {
 		result += 31 * limit;
 		result += 31 * nullSafeHashCode(meta);
 		result += 31 * nullSafeHashCode(collation.orElse(null));
+		result += 31 * fetchPaths.hashCode();
 
 		return result;
 	}
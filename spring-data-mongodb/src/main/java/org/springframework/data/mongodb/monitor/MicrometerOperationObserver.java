@@ -0,0 +1,177 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.monitor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.mongodb.core.MongoOperationObserver;
+import org.springframework.data.mongodb.core.OperationPhase;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * {@link MongoOperationObserver} recording the phases of template operations as Micrometer {@link Timer timers}
+ * named {@value #DEFAULT_METRIC_NAME} by default, tagged with:
+ * <ul>
+ * <li>{@literal phase} - the {@link OperationPhase#getTagValue() phase}, eg. {@literal query-mapping}.</li>
+ * <li>{@literal operation} - the template operation, eg. {@literal find}.</li>
+ * <li>{@literal collection} - the collection name.</li>
+ * <li>{@literal entity} - the simple name of the entity type or {@literal none}.</li>
+ * <li>{@literal method} - the repository query method issuing the operation as
+ * {@literal RepositoryInterface.methodName} or {@literal none}.</li>
+ * </ul>
+ * Timers are registered once per tag combination and looked up without touching the {@link MeterRegistry} afterwards.
+ *
+ * @since 3.1
+ * @see org.springframework.data.mongodb.core.MongoTemplate#setOperationObserver(MongoOperationObserver)
+ * @see org.springframework.data.mongodb.core.ReactiveMongoTemplate#setOperationObserver(MongoOperationObserver)
+ */
+public class MicrometerOperationObserver implements MongoOperationObserver {
+
+	public static final String DEFAULT_METRIC_NAME = "spring.data.mongodb.operation";
+
+	private static final String NONE = "none";
+
+	private final MeterRegistry registry;
+	private final String metricName;
+	private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+	private boolean repositoryMethodTagging = true;
+
+	/**
+	 * Create a new {@link MicrometerOperationObserver} registering timers named {@value #DEFAULT_METRIC_NAME}.
+	 *
+	 * @param registry must not be {@literal null}.
+	 */
+	public MicrometerOperationObserver(MeterRegistry registry) {
+		this(registry, DEFAULT_METRIC_NAME);
+	}
+
+	/**
+	 * Create a new {@link MicrometerOperationObserver} registering timers with the given name.
+	 *
+	 * @param registry must not be {@literal null}.
+	 * @param metricName must not be {@literal null} or empty.
+	 */
+	public MicrometerOperationObserver(MeterRegistry registry, String metricName) {
+
+		Assert.notNull(registry, "MeterRegistry must not be null!");
+		Assert.hasText(metricName, "Metric name must not be null or empty!");
+
+		this.registry = registry;
+		this.metricName = metricName;
+	}
+
+	/**
+	 * Configure whether to tag timers with the repository query method issuing the operation. Disable to limit the
+	 * number of timers for repositories declaring many query methods. Defaults to {@literal true}.
+	 *
+	 * @param repositoryMethodTagging
+	 */
+	public void setRepositoryMethodTagging(boolean repositoryMethodTagging) {
+		this.repositoryMethodTagging = repositoryMethodTagging;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperationObserver#record(org.springframework.data.mongodb.core.OperationPhase, java.lang.String, java.lang.String, java.lang.Class, java.lang.String, long)
+	 */
+	@Override
+	public void record(OperationPhase phase, String operation, String collectionName, @Nullable Class<?> entityType,
+			@Nullable String repositoryMethod, long durationNanos) {
+
+		String method = repositoryMethodTagging ? repositoryMethod : null;
+		TimerKey key = new TimerKey(phase, operation, collectionName, entityType, method);
+
+		timers.computeIfAbsent(key, this::createTimer).record(durationNanos, TimeUnit.NANOSECONDS);
+	}
+
+	private Timer createTimer(TimerKey key) {
+
+		return Timer.builder(metricName) //
+				.description("Time spent in the phases of MongoDB template operations") //
+				.tag("phase", key.phase.getTagValue()) //
+				.tag("operation", key.operation) //
+				.tag("collection", key.collectionName) //
+				.tag("entity", key.entityType != null ? key.entityType.getSimpleName() : NONE) //
+				.tag("method", key.method != null ? key.method : NONE) //
+				.register(registry);
+	}
+
+	/**
+	 * Cache key for the {@link Timer} of a tag combination.
+	 */
+	private static class TimerKey {
+
+		private final OperationPhase phase;
+		private final String operation;
+		private final String collectionName;
+		private final @Nullable Class<?> entityType;
+		private final @Nullable String method;
+
+		TimerKey(OperationPhase phase, String operation, String collectionName, @Nullable Class<?> entityType,
+				@Nullable String method) {
+
+			this.phase = phase;
+			this.operation = operation;
+			this.collectionName = collectionName;
+			this.entityType = entityType;
+			this.method = method;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof TimerKey)) {
+				return false;
+			}
+
+			TimerKey that = (TimerKey) o;
+
+			return phase == that.phase && operation.equals(that.operation) && collectionName.equals(that.collectionName)
+					&& entityType == that.entityType && ObjectUtils.nullSafeEquals(method, that.method);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+
+			int result = phase.hashCode();
+			result = 31 * result + operation.hashCode();
+			result = 31 * result + collectionName.hashCode();
+			result = 31 * result + ObjectUtils.nullSafeHashCode(entityType);
+			result = 31 * result + ObjectUtils.nullSafeHashCode(method);
+			return result;
+		}
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.monitor;
+
+import java.util.List;
+
+import org.springframework.data.mongodb.core.QueryShapeCollector;
+import org.springframework.data.mongodb.core.QueryShapeStatistics;
+import org.springframework.jmx.export.annotation.ManagedMetric;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedOperationParameter;
+import org.springframework.jmx.export.annotation.ManagedOperationParameters;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.jmx.support.MetricType;
+import org.springframework.util.Assert;
+
+/**
+ * JMX Metrics for the query shapes tracked by a {@link QueryShapeCollector}.
+ *
+ * @since 3.1
+ */
+@ManagedResource(description = "Query Shapes")
+public class QueryShapeMonitor {
+
+	private final QueryShapeCollector collector;
+
+	/**
+	 * @param collector must not be {@literal null}.
+	 */
+	public QueryShapeMonitor(QueryShapeCollector collector) {
+
+		Assert.notNull(collector, "QueryShapeCollector must not be null!");
+		this.collector = collector;
+	}
+
+	@ManagedMetric(metricType = MetricType.GAUGE, displayName = "Tracked query shape count")
+	public int getShapeCount() {
+		return collector.getStatistics().size();
+	}
+
+	@ManagedMetric(metricType = MetricType.COUNTER, displayName = "Slow operation count")
+	public long getSlowOperationCount() {
+		return collector.getStatistics().stream().mapToLong(QueryShapeStatistics::getSlowCount).sum();
+	}
+
+	@ManagedMetric(metricType = MetricType.GAUGE, displayName = "Collection scan query shape count")
+	public long getCollectionScanShapeCount() {
+		return collector.getStatistics().stream().filter(QueryShapeStatistics::isCollectionScan).count();
+	}
+
+	@ManagedMetric(metricType = MetricType.COUNTER, displayName = "Operations of untracked query shapes")
+	public long getDroppedCount() {
+		return collector.getDroppedCount();
+	}
+
+	@ManagedOperation(description = "Query shapes with the highest total time")
+	@ManagedOperationParameters(
+			@ManagedOperationParameter(name = "limit", description = "The maximum number of query shapes to return"))
+	public String[] getTopShapes(int limit) {
+
+		List<QueryShapeStatistics> statistics = collector.getStatistics();
+		return statistics.stream().limit(Math.max(0, limit)).map(QueryShapeStatistics::toString).toArray(String[]::new);
+	}
+
+	@ManagedOperation(description = "Remove all tracked query shapes")
+	public void reset() {
+		collector.reset();
+	}
+}
@@ -1,5 +1,5 @@
 /**
- * MongoDB specific JMX monitoring support.
+ * MongoDB specific JMX and Micrometer monitoring support.
  */
 @org.springframework.lang.NonNullApi
 package org.springframework.data.mongodb.monitor;
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to load the documents referenced via {@link org.springframework.data.mongodb.core.mapping.DBRef} at the
+ * given property paths along with the result of a repository query method. The query is executed as a single
+ * aggregation joining the referenced documents using {@literal $lookup} instead of resolving references one by one.
+ * <p>
+ * Only supported by imperative repositories, reactive query methods using it are rejected. Count, exists, stream and
+ * geo-near queries resolve references as usual.
+ *
+ * @since 3.1
+ * @see org.springframework.data.mongodb.core.query.Query#fetch(String...)
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface Fetch {
+
+	/**
+	 * The property paths of the references to load.
+	 *
+	 * @return never {@literal null}.
+	 */
+	String[] value();
+}
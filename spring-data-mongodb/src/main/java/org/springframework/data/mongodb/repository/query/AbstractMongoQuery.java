@@ -19,7 +19,9 @@ import org.bson.Document;
 import org.springframework.data.mongodb.core.ExecutableFindOperation.ExecutableFind;
 import org.springframework.data.mongodb.core.ExecutableFindOperation.FindWithQuery;
 import org.springframework.data.mongodb.core.ExecutableFindOperation.TerminatingFind;
+import org.springframework.data.mongodb.core.MongoOperationObserver;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.repository.query.MongoQueryExecution.DeleteExecution;
 import org.springframework.data.mongodb.repository.query.MongoQueryExecution.GeoNearExecution;
@@ -49,6 +51,7 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
 	private final ExecutableFind<?> executableFind;
 	private final SpelExpressionParser expressionParser;
 	private final QueryMethodEvaluationContextProvider evaluationContextProvider;
+	private final String observedMethodName;
 
 	/**
 	 * Creates a new {@link AbstractMongoQuery} from the given {@link MongoQueryMethod} and {@link MongoOperations}.
@@ -75,6 +78,7 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
 		this.executableFind = operations.query(type);
 		this.expressionParser = expressionParser;
 		this.evaluationContextProvider = evaluationContextProvider;
+		this.observedMethodName = method.getRepositoryInterface().getSimpleName() + "." + method.getName();
 	}
 
 	/*
@@ -98,7 +102,20 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
 		ResultProcessor processor = method.getResultProcessor().withDynamicProjection(accessor);
 		Class<?> typeToRead = processor.getReturnedType().getTypeToRead();
 
-		return processor.processResult(doExecute(method, processor, accessor, typeToRead));
+		if (!isObserved()) {
+			return processor.processResult(doExecute(method, processor, accessor, typeToRead));
+		}
+
+		return MongoOperationObserver.withRepositoryMethod(observedMethodName,
+				() -> processor.processResult(doExecute(method, processor, accessor, typeToRead)));
+	}
+
+	/**
+	 * @return {@literal true} if the operations issued by the query method are timed by an enabled
+	 *         {@link MongoOperationObserver}.
+	 */
+	private boolean isObserved() {
+		return operations instanceof MongoTemplate && ((MongoTemplate) operations).getOperationObserver().isEnabled();
 	}
 
 	/**
@@ -118,6 +135,7 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
 		applyQueryMetaAttributesWhenPresent(query);
 		query = applyAnnotatedDefaultSortIfPresent(query);
 		query = applyAnnotatedCollationIfPresent(query, accessor);
+		query.fetch(method.getFetchPaths());
 
 		FindWithQuery<?> find = typeToRead == null //
 				? executableFind //
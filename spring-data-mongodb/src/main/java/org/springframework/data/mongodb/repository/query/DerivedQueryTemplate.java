@@ -0,0 +1,156 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import org.bson.Document;
+import org.bson.json.JsonParseException;
+
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Field;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.util.Lazy;
+import org.springframework.lang.Nullable;
+
+/**
+ * Template for the {@link Query} of a derived query method. The parsed
+ * {@link org.springframework.data.mongodb.repository.Query#fields() field specification} and the fields required by a
+ * static projection do not depend on the actual invocation arguments and are therefore resolved once and reused for
+ * all invocations. The {@link org.springframework.data.mongodb.core.query.Criteria} are still created by a
+ * {@link MongoQueryCreator} per invocation as their shape depends on the arguments, e.g. the distance range and point
+ * type of geo queries or regular expressions derived from {@literal LIKE} values. Property paths referenced by the
+ * {@link PartTree} are resolved through the {@link MappingContext} which already caches them.
+ *
+ * @since 3.1
+ */
+class DerivedQueryTemplate {
+
+	private final MongoQueryMethod method;
+	private final PartTree tree;
+	private final MappingContext<?, MongoPersistentProperty> context;
+	private final ResultProcessor processor;
+	private final Predicate<ReturnedType> restrictFields;
+	private final boolean isGeoNearQuery;
+
+	private final Lazy<Optional<Document>> fieldSpecification;
+	private final Lazy<List<String>> projectionFields;
+
+	/**
+	 * Creates a new {@link DerivedQueryTemplate}.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @param tree must not be {@literal null}.
+	 * @param context must not be {@literal null}.
+	 * @param restrictFields {@link Predicate} to determine whether to restrict the fields read to the ones required by the
+	 *          {@link ReturnedType}. Must not be {@literal null}.
+	 */
+	DerivedQueryTemplate(MongoQueryMethod method, PartTree tree, MappingContext<?, MongoPersistentProperty> context,
+			Predicate<ReturnedType> restrictFields) {
+
+		this.method = method;
+		this.tree = tree;
+		this.context = context;
+		this.processor = method.getResultProcessor();
+		this.restrictFields = restrictFields;
+		this.isGeoNearQuery = method.isGeoNearQuery();
+
+		this.fieldSpecification = Lazy.of(() -> Optional.ofNullable(method.getFieldSpecification()).map(this::parseFields));
+		this.projectionFields = Lazy.of(() -> getProjectionFields(processor.getReturnedType()));
+	}
+
+	/**
+	 * Create the {@link Query} for the given arguments. Only the criteria are derived from the {@link PartTree} for each
+	 * call.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	Query createQuery(ConvertingParameterAccessor accessor) {
+
+		Query query = new MongoQueryCreator(tree, accessor, context, isGeoNearQuery).createQuery();
+
+		if (tree.isLimiting()) {
+			query.limit(tree.getMaxResults());
+		}
+
+		TextCriteria textCriteria = accessor.getFullText();
+		if (textCriteria != null) {
+			query.addCriteria(textCriteria);
+		}
+
+		Optional<Document> fields = fieldSpecification.get();
+
+		if (!fields.isPresent()) {
+
+			List<String> fieldsToInclude = method.getParameters().hasDynamicProjection()
+					? getProjectionFields(processor.withDynamicProjection(accessor).getReturnedType())
+					: projectionFields.get();
+
+			if (!fieldsToInclude.isEmpty()) {
+
+				Field queryFields = query.fields();
+				fieldsToInclude.forEach(queryFields::include);
+			}
+
+			return query;
+		}
+
+		// the parsed specification is shared across invocations so hand out a copy
+		BasicQuery result = new BasicQuery(query.getQueryObject(), new Document(fields.get()));
+		result.setSortObject(query.getSortObject());
+
+		return result;
+	}
+
+	/**
+	 * Create the {@link Query} used for counting for the given arguments.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	Query createCountQuery(ConvertingParameterAccessor accessor) {
+		return new MongoQueryCreator(tree, accessor, context, false).createQuery();
+	}
+
+	private List<String> getProjectionFields(ReturnedType returnedType) {
+
+		if (!restrictFields.test(returnedType)) {
+			return Collections.emptyList();
+		}
+
+		return Collections.unmodifiableList(new ArrayList<>(returnedType.getInputProperties()));
+	}
+
+	private Document parseFields(String fieldSpec) {
+
+		try {
+			return Document.parse(fieldSpec);
+		} catch (JsonParseException o_O) {
+			throw new IllegalStateException(String.format("Invalid query or field specification in %s!", method), o_O);
+		}
+	}
+}
@@ -31,6 +31,7 @@ import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.repository.Aggregation;
+import org.springframework.data.mongodb.repository.Fetch;
 import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.Tailable;
@@ -59,6 +60,7 @@ public class MongoQueryMethod extends QueryMethod {
 			.asList(GeoResult.class, GeoResults.class, GeoPage.class);
 
 	private final Method method;
+	private final Class<?> repositoryInterface;
 	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
 	private final Map<Class<? extends Annotation>, Optional<Annotation>> annotationCache;
 
@@ -80,10 +82,20 @@ public class MongoQueryMethod extends QueryMethod {
 		Assert.notNull(mappingContext, "MappingContext must not be null!");
 
 		this.method = method;
+		this.repositoryInterface = metadata.getRepositoryInterface() != null ? metadata.getRepositoryInterface()
+				: method.getDeclaringClass();
 		this.mappingContext = mappingContext;
 		this.annotationCache = new ConcurrentReferenceHashMap<>();
 	}
 
+	/**
+	 * @return the repository interface declaring the query method. Never {@literal null}.
+	 * @since 3.1
+	 */
+	Class<?> getRepositoryInterface() {
+		return repositoryInterface;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.query.QueryMethod#getParameters(java.lang.reflect.Method)
@@ -260,6 +272,16 @@ public class MongoQueryMethod extends QueryMethod {
 		return doFindAnnotation(Tailable.class).orElse(null);
 	}
 
+	/**
+	 * Get the property paths of references to load along with the query result declared via {@link Fetch}.
+	 *
+	 * @return never {@literal null}. An empty array if the method is not annotated with {@link Fetch}.
+	 * @since 3.1
+	 */
+	public String[] getFetchPaths() {
+		return doFindAnnotation(Fetch.class).map(Fetch::value).orElse(new String[0]);
+	}
+
 	/**
 	 * Returns the {@link org.springframework.data.mongodb.core.query.Meta} attributes to be applied.
 	 *
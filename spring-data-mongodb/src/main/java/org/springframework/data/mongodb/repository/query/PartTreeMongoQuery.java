@@ -15,17 +15,9 @@
  */
 package org.springframework.data.mongodb.repository.query;
 
-import org.bson.Document;
-import org.bson.json.JsonParseException;
-
-import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
-import org.springframework.data.mongodb.core.query.BasicQuery;
-import org.springframework.data.mongodb.core.query.Field;
 import org.springframework.data.mongodb.core.query.Query;
-import org.springframework.data.mongodb.core.query.TextCriteria;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.RepositoryQuery;
@@ -33,7 +25,6 @@ import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.util.StringUtils;
 
 /**
  * {@link RepositoryQuery} implementation for Mongo.
@@ -46,9 +37,7 @@ import org.springframework.util.StringUtils;
 public class PartTreeMongoQuery extends AbstractMongoQuery {
 
 	private final PartTree tree;
-	private final boolean isGeoNearQuery;
-	private final MappingContext<?, MongoPersistentProperty> context;
-	private final ResultProcessor processor;
+	private final DerivedQueryTemplate template;
 
 	/**
 	 * Creates a new {@link PartTreeMongoQuery} from the given {@link QueryMethod} and {@link MongoTemplate}.
@@ -63,10 +52,11 @@ public class PartTreeMongoQuery extends AbstractMongoQuery {
 
 		super(method, mongoOperations, expressionParser, evaluationContextProvider);
 
-		this.processor = method.getResultProcessor();
+		ResultProcessor processor = method.getResultProcessor();
+
 		this.tree = new PartTree(method.getName(), processor.getReturnedType().getDomainType());
-		this.isGeoNearQuery = method.isGeoNearQuery();
-		this.context = mongoOperations.getConverter().getMappingContext();
+		this.template = new DerivedQueryTemplate(method, tree, mongoOperations.getConverter().getMappingContext(),
+				ReturnedType::needsCustomConstruction);
 	}
 
 	/**
@@ -84,48 +74,7 @@ public class PartTreeMongoQuery extends AbstractMongoQuery {
 	 */
 	@Override
 	protected Query createQuery(ConvertingParameterAccessor accessor) {
-
-		MongoQueryCreator creator = new MongoQueryCreator(tree, accessor, context, isGeoNearQuery);
-		Query query = creator.createQuery();
-
-		if (tree.isLimiting()) {
-			query.limit(tree.getMaxResults());
-		}
-
-		TextCriteria textCriteria = accessor.getFullText();
-		if (textCriteria != null) {
-			query.addCriteria(textCriteria);
-		}
-
-		String fieldSpec = this.getQueryMethod().getFieldSpecification();
-
-		if (!StringUtils.hasText(fieldSpec)) {
-
-			ReturnedType returnedType = processor.withDynamicProjection(accessor).getReturnedType();
-
-			if (returnedType.needsCustomConstruction()) {
-
-				Field fields = query.fields();
-
-				for (String field : returnedType.getInputProperties()) {
-					fields.include(field);
-				}
-			}
-
-			return query;
-		}
-
-		try {
-
-			BasicQuery result = new BasicQuery(query.getQueryObject(), Document.parse(fieldSpec));
-			result.setSortObject(query.getSortObject());
-
-			return result;
-
-		} catch (JsonParseException o_O) {
-			throw new IllegalStateException(String.format("Invalid query or field specification in %s!", getQueryMethod()),
-					o_O);
-		}
+		return template.createQuery(accessor);
 	}
 
 	/*
@@ -134,7 +83,7 @@ public class PartTreeMongoQuery extends AbstractMongoQuery {
 	 */
 	@Override
 	protected Query createCountQuery(ConvertingParameterAccessor accessor) {
-		return new MongoQueryCreator(tree, accessor, context, false).createQuery();
+		return template.createCountQuery(accessor);
 	}
 
 	/*
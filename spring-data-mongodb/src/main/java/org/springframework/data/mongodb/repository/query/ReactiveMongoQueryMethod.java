@@ -91,6 +91,12 @@ public class ReactiveMongoQueryMethod extends MongoQueryMethod {
 			}
 		}
 
+		if (getFetchPaths().length > 0) {
+			throw new InvalidDataAccessApiUsageException(String.format(
+					"'%s.%s' must not use @Fetch as fetching references is not supported by the reactive API.",
+					ClassUtils.getShortName(method.getDeclaringClass()), method.getName()));
+		}
+
 		this.method = method;
 	}
 
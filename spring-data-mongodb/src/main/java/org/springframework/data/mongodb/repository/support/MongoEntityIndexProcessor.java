@@ -0,0 +1,229 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.support;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import org.springframework.data.annotation.Persistent;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoEntityIndex;
+import org.springframework.lang.Nullable;
+
+/**
+ * Annotation processor to create the {@link MongoEntityIndex} listing all types annotated with {@link Document} or
+ * {@link Persistent}, directly or as meta-annotation, as well as subclasses of types annotated with the
+ * {@link java.lang.annotation.Inherited inherited} {@link Document} annotation. Just like classpath scanning only
+ * concrete top level and static nested types are considered. <br />
+ * The index written to {@value MongoEntityIndex#INDEX_LOCATION} retains entries of a previous compilation for
+ * incremental builds as long as the type still exists and has not been compiled again.
+ *
+ * @since 3.1
+ */
+@SupportedAnnotationTypes("*")
+public class MongoEntityIndexProcessor extends AbstractProcessor {
+
+	private static final Set<String> ENTITY_ANNOTATIONS = new HashSet<>(
+			Arrays.asList(Document.class.getName(), Persistent.class.getName()));
+	private static final Set<String> INHERITED_ENTITY_ANNOTATIONS = Collections.singleton(Document.class.getName());
+
+	private final Set<String> entities = new TreeSet<>();
+	private final Set<String> processed = new HashSet<>();
+
+	/*
+	 * (non-Javadoc)
+	 * @see javax.annotation.processing.AbstractProcessor#getSupportedSourceVersion()
+	 */
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see javax.annotation.processing.AbstractProcessor#process(java.util.Set, javax.annotation.processing.RoundEnvironment)
+	 */
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+		for (Element element : roundEnv.getRootElements()) {
+			collect(element);
+		}
+
+		if (roundEnv.processingOver()) {
+			writeIndex();
+		}
+
+		return false;
+	}
+
+	private void collect(Element element) {
+
+		if (!(element instanceof TypeElement)) {
+			return;
+		}
+
+		TypeElement type = (TypeElement) element;
+		String name = processingEnv.getElementUtils().getBinaryName(type).toString();
+
+		processed.add(name);
+
+		if (isCandidate(type) && isEntity(type)) {
+			entities.add(name);
+		}
+
+		for (Element enclosed : type.getEnclosedElements()) {
+			collect(enclosed);
+		}
+	}
+
+	private static boolean isCandidate(TypeElement type) {
+
+		if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+			return false;
+		}
+
+		return type.getNestingKind() == NestingKind.TOP_LEVEL
+				|| (type.getNestingKind() == NestingKind.MEMBER && type.getModifiers().contains(Modifier.STATIC));
+	}
+
+	private static boolean isEntity(TypeElement type) {
+
+		if (hasAnnotation(type, ENTITY_ANNOTATIONS, new HashSet<>())) {
+			return true;
+		}
+
+		// @Document is @Inherited, classpath scanning therefore considers annotated superclasses as well
+		for (TypeElement superType = getSuperclass(type); superType != null; superType = getSuperclass(superType)) {
+
+			if (hasAnnotation(superType, INHERITED_ENTITY_ANNOTATIONS, new HashSet<>())) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean hasAnnotation(Element element, Set<String> annotationNames, Set<String> visited) {
+
+		for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+
+			TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+			String name = annotationType.getQualifiedName().toString();
+
+			if (annotationNames.contains(name)) {
+				return true;
+			}
+
+			if (!name.startsWith("java.lang.annotation.") && visited.add(name)
+					&& hasAnnotation(annotationType, annotationNames, visited)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	@Nullable
+	private static TypeElement getSuperclass(TypeElement type) {
+
+		TypeMirror superclass = type.getSuperclass();
+
+		return superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+	}
+
+	private void writeIndex() {
+
+		Set<String> index = new TreeSet<>(entities);
+
+		try {
+
+			for (String name : readExistingIndex()) {
+				if (!processed.contains(name) && exists(name)) {
+					index.add(name);
+				}
+			}
+
+			FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+					MongoEntityIndex.INDEX_LOCATION);
+
+			try (Writer writer = resource.openWriter()) {
+
+				writer.write("# Generated by " + getClass().getName() + "\n");
+
+				for (String name : index) {
+					writer.write(name + "\n");
+				}
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+					"Unable to write " + MongoEntityIndex.INDEX_LOCATION + ": " + e.getMessage());
+		}
+	}
+
+	private Set<String> readExistingIndex() {
+
+		Set<String> names = new TreeSet<>();
+
+		try {
+
+			FileObject resource = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "",
+					MongoEntityIndex.INDEX_LOCATION);
+
+			try (Reader reader = new InputStreamReader(resource.openInputStream(), StandardCharsets.UTF_8)) {
+
+				new BufferedReader(reader).lines() //
+						.map(String::trim) //
+						.filter(line -> !line.isEmpty() && !line.startsWith("#")) //
+						.forEach(names::add);
+			}
+		} catch (IOException | IllegalArgumentException e) {
+			// no previous index
+		}
+
+		return names;
+	}
+
+	private boolean exists(String binaryName) {
+		return processingEnv.getElementUtils().getTypeElement(binaryName.replace('$', '.')) != null;
+	}
+}
@@ -24,6 +24,7 @@ import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 import org.springframework.util.LinkedMultiValueMap;
 
 import com.mysema.commons.lang.CloseableIterator;
@@ -150,6 +151,33 @@ abstract class QuerydslFetchableMongodbQuery<K, Q extends QuerydslFetchableMongo
 		return find.matching(Query.of(createQuery()).skip(-1).limit(-1)).count();
 	}
 
+	/**
+	 * Count the matching documents but stop counting once the given {@literal limit} is reached. Useful when the caller
+	 * only needs to know whether there are at least {@literal limit} matches, e.g. to render a "more than 1000 results"
+	 * hint, without having the server scan all matching documents.
+	 *
+	 * @param limit the maximum number of documents to count. Must be greater than zero.
+	 * @return the number of matching documents, at most {@literal limit}.
+	 * @since 3.1
+	 */
+	public long fetchCount(int limit) {
+
+		Assert.isTrue(limit > 0, "Limit must be greater than zero!");
+
+		return find.matching(Query.of(createQuery()).skip(-1).limit(limit)).count();
+	}
+
+	/**
+	 * Check for the presence of at least one matching document. Other than {@code fetchCount() > 0} this does not need
+	 * to visit all matching documents.
+	 *
+	 * @return {@literal true} if at least one document matches.
+	 * @since 3.1
+	 */
+	public boolean exists() {
+		return find.matching(Query.of(createQuery()).skip(-1).limit(-1)).exists();
+	}
+
 	/**
 	 * Define a join.
 	 *
@@ -181,7 +181,7 @@ public class QuerydslMongoPredicateExecutor<T> extends QuerydslPredicateExecutor
 
 		Assert.notNull(predicate, "Predicate must not be null!");
 
-		return createQueryFor(predicate).fetchCount() > 0;
+		return createQueryFor(predicate).exists();
 	}
 
 	/**
@@ -200,7 +200,10 @@ public class QuerydslMongoPredicateExecutor<T> extends QuerydslPredicateExecutor
 	 * @return
 	 */
 	private SpringDataMongodbQuery<T> createQuery() {
-		return new SpringDataMongodbQuery<>(mongoOperations, typeInformation().getJavaType());
+
+		Class<T> javaType = typeInformation().getJavaType();
+		return new SpringDataMongodbQuery<>(mongodbSerializer(), mongoOperations, javaType,
+				mongoOperations.getCollectionName(javaType));
 	}
 
 	/**
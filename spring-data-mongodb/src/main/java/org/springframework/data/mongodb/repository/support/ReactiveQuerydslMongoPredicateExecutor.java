@@ -156,7 +156,7 @@ public class ReactiveQuerydslMongoPredicateExecutor<T> extends QuerydslPredicate
 
 		Assert.notNull(predicate, "Predicate must not be null!");
 
-		return createQueryFor(predicate).fetchCount().map(it -> it != 0);
+		return createQueryFor(predicate).exists();
 	}
 
 	/**
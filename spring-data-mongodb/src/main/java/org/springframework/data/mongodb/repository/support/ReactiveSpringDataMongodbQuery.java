@@ -27,6 +27,7 @@ import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.StringUtils;
@@ -99,6 +100,30 @@ class ReactiveSpringDataMongodbQuery<K> extends QuerydslAbstractMongodbQuery<K,
 		return createQuery().flatMap(it -> find.matching(it).count());
 	}
 
+	/**
+	 * Fetch the count of matching query results but stop counting once the given {@literal limit} is reached.
+	 *
+	 * @param limit the maximum number of documents to count. Must be greater than zero.
+	 * @return {@link Mono} emitting the number of matching documents, at most {@literal limit}.
+	 * @since 3.1
+	 */
+	Mono<Long> fetchCount(int limit) {
+
+		Assert.isTrue(limit > 0, "Limit must be greater than zero!");
+
+		return createQuery().flatMap(it -> find.matching(Query.of(it).skip(-1).limit(limit)).count());
+	}
+
+	/**
+	 * Check for the presence of at least one matching document without counting all of them.
+	 *
+	 * @return {@link Mono} emitting {@literal true} if at least one document matches.
+	 * @since 3.1
+	 */
+	Mono<Boolean> exists() {
+		return createQuery().flatMap(it -> find.matching(it).exists());
+	}
+
 	/**
 	 * Define a join.
 	 *
@@ -105,6 +105,11 @@ public class SimpleMongoRepository<T, ID> implements MongoRepository<T, ID> {
 			return new ArrayList<>(mongoOperations.insert(result, entityInformation.getCollectionName()));
 		}
 
+		// custom MongoOperations implementations may only override save(…) so keep calling it for each entity
+		if (mongoOperations instanceof MongoTemplate && source.stream().noneMatch(it -> entityInformation.isNew(it))) {
+			return mongoOperations.saveAll(source.toList(), entityInformation.getCollectionName());
+		}
+
 		return source.stream().map(this::save).collect(Collectors.toList());
 	}
 
@@ -47,6 +47,21 @@ public class SpringDataMongodbQuery<T> extends QuerydslFetchableMongodbQuery<T,
 	public SpringDataMongodbQuery(final MongoOperations operations, final Class<? extends T> type,
 			String collectionName) {
 
-		super(new SpringDataMongodbSerializer(operations.getConverter()), type, collectionName, operations);
+		this(new SpringDataMongodbSerializer(operations.getConverter()), operations, type, collectionName);
+	}
+
+	/**
+	 * Creates a new {@link SpringDataMongodbQuery} to query the given collection using the given
+	 * {@link MongodbDocumentSerializer}.
+	 *
+	 * @param serializer must not be {@literal null}.
+	 * @param operations must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 * @since 3.1
+	 */
+	SpringDataMongodbQuery(MongodbDocumentSerializer serializer, MongoOperations operations, Class<? extends T> type,
+			String collectionName) {
+		super(serializer, type, collectionName, operations);
 	}
 }
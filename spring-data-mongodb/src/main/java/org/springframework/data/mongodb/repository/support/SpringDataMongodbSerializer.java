@@ -17,8 +17,10 @@ package org.springframework.data.mongodb.repository.support;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import org.bson.Document;
@@ -27,6 +29,7 @@ import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.convert.QueryMapper;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.util.Pair;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -65,6 +68,13 @@ class SpringDataMongodbSerializer extends MongodbDocumentSerializer {
 	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
 	private final QueryMapper mapper;
 
+	/*
+	 * Predicates of the same shape differ in their constants only. Cache the mapping metadata lookups per owner type and
+	 * property name so that they are only resolved when serializing the first predicate of a shape.
+	 */
+	private final Map<Pair<Class<?>, String>, String> keys = new ConcurrentHashMap<>();
+	private final Map<Pair<Class<?>, String>, Optional<MongoPersistentProperty>> properties = new ConcurrentHashMap<>();
+
 	/**
 	 * Creates a new {@link SpringDataMongodbSerializer} for the given {@link MongoConverter}.
 	 *
@@ -104,6 +114,12 @@ class SpringDataMongodbSerializer extends MongodbDocumentSerializer {
 			return super.getKeyForPath(expr, metadata);
 		}
 
+		return keys.computeIfAbsent(Pair.of(metadata.getParent().getType(), metadata.getName()),
+				it -> doGetKeyForPath(expr, metadata));
+	}
+
+	private String doGetKeyForPath(Path<?> expr, PathMetadata metadata) {
+
 		Path<?> parent = metadata.getParent();
 		MongoPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(parent.getType());
 		MongoPersistentProperty property = entity.getPersistentProperty(metadata.getName());
@@ -197,8 +213,11 @@ class SpringDataMongodbSerializer extends MongodbDocumentSerializer {
 			return null;
 		}
 
-		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(parent.getType());
-		return entity != null ? entity.getPersistentProperty(path.getMetadata().getName()) : null;
+		return properties.computeIfAbsent(Pair.of(parent.getType(), path.getMetadata().getName()), it -> {
+
+			MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(it.getFirst());
+			return Optional.ofNullable(entity != null ? entity.getPersistentProperty(it.getSecond()) : null);
+		}).orElse(null);
 	}
 
 	/**
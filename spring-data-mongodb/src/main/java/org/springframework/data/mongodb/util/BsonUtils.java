@@ -15,6 +15,10 @@
  */
 package org.springframework.data.mongodb.util;
 
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
@@ -24,6 +28,7 @@ import java.util.function.Function;
 import java.util.stream.StreamSupport;
 
 import org.bson.BsonBinary;
+import org.bson.BsonBinaryReader;
 import org.bson.BsonBoolean;
 import org.bson.BsonDouble;
 import org.bson.BsonInt32;
@@ -32,9 +37,13 @@ import org.bson.BsonObjectId;
 import org.bson.BsonString;
 import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.DocumentCodec;
 import org.bson.conversions.Bson;
+import org.bson.json.JsonMode;
 import org.bson.json.JsonParseException;
+import org.bson.json.JsonWriter;
+import org.bson.json.JsonWriterSettings;
 import org.bson.types.ObjectId;
 
 import org.springframework.core.convert.converter.Converter;
@@ -56,6 +65,9 @@ import com.mongodb.MongoClientSettings;
  */
 public class BsonUtils {
 
+	private static final JsonWriterSettings RELAXED_JSON = JsonWriterSettings.builder().outputMode(JsonMode.RELAXED)
+			.build();
+
 	@SuppressWarnings("unchecked")
 	@Nullable
 	public static <T> T get(Bson bson, String key) {
@@ -238,6 +250,59 @@ public class BsonUtils {
 		}
 	}
 
+	/**
+	 * Write the given {@link RawBsonDocument} as {@link JsonMode#RELAXED relaxed} Json to the given {@link OutputStream}
+	 * using {@literal UTF-8}. The Json is written straight from the binary representation without decoding the document
+	 * first. Use {@code DataBuffer#asOutputStream()} to write to a {@code DataBuffer}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param target must not be {@literal null}. Is flushed but not closed.
+	 * @since 3.1
+	 */
+	public static void writeJson(RawBsonDocument source, OutputStream target) {
+
+		Assert.notNull(target, "Target must not be null!");
+
+		writeJson(source, new OutputStreamWriter(target, StandardCharsets.UTF_8), RELAXED_JSON);
+	}
+
+	/**
+	 * Write the given {@link RawBsonDocument} as {@link JsonMode#RELAXED relaxed} Json to the given {@link Writer}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param target must not be {@literal null}. Is flushed but not closed.
+	 * @since 3.1
+	 * @see #writeJson(RawBsonDocument, Writer, JsonWriterSettings)
+	 */
+	public static void writeJson(RawBsonDocument source, Writer target) {
+		writeJson(source, target, RELAXED_JSON);
+	}
+
+	/**
+	 * Write the given {@link RawBsonDocument} as Json to the given {@link Writer}. The Json is written straight from the
+	 * binary representation without decoding the document first.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param target must not be {@literal null}. Is flushed but not closed.
+	 * @param settings must not be {@literal null}.
+	 * @throws org.bson.BSONException if writing to the target fails.
+	 * @since 3.1
+	 */
+	public static void writeJson(RawBsonDocument source, Writer target, JsonWriterSettings settings) {
+
+		Assert.notNull(source, "Source must not be null!");
+		Assert.notNull(target, "Target must not be null!");
+		Assert.notNull(settings, "JsonWriterSettings must not be null!");
+
+		JsonWriter writer = new JsonWriter(target, settings);
+
+		try (BsonBinaryReader reader = new BsonBinaryReader(source.getByteBuffer().asNIO())) {
+			writer.pipe(reader);
+		}
+
+		writer.flush();
+	}
+
 	/**
 	 * Check if a given String looks like {@link Document#parse(String) parsable} json.
 	 *
@@ -18,6 +18,9 @@ package org.springframework.data.mongodb;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,12 +31,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.TransactionSystemException;
 import org.springframework.transaction.UnexpectedRollbackException;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
 import org.springframework.transaction.support.TransactionCallbackWithoutResult;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import com.mongodb.MongoException;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.session.ServerSession;
@@ -327,4 +332,160 @@ public class MongoTransactionManagerUnitTests {
 		verify(session).abortTransaction();
 		verify(session).close();
 	}
+
+	@Test
+	void doesNotRetryCommitByDefault() {
+
+		doThrow(unknownCommitResult()).when(session).commitTransaction();
+
+		MongoTransactionManager txManager = new MongoTransactionManager(dbFactory);
+		TransactionStatus txStatus = txManager.getTransaction(new DefaultTransactionDefinition());
+
+		dropDatabase();
+
+		assertThatExceptionOfType(TransactionSystemException.class).isThrownBy(() -> txManager.commit(txStatus));
+
+		verify(session).commitTransaction();
+		verify(session).close();
+	}
+
+	@Test
+	void retriesCommitWithUnknownResult() {
+
+		doThrow(unknownCommitResult()).doNothing().when(session).commitTransaction();
+
+		MongoTransactionManager txManager = new MongoTransactionManager(dbFactory);
+		txManager.setRetryPolicy(TransactionRetryPolicy.defaults().withBackoff(Duration.ZERO, Duration.ZERO));
+		TransactionStatus txStatus = txManager.getTransaction(new DefaultTransactionDefinition());
+
+		dropDatabase();
+		txManager.commit(txStatus);
+
+		verify(session, times(2)).commitTransaction();
+		verify(session).close();
+		assertThat(txManager.getRetryStatistics().getCommitRetryCount()).isOne();
+	}
+
+	@Test
+	void retriesTransactionFailingWithTransientError() {
+
+		lenient().when(dbFactory.withSession(session2)).thenReturn(dbFactory);
+
+		MongoTransactionManager txManager = new MongoTransactionManager(dbFactory);
+		txManager.setRetryPolicy(TransactionRetryPolicy.defaults().withBackoff(Duration.ZERO, Duration.ZERO));
+
+		AtomicInteger attempts = new AtomicInteger();
+		String result = txManager.executeWithRetry(new DefaultTransactionDefinition(), status -> {
+
+			dropDatabase();
+
+			if (attempts.incrementAndGet() == 1) {
+				throw transientTransactionError();
+			}
+			return "done";
+		});
+
+		assertThat(result).isEqualTo("done");
+		assertThat(attempts).hasValue(2);
+
+		verify(session).abortTransaction();
+		verify(session2).commitTransaction();
+
+		TransactionRetryStatistics statistics = txManager.getRetryStatistics();
+		assertThat(statistics.getConflictCount()).isOne();
+		assertThat(statistics.getTransactionRetryCount()).isOne();
+		assertThat(statistics.getExhaustedCount()).isZero();
+	}
+
+	@Test
+	void stopsRetryingTransactionOnceAttemptsAreUsedUp() {
+
+		lenient().when(dbFactory.withSession(session2)).thenReturn(dbFactory);
+
+		MongoTransactionManager txManager = new MongoTransactionManager(dbFactory);
+		txManager.setRetryPolicy(TransactionRetryPolicy.defaults().withMaxTransactionAttempts(3)
+				.withBackoff(Duration.ZERO, Duration.ZERO));
+
+		AtomicInteger attempts = new AtomicInteger();
+
+		assertThatExceptionOfType(MongoException.class)
+				.isThrownBy(() -> txManager.executeWithRetry(new DefaultTransactionDefinition(), status -> {
+
+					dropDatabase();
+					attempts.incrementAndGet();
+					throw transientTransactionError();
+				}));
+
+		assertThat(attempts).hasValue(3);
+
+		TransactionRetryStatistics statistics = txManager.getRetryStatistics();
+		assertThat(statistics.getConflictCount()).isEqualTo(3);
+		assertThat(statistics.getTransactionRetryCount()).isEqualTo(2);
+		assertThat(statistics.getExhaustedCount()).isOne();
+	}
+
+	@Test
+	void doesNotRetryTransactionFailingWithNonTransientError() {
+
+		MongoTransactionManager txManager = new MongoTransactionManager(dbFactory);
+		txManager.setRetryPolicy(TransactionRetryPolicy.defaults().withBackoff(Duration.ZERO, Duration.ZERO));
+
+		AtomicInteger attempts = new AtomicInteger();
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> txManager.executeWithRetry(new DefaultTransactionDefinition(), status -> {
+
+					dropDatabase();
+					attempts.incrementAndGet();
+					throw new IllegalStateException("o_O");
+				}));
+
+		assertThat(attempts).hasValue(1);
+		assertThat(txManager.getRetryStatistics().getConflictCount()).isZero();
+		verify(session).abortTransaction();
+	}
+
+	@Test
+	void doesNotRetryTransactionParticipatingInOngoingTransaction() {
+
+		MongoTransactionManager txManager = new MongoTransactionManager(dbFactory);
+		txManager.setRetryPolicy(TransactionRetryPolicy.defaults().withBackoff(Duration.ZERO, Duration.ZERO));
+
+		AtomicInteger attempts = new AtomicInteger();
+
+		assertThatExceptionOfType(MongoException.class)
+				.isThrownBy(() -> new TransactionTemplate(txManager).execute(outer -> txManager
+						.executeWithRetry(new DefaultTransactionDefinition(), status -> {
+
+							dropDatabase();
+							attempts.incrementAndGet();
+							throw transientTransactionError();
+						})));
+
+		assertThat(attempts).hasValue(1);
+		verify(session).abortTransaction();
+		verify(session).close();
+	}
+
+	private void dropDatabase() {
+
+		new MongoTemplate(dbFactory).execute(db -> {
+			db.drop();
+			return null;
+		});
+	}
+
+	private static MongoException unknownCommitResult() {
+
+		MongoException exception = new MongoException("unknown commit result");
+		exception.addLabel(MongoException.UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL);
+		return exception;
+	}
+
+	private static MongoException transientTransactionError() {
+
+		MongoException exception = new MongoException("write conflict");
+		exception.addLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+		return exception;
+	}
 }
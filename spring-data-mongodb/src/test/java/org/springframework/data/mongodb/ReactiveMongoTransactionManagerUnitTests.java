@@ -15,11 +15,15 @@
  */
 package org.springframework.data.mongodb;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,6 +35,7 @@ import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.reactive.TransactionalOperator;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
 
+import com.mongodb.MongoException;
 import com.mongodb.reactivestreams.client.ClientSession;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 import com.mongodb.session.ServerSession;
@@ -249,4 +254,94 @@ class ReactiveMongoTransactionManagerUnitTests {
 		verify(session).commitTransaction();
 		verify(session).close();
 	}
+
+	@Test
+	void retriesCommitWithUnknownResult() {
+
+		ReactiveMongoTransactionManager txManager = new ReactiveMongoTransactionManager(databaseFactory);
+		txManager.setRetryPolicy(TransactionRetryPolicy.defaults().withBackoff(Duration.ZERO, Duration.ZERO));
+		ReactiveMongoTemplate template = new ReactiveMongoTemplate(databaseFactory);
+		when(session.commitTransaction()).thenReturn(Mono.error(unknownCommitResult()), Mono.empty());
+
+		TransactionalOperator operator = TransactionalOperator.create(txManager, new DefaultTransactionDefinition());
+
+		template.execute(db -> {
+			db.drop();
+			return Mono.empty();
+		}).as(operator::transactional) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		verify(session, times(2)).commitTransaction();
+		verify(session).close();
+		assertThat(txManager.getRetryStatistics().getCommitRetryCount()).isOne();
+	}
+
+	@Test
+	void surfacesCommitErrorOnceAttemptsAreUsedUp() {
+
+		ReactiveMongoTransactionManager txManager = new ReactiveMongoTransactionManager(databaseFactory);
+		txManager.setRetryPolicy(TransactionRetryPolicy.defaults().withMaxCommitAttempts(2)
+				.withBackoff(Duration.ZERO, Duration.ZERO));
+		ReactiveMongoTemplate template = new ReactiveMongoTemplate(databaseFactory);
+		when(session.commitTransaction()).thenReturn(Mono.error(unknownCommitResult()));
+
+		TransactionalOperator operator = TransactionalOperator.create(txManager, new DefaultTransactionDefinition());
+
+		template.execute(db -> {
+			db.drop();
+			return Mono.empty();
+		}).as(operator::transactional) //
+				.as(StepVerifier::create) //
+				.verifyError();
+
+		verify(session, times(2)).commitTransaction();
+		assertThat(txManager.getRetryStatistics().getExhaustedCount()).isOne();
+	}
+
+	@Test
+	void retriesTransactionFailingWithTransientError() {
+
+		lenient().when(databaseFactory.withSession(session2)).thenReturn(databaseFactory);
+		when(session2.commitTransaction()).thenReturn(Mono.empty());
+		when(session.abortTransaction()).thenReturn(Mono.empty());
+
+		ReactiveMongoTransactionManager txManager = new ReactiveMongoTransactionManager(databaseFactory);
+		txManager.setRetryPolicy(TransactionRetryPolicy.defaults().withBackoff(Duration.ZERO, Duration.ZERO));
+		ReactiveMongoTemplate template = new ReactiveMongoTemplate(databaseFactory);
+
+		AtomicInteger attempts = new AtomicInteger();
+
+		txManager.executeWithRetry(new DefaultTransactionDefinition(), status -> template.execute(db -> {
+
+			db.drop();
+			return Mono.empty();
+		}).then(Mono.defer(() -> attempts.incrementAndGet() == 1 ? Mono.error(transientTransactionError())
+				: Mono.just("done")))) //
+				.as(StepVerifier::create) //
+				.expectNext("done") //
+				.verifyComplete();
+
+		assertThat(attempts).hasValue(2);
+		verify(session).abortTransaction();
+		verify(session2).commitTransaction();
+
+		TransactionRetryStatistics statistics = txManager.getRetryStatistics();
+		assertThat(statistics.getConflictCount()).isOne();
+		assertThat(statistics.getTransactionRetryCount()).isOne();
+	}
+
+	private static MongoException unknownCommitResult() {
+
+		MongoException exception = new MongoException("unknown commit result");
+		exception.addLabel(MongoException.UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL);
+		return exception;
+	}
+
+	private static MongoException transientTransactionError() {
+
+		MongoException exception = new MongoException("write conflict");
+		exception.addLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+		return exception;
+	}
 }
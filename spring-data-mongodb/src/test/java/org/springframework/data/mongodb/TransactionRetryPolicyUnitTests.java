@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.mongodb.MongoException;
+
+/**
+ * Unit tests for {@link TransactionRetryPolicy}.
+ */
+class TransactionRetryPolicyUnitTests {
+
+	@Test
+	void noneDoesNotRetry() {
+
+		TransactionRetryPolicy policy = TransactionRetryPolicy.none();
+		long start = System.nanoTime();
+
+		assertThat(policy.canRetryCommit(labeled(MongoException.UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL), 1, start))
+				.isFalse();
+		assertThat(policy.canRetryTransaction(labeled(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL), 1, start))
+				.isFalse();
+	}
+
+	@Test
+	void retriesCommitWithUnknownResultOnly() {
+
+		TransactionRetryPolicy policy = TransactionRetryPolicy.defaults();
+		long start = System.nanoTime();
+
+		assertThat(policy.canRetryCommit(labeled(MongoException.UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL), 1, start))
+				.isTrue();
+		assertThat(policy.canRetryCommit(labeled(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL), 1, start))
+				.isFalse();
+		assertThat(policy.canRetryCommit(new MongoException("o_O"), 1, start)).isFalse();
+	}
+
+	@Test
+	void detectsLabelsOfCause() {
+
+		DataIntegrityViolationException translated = new DataIntegrityViolationException("conflict",
+				labeled(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL));
+
+		assertThat(TransactionRetryPolicy.isTransientTransactionError(translated)).isTrue();
+		assertThat(TransactionRetryPolicy.isUnknownCommitResult(translated)).isFalse();
+		assertThat(TransactionRetryPolicy.isTransientTransactionError(null)).isFalse();
+	}
+
+	@Test
+	void stopsRetryingOnceAttemptsAreUsedUp() {
+
+		TransactionRetryPolicy policy = TransactionRetryPolicy.defaults().withMaxTransactionAttempts(3);
+		MongoException error = labeled(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+		long start = System.nanoTime();
+
+		assertThat(policy.canRetryTransaction(error, 2, start)).isTrue();
+		assertThat(policy.canRetryTransaction(error, 3, start)).isFalse();
+	}
+
+	@Test
+	void stopsRetryingOnceTimeBudgetIsUsedUp() {
+
+		TransactionRetryPolicy policy = TransactionRetryPolicy.defaults().withTimeBudget(Duration.ZERO);
+
+		assertThat(policy.canRetryTransaction(labeled(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL), 1,
+				System.nanoTime())).isFalse();
+	}
+
+	@Test
+	void backsOffExponentiallyUpToMaxBackoff() {
+
+		TransactionRetryPolicy policy = TransactionRetryPolicy.defaults()
+				.withBackoff(Duration.ofMillis(10), Duration.ofMillis(50)).withJitter(0);
+
+		assertThat(policy.getBackoff(1)).isEqualTo(Duration.ofMillis(10));
+		assertThat(policy.getBackoff(2)).isEqualTo(Duration.ofMillis(20));
+		assertThat(policy.getBackoff(3)).isEqualTo(Duration.ofMillis(40));
+		assertThat(policy.getBackoff(4)).isEqualTo(Duration.ofMillis(50));
+	}
+
+	@Test
+	void randomizesBackoffWithinJitter() {
+
+		TransactionRetryPolicy policy = TransactionRetryPolicy.defaults()
+				.withBackoff(Duration.ofMillis(100), Duration.ofMillis(100)).withJitter(0.5);
+
+		for (int i = 0; i < 100; i++) {
+			assertThat(policy.getBackoff(1)).isBetween(Duration.ofMillis(50), Duration.ofMillis(100));
+		}
+	}
+
+	@Test
+	void rejectsInvalidSettings() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> TransactionRetryPolicy.defaults().withMaxCommitAttempts(0));
+		assertThatIllegalArgumentException().isThrownBy(() -> TransactionRetryPolicy.defaults().withJitter(1.5));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> TransactionRetryPolicy.defaults().withBackoff(Duration.ofSeconds(1), Duration.ZERO));
+	}
+
+	private static MongoException labeled(String label) {
+
+		MongoException exception = new MongoException("o_O");
+		exception.addLabel(label);
+		return exception;
+	}
+}
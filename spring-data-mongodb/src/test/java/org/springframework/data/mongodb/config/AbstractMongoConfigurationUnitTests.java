@@ -24,6 +24,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.junit.jupiter.api.Test;
 
@@ -98,6 +99,30 @@ public class AbstractMongoConfigurationUnitTests {
 		assertThat(context.getPersistentEntities()).isNotEmpty();
 	}
 
+	@Test
+	public void configuresIndexCreationOnMappingContext() throws Exception {
+
+		Executor executor = Runnable::run;
+
+		SampleMongoConfiguration configuration = new SampleMongoConfiguration() {
+
+			@Override
+			protected Executor indexCreationExecutor() {
+				return executor;
+			}
+
+			@Override
+			protected boolean failOnIndexConflict() {
+				return true;
+			}
+		};
+
+		MongoMappingContext context = configuration.mongoMappingContext(configuration.customConversions());
+
+		assertThat(context.getIndexCreationExecutor()).isSameAs(executor);
+		assertThat(context.isFailOnIndexConflict()).isTrue();
+	}
+
 	@Test // DATAMONGO-717
 	public void lifecycleCallbacksAreInvokedInAppropriateOrder() {
 
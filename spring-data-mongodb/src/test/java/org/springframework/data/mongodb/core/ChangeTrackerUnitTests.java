@@ -0,0 +1,176 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ChangeTracker}.
+ */
+class ChangeTrackerUnitTests {
+
+	static final String COLLECTION = "people";
+
+	ChangeTracker tracker = new ChangeTracker();
+	Object entity = new Object();
+
+	@Test
+	void returnsNullForUntrackedEntity() {
+		assertThat(tracker.getChanges(entity, COLLECTION, new Document("_id", 1))).isNull();
+	}
+
+	@Test
+	void returnsEmptyDocumentIfNothingChanged() {
+
+		tracker.track(entity, COLLECTION, new Document("_id", 1).append("name", "luke"));
+
+		assertThat(tracker.getChanges(entity, COLLECTION, new Document("_id", 1).append("name", "luke"))).isEmpty();
+	}
+
+	@Test
+	void setsChangedAndAddedFields() {
+
+		tracker.track(entity, COLLECTION, document().append("name", "luke"));
+
+		assertThat(tracker.getChanges(entity, COLLECTION, document().append("name", "han").append("ship", "falcon")))
+				.isEqualTo(new Document("$set", new Document("name", "han").append("ship", "falcon")));
+	}
+
+	@Test
+	void unsetsRemovedFields() {
+
+		tracker.track(entity, COLLECTION, document().append("name", "luke"));
+
+		assertThat(tracker.getChanges(entity, COLLECTION, document()))
+				.isEqualTo(new Document("$unset", new Document("name", 1)));
+	}
+
+	@Test
+	void usesPathsForChangesOfEmbeddedDocuments() {
+
+		tracker.track(entity, COLLECTION,
+				document().append("address", new Document("street", "Main").append("city", "Anchorhead")));
+
+		assertThat(tracker.getChanges(entity, COLLECTION, document().append("address", new Document("city", "Mos Eisley"))))
+				.isEqualTo(new Document("$set", new Document("address.city", "Mos Eisley")).append("$unset",
+						new Document("address.street", 1)));
+	}
+
+	@Test
+	void setsChangedArraysAsAWhole() {
+
+		tracker.track(entity, COLLECTION, document().append("grades", Arrays.asList(1, 2)));
+
+		assertThat(tracker.getChanges(entity, COLLECTION, document().append("grades", Arrays.asList(1, 3))))
+				.isEqualTo(new Document("$set", new Document("grades", Arrays.asList(1, 3))));
+	}
+
+	@Test
+	void returnsNullIfTooManyFieldsChanged() {
+
+		tracker.track(entity, COLLECTION, new Document("_id", 1).append("a", 1).append("b", 1));
+
+		assertThat(tracker.getChanges(entity, COLLECTION, new Document("_id", 1).append("a", 2).append("b", 2))).isNull();
+	}
+
+	@Test
+	void returnsNullForDifferentIdOrCollection() {
+
+		tracker.track(entity, COLLECTION, document());
+
+		assertThat(tracker.getChanges(entity, COLLECTION, new Document("_id", 2).append("f1", 1))).isNull();
+		assertThat(tracker.getChanges(entity, "other", document())).isNull();
+	}
+
+	@Test
+	void returnsNullIfFieldNameCannotBeUsedAsPath() {
+
+		tracker.track(entity, COLLECTION, document().append("map", new Document("a", 1)));
+
+		assertThat(tracker.getChanges(entity, COLLECTION, document().append("map", new Document("a.b", 1)))).isNull();
+	}
+
+	@Test
+	void tracksEntitiesByIdentity() {
+
+		Document document = document().append("name", "luke");
+
+		tracker.track(new Name("luke"), COLLECTION, document);
+
+		assertThat(tracker.getChanges(new Name("luke"), COLLECTION, document)).isNull();
+	}
+
+	@Test
+	void detectsInPlaceChangesOfNestedValues() {
+
+		Document meta = new Document("a", 1);
+		List<Object> tags = new ArrayList<>(Arrays.asList("jedi"));
+		Map<String, Object> ranks = new LinkedHashMap<>();
+		ranks.put("pilot", 1);
+
+		Document document = document().append("meta", meta).append("tags", tags).append("ranks", ranks);
+		tracker.track(entity, COLLECTION, document);
+
+		meta.put("a", 2);
+		tags.add("pilot");
+		ranks.put("pilot", 2);
+
+		assertThat(tracker.getChanges(entity, COLLECTION, document)).isEqualTo(new Document("$set",
+				new Document("meta.a", 2).append("tags", Arrays.asList("jedi", "pilot")).append("ranks", ranks)));
+	}
+
+	@Test
+	void forgetsEntity() {
+
+		tracker.track(entity, COLLECTION, document());
+		tracker.forget(entity);
+
+		assertThat(tracker.getChanges(entity, COLLECTION, document())).isNull();
+		assertThat(tracker.getTrackedCount()).isZero();
+	}
+
+	private static Document document() {
+		return new Document("_id", 1).append("f1", 1).append("f2", 2).append("f3", 3);
+	}
+
+	static class Name {
+
+		final String value;
+
+		Name(String value) {
+			this.value = value;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Name && ((Name) obj).value.equals(value);
+		}
+
+		@Override
+		public int hashCode() {
+			return value.hashCode();
+		}
+	}
+}
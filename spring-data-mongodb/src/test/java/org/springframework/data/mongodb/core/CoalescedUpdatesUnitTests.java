@@ -0,0 +1,159 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+
+/**
+ * Unit tests for {@link CoalescedUpdates}.
+ */
+class CoalescedUpdatesUnitTests {
+
+	CoalescedUpdates updates = new CoalescedUpdates();
+
+	@Test
+	void sumsUpIncrements() {
+
+		assertThat(updates.add("id-1", new Update().inc("counter", 1))).isTrue();
+		assertThat(updates.add("id-1", new Update().inc("counter", 2))).isTrue();
+		assertThat(updates.add("id-1", new Update().inc("counter", 3L))).isTrue();
+
+		assertThat(updates.drain().get("id-1").getUpdateObject())
+				.isEqualTo(new Document("$inc", new Document("counter", 6L)));
+	}
+
+	@Test
+	void keepsIntegerIncrementsAsInteger() {
+
+		updates.add("id-1", new Update().inc("counter", 1));
+		updates.add("id-1", new Update().inc("counter", 2));
+
+		assertThat(updates.drain().get("id-1").getUpdateObject())
+				.isEqualTo(new Document("$inc", new Document("counter", 3)));
+	}
+
+	@Test
+	void retainsLastSetValue() {
+
+		updates.add("id-1", new Update().set("name", "luke").inc("visits", 1));
+		updates.add("id-1", new Update().set("name", "leia"));
+
+		assertThat(updates.drain().get("id-1").getUpdateObject()).isEqualTo(
+				new Document("$set", new Document("name", "leia")).append("$inc", new Document("visits", 1)));
+	}
+
+	@Test
+	void foldsMaxAndMin() {
+
+		updates.add("id-1", new Update().max("highest", 5).min("lowest", 5));
+		updates.add("id-1", new Update().max("highest", 3).min("lowest", 3));
+		updates.add("id-1", new Update().max("highest", 7L).min("lowest", 4));
+
+		assertThat(updates.drain().get("id-1").getUpdateObject()).isEqualTo(
+				new Document("$max", new Document("highest", 7L)).append("$min", new Document("lowest", 3)));
+	}
+
+	@Test
+	void rejectsSamePathWithDifferentOperator() {
+
+		updates.add("id-1", new Update().inc("counter", 1));
+
+		assertThat(updates.add("id-1", new Update().set("counter", 10))).isFalse();
+		assertThat(updates.drain().get("id-1").getUpdateObject())
+				.isEqualTo(new Document("$inc", new Document("counter", 1)));
+	}
+
+	@Test
+	void rejectsOverlappingPaths() {
+
+		updates.add("id-1", new Update().set("address.city", "Tatooine"));
+
+		assertThat(updates.add("id-1", new Update().set("address", new Document("city", "Alderaan")))).isFalse();
+	}
+
+	@Test
+	void rejectsOverflowingIncrementWithoutModifyingPendingUpdate() {
+
+		updates.add("id-1", new Update().inc("counter", 1).set("name", "luke"));
+
+		assertThat(updates.add("id-1", new Update().set("name", "leia").inc("counter", Long.MAX_VALUE))).isFalse();
+		assertThat(updates.drain().get("id-1").getUpdateObject()).isEqualTo(
+				new Document("$inc", new Document("counter", 1)).append("$set", new Document("name", "luke")));
+	}
+
+	@Test
+	void doesNotMergeNonMergeableOperators() {
+
+		updates.add("id-1", new Update().push("tags", "jedi"));
+
+		assertThat(updates.add("id-1", new Update().push("tags", "master"))).isFalse();
+		assertThat(updates.add("id-2", new Update().set("name", "luke"))).isTrue();
+		assertThat(updates.size()).isEqualTo(2);
+	}
+
+	@Test
+	void doesNotMergeUpdatesWithArrayFilters() {
+
+		updates.add("id-1", new Update().set("grades.$[element]", 100).filterArray(Criteria.where("element").gte(100)));
+
+		assertThat(updates.add("id-1", new Update().inc("counter", 1))).isFalse();
+	}
+
+	@Test
+	void drainsInInsertionOrder() {
+
+		updates.add("id-2", new Update().inc("counter", 1));
+		updates.add("id-1", new Update().inc("counter", 1));
+		updates.add("id-3", new Update().inc("counter", 1));
+
+		assertThat(updates.drain().keySet()).containsExactly("id-2", "id-1", "id-3");
+		assertThat(updates.isEmpty()).isTrue();
+	}
+
+	@Test
+	void failedUpdatesConsiderBulkWriteErrorIndices() {
+
+		Map<Object, Update> pending = new LinkedHashMap<>();
+		pending.put("id-1", new Update().inc("counter", 1));
+		pending.put("id-2", new Update().inc("counter", 2));
+		pending.put("id-3", new Update().inc("counter", 3));
+
+		MongoBulkWriteException bulkWriteException = new MongoBulkWriteException(BulkWriteResult.unacknowledged(),
+				Collections.singletonList(new BulkWriteError(11000, "duplicate key", new BsonDocument(), 1)), null,
+				new ServerAddress());
+
+		assertThat(CoalescedUpdates.getFailedUpdates(pending,
+				new DataIntegrityViolationException("failed", bulkWriteException))).containsOnlyKeys("id-2");
+		assertThat(CoalescedUpdates.getFailedUpdates(pending, new IllegalStateException("failed")))
+				.containsOnlyKeys("id-1", "id-2", "id-3");
+	}
+}
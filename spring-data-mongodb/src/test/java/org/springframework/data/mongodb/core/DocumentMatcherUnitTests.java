@@ -0,0 +1,269 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.mongodb.core.query.Criteria.*;
+import static org.springframework.data.mongodb.core.query.Query.*;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.regex.Pattern;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.InvalidMongoDbApiUsageException;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Collation;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+/**
+ * Unit tests for {@link DocumentMatcher}.
+ */
+class DocumentMatcherUnitTests {
+
+	Document luke = Document.parse("{ '_id' : 'luke', 'name' : 'Luke', 'age' : 19, "
+			+ "'address' : { 'city' : 'Tatooine', 'zip' : 1234 }, 'tags' : ['jedi', 'pilot'], "
+			+ "'ships' : [ { 'name' : 'X-Wing', 'speed' : 1050 }, { 'name' : 'Snowspeeder', 'speed' : 650 } ], "
+			+ "'nickname' : null }");
+
+	@Test
+	void matchesEquality() {
+
+		assertThat(matches("{ 'name' : 'Luke' }")).isTrue();
+		assertThat(matches("{ 'name' : 'Leia' }")).isFalse();
+		assertThat(matches("{ 'name' : 'Luke', 'age' : 20 }")).isFalse();
+		assertThat(matches("{}")).isTrue();
+	}
+
+	@Test
+	void comparesNumbersByValue() {
+
+		assertThat(DocumentMatcher.compile(new Document("age", 19L)).matches(luke)).isTrue();
+		assertThat(DocumentMatcher.compile(new Document("age", 19.0D)).matches(luke)).isTrue();
+		assertThat(DocumentMatcher.compile(new Document("age", new BigDecimal("19.00"))).matches(luke)).isTrue();
+		assertThat(DocumentMatcher.compile(new Document("age", new Decimal128(19))).matches(luke)).isTrue();
+		assertThat(DocumentMatcher.compile(new Document("age", "19")).matches(luke)).isFalse();
+	}
+
+	@Test
+	void considersNegativeAndPositiveZeroEqual() {
+
+		Document zero = new Document("value", -0.0D);
+
+		assertThat(DocumentMatcher.compile(new Document("value", 0)).matches(zero)).isTrue();
+		assertThat(DocumentMatcher.compile(new Document("value", 0.0D)).matches(zero)).isTrue();
+		assertThat(DocumentMatcher.compile(new Document("value", new Document("$lt", 0.0D))).matches(zero)).isFalse();
+		assertThat(DocumentMatcher.compile(new Document("value", new Document("$gte", 0))).matches(zero)).isTrue();
+	}
+
+	@Test
+	void comparesLongsBeyondDoublePrecisionExactly() {
+
+		long large = (1L << 53) + 1;
+		Document document = new Document("value", large);
+
+		assertThat(DocumentMatcher.compile(new Document("value", (double) large)).matches(document)).isFalse();
+		assertThat(DocumentMatcher.compile(new Document("value", new Document("$gt", (double) large))).matches(document))
+				.isTrue();
+		assertThat(DocumentMatcher.compile(new Document("value", new Document("$lte", 1e300D))).matches(document))
+				.isTrue();
+		assertThat(DocumentMatcher.compile(new Document("value", (double) (1L << 53))).matches(
+				new Document("value", 1L << 53))).isTrue();
+	}
+
+	@Test
+	void matchesDottedPaths() {
+
+		assertThat(matches("{ 'address.city' : 'Tatooine' }")).isTrue();
+		assertThat(matches("{ 'address.zip' : { '$gt' : 1000, '$lt' : 2000 } }")).isTrue();
+		assertThat(matches("{ 'address.planet' : 'Tatooine' }")).isFalse();
+		assertThat(matches("{ 'name.first' : 'Luke' }")).isFalse();
+	}
+
+	@Test
+	void matchesDottedPathsThroughArrays() {
+
+		assertThat(matches("{ 'ships.name' : 'X-Wing' }")).isTrue();
+		assertThat(matches("{ 'ships.speed' : { '$lt' : 700 } }")).isTrue();
+		assertThat(matches("{ 'ships.1.name' : 'Snowspeeder' }")).isTrue();
+		assertThat(matches("{ 'ships.0.name' : 'Snowspeeder' }")).isFalse();
+		assertThat(matches("{ 'tags.1' : 'pilot' }")).isTrue();
+	}
+
+	@Test
+	void matchesArrayElementsAndWholeArrays() {
+
+		assertThat(matches("{ 'tags' : 'jedi' }")).isTrue();
+		assertThat(matches("{ 'tags' : ['jedi', 'pilot'] }")).isTrue();
+		assertThat(matches("{ 'tags' : ['pilot', 'jedi'] }")).isFalse();
+		assertThat(matches("{ 'tags' : { '$size' : 2 } }")).isTrue();
+		assertThat(matches("{ 'tags' : { '$all' : ['pilot', 'jedi'] } }")).isTrue();
+		assertThat(matches("{ 'tags' : { '$all' : ['pilot', 'sith'] } }")).isFalse();
+	}
+
+	@Test
+	void matchesEmbeddedDocumentsByFieldOrder() {
+
+		assertThat(matches("{ 'address' : { 'city' : 'Tatooine', 'zip' : 1234 } }")).isTrue();
+		assertThat(matches("{ 'address' : { 'zip' : 1234, 'city' : 'Tatooine' } }")).isFalse();
+	}
+
+	@Test
+	void matchesComparisonOperators() {
+
+		assertThat(matches("{ 'age' : { '$gte' : 19 } }")).isTrue();
+		assertThat(matches("{ 'age' : { '$gt' : 19 } }")).isFalse();
+		assertThat(matches("{ 'age' : { '$lte' : 19 } }")).isTrue();
+		assertThat(matches("{ 'age' : { '$lt' : 19 } }")).isFalse();
+		assertThat(matches("{ 'age' : { '$ne' : 20 } }")).isTrue();
+		assertThat(matches("{ 'age' : { '$gt' : 'a' } }")).isFalse();
+		assertThat(matches("{ 'name' : { '$gt' : 'Leia' } }")).isTrue();
+	}
+
+	@Test
+	void comparesDates() {
+
+		Document document = new Document("created", new Date(1000));
+
+		assertThat(DocumentMatcher.compile(new Document("created", new Document("$gt", new Date(500)))).matches(document))
+				.isTrue();
+		assertThat(DocumentMatcher.compile(new Document("created", new Document("$gt", 500))).matches(document))
+				.isFalse();
+	}
+
+	@Test
+	void matchesInAndNin() {
+
+		assertThat(matches("{ 'name' : { '$in' : ['Leia', 'Luke'] } }")).isTrue();
+		assertThat(matches("{ 'tags' : { '$in' : ['sith', 'pilot'] } }")).isTrue();
+		assertThat(matches("{ 'name' : { '$nin' : ['Leia', 'Luke'] } }")).isFalse();
+		assertThat(matches("{ 'planet' : { '$nin' : ['Tatooine'] } }")).isTrue();
+		assertThat(DocumentMatcher.compile(new Document("name", new Document("$in", Arrays.asList(Pattern.compile("^L")))))
+				.matches(luke)).isTrue();
+	}
+
+	@Test
+	void distinguishesNullAndMissingFields() {
+
+		assertThat(matches("{ 'nickname' : null }")).isTrue();
+		assertThat(matches("{ 'planet' : null }")).isTrue();
+		assertThat(matches("{ 'nickname' : { '$exists' : true } }")).isTrue();
+		assertThat(matches("{ 'planet' : { '$exists' : true } }")).isFalse();
+		assertThat(matches("{ 'planet' : { '$exists' : false } }")).isTrue();
+		assertThat(matches("{ 'name' : { '$ne' : null } }")).isTrue();
+		assertThat(matches("{ 'nickname' : { '$ne' : null } }")).isFalse();
+	}
+
+	@Test
+	void matchesRegularExpressions() {
+
+		assertThat(matches("{ 'name' : { '$regex' : '^lu', '$options' : 'i' } }")).isTrue();
+		assertThat(matches("{ 'name' : { '$regex' : '^lu' } }")).isFalse();
+		assertThat(matches("{ 'name' : { '$not' : { '$regex' : '^Le' } } }")).isTrue();
+		assertThat(matches("{ 'tags' : { '$regex' : 'ilo' } }")).isTrue();
+		assertThat(DocumentMatcher.compile(new Document("name", Pattern.compile("uk"))).matches(luke)).isTrue();
+	}
+
+	@Test
+	void matchesElemMatch() {
+
+		assertThat(matches("{ 'ships' : { '$elemMatch' : { 'name' : 'X-Wing', 'speed' : { '$gt' : 1000 } } } }"))
+				.isTrue();
+		assertThat(matches("{ 'ships' : { '$elemMatch' : { 'name' : 'Snowspeeder', 'speed' : { '$gt' : 1000 } } } }"))
+				.isFalse();
+		assertThat(matches("{ 'ships.name' : 'Snowspeeder', 'ships.speed' : { '$gt' : 1000 } }")).isTrue();
+		assertThat(matches("{ 'tags' : { '$elemMatch' : { '$gte' : 'p', '$lt' : 'q' } } }")).isTrue();
+	}
+
+	@Test
+	void matchesLogicalOperators() {
+
+		assertThat(matches("{ '$or' : [ { 'name' : 'Leia' }, { 'age' : 19 } ] }")).isTrue();
+		assertThat(matches("{ '$and' : [ { 'name' : 'Luke' }, { 'age' : 20 } ] }")).isFalse();
+		assertThat(matches("{ '$nor' : [ { 'name' : 'Leia' }, { 'age' : 20 } ] }")).isTrue();
+		assertThat(matches("{ 'age' : { '$mod' : [ 2, 1 ] } }")).isTrue();
+	}
+
+	@Test
+	void matchesBsonDocuments() {
+
+		assertThat(DocumentMatcher.compile(Document.parse("{ 'ships.speed' : { '$gt' : 1000 }, 'tags' : 'jedi' }"))
+				.matches(BsonDocument.parse(luke.toJson()))).isTrue();
+	}
+
+	@Test
+	void considersCollation() {
+
+		Document filter = new Document("name", "luke");
+
+		assertThat(DocumentMatcher.compile(filter).matches(luke)).isFalse();
+		assertThat(DocumentMatcher.compile(filter, Collation.of("en").strength(2)).matches(luke)).isTrue();
+	}
+
+	@Test
+	void rejectsUnsupportedOperators() {
+
+		assertThatExceptionOfType(InvalidMongoDbApiUsageException.class)
+				.isThrownBy(() -> DocumentMatcher.compile(Document.parse("{ '$where' : 'this.age > 18' }")));
+		assertThatExceptionOfType(InvalidMongoDbApiUsageException.class)
+				.isThrownBy(() -> DocumentMatcher.compile(Document.parse("{ 'age' : { '$type' : 'int' } }")));
+	}
+
+	@Test
+	void mapsQueryAgainstEntity() {
+
+		MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE,
+				new MongoMappingContext());
+		converter.afterPropertiesSet();
+
+		DocumentMatcher matcher = DocumentMatcher.compile(
+				query(where("id").is("luke").and("city").is("Tatooine").orOperator(Criteria.where("age").gt(18))), converter,
+				Jedi.class);
+
+		assertThat(matcher.matches(new Document("_id", "luke").append("c", "Tatooine").append("age", 19))).isTrue();
+		assertThat(matcher.matches(new Document("_id", "luke").append("city", "Tatooine").append("age", 19))).isFalse();
+
+		Jedi jedi = new Jedi();
+		jedi.id = "luke";
+		jedi.city = "Tatooine";
+		jedi.age = 17;
+
+		assertThat(matcher.forEntities(converter).test(jedi)).isFalse();
+
+		jedi.age = 19;
+
+		assertThat(matcher.forEntities(converter).test(jedi)).isTrue();
+	}
+
+	private boolean matches(String filter) {
+		return DocumentMatcher.compile(Document.parse(filter)).matches(luke);
+	}
+
+	static class Jedi {
+
+		@Id String id;
+		@Field("c") String city;
+		int age;
+	}
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Cached;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+
+/**
+ * Unit tests for {@link EntityCache}.
+ */
+class EntityCacheUnitTests {
+
+	static final String COLLECTION = "country";
+	static final CodecRegistry CODEC_REGISTRY = MongoClientSettings.getDefaultCodecRegistry();
+
+	MongoMappingContext mappingContext = new MongoMappingContext();
+	AtomicLong clock = new AtomicLong();
+	EntityCache cache;
+	MongoPersistentEntity<?> entity;
+
+	@BeforeEach
+	void beforeEach() {
+
+		cache = new EntityCache(clock::get);
+		entity = mappingContext.getRequiredPersistentEntity(Country.class);
+	}
+
+	@Test
+	void considersOnlyAnnotatedEntitiesWithIdentifier() {
+
+		assertThat(EntityCache.isCached(entity)).isTrue();
+		assertThat(EntityCache.isCached(mappingContext.getRequiredPersistentEntity(NotCached.class))).isFalse();
+		assertThat(EntityCache.isCached(null)).isFalse();
+	}
+
+	@Test
+	void returnsCachedDocument() {
+
+		put("de", new Document("_id", "de").append("name", "Germany"));
+
+		assertThat(cache.get(entity, COLLECTION, "de", CODEC_REGISTRY))
+				.isEqualTo(new Document("_id", "de").append("name", "Germany"));
+		assertThat(cache.get(entity, COLLECTION, "fr", CODEC_REGISTRY)).isNull();
+
+		EntityCache.CacheStatistics statistics = cache.getStatistics(COLLECTION);
+		assertThat(statistics.getHitCount()).isOne();
+		assertThat(statistics.getMissCount()).isOne();
+		assertThat(statistics.getSize()).isOne();
+		assertThat(statistics.getHitRate()).isEqualTo(0.5D);
+	}
+
+	@Test
+	void returnsNewDocumentInstanceOnEveryHit() {
+
+		put("de", new Document("_id", "de").append("name", "Germany"));
+
+		Document first = cache.get(entity, COLLECTION, "de", CODEC_REGISTRY);
+		first.put("name", "changed");
+
+		assertThat(cache.get(entity, COLLECTION, "de", CODEC_REGISTRY)).containsEntry("name", "Germany");
+	}
+
+	@Test
+	void expiresDocumentsAfterConfiguredDuration() {
+
+		put("de", new Document("_id", "de"));
+
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(9));
+		assertThat(cache.get(entity, COLLECTION, "de", CODEC_REGISTRY)).isNotNull();
+
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+		assertThat(cache.get(entity, COLLECTION, "de", CODEC_REGISTRY)).isNull();
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedDocumentsExceedingMaxSize() {
+
+		put("de", new Document("_id", "de"));
+		put("fr", new Document("_id", "fr"));
+		cache.get(entity, COLLECTION, "de", CODEC_REGISTRY);
+		put("it", new Document("_id", "it"));
+
+		assertThat(cache.get(entity, COLLECTION, "fr", CODEC_REGISTRY)).isNull();
+		assertThat(cache.get(entity, COLLECTION, "de", CODEC_REGISTRY)).isNotNull();
+		assertThat(cache.get(entity, COLLECTION, "it", CODEC_REGISTRY)).isNotNull();
+		assertThat(cache.getStatistics(COLLECTION).getEvictionCount()).isOne();
+	}
+
+	@Test
+	void evictsDocumentMatchingIdQuery() {
+
+		put("de", new Document("_id", "de"));
+		put("fr", new Document("_id", "fr"));
+
+		cache.evictMatching(COLLECTION, new Document("_id", "de"));
+
+		assertThat(cache.get(entity, COLLECTION, "de", CODEC_REGISTRY)).isNull();
+		assertThat(cache.get(entity, COLLECTION, "fr", CODEC_REGISTRY)).isNotNull();
+	}
+
+	@Test
+	void evictsDocumentsMatchingIdInQuery() {
+
+		put("de", new Document("_id", "de"));
+		put("fr", new Document("_id", "fr"));
+		put("it", new Document("_id", "it"));
+
+		cache.evictMatching(COLLECTION, new Document("_id", new Document("$in", Arrays.asList("de", "fr"))));
+
+		assertThat(cache.get(entity, COLLECTION, "de", CODEC_REGISTRY)).isNull();
+		assertThat(cache.get(entity, COLLECTION, "fr", CODEC_REGISTRY)).isNull();
+		assertThat(cache.get(entity, COLLECTION, "it", CODEC_REGISTRY)).isNotNull();
+	}
+
+	@Test
+	void evictsAllDocumentsForNonIdQuery() {
+
+		put("de", new Document("_id", "de"));
+		put("fr", new Document("_id", "fr"));
+
+		cache.evictMatching(COLLECTION, new Document("name", "Germany"));
+
+		assertThat(cache.getStatistics(COLLECTION).getSize()).isZero();
+	}
+
+	@Test
+	void evictsAllDocumentsForIdRangeQuery() {
+
+		put("de", new Document("_id", "de"));
+
+		cache.evictMatching(COLLECTION, new Document("_id", new Document("$gt", "a")));
+
+		assertThat(cache.getStatistics(COLLECTION).getSize()).isZero();
+	}
+
+	@Test
+	void doesNotCacheDocumentReadBeforeConcurrentEviction() {
+
+		long generation = cache.getGeneration(entity, COLLECTION);
+		cache.evict(COLLECTION, "de");
+
+		cache.put(entity, COLLECTION, "de", new Document("_id", "de"), CODEC_REGISTRY, generation);
+
+		assertThat(cache.get(entity, COLLECTION, "de", CODEC_REGISTRY)).isNull();
+	}
+
+	@Test
+	void invalidatesDocumentReferencedByChangeStreamEvent() {
+
+		put("de", new Document("_id", "de"));
+		put("fr", new Document("_id", "fr"));
+
+		ChangeStreamDocument<?> event = mock(ChangeStreamDocument.class);
+		when(event.getNamespace()).thenReturn(new MongoNamespace("db", COLLECTION));
+		when(event.getDocumentKey()).thenReturn(new BsonDocument("_id", new BsonString("de")));
+
+		cache.invalidate(event);
+
+		assertThat(cache.get(entity, COLLECTION, "de", CODEC_REGISTRY)).isNull();
+		assertThat(cache.get(entity, COLLECTION, "fr", CODEC_REGISTRY)).isNotNull();
+	}
+
+	@Test
+	void invalidatesCollectionForChangeStreamEventWithoutDocumentKey() {
+
+		put("de", new Document("_id", "de"));
+
+		ChangeStreamDocument<?> event = mock(ChangeStreamDocument.class);
+		when(event.getNamespace()).thenReturn(new MongoNamespace("db", COLLECTION));
+
+		cache.invalidate(event);
+
+		assertThat(cache.getStatistics(COLLECTION).getSize()).isZero();
+	}
+
+	private void put(Object id, Document document) {
+		cache.put(entity, COLLECTION, id, document, CODEC_REGISTRY, cache.getGeneration(entity, COLLECTION));
+	}
+
+	@Cached(expireAfterSeconds = 10, maxSize = 2)
+	static class Country {
+
+		@Id String code;
+		String name;
+	}
+
+	static class NotCached {
+		@Id String id;
+	}
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.AbstractRefreshableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.data.mongodb.core.index.MongoMappingEventPublisher;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterLoadEvent;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+import org.springframework.data.mongodb.core.mapping.event.MongoMappingEvent;
+
+/**
+ * Unit tests for {@link EntityLifecycleEventDelegate}.
+ */
+class EntityLifecycleEventDelegateUnitTests {
+
+	EntityLifecycleEventDelegate delegate = new EntityLifecycleEventDelegate();
+
+	@Test
+	void doesNotPublishWithoutPublisher() {
+
+		assertThat(delegate.hasListeners(AfterLoadEvent.class, Person.class)).isFalse();
+		delegate.publishEvent(new AfterLoadEvent<>(new Document(), Person.class, "person"));
+	}
+
+	@Test
+	void doesNotPublishToIndexCreatingPublisher() {
+
+		MongoMappingEventPublisher publisher = mock(MongoMappingEventPublisher.class);
+		delegate.setPublisher(publisher);
+
+		delegate.publishEvent(new AfterLoadEvent<>(new Document(), Person.class, "person"));
+
+		verifyNoInteractions(publisher);
+	}
+
+	@Test
+	void alwaysPublishesToPublishersThatCannotBeIntrospected() {
+
+		ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+		delegate.setPublisher(publisher);
+
+		AfterLoadEvent<Person> event = new AfterLoadEvent<>(new Document(), Person.class, "person");
+		delegate.publishEvent(event);
+
+		verify(publisher).publishEvent(event);
+	}
+
+	@Test
+	void publishesOnlyToMatchingDomainTypeListeners() {
+
+		PersonListener listener = new PersonListener();
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.registerBean(PersonListener.class, () -> listener);
+		context.refresh();
+		delegate.setPublisher(context);
+
+		assertThat(delegate.hasListeners(AfterLoadEvent.class, Person.class)).isTrue();
+		assertThat(delegate.hasListeners(AfterLoadEvent.class, Document.class)).isFalse();
+		assertThat(delegate.hasListeners(AfterDeleteEvent.class, null)).isFalse();
+
+		delegate.publishEvent(new AfterLoadEvent<>(new Document(), Person.class, "person"));
+		delegate.publishEvent(new AfterConvertEvent<>(new Document(), new Document(), "person"));
+
+		assertThat(listener.events).hasSize(1).allMatch(AfterLoadEvent.class::isInstance);
+	}
+
+	@Test
+	void ignoresListenersForOtherEventTypes() {
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.registerBean(RefreshListener.class, RefreshListener::new);
+		context.refresh();
+		delegate.setPublisher(context);
+
+		assertThat(delegate.hasListeners(BeforeConvertEvent.class, Person.class)).isFalse();
+	}
+
+	@Test
+	void considersListenersAddedAfterFirstLookup() {
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.refresh();
+		delegate.setPublisher(context);
+
+		assertThat(delegate.hasListeners(BeforeConvertEvent.class, Person.class)).isFalse();
+
+		PersonListener listener = new PersonListener();
+		context.addApplicationListener(listener);
+
+		assertThat(delegate.hasListeners(BeforeConvertEvent.class, Person.class)).isTrue();
+
+		Person person = new Person();
+		delegate.publishEvent(new BeforeConvertEvent<>(person, "person"));
+
+		assertThat(listener.events).hasSize(1);
+	}
+
+	@Test
+	void considersListenersOfRefreshedContext() throws InterruptedException {
+
+		RefreshableContext context = new RefreshableContext();
+		context.refresh();
+		delegate.setPublisher(context);
+
+		assertThat(delegate.hasListeners(BeforeConvertEvent.class, Person.class)).isFalse();
+
+		// make sure the refresh gets a new startup date
+		Thread.sleep(5);
+
+		context.withPersonListener = true;
+		context.refresh();
+
+		assertThat(delegate.hasListeners(BeforeConvertEvent.class, Person.class)).isTrue();
+	}
+
+	@Test
+	void publishesWhileContextIsNotRefreshed() {
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		delegate.setPublisher(context);
+
+		assertThat(delegate.hasListeners(BeforeConvertEvent.class, Person.class)).isTrue();
+	}
+
+	@Test
+	void considersListenersWithUnresolvableEventType() {
+
+		ApplicationListener<MongoMappingEvent<?>> listener = event -> {};
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.refresh();
+		context.addApplicationListener(listener);
+		delegate.setPublisher(context);
+
+		assertThat(delegate.hasListeners(BeforeConvertEvent.class, Person.class)).isTrue();
+	}
+
+	static class Person {}
+
+	static class PersonListener extends AbstractMongoEventListener<Person> {
+
+		List<MongoMappingEvent<?>> events = new ArrayList<>();
+
+		@Override
+		public void onApplicationEvent(MongoMappingEvent<?> event) {
+
+			events.add(event);
+			super.onApplicationEvent(event);
+		}
+	}
+
+	static class RefreshableContext extends AbstractRefreshableApplicationContext {
+
+		boolean withPersonListener;
+
+		@Override
+		protected void loadBeanDefinitions(DefaultListableBeanFactory beanFactory) {
+
+			if (withPersonListener) {
+				beanFactory.registerBeanDefinition("personListener", new RootBeanDefinition(PersonListener.class));
+			}
+		}
+	}
+
+	static class RefreshListener implements ApplicationListener<ContextRefreshedEvent> {
+
+		@Override
+		public void onApplicationEvent(ContextRefreshedEvent event) {}
+	}
+}
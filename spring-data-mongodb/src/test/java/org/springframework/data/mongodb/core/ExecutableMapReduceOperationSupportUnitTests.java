@@ -89,6 +89,16 @@ class ExecutableMapReduceOperationSupportUnitTests {
 				eq(REDUCE_FUNCTION), isNull(), eq(Person.class));
 	}
 
+	@Test
+	void streamsUsingExtractedCollectionName() {
+
+		when(template.getCollectionName(eq(Person.class))).thenReturn(STAR_WARS);
+		mapReduceOpsSupport.mapReduce(Person.class).map(MAP_FUNCTION).reduce(REDUCE_FUNCTION).stream();
+
+		verify(template).mapReduceStream(any(Query.class), eq(Person.class), eq(STAR_WARS), eq(MAP_FUNCTION),
+				eq(REDUCE_FUNCTION), isNull(), eq(Person.class));
+	}
+
 	@Test // DATAMONGO-1929
 	void usesMapReduceOptionsWhenPresent() {
 
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.DBRef;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * Unit tests for {@link FetchPlan}.
+ */
+class FetchPlanUnitTests {
+
+	MongoMappingContext mappingContext = new MongoMappingContext();
+
+	@Test
+	void appliesFindArgumentsBeforeJoining() {
+
+		List<Document> pipeline = plan("author").createPipeline(new Document("title", "dune"), new Document("title", 1),
+				10, 5, new Document("title", 1));
+
+		assertThat(pipeline).hasSize(9);
+		assertThat(pipeline.subList(0, 4)).containsExactly(new Document("$match", new Document("title", "dune")),
+				new Document("$sort", new Document("title", 1)), new Document("$skip", 10L), new Document("$limit", 5));
+		assertThat(pipeline.get(8)).isEqualTo(new Document("$project", new Document("title", 1)));
+	}
+
+	@Test
+	void omitsEmptyFindArguments() {
+
+		List<Document> pipeline = plan("author").createPipeline(new Document(), null, 0, 0, null);
+
+		assertThat(pipeline).hasSize(5);
+		assertThat(pipeline.get(0)).isEqualTo(new Document("$match", new Document()));
+	}
+
+	@Test
+	void joinsSingleReference() {
+
+		List<Document> pipeline = plan("author").createPipeline(new Document(), null, 0, 0, null);
+
+		assertThat(pipeline.get(1)).isEqualTo(Document.parse("{ '$addFields' : { '__fetch_0_ids' : "
+				+ "{ '$arrayElemAt' : [ { '$map' : { 'input' : { '$objectToArray' : '$writer' }, 'in' : '$$this.v' } }, 1 ] } } }"));
+		assertThat(pipeline.get(2)).isEqualTo(Document.parse("{ '$lookup' : { 'from' : 'author', "
+				+ "'localField' : '__fetch_0_ids', 'foreignField' : '_id', 'as' : '__fetch_0_docs' } }"));
+		assertThat(pipeline.get(3)).isEqualTo(Document.parse("{ '$addFields' : { 'writer' : { '$cond' : [ "
+				+ isJoined("$writer", "author") + ", { '$arrayElemAt' : [ '$__fetch_0_docs', 0 ] }, '$writer' ] } } }"));
+		assertThat(pipeline.get(4))
+				.isEqualTo(Document.parse("{ '$project' : { '__fetch_0_ids' : 0, '__fetch_0_docs' : 0 } }"));
+	}
+
+	@Test
+	void joinsCollectionOfReferencesRetainingOrder() {
+
+		List<Document> pipeline = plan("reviewers").createPipeline(new Document(), null, 0, 0, null);
+
+		assertThat(pipeline.get(1)).isEqualTo(Document.parse("{ '$addFields' : { '__fetch_0_ids' : { '$map' : { "
+				+ "'input' : '$reviewers', 'as' : 'ref', 'in' : { '$arrayElemAt' : [ "
+				+ "{ '$map' : { 'input' : { '$objectToArray' : '$$ref' }, 'in' : '$$this.v' } }, 1 ] } } } } }"));
+		assertThat(pipeline.get(3)).isEqualTo(Document.parse("{ '$addFields' : { 'reviewers' : { '$cond' : [ "
+				+ "{ '$isArray' : '$reviewers' }, { '$map' : { 'input' : '$reviewers', 'as' : 'ref', 'in' : { '$cond' : [ "
+				+ isJoined("$$ref", "author") + ", { '$arrayElemAt' : [ { '$filter' : { 'input' : '$__fetch_0_docs', "
+				+ "'cond' : { '$eq' : [ '$$this._id', { '$arrayElemAt' : [ " + values("$$ref") + ", 1 ] } ] } } }, 0 ] }, "
+				+ "'$$ref' ] } } }, '$reviewers' ] } } }"));
+	}
+
+	@Test
+	void joinsMultiplePathsIncludingEmbeddedOnes() {
+
+		List<Document> pipeline = FetchPlan.of(Arrays.asList("author", "shelf.owner"),
+				mappingContext.getRequiredPersistentEntity(Book.class), mappingContext)
+				.createPipeline(new Document(), null, 0, 0, null);
+
+		assertThat(pipeline).hasSize(8);
+		assertThat(pipeline.get(6)).isEqualTo(Document.parse("{ '$addFields' : { 's.owner' : { '$cond' : [ "
+				+ isJoined("$s.owner", "author") + ", { '$arrayElemAt' : [ '$__fetch_1_docs', 0 ] }, '$s.owner' ] } } }"));
+		assertThat(pipeline.get(7)).isEqualTo(Document.parse("{ '$project' : { '__fetch_0_ids' : 0, "
+				+ "'__fetch_0_docs' : 0, '__fetch_1_ids' : 0, '__fetch_1_docs' : 0 } }"));
+	}
+
+	@Test
+	void joinsOnlyReferencesToCollectionOfDeclaredType() {
+
+		List<Document> pipeline = plan("editor").createPipeline(new Document(), null, 0, 0, null);
+
+		assertThat(pipeline.get(2).get("$lookup", Document.class)).containsEntry("from", "editors");
+		assertThat(pipeline.get(3)).isEqualTo(Document.parse("{ '$addFields' : { 'editor' : { '$cond' : [ "
+				+ isJoined("$editor", "editors") + ", { '$arrayElemAt' : [ '$__fetch_0_docs', 0 ] }, '$editor' ] } } }"));
+	}
+
+	@Test
+	void rejectsPathsThatCannotBeJoined() {
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class).isThrownBy(() -> plan("title"));
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class).isThrownBy(() -> plan("unknown"));
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class).isThrownBy(() -> plan("byRole"));
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class).isThrownBy(() -> plan("elsewhere"));
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class).isThrownBy(() -> plan("shelves.owner"));
+	}
+
+	private FetchPlan plan(String path) {
+		return FetchPlan.of(Collections.singletonList(path), mappingContext.getRequiredPersistentEntity(Book.class),
+				mappingContext);
+	}
+
+	private static String values(String reference) {
+		return "{ '$map' : { 'input' : { '$objectToArray' : '" + reference + "' }, 'in' : '$$this.v' } }";
+	}
+
+	private static String isJoined(String reference, String collection) {
+
+		return "{ '$and' : [ { '$eq' : [ { '$type' : '" + reference + "' }, 'object' ] }, { '$eq' : [ { '$size' : "
+				+ values(reference) + " }, 2 ] }, { '$eq' : [ { '$arrayElemAt' : [ " + values(reference) + ", 0 ] }, '"
+				+ collection + "' ] } ] }";
+	}
+
+	static class Book {
+
+		@Id String id;
+		String title;
+		@DBRef @Field("writer") Author author;
+		@DBRef List<Author> reviewers;
+		@DBRef Map<String, Author> byRole;
+		@DBRef(db = "archive") Author elsewhere;
+		@DBRef Editor editor;
+		@Field("s") Shelf shelf;
+		List<Shelf> shelves;
+	}
+
+	static class Shelf {
+		@DBRef Author owner;
+	}
+
+	static class Author {
+
+		@Id String id;
+		String name;
+	}
+
+	@org.springframework.data.mongodb.core.mapping.Document("editors")
+	static class Editor {
+
+		@Id String id;
+	}
+}
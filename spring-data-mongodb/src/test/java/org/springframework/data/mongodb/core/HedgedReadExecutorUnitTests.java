@@ -0,0 +1,206 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.HedgedReadExecutor.Operation;
+import org.springframework.data.mongodb.core.HedgedReadExecutor.ReadStatistics;
+
+import com.mongodb.MongoSocketException;
+import com.mongodb.ReadPreference;
+import com.mongodb.ServerAddress;
+
+/**
+ * Unit tests for {@link HedgedReadExecutor}.
+ */
+class HedgedReadExecutorUnitTests {
+
+	static final ReadPreference SECONDARY = ReadPreference.secondaryPreferred();
+
+	ExecutorService executorService;
+
+	@BeforeEach
+	void beforeEach() {
+		executorService = Executors.newCachedThreadPool();
+	}
+
+	@AfterEach
+	void afterEach() {
+		executorService.shutdownNow();
+	}
+
+	@Test
+	void executesPrimaryReadsOnCallingThread() {
+
+		HedgedReadExecutor executor = HedgedReadExecutor.create(command -> {
+			throw new IllegalStateException("Must not be called!");
+		});
+
+		Thread caller = Thread.currentThread();
+
+		assertThat(executor.execute(Operation.FIND_ONE, ReadPreference.primary(), () -> Thread.currentThread() == caller,
+				null)).isTrue();
+		assertThat(executor.execute(Operation.FIND_ONE, null, () -> Thread.currentThread() == caller, null)).isTrue();
+		assertThat(executor.getStatistics(Operation.FIND_ONE).getExecutionCount()).isEqualTo(2);
+	}
+
+	@Test
+	void duplicatesReadExceedingDelayAndReturnsFirstResponse() throws Exception {
+
+		CountDownLatch slowRead = new CountDownLatch(1);
+		CompletableFuture<String> discarded = new CompletableFuture<>();
+		AtomicInteger attempts = new AtomicInteger();
+
+		HedgedReadExecutor executor = HedgedReadExecutor.builder(executorService).initialDelay(Duration.ofMillis(10))
+				.build();
+
+		String result = executor.execute(Operation.FIND, SECONDARY, () -> {
+
+			if (attempts.incrementAndGet() == 1) {
+				await(slowRead);
+				return "slow";
+			}
+			return "fast";
+		}, discarded::complete);
+
+		slowRead.countDown();
+
+		assertThat(result).isEqualTo("fast");
+		assertThat(discarded.get(1, TimeUnit.SECONDS)).isEqualTo("slow");
+
+		ReadStatistics statistics = executor.getStatistics(Operation.FIND);
+		assertThat(statistics.getHedgeCount()).isOne();
+		assertThat(statistics.getDuplicateWinCount()).isOne();
+	}
+
+	@Test
+	void doesNotDuplicateReadCompletingWithinDelay() {
+
+		AtomicInteger attempts = new AtomicInteger();
+
+		HedgedReadExecutor executor = HedgedReadExecutor.builder(executorService).initialDelay(Duration.ofSeconds(1))
+				.delayBetween(Duration.ZERO, Duration.ofSeconds(1)).build();
+
+		assertThat(executor.execute(Operation.COUNT, SECONDARY, attempts::incrementAndGet, null)).isOne();
+		assertThat(attempts).hasValue(1);
+		assertThat(executor.getStatistics(Operation.COUNT).getHedgeCount()).isZero();
+	}
+
+	@Test
+	void retriesReadFailingWithNetworkError() {
+
+		AtomicInteger attempts = new AtomicInteger();
+
+		HedgedReadExecutor executor = HedgedReadExecutor.create(Runnable::run);
+
+		String result = executor.execute(Operation.FIND_ONE, SECONDARY, () -> {
+
+			if (attempts.incrementAndGet() == 1) {
+				throw new MongoSocketException("boom", new ServerAddress());
+			}
+			return "retried";
+		}, null);
+
+		assertThat(result).isEqualTo("retried");
+		assertThat(executor.getStatistics(Operation.FIND_ONE).getRetryCount()).isOne();
+	}
+
+	@Test
+	void doesNotRetryNonRetryableError() {
+
+		AtomicInteger attempts = new AtomicInteger();
+
+		HedgedReadExecutor executor = HedgedReadExecutor.create(Runnable::run);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> executor.execute(Operation.FIND_ONE, SECONDARY, () -> {
+
+			attempts.incrementAndGet();
+			throw new IllegalArgumentException("boom");
+		}, null));
+
+		assertThat(attempts).hasValue(1);
+	}
+
+	@Test
+	void propagatesErrorIfRetryFails() {
+
+		HedgedReadExecutor executor = HedgedReadExecutor.create(Runnable::run);
+
+		assertThatExceptionOfType(MongoSocketException.class)
+				.isThrownBy(() -> executor.execute(Operation.FIND_ONE, SECONDARY, failing(), null));
+		assertThat(executor.getStatistics(Operation.FIND_ONE).getRetryCount()).isOne();
+	}
+
+	@Test
+	void doesNotRetryIfBudgetIsExhausted() {
+
+		HedgedReadExecutor executor = HedgedReadExecutor.builder(Runnable::run).retryBudget(0.5D, 1).build();
+
+		assertThatExceptionOfType(MongoSocketException.class)
+				.isThrownBy(() -> executor.execute(Operation.FIND_ONE, SECONDARY, failing(), null));
+		assertThatExceptionOfType(MongoSocketException.class)
+				.isThrownBy(() -> executor.execute(Operation.FIND_ONE, SECONDARY, failing(), null));
+
+		ReadStatistics statistics = executor.getStatistics(Operation.FIND_ONE);
+		assertThat(statistics.getRetryCount()).isOne();
+		assertThat(statistics.getBudgetExhaustedCount()).isOne();
+	}
+
+	@Test
+	void derivesDelayFromObservedLatencies() {
+
+		HedgedReadExecutor executor = HedgedReadExecutor.builder(Runnable::run).initialDelay(Duration.ofMillis(100))
+				.delayBetween(Duration.ofMillis(1), Duration.ofSeconds(1)).build();
+
+		assertThat(executor.getDelay(Operation.FIND)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+
+		for (int i = 0; i < HedgedReadExecutor.MIN_SAMPLES; i++) {
+			executor.execute(Operation.FIND, SECONDARY, () -> "fast", null);
+		}
+
+		assertThat(executor.getDelay(Operation.FIND)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(1));
+		assertThat(executor.getDelay(Operation.COUNT)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+	}
+
+	private static Supplier<String> failing() {
+
+		return () -> {
+			throw new MongoSocketException("boom", new ServerAddress());
+		};
+	}
+
+	private static void await(CountDownLatch latch) {
+
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
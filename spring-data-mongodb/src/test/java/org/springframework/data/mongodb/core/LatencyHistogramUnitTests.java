@@ -0,0 +1,79 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.data.Percentage;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link LatencyHistogram}.
+ */
+class LatencyHistogramUnitTests {
+
+	@Test
+	void bucketBoundsCoverRecordedValues() {
+
+		for (long micros = 0; micros < 100_000; micros += 7) {
+
+			int index = LatencyHistogram.indexOf(micros);
+
+			assertThat(LatencyHistogram.upperBound(index)).isGreaterThanOrEqualTo(micros);
+			assertThat(LatencyHistogram.indexOf(LatencyHistogram.upperBound(index))).isEqualTo(index);
+		}
+	}
+
+	@Test
+	void computesPercentilesWithinBucketPrecision() {
+
+		LatencyHistogram histogram = new LatencyHistogram(1000);
+
+		for (int i = 1; i <= 100; i++) {
+			histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+		}
+
+		assertThat(histogram.getCount()).isEqualTo(100);
+		assertThat(histogram.getPercentile(0.5D)).isCloseTo(TimeUnit.MILLISECONDS.toNanos(50), Percentage.withPercentage(25));
+		assertThat(histogram.getPercentile(0.95D)).isCloseTo(TimeUnit.MILLISECONDS.toNanos(95),
+				Percentage.withPercentage(25));
+	}
+
+	@Test
+	void returnsZeroWithoutSamples() {
+		assertThat(new LatencyHistogram(10).getPercentile(0.99D)).isZero();
+	}
+
+	@Test
+	void discardsSamplesOfOutdatedWindows() {
+
+		LatencyHistogram histogram = new LatencyHistogram(10);
+
+		for (int i = 0; i < 10; i++) {
+			histogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+		}
+
+		for (int i = 0; i < 15; i++) {
+			histogram.record(TimeUnit.MILLISECONDS.toNanos(100));
+		}
+
+		assertThat(histogram.getCount()).isEqualTo(15);
+		assertThat(histogram.getPercentile(0.01D)).isCloseTo(TimeUnit.MILLISECONDS.toNanos(100),
+				Percentage.withPercentage(25));
+	}
+}
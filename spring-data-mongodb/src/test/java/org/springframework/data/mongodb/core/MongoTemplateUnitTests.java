@@ -35,10 +35,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
 import org.assertj.core.api.Assertions;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.conversions.Bson;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
@@ -69,6 +71,7 @@ import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.mongodb.MongoDatabaseFactory;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
 import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
 import org.springframework.data.mongodb.core.aggregation.ComparisonOperators.Gte;
@@ -82,24 +85,31 @@ import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
 import org.springframework.data.mongodb.core.convert.QueryMapper;
 import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
 import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexCreator;
+import org.springframework.data.mongodb.core.mapping.Cached;
+import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Field;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
 import org.springframework.data.mongodb.core.mapping.event.AfterConvertCallback;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterLoadEvent;
 import org.springframework.data.mongodb.core.mapping.event.AfterSaveCallback;
 import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
 import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
 import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
 import org.springframework.data.mongodb.core.mapping.event.BeforeSaveCallback;
 import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+import org.springframework.data.mongodb.core.mapping.event.MongoMappingEvent;
 import org.springframework.data.mongodb.core.mapreduce.GroupBy;
 import org.springframework.data.mongodb.core.mapreduce.MapReduceOptions;
+import org.springframework.data.mongodb.core.mapreduce.MapReduceResults;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Collation;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.NearQuery;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
 import org.springframework.lang.Nullable;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.CollectionUtils;
@@ -114,6 +124,7 @@ import com.mongodb.WriteConcern;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.DistinctIterable;
 import com.mongodb.client.FindIterable;
+import com.mongodb.client.ListIndexesIterable;
 import com.mongodb.client.MapReduceIterable;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
@@ -923,6 +934,61 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		verify(mapReduceIterable, never()).databaseName(any());
 	}
 
+	@Test
+	void mapReduceShouldUseBatchSizeWhenPresent() {
+
+		when(mapReduceIterable.batchSize(anyInt())).thenReturn(mapReduceIterable);
+
+		template.mapReduce("", "", "", MapReduceOptions.options().batchSize(100), AutogenerateableId.class);
+
+		verify(mapReduceIterable).batchSize(100);
+	}
+
+	@Test
+	void mapReduceStreamShouldReadFromCursor() {
+
+		when(cursor.hasNext()).thenReturn(true, false);
+		when(cursor.next()).thenReturn(new Document("_id", "id-1"));
+
+		try (CloseableIterator<Document> stream = template.mapReduceStream(new Query(), AutogenerateableId.class,
+				"collection-1", "", "", null, Document.class)) {
+
+			assertThat(stream.hasNext()).isTrue();
+			assertThat(stream.next()).isNotNull();
+			assertThat(stream.hasNext()).isFalse();
+		}
+
+		verify(mapReduceIterable).iterator();
+	}
+
+	@Test
+	void mapReduceStreamShouldDefaultToMapReduceResults() {
+
+		MongoOperations operations = mock(MongoOperations.class, CALLS_REAL_METHODS);
+		Document result = new Document("_id", "id-1");
+		doReturn(new MapReduceResults<>(Collections.singletonList(result), new Document())).when(operations)
+				.mapReduce(any(Query.class), eq("collection-1"), eq("map"), eq("reduce"), isNull(), eq(Document.class));
+
+		try (CloseableIterator<Document> stream = operations.mapReduceStream(new Query(), AutogenerateableId.class,
+				"collection-1", "map", "reduce", null, Document.class)) {
+
+			assertThat(stream.next()).isSameAs(result);
+			assertThat(stream.hasNext()).isFalse();
+		}
+	}
+
+	@Test
+	void aggregateShouldNotRetainRawResultsWhenSkipped() {
+
+		Aggregation aggregation = newAggregation(project("id"))
+				.withOptions(newAggregationOptions().skipRawResults().build());
+
+		AggregationResults<Document> results = template.aggregate(aggregation, AutogenerateableId.class, Document.class);
+
+		assertThat(results.getRawResults()).doesNotContainKey("results");
+		verify(aggregateIterable, times(1)).map(any());
+	}
+
 	@Test // DATAMONGO-1518, DATAMONGO-2264
 	void geoNearShouldUseCollationWhenPresent() {
 
@@ -1002,12 +1068,48 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 	@Test // DATAMONGO-1733
 	void doesNotApplyFieldsWhenInterfaceProjectionIsOpen() {
 
-		template.doFind("star-wars", new Document(), new Document(), Person.class, PersonSpELProjection.class,
+		template.doFind("star-wars", new Document(), new Document(), Person.class, PersonSpELTargetProjection.class,
 				CursorPreparer.NO_OP_PREPARER);
 
 		verify(findIterable).projection(eq(new Document()));
 	}
 
+	@Test
+	void appliesFieldsReferencedByOpenInterfaceProjection() {
+
+		template.doFind("star-wars", new Document(), new Document(), Person.class, PersonSpELProjection.class,
+				CursorPreparer.NO_OP_PREPARER);
+
+		verify(findIterable).projection(eq(new Document("firstname", 1)));
+	}
+
+	@Test
+	void appliesNestedFieldsForNestedClosedInterfaceProjection() {
+
+		template.doFind("star-wars", new Document(), new Document(), Employee.class, EmployeeProjection.class,
+				CursorPreparer.NO_OP_PREPARER);
+
+		verify(findIterable).projection(eq(new Document("name", 1).append("addr.city", 1)));
+	}
+
+	@Test
+	void appliesReferenceFieldForNestedClosedInterfaceProjectionOfDbRef() {
+
+		template.doFind("star-wars", new Document(), new Document(), Team.class, TeamProjection.class,
+				CursorPreparer.NO_OP_PREPARER);
+
+		verify(findIterable).projection(eq(new Document("name", 1).append("department", 1)));
+	}
+
+	@Test
+	void appliesReferenceFieldForOpenInterfaceProjectionOfDbRef() {
+
+		template.doFind("star-wars", new Document(), new Document(), Team.class, TeamSpELProjection.class,
+				CursorPreparer.NO_OP_PREPARER);
+
+		verify(findIterable).projection(eq(new Document("department", 1)));
+	}
+
 	@Test // DATAMONGO-1733, DATAMONGO-2041
 	void appliesFieldsToDtoProjection() {
 
@@ -1078,6 +1180,98 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 				.containsEntry("$geoNear.near.coordinates.[1]", 2D);
 	}
 
+	@Test
+	void geoNearShouldProjectFieldsRequiredByInterfaceProjection() {
+
+		template.geoNear(NearQuery.near(new Point(1, 1)), Employee.class, "employee", EmployeeProjection.class);
+
+		ArgumentCaptor<List<Document>> capture = ArgumentCaptor.forClass(List.class);
+
+		verify(collection).aggregate(capture.capture(), eq(Document.class));
+
+		assertThat(capture.getValue()).hasSize(2);
+		assertThat(capture.getValue().get(1))
+				.isEqualTo(new Document("$project", new Document("name", 1).append("addr.city", 1).append("dis", 1)));
+	}
+
+	@Test
+	void geoNearShouldNotProjectFieldsWhenReadingEntity() {
+
+		template.geoNear(NearQuery.near(new Point(1, 1)), Employee.class);
+
+		ArgumentCaptor<List<Document>> capture = ArgumentCaptor.forClass(List.class);
+
+		verify(collection).aggregate(capture.capture(), eq(Document.class));
+
+		assertThat(capture.getValue()).hasSize(1);
+	}
+
+	@Test
+	void findByIdShouldReadCachedEntityFromEntityCache() {
+
+		when(findIterable.first()).thenReturn(new Document("_id", "de").append("name", "Germany"));
+
+		Country first = template.findById("de", Country.class);
+		Country second = template.findById("de", Country.class);
+
+		assertThat(second).isNotSameAs(first);
+		assertThat(second.name).isEqualTo("Germany");
+		verify(collection, times(1)).find(any(Document.class), any(Class.class));
+		assertThat(template.getEntityCache().getStatistics("country").getHitCount()).isOne();
+	}
+
+	@Test
+	void findByIdShouldReportPhasesToOperationObserverWhenPopulatingEntityCache() {
+
+		when(findIterable.first()).thenReturn(new Document("_id", "de").append("name", "Germany"));
+
+		List<OperationPhase> phases = new ArrayList<>();
+		template.setOperationObserver((phase, operation, collectionName, entityType, repositoryMethod,
+				durationNanos) -> phases.add(phase));
+
+		template.findById("de", Country.class);
+
+		assertThat(phases).containsExactly(OperationPhase.QUERY_MAPPING, OperationPhase.EXECUTION,
+				OperationPhase.READ_CONVERSION);
+		assertThat(template.getEntityCache().getStatistics("country").getMissCount()).isOne();
+	}
+
+	@Test
+	void updateShouldEvictEntityFromEntityCache() {
+
+		when(findIterable.first()).thenReturn(new Document("_id", "de").append("name", "Germany"));
+		when(collection.updateOne(any(Bson.class), any(Bson.class), any())).thenReturn(updateResult);
+
+		template.findById("de", Country.class);
+		template.updateFirst(Query.query(Criteria.where("id").is("de")), new Update().set("name", "Deutschland"), Country.class);
+		template.findById("de", Country.class);
+
+		verify(collection, times(2)).find(any(Document.class), any(Class.class));
+	}
+
+	@Test
+	void findByIdShouldNotUseEntityCacheForEntityWithoutCachedAnnotation() {
+
+		when(findIterable.first()).thenReturn(new Document("_id", "init").append("firstname", "luke"));
+
+		template.findById("init", Person.class);
+		template.findById("init", Person.class);
+
+		verify(collection, times(2)).find(any(Document.class), any(Class.class));
+	}
+
+	@Test
+	void findByIdShouldNotUseEntityCacheIfDisabled() {
+
+		when(findIterable.first()).thenReturn(new Document("_id", "de").append("name", "Germany"));
+
+		template.setEntityCache(null);
+		template.findById("de", Country.class);
+		template.findById("de", Country.class);
+
+		verify(collection, times(2)).find(any(Document.class), any(Class.class));
+	}
+
 	@Test // DATAMONGO-2155
 	void saveVersionedEntityShouldCallUpdateCorrectly() {
 
@@ -1157,6 +1351,290 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		verify(findIterable).collation(eq(com.mongodb.client.model.Collation.builder().locale("de_AT").build()));
 	}
 
+	@Test
+	void streamShouldPrefetchBatchesUsingStreamExecutor() {
+
+		when(findIterable.batchSize(anyInt())).thenReturn(findIterable);
+		when(cursor.hasNext()).thenReturn(true, true, false);
+		when(cursor.next()).thenReturn(new Document("_id", "1"), new Document("_id", "2"));
+
+		template.setStreamExecutor(Runnable::run);
+
+		try (CloseableIterator<AutogenerateableId> stream = template.stream(new Query().cursorBatchSize(10),
+				AutogenerateableId.class)) {
+
+			assertThat(stream).isInstanceOf(PrefetchingCursorAdapter.class);
+			assertThat(stream.stream().map(it -> it.id)).containsExactly(BigInteger.ONE, BigInteger.valueOf(2));
+		}
+	}
+
+	@Test
+	void saveShouldOnlySendChangedFieldsOfTrackedEntity() {
+
+		when(findIterable.first()).thenReturn(new Document("_id", "e1").append("name", "Luke")
+				.append("addr", new Document("street", "Main").append("city", "Anchorhead"))
+				.append("_class", Employee.class.getName()));
+		when(collection.updateOne(any(Bson.class), any(Bson.class))).thenReturn(updateResult);
+
+		template.setChangeTracker(new ChangeTracker());
+
+		Employee employee = template.findOne(Query.query(Criteria.where("id").is("e1")), Employee.class);
+		employee.address.city = "Mos Eisley";
+		template.save(employee);
+
+		verify(collection).updateOne(eq(new Document("_id", "e1")),
+				eq(new Document("$set", new Document("addr.city", "Mos Eisley"))));
+		verify(collection, never()).replaceOne(any(), any(), any(ReplaceOptions.class));
+	}
+
+	@Test
+	void saveShouldSendInPlaceChangesOfNestedDocumentOfTrackedEntity() {
+
+		when(findIterable.first()).thenReturn(new Document("_id", "m1").append("meta", new Document("a", 1))
+				.append("_class", WithMeta.class.getName()));
+		when(collection.updateOne(any(Bson.class), any(Bson.class))).thenReturn(updateResult);
+
+		template.setChangeTracker(new ChangeTracker());
+
+		WithMeta entity = template.findOne(Query.query(Criteria.where("id").is("m1")), WithMeta.class);
+		entity.meta.put("a", 2);
+		template.save(entity);
+
+		verify(collection).updateOne(eq(new Document("_id", "m1")), eq(new Document("$set", new Document("meta.a", 2))));
+	}
+
+	@Test
+	void saveShouldNotWriteUnchangedTrackedEntity() {
+
+		when(findIterable.first()).thenReturn(
+				new Document("_id", "e1").append("name", "Luke").append("_class", Employee.class.getName()));
+
+		template.setChangeTracker(new ChangeTracker());
+
+		template.save(template.findOne(Query.query(Criteria.where("id").is("e1")), Employee.class));
+
+		verify(collection, never()).updateOne(any(Bson.class), any(Bson.class));
+		verify(collection, never()).replaceOne(any(), any(), any(ReplaceOptions.class));
+	}
+
+	@Test
+	void saveShouldReplaceDocumentOfTrackedEntityIfDocumentDoesNotExistAnymore() {
+
+		when(findIterable.first()).thenReturn(
+				new Document("_id", "e1").append("name", "Luke").append("_class", Employee.class.getName()));
+		when(collection.updateOne(any(Bson.class), any(Bson.class))).thenReturn(updateResult);
+		when(updateResult.wasAcknowledged()).thenReturn(true);
+		when(updateResult.getMatchedCount()).thenReturn(0L);
+
+		template.setChangeTracker(new ChangeTracker());
+
+		Employee employee = template.findOne(Query.query(Criteria.where("id").is("e1")), Employee.class);
+		employee.name = "Han";
+		template.save(employee);
+
+		verify(collection).replaceOne(eq(new Document("_id", "e1")), any(Document.class), any(ReplaceOptions.class));
+	}
+
+	@Test
+	void saveShouldOnlySendVersionOfUnchangedTrackedVersionedEntity() {
+
+		when(findIterable.first()).thenReturn(
+				new Document("_id", 1).append("version", 0).append("_class", VersionedEntity.class.getName()));
+		when(collection.updateOne(any(Bson.class), any(Bson.class), any(UpdateOptions.class))).thenReturn(updateResult);
+		when(updateResult.getModifiedCount()).thenReturn(1L);
+
+		template.setChangeTracker(new ChangeTracker());
+
+		template.save(template.findOne(Query.query(Criteria.where("id").is(1)), VersionedEntity.class));
+
+		verify(collection).updateOne(eq(new Document("_id", 1).append("version", 0)),
+				eq(new Document("$set", new Document("version", 1))),
+				any(UpdateOptions.class));
+	}
+
+	@Test
+	void findShouldPassEventsToHookWithoutListeners() {
+
+		when(cursor.hasNext()).thenReturn(true, false);
+		when(cursor.next()).thenReturn(new Document("_id", "e1").append("name", "Luke"));
+
+		List<MongoMappingEvent<?>> events = new ArrayList<>();
+		MongoTemplate template = new MongoTemplate(factory, converter) {
+
+			@Override
+			protected <E extends MongoMappingEvent<T>, T> E maybeEmitEvent(E event) {
+
+				events.add(event);
+				return super.maybeEmitEvent(event);
+			}
+		};
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.refresh();
+		template.setApplicationContext(context);
+
+		template.find(new BasicQuery("{'name' : 'Luke'}"), Employee.class);
+
+		assertThat(events).hasSize(2);
+		assertThat(events.get(0)).isInstanceOf(AfterLoadEvent.class);
+		assertThat(events.get(1)).isInstanceOf(AfterConvertEvent.class);
+	}
+
+	@Test
+	void findShouldReportPhasesToOperationObserver() {
+
+		when(cursor.hasNext()).thenReturn(true, false);
+		when(cursor.next()).thenReturn(new Document("_id", "e1").append("name", "Luke"));
+
+		List<OperationPhase> phases = new ArrayList<>();
+		template.setOperationObserver(
+				(phase, operation, collectionName, entityType, repositoryMethod, durationNanos) -> {
+
+			assertThat(operation).isEqualTo("find");
+			assertThat(collectionName).isEqualTo("employee");
+			assertThat(entityType).isEqualTo(Employee.class);
+			assertThat(repositoryMethod).isNull();
+			assertThat(durationNanos).isNotNegative();
+			phases.add(phase);
+		});
+
+		template.find(new BasicQuery("{'name' : 'Luke'}"), Employee.class);
+
+		assertThat(phases).containsExactly(OperationPhase.QUERY_MAPPING, OperationPhase.EXECUTION,
+				OperationPhase.READ_CONVERSION, OperationPhase.CURSOR_ITERATION);
+	}
+
+	@Test
+	void insertShouldReportPhasesToOperationObserver() {
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.registerBean(ApplicationListener.class, () -> event -> {});
+		context.refresh();
+		template.setApplicationContext(context);
+
+		List<String> recorded = new ArrayList<>();
+		template.setOperationObserver((phase, operation, collectionName, entityType, repositoryMethod,
+				durationNanos) -> recorded.add(phase + ":" + operation));
+
+		template.insert(new Employee());
+
+		assertThat(recorded).containsSubsequence("WRITE_CONVERSION:insert", "EVENTS:insert", "EXECUTION:insert");
+	}
+
+	@Test
+	void removeShouldNotReportEventsAsPartOfExecution() {
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.registerBean(ApplicationListener.class, () -> event -> {});
+		context.refresh();
+		template.setApplicationContext(context);
+
+		List<String> recorded = new ArrayList<>();
+		template.setOperationObserver((phase, operation, collectionName, entityType, repositoryMethod,
+				durationNanos) -> recorded.add(phase + ":" + operation));
+
+		template.remove(new BasicQuery("{'name' : 'Luke'}"), Employee.class);
+
+		assertThat(recorded).containsExactly("QUERY_MAPPING:remove", "EVENTS:remove", "EXECUTION:remove",
+				"EVENTS:remove");
+	}
+
+	@Test
+	void shouldReportRepositoryMethodToOperationObserver() {
+
+		List<String> recorded = new ArrayList<>();
+		template.setOperationObserver((phase, operation, collectionName, entityType, repositoryMethod,
+				durationNanos) -> recorded.add(phase + ":" + repositoryMethod));
+
+		MongoOperationObserver.withRepositoryMethod("EmployeeRepository.findByName",
+				() -> template.find(new BasicQuery("{'name' : 'Luke'}"), Employee.class));
+		template.find(new BasicQuery("{'name' : 'Luke'}"), Employee.class);
+
+		assertThat(recorded).containsExactly("QUERY_MAPPING:EmployeeRepository.findByName",
+				"EXECUTION:EmployeeRepository.findByName", "CURSOR_ITERATION:EmployeeRepository.findByName",
+				"QUERY_MAPPING:null", "EXECUTION:null", "CURSOR_ITERATION:null");
+	}
+
+	@Test
+	void shouldNotReportPhasesToDisabledOperationObserver() {
+
+		template.setOperationObserver(new MongoOperationObserver() {
+
+			@Override
+			public boolean isEnabled() {
+				return false;
+			}
+
+			@Override
+			public void record(OperationPhase phase, String operation, String collectionName, Class<?> entityType,
+					String repositoryMethod, long durationNanos) {
+				fail("Disabled observer must not be notified!");
+			}
+		});
+
+		template.find(new BasicQuery("{'name' : 'Luke'}"), Employee.class);
+		template.insert(new Employee());
+	}
+
+	@Test
+	void findShouldRecordQueryShape() {
+
+		QueryShapeCollector collector = new QueryShapeCollector();
+		template.setQueryShapeCollector(collector);
+
+		template.find(new BasicQuery("{'name' : 'Luke'}"), Employee.class);
+		template.find(new BasicQuery("{'name' : 'Han'}"), Employee.class);
+
+		assertThat(collector.getStatistics()).hasSize(1);
+		assertThat(collector.getStatistics().get(0).getShape()).isEqualTo("{name: ?}");
+		assertThat(collector.getStatistics().get(0).getCount()).isEqualTo(2);
+	}
+
+	@Test
+	void slowFindShouldExplainQueryShape() {
+
+		when(db.runCommand(any(Bson.class))).thenReturn(
+				Document.parse("{ 'queryPlanner' : { 'winningPlan' : { 'stage' : 'COLLSCAN' } }, 'ok' : 1 }"));
+
+		QueryShapeCollector collector = new QueryShapeCollector();
+		collector.setSlowOperationThreshold(Duration.ZERO);
+		collector.setExplainExecutor(Runnable::run);
+		template.setQueryShapeCollector(collector);
+
+		template.find(new BasicQuery("{'name' : 'Luke'}"), Employee.class);
+		template.find(new BasicQuery("{'name' : 'Han'}"), Employee.class);
+
+		verify(db).runCommand(eq(new Document("explain",
+				new Document("find", "employee").append("filter", new Document("name", "Luke"))).append("verbosity",
+						"queryPlanner")));
+		assertThat(collector.getStatistics().get(0).isCollectionScan()).isTrue();
+	}
+
+	@Test
+	void findShouldUseHedgedReadExecutorForReadsAllowedOnSecondaries() {
+
+		HedgedReadExecutor executor = HedgedReadExecutor.create(Runnable::run);
+		template.setHedgedReadExecutor(executor);
+		template.setReadPreference(ReadPreference.secondaryPreferred());
+
+		template.find(new BasicQuery("{'foo' : 'bar'}"), Jedi.class);
+		template.count(new BasicQuery("{'foo' : 'bar'}"), Jedi.class);
+
+		assertThat(executor.getStatistics(HedgedReadExecutor.Operation.FIND).getExecutionCount()).isOne();
+		assertThat(executor.getStatistics(HedgedReadExecutor.Operation.COUNT).getExecutionCount()).isOne();
+	}
+
+	@Test
+	void findAndModifyShouldNotUseHedgedReadExecutor() {
+
+		HedgedReadExecutor executor = HedgedReadExecutor.create(Runnable::run);
+		template.setHedgedReadExecutor(executor);
+
+		template.findAndModify(new BasicQuery("{'foo' : 'bar'}"), new Update().set("foo", "baz"), Jedi.class);
+		template.findOne(new BasicQuery("{'foo' : 'bar'}"), Jedi.class);
+
+		assertThat(executor.getStatistics(HedgedReadExecutor.Operation.FIND_ONE).getExecutionCount()).isOne();
+	}
+
 	@Test // DATAMONGO-1854
 	void findShouldNotUseCollationWhenNoDefaultPresent() {
 
@@ -1319,6 +1797,132 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		verify(aggregateIterable).maxTime(eq(10000L), eq(TimeUnit.MILLISECONDS));
 	}
 
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	void findAsRawDocumentShouldBypassConversion() {
+
+		RawBsonDocument raw = RawBsonDocument.parse("{ '_id' : 'luke', 'firstname' : 'luke' }");
+		when(findIterable.iterator()).thenReturn((MongoCursor) new OneElementCursor<>(raw));
+
+		List<RawBsonDocument> result = template.find(new Query(Criteria.where("_id").is("luke")).limit(1),
+				RawBsonDocument.class, "star-wars");
+
+		verify(collection).find(eq(new Document("_id", "luke")), eq(RawBsonDocument.class));
+		verify(findIterable).limit(1);
+		assertThat(result).hasSize(1);
+		assertThat(result.get(0)).isSameAs(raw);
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	void fluentFindAsRawDocumentShouldMapQueryAgainstDomainType() {
+
+		RawBsonDocument raw = RawBsonDocument.parse("{ '_id' : 'luke', 'firstname' : 'luke' }");
+		when(findIterable.iterator()).thenReturn((MongoCursor) new OneElementCursor<>(raw));
+
+		List<RawBsonDocument> result = template.query(Jedi.class).as(RawBsonDocument.class)
+				.matching(new Query(Criteria.where("name").is("luke"))).all();
+
+		verify(collection).find(eq(new Document("firstname", "luke")), eq(RawBsonDocument.class));
+		assertThat(result).containsExactly(raw);
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	void streamAsRawDocumentShouldBypassConversion() {
+
+		RawBsonDocument raw = RawBsonDocument.parse("{ '_id' : 'luke', 'firstname' : 'luke' }");
+		when(findIterable.iterator()).thenReturn((MongoCursor) new OneElementCursor<>(raw));
+
+		try (CloseableIterator<RawBsonDocument> stream = template.stream(new Query(), RawBsonDocument.class,
+				"star-wars")) {
+
+			assertThat(stream.next()).isSameAs(raw);
+			assertThat(stream.hasNext()).isFalse();
+		}
+
+		verify(collection).find(any(Document.class), eq(RawBsonDocument.class));
+	}
+
+	@Test
+	void aggregateAsRawDocumentShouldRequestRawDocuments() {
+
+		AggregationResults<RawBsonDocument> results = template.aggregate(
+				newAggregation(project("firstname"))
+						.withOptions(newAggregationOptions().maxTime(Duration.ofSeconds(10)).build()),
+				"star-wars", RawBsonDocument.class);
+
+		verify(collection).aggregate(anyList(), eq(RawBsonDocument.class));
+		verify(aggregateIterable).maxTime(eq(10000L), eq(TimeUnit.MILLISECONDS));
+		verify(aggregateIterable, never()).map(any());
+		assertThat(results.getRawResults()).isEmpty();
+	}
+
+	@Test
+	void findWithFetchPathsShouldJoinReferencesViaAggregation() {
+
+		Document document = new Document("_id", "r2").append("human", new Document("_id", "luke"));
+		when(aggregateIterable.iterator()).thenReturn(new OneElementCursor<>(document));
+
+		List<WithReference> result = template.find(new Query(Criteria.where("id").is("r2")).limit(5).fetch("human"),
+				WithReference.class);
+
+		ArgumentCaptor<List<Document>> pipeline = ArgumentCaptor.forClass(List.class);
+		verify(collection).aggregate(pipeline.capture(), eq(Document.class));
+		verify(collection, never()).find(any(Bson.class), any(Class.class));
+
+		assertThat(pipeline.getValue().get(0)).isEqualTo(new Document("$match", new Document("_id", "r2")));
+		assertThat(pipeline.getValue().get(1)).isEqualTo(new Document("$limit", 5));
+		assertThat(pipeline.getValue().get(3)).containsEntry("$lookup",
+				new Document("from", "human").append("localField", "__fetch_0_ids").append("foreignField", "_id")
+						.append("as", "__fetch_0_docs"));
+
+		assertThat(result).hasSize(1);
+		assertThat(result.get(0).human.getId()).isEqualTo("luke");
+	}
+
+	@Test
+	void findWithFetchPathsShouldRejectNonReferences() {
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> template.find(new Query().fetch("id"), WithReference.class));
+	}
+
+	@Test
+	void findWithFetchPathsShouldApplyHintAndReadPreference() {
+
+		when(aggregateIterable.hint(any())).thenReturn(aggregateIterable);
+		when(aggregateIterable.iterator()).thenReturn(new OneElementCursor<>(new Document("_id", "r2")));
+
+		template.find(new Query().withHint("{ 'human' : 1 }").slaveOk().fetch("human"), WithReference.class);
+
+		verify(collection).withReadPreference(eq(ReadPreference.primaryPreferred()));
+		verify(aggregateIterable).hint(new Document("human", 1));
+	}
+
+	@Test
+	void findWithFetchPathsShouldResolveIndexNameHintToIndexKeys() {
+
+		ListIndexesIterable<Document> indexes = mock(ListIndexesIterable.class);
+		when(indexes.iterator()).thenReturn(
+				new OneElementCursor<>(new Document("name", "human_idx").append("key", new Document("human", 1))));
+		when(collection.listIndexes()).thenReturn(indexes);
+		when(aggregateIterable.hint(any())).thenReturn(aggregateIterable);
+		when(aggregateIterable.iterator()).thenReturn(new OneElementCursor<>(new Document("_id", "r2")));
+
+		template.find(new Query().withHint("human_idx").fetch("human"), WithReference.class);
+
+		verify(aggregateIterable).hint(new Document("human", 1));
+	}
+
+	@Test
+	void findWithFetchPathsShouldRejectUnsupportedCursorOptions() {
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> template.find(new Query().noCursorTimeout().fetch("human"), WithReference.class));
+		verify(collection, never()).aggregate(anyList(), any());
+	}
+
 	@Test // DATAMONGO-1854
 	void findAndReplaceShouldUseCollationWhenPresent() {
 
@@ -1932,6 +2536,82 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		verify(findIterable).projection(new Document("country", 1).append("userid", 1));
 	}
 
+	@Test
+	void saveAllShouldLookUpShardKeysOfExistingDocumentsAtOnce() {
+
+		doAnswer(invocation -> {
+
+			Consumer<Document> consumer = invocation.getArgument(0);
+			consumer.accept(new Document("_id", "id-1").append("country", "US").append("userid", 4230));
+			return null;
+		}).when(findIterable).forEach(any(Consumer.class));
+
+		template.saveAll(Arrays.asList(new ShardedEntityWithNonDefaultShardKey("id-1", "AT", 4230),
+				new ShardedEntityWithNonDefaultShardKey("id-2", "DE", 4231)), "collection");
+
+		verify(collection).find(eq(new Document("_id", new Document("$in", Arrays.asList("id-1", "id-2")))),
+				eq(Document.class));
+		verify(findIterable).projection(new Document("country", 1).append("userid", 1));
+		verify(findIterable, never()).first();
+
+		ArgumentCaptor<Bson> filter = ArgumentCaptor.forClass(Bson.class);
+		verify(collection, times(2)).replaceOne(filter.capture(), any(), any());
+
+		assertThat(filter.getAllValues()).containsExactly(
+				new Document("_id", "id-1").append("country", "US").append("userid", 4230),
+				new Document("_id", "id-2").append("country", "DE").append("userid", 4231));
+	}
+
+	@Test
+	void saveAllShouldLookUpShardKeysInBatches() {
+
+		List<ShardedEntityWithNonDefaultShardKey> entities = new ArrayList<>();
+		for (int i = 0; i < 1001; i++) {
+			entities.add(new ShardedEntityWithNonDefaultShardKey("id-" + i, "AT", 4230));
+		}
+
+		template.saveAll(entities, "collection");
+
+		ArgumentCaptor<Document> filter = ArgumentCaptor.forClass(Document.class);
+		verify(collection, times(2)).find(filter.capture(), eq(Document.class));
+
+		assertThat(filter.getAllValues()).extracting(it -> it.get("_id", Document.class).get("$in", List.class).size())
+				.containsExactly(1000, 1);
+	}
+
+	@Test
+	void saveAllShouldSaveEntitiesNotRequiringShardKeyLookupViaSave() {
+
+		List<Object> saved = new ArrayList<>();
+		MongoTemplate template = new MongoTemplate(factory, converter) {
+
+			@Override
+			public <T> T save(T objectToSave, String collectionName) {
+
+				saved.add(objectToSave);
+				return super.save(objectToSave, collectionName);
+			}
+		};
+
+		Person person = new Person();
+		person.id = "p-1";
+		ShardedEntityWithNonDefaultShardKey sharded = new ShardedEntityWithNonDefaultShardKey("id-1", "AT", 4230);
+
+		template.saveAll(Arrays.asList(person, sharded), "collection");
+
+		assertThat(saved).containsExactly(person);
+	}
+
+	@Test
+	void saveAllShouldNotLookUpImmutableShardKeys() {
+
+		template.saveAll(Arrays.asList(new ShardedEntityWithNonDefaultImmutableShardKey("id-1", "AT", 4230),
+				new ShardedEntityWithNonDefaultImmutableShardKey("id-2", "DE", 4231)), "collection");
+
+		verify(collection, never()).find(any(Document.class), any(Class.class));
+		verify(collection, times(2)).replaceOne(any(Bson.class), any(), any(ReplaceOptions.class));
+	}
+
 	@Test // DATAMONGO-2479
 	void findShouldInvokeAfterConvertCallback() {
 
@@ -2212,6 +2892,70 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		String getName();
 	}
 
+	public interface PersonSpELTargetProjection {
+
+		@Value("#{target}")
+		Object getSelf();
+	}
+
+	static class Employee {
+
+		@Id String id;
+		String name;
+		@Field("addr") Address address;
+	}
+
+	static class Address {
+
+		String street;
+		String city;
+	}
+
+	public interface EmployeeProjection {
+
+		String getName();
+
+		CityProjection getAddress();
+	}
+
+	public interface CityProjection {
+
+		String getCity();
+	}
+
+	static class Team {
+
+		@Id String id;
+		String name;
+		@DBRef Department department;
+	}
+
+	static class Department {
+
+		@Id String id;
+		String city;
+	}
+
+	public interface TeamProjection {
+
+		String getName();
+
+		CityProjection getDepartment();
+	}
+
+	public interface TeamSpELProjection {
+
+		@Value("#{target.department.city}")
+		String getCity();
+	}
+
+	@Cached
+	static class Country {
+
+		@Id String code;
+		String name;
+	}
+
 	@Data
 	static class Human {
 		@Id String id;
@@ -2223,6 +2967,18 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		@Field("firstname") String name;
 	}
 
+	static class WithMeta {
+
+		@Id String id;
+		Document meta;
+	}
+
+	static class WithReference {
+
+		@Id String id;
+		@DBRef Human human;
+	}
+
 	class Wrapper {
 
 		AutogenerateableId foo;
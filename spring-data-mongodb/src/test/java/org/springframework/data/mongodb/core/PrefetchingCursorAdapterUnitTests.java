@@ -0,0 +1,201 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate.DocumentCallback;
+import org.springframework.data.util.CloseableIterator;
+
+import com.mongodb.MongoSocketException;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoIterable;
+
+/**
+ * Unit tests for {@link PrefetchingCursorAdapter}.
+ */
+class PrefetchingCursorAdapterUnitTests {
+
+	MongoExceptionTranslator exceptionTranslator = new MongoExceptionTranslator();
+	DocumentCallback<Integer> callback = document -> document.getInteger("value");
+	ExecutorService executor;
+
+	@BeforeEach
+	void beforeEach() {
+		executor = Executors.newFixedThreadPool(2);
+	}
+
+	@AfterEach
+	void afterEach() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void readsAllDocumentsInOrder() {
+
+		InMemoryCursor cursor = new InMemoryCursor(7);
+
+		try (CloseableIterator<Integer> adapter = new PrefetchingCursorAdapter<>(iterable(cursor), 3, executor, 1,
+				exceptionTranslator, callback)) {
+
+			assertThat(adapter.stream().collect(Collectors.toList())).containsExactly(0, 1, 2, 3, 4, 5, 6);
+		}
+	}
+
+	@Test
+	void readsEmptyCursor() {
+
+		CloseableIterator<Integer> adapter = new PrefetchingCursorAdapter<>(iterable(new InMemoryCursor(0)), 3, executor, 1,
+				exceptionTranslator, callback);
+
+		assertThat(adapter.hasNext()).isFalse();
+	}
+
+	@Test
+	void fetchesNextBatchBeforeCurrentOneIsConsumed() {
+
+		InMemoryCursor cursor = new InMemoryCursor(10);
+
+		CloseableIterator<Integer> adapter = new PrefetchingCursorAdapter<>(iterable(cursor), 3, Runnable::run, 1,
+				exceptionTranslator, callback);
+
+		assertThat(adapter.next()).isZero();
+		assertThat(cursor.read).isEqualTo(6);
+	}
+
+	@Test
+	void retainsOrderWhenConvertingInParallel() {
+
+		InMemoryCursor cursor = new InMemoryCursor(100);
+
+		try (CloseableIterator<Integer> adapter = new PrefetchingCursorAdapter<>(iterable(cursor), 30, executor, 4,
+				exceptionTranslator, callback)) {
+
+			assertThat(adapter.stream().collect(Collectors.toList()))
+					.isEqualTo(IntStream.range(0, 100).boxed().collect(Collectors.toList()));
+		}
+	}
+
+	@Test
+	void closesCursor() {
+
+		InMemoryCursor cursor = new InMemoryCursor(10);
+
+		CloseableIterator<Integer> adapter = new PrefetchingCursorAdapter<>(iterable(cursor), 3, executor, 1,
+				exceptionTranslator, callback);
+
+		adapter.next();
+		adapter.close();
+
+		assertThat(cursor.closed).isTrue();
+		assertThat(adapter.hasNext()).isFalse();
+	}
+
+	@Test
+	void translatesExceptionRaisedWhileFetching() {
+
+		MongoCursor<Document> cursor = mock(MongoCursor.class);
+		when(cursor.hasNext()).thenThrow(new MongoSocketException("boom", new ServerAddress()));
+
+		CloseableIterator<Integer> adapter = new PrefetchingCursorAdapter<>(iterable(cursor), 3, executor, 1,
+				exceptionTranslator, callback);
+
+		assertThatExceptionOfType(DataAccessResourceFailureException.class).isThrownBy(adapter::hasNext);
+	}
+
+	@Test
+	void fetchesOnCallingThreadIfExecutorRejectsTask() {
+
+		executor.shutdown();
+
+		try (CloseableIterator<Integer> adapter = new PrefetchingCursorAdapter<>(iterable(new InMemoryCursor(4)), 3,
+				executor, 2, exceptionTranslator, callback)) {
+
+			assertThat(adapter.stream().collect(Collectors.toList())).containsExactly(0, 1, 2, 3);
+		}
+	}
+
+	private static MongoIterable<Document> iterable(MongoCursor<Document> cursor) {
+
+		MongoIterable<Document> iterable = mock(MongoIterable.class);
+		when(iterable.iterator()).thenReturn(cursor);
+		return iterable;
+	}
+
+	static class InMemoryCursor implements MongoCursor<Document> {
+
+		final Iterator<Document> documents;
+		volatile int read;
+		volatile boolean closed;
+
+		InMemoryCursor(int count) {
+
+			List<Document> documents = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				documents.add(new Document("value", i));
+			}
+			this.documents = documents.iterator();
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return documents.hasNext();
+		}
+
+		@Override
+		public Document next() {
+
+			read++;
+			return documents.next();
+		}
+
+		@Override
+		public Document tryNext() {
+			return hasNext() ? next() : null;
+		}
+
+		@Override
+		public ServerCursor getServerCursor() {
+			return null;
+		}
+
+		@Override
+		public ServerAddress getServerAddress() {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link QueryShapeCollector}.
+ */
+class QueryShapeCollectorUnitTests {
+
+	static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+	QueryShapeCollector collector;
+
+	@BeforeEach
+	void beforeEach() {
+		collector = new QueryShapeCollector();
+	}
+
+	@Test
+	void replacesValuesInShape() {
+
+		Document query = Document
+				.parse("{ 'lastname' : 'skywalker', 'age' : { '$gt' : 18 }, 'tags' : { '$in' : [1, 2] } }");
+
+		assertThat(QueryShapeCollector.shapeOf(query, null))
+				.isEqualTo("{lastname: ?, age: {$gt: ?}, tags: {$in: [?]}}");
+	}
+
+	@Test
+	void retainsDocumentListsInShape() {
+
+		Document query = Document.parse("{ '$or' : [ { 'lastname' : 'skywalker' }, { 'firstname' : 'luke' } ] }");
+
+		assertThat(QueryShapeCollector.shapeOf(query, null)).isEqualTo("{$or: [{lastname: ?}, {firstname: ?}]}");
+	}
+
+	@Test
+	void includesUpdateInShape() {
+
+		Document update = new Document("$set", new Document("name", "luke"));
+
+		assertThat(QueryShapeCollector.shapeOf(new Document("_id", 1), update)) //
+				.isEqualTo("{_id: ?} <- {$set: {name: ?}}");
+	}
+
+	@Test
+	void sharesStatisticsBetweenParameters() {
+
+		collector.record("find", "person", new Document("lastname", "skywalker"), null, 10);
+		collector.record("find", "person", new Document("lastname", "solo"), null, 20);
+		collector.record("find", "droid", new Document("lastname", "solo"), null, 5);
+
+		assertThat(collector.getStatistics()).hasSize(2);
+
+		QueryShapeStatistics statistics = collector.getStatistics().get(0);
+
+		assertThat(statistics.getCollectionName()).isEqualTo("person");
+		assertThat(statistics.getOperation()).isEqualTo("find");
+		assertThat(statistics.getShape()).isEqualTo("{lastname: ?}");
+		assertThat(statistics.getCount()).isEqualTo(2);
+		assertThat(statistics.getTotalTime()).isEqualTo(Duration.ofNanos(30));
+		assertThat(statistics.getMaxLatency()).isEqualTo(Duration.ofNanos(20));
+	}
+
+	@Test
+	void ordersStatisticsByTotalTime() {
+
+		collector.record("find", "person", new Document("firstname", "luke"), null, 10);
+		collector.recordAggregation("person", Collections.singletonList(new Document("$match", new Document("a", 1))),
+				100);
+
+		assertThat(collector.getStatistics()).extracting(QueryShapeStatistics::getOperation) //
+				.containsExactly("aggregate", "find");
+	}
+
+	@Test
+	void countsSlowOperations() {
+
+		collector.setSlowOperationThreshold(Duration.ofMillis(100));
+
+		collector.record("find", "person", new Document("firstname", "luke"), null, 10);
+		collector.record("find", "person", new Document("firstname", "luke"), null, SLOW);
+
+		assertThat(collector.getStatistics().get(0).getSlowCount()).isOne();
+	}
+
+	@Test
+	void dropsShapesExceedingLimit() {
+
+		collector.setMaxShapes(1);
+
+		collector.record("find", "person", new Document("firstname", "luke"), null, 10);
+		collector.record("find", "person", new Document("lastname", "skywalker"), null, 10);
+		collector.record("find", "person", new Document("firstname", "leia"), null, 10);
+
+		assertThat(collector.getStatistics()).hasSize(1);
+		assertThat(collector.getStatistics().get(0).getCount()).isEqualTo(2);
+		assertThat(collector.getDroppedCount()).isOne();
+	}
+
+	@Test
+	void explainsFirstSlowOperationOfShape() {
+
+		collector.setExplainExecutor(Runnable::run);
+
+		QueryShapeCollector.Shape shape = collector.recordShape("find", "person", "{lastname: ?}", SLOW);
+
+		assertThat(shape).isNotNull();
+		assertThat(collector.recordShape("find", "person", "{lastname: ?}", SLOW)).isNull();
+
+		collector.explain(shape, () -> new Document("queryPlanner", new Document("winningPlan",
+				new Document("stage", "FETCH").append("inputStage", new Document("stage", "COLLSCAN")))));
+
+		QueryShapeStatistics statistics = collector.getStatistics().get(0);
+
+		assertThat(statistics.isExplained()).isTrue();
+		assertThat(statistics.isCollectionScan()).isTrue();
+	}
+
+	@Test
+	void doesNotExplainWithoutExecutor() {
+		assertThat(collector.recordShape("find", "person", "{lastname: ?}", SLOW)).isNull();
+	}
+
+	@Test
+	void doesNotFlagIndexScanAsCollectionScan() {
+
+		Document explain = new Document("queryPlanner", new Document("winningPlan",
+				new Document("stage", "FETCH").append("inputStage", new Document("stage", "IXSCAN"))));
+
+		assertThat(QueryShapeCollector.isCollectionScan(explain)).isFalse();
+	}
+
+	@Test
+	void detectsCollectionScanOnShards() {
+
+		Document explain = new Document("queryPlanner", new Document("winningPlan", new Document("stage", "SHARD_MERGE")
+				.append("shards", Arrays.asList(new Document("winningPlan", new Document("stage", "COLLSCAN"))))));
+
+		assertThat(QueryShapeCollector.isCollectionScan(explain)).isTrue();
+	}
+
+	@Test
+	void resetRemovesShapes() {
+
+		collector.record("find", "person", new Document("firstname", "luke"), null, 10);
+		collector.reset();
+
+		assertThat(collector.getStatistics()).isEmpty();
+	}
+}
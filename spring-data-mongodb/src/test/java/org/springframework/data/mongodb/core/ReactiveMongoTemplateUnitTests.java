@@ -39,6 +39,7 @@ import java.util.stream.Collectors;
 
 import org.assertj.core.api.Assertions;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.conversions.Bson;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
@@ -56,7 +57,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.geo.Point;
 import org.springframework.data.mapping.callback.ReactiveEntityCallbacks;
 import org.springframework.data.mongodb.core.MongoTemplateUnitTests.AutogenerateableId;
 import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
@@ -69,6 +72,7 @@ import org.springframework.data.mongodb.core.aggregation.Fields;
 import org.springframework.data.mongodb.core.aggregation.SetOperation;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.Cached;
 import org.springframework.data.mongodb.core.mapping.Field;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
@@ -86,6 +90,11 @@ import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.lang.Nullable;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.AbstractReactiveTransactionManager;
+import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import org.springframework.util.CollectionUtils;
 
 import com.mongodb.MongoClientSettings;
@@ -229,6 +238,24 @@ public class ReactiveMongoTemplateUnitTests {
 		verify(findPublisher).batchSize(1234);
 	}
 
+	@Test
+	void findAsRawDocumentShouldRequestRawDocuments() {
+
+		template.find(new Query(Criteria.where("_id").is("luke")).limit(1), RawBsonDocument.class, "star-wars")
+				.subscribe();
+
+		verify(collection).find(eq(new Document("_id", "luke")), eq(RawBsonDocument.class));
+		verify(findPublisher).limit(1);
+	}
+
+	@Test
+	void aggregateAsRawDocumentShouldRequestRawDocuments() {
+
+		template.aggregate(newAggregation(project("firstname")), "star-wars", RawBsonDocument.class).subscribe();
+
+		verify(collection).aggregate(anyList(), eq(RawBsonDocument.class));
+	}
+
 	@Test // DATAMONGO-1518
 	void findShouldUseCollationWhenPresent() {
 
@@ -237,6 +264,17 @@ public class ReactiveMongoTemplateUnitTests {
 		verify(findPublisher).collation(eq(com.mongodb.client.model.Collation.builder().locale("fr").build()));
 	}
 
+	@Test
+	void findShouldRejectFetchPaths() {
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> template.find(new Query().fetch("address"), Person.class));
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> template.findOne(new Query().fetch("address"), Person.class));
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> template.query(Person.class).matching(new Query().fetch("address")).all());
+	}
+
 	//
 	@Test // DATAMONGO-1518
 	void findOneShouldUseCollationWhenPresent() {
@@ -356,6 +394,21 @@ public class ReactiveMongoTemplateUnitTests {
 		verify(aggregatePublisher).collation(eq(com.mongodb.client.model.Collation.builder().locale("fr").build()));
 	}
 
+	@Test
+	void geoNearShouldProjectFieldsRequiredByInterfaceProjection() {
+
+		template.geoNear(NearQuery.near(new Point(1, 1)), Employee.class, "employee", EmployeeProjection.class)
+				.subscribe();
+
+		ArgumentCaptor<List<Document>> capture = ArgumentCaptor.forClass(List.class);
+
+		verify(collection).aggregate(capture.capture(), eq(Document.class));
+
+		assertThat(capture.getValue()).hasSize(2);
+		assertThat(capture.getValue().get(1))
+				.isEqualTo(new Document("$project", new Document("name", 1).append("addr.city", 1).append("dis", 1)));
+	}
+
 	@Test // DATAMONGO-1719
 	void appliesFieldsWhenInterfaceProjectionIsClosedAndQueryDoesNotDefineFields() {
 
@@ -377,12 +430,30 @@ public class ReactiveMongoTemplateUnitTests {
 	@Test // DATAMONGO-1719
 	void doesNotApplyFieldsWhenInterfaceProjectionIsOpen() {
 
-		template.doFind("star-wars", new Document(), new Document(), Person.class, PersonSpELProjection.class,
+		template.doFind("star-wars", new Document(), new Document(), Person.class, PersonSpELTargetProjection.class,
 				FindPublisherPreparer.NO_OP_PREPARER).subscribe();
 
 		verify(findPublisher, never()).projection(any());
 	}
 
+	@Test
+	void appliesFieldsReferencedByOpenInterfaceProjection() {
+
+		template.doFind("star-wars", new Document(), new Document(), Person.class, PersonSpELProjection.class,
+				FindPublisherPreparer.NO_OP_PREPARER).subscribe();
+
+		verify(findPublisher).projection(eq(new Document("firstname", 1)));
+	}
+
+	@Test
+	void appliesNestedFieldsForNestedClosedInterfaceProjection() {
+
+		template.doFind("star-wars", new Document(), new Document(), Employee.class, EmployeeProjection.class,
+				FindPublisherPreparer.NO_OP_PREPARER).subscribe();
+
+		verify(findPublisher).projection(eq(new Document("name", 1).append("addr.city", 1)));
+	}
+
 	@Test // DATAMONGO-1719, DATAMONGO-2041
 	void appliesFieldsToDtoProjection() {
 
@@ -1235,6 +1306,59 @@ public class ReactiveMongoTemplateUnitTests {
 		assertThat(results.get(0).id).isEqualTo("after-convert");
 	}
 
+	@Test
+	void findByIdShouldReadCachedEntityFromEntityCache() {
+
+		stubFindSubscribe(new Document("_id", "de").append("name", "Germany"));
+
+		template.findById("de", Country.class).as(StepVerifier::create).expectNextCount(1).verifyComplete();
+		template.findById("de", Country.class).as(StepVerifier::create) //
+				.consumeNextWith(actual -> assertThat(actual.name).isEqualTo("Germany")) //
+				.verifyComplete();
+
+		verify(collection, times(1)).find(any(Document.class), any(Class.class));
+	}
+
+	@Test
+	void saveShouldEvictCachedEntityBeforeEmittingResult() {
+
+		stubFindSubscribe(new Document("_id", "de").append("name", "Germany"));
+		when(collection.replaceOne(any(Bson.class), any(), any(ReplaceOptions.class)))
+				.thenReturn(Mono.just(UpdateResult.acknowledged(1, 1L, null)));
+
+		template.findById("de", Country.class).as(StepVerifier::create).expectNextCount(1).verifyComplete();
+
+		Country country = new Country();
+		country.code = "de";
+		country.name = "Deutschland";
+
+		template.save(country).as(StepVerifier::create) //
+				.consumeNextWith(it -> assertThat(template.getEntityCache().getStatistics("country").getSize()).isZero()) //
+				.verifyComplete();
+	}
+
+	@Test
+	void saveWithinTransactionShouldEvictCachedEntityOnCompletion() {
+
+		stubFindSubscribe(new Document("_id", "de").append("name", "Germany"));
+		when(collection.replaceOne(any(Bson.class), any(), any(ReplaceOptions.class)))
+				.thenReturn(Mono.just(UpdateResult.acknowledged(1, 1L, null)));
+
+		Country country = new Country();
+		country.code = "de";
+		country.name = "Deutschland";
+
+		TransactionalOperator operator = TransactionalOperator.create(new NoOpReactiveTransactionManager());
+
+		// a read outside the transaction caches the state before the commit
+		template.save(country).then(Mono.fromRunnable(() -> template.findById("de", Country.class).block()))
+				.as(operator::transactional) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		assertThat(template.getEntityCache().getStatistics("country").getSize()).isZero();
+	}
+
 	@Test // DATAMONGO-2479
 	void findAndReplaceShouldInvokeAfterConvertCallbacks() {
 
@@ -1365,6 +1489,30 @@ public class ReactiveMongoTemplateUnitTests {
 		assertThat(saved.id).isEqualTo("after-save-event");
 	}
 
+	@Test
+	void findShouldReportPhasesToOperationObserver() {
+
+		stubFindSubscribe(new Document("_id", "init").append("firstname", "luke"));
+
+		List<OperationPhase> phases = new ArrayList<>();
+		template.setOperationObserver(
+				(phase, operation, collectionName, entityType, repositoryMethod, durationNanos) -> {
+
+			assertThat(operation).isEqualTo("find");
+			assertThat(collectionName).isEqualTo("star-wars");
+			assertThat(entityType).isEqualTo(Person.class);
+			phases.add(phase);
+		});
+
+		template.find(new Query(), Person.class) //
+				.as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		assertThat(phases).containsExactly(OperationPhase.QUERY_MAPPING, OperationPhase.EXECUTION,
+				OperationPhase.READ_CONVERSION);
+	}
+
 	private void stubFindSubscribe(Document document) {
 
 		Publisher<Document> realPublisher = Flux.just(document);
@@ -1406,6 +1554,37 @@ public class ReactiveMongoTemplateUnitTests {
 		String getName();
 	}
 
+	public interface PersonSpELTargetProjection {
+
+		@Value("#{target}")
+		Object getSelf();
+	}
+
+	static class Employee {
+
+		@Id String id;
+		String name;
+		@Field("addr") Address address;
+	}
+
+	static class Address {
+
+		String street;
+		String city;
+	}
+
+	public interface EmployeeProjection {
+
+		String getName();
+
+		CityProjection getAddress();
+	}
+
+	public interface CityProjection {
+
+		String getCity();
+	}
+
 	@Data
 	static class Jedi {
 
@@ -1418,6 +1597,39 @@ public class ReactiveMongoTemplateUnitTests {
 		@Field("firstname") String name;
 	}
 
+	static class NoOpReactiveTransactionManager extends AbstractReactiveTransactionManager {
+
+		@Override
+		protected Object doGetTransaction(TransactionSynchronizationManager synchronizationManager) {
+			return new Object();
+		}
+
+		@Override
+		protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager, Object transaction,
+				TransactionDefinition definition) {
+			return Mono.empty();
+		}
+
+		@Override
+		protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager,
+				GenericReactiveTransaction status) {
+			return Mono.empty();
+		}
+
+		@Override
+		protected Mono<Void> doRollback(TransactionSynchronizationManager synchronizationManager,
+				GenericReactiveTransaction status) {
+			return Mono.empty();
+		}
+	}
+
+	@Cached
+	static class Country {
+
+		@Id String code;
+		String name;
+	}
+
 	static class EntityWithListOfSimple {
 		List<Integer> grades;
 	}
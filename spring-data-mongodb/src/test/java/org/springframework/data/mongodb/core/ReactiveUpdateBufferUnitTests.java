@@ -0,0 +1,213 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.MonoProcessor;
+import reactor.test.StepVerifier;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.reactivestreams.client.MongoCollection;
+
+/**
+ * Unit tests for {@link ReactiveUpdateBuffer}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReactiveUpdateBufferUnitTests {
+
+	@Mock ReactiveMongoOperations operations;
+	@Mock MongoCollection<Document> collection;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void beforeEach() {
+
+		MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE,
+				new MongoMappingContext());
+
+		when(operations.getConverter()).thenReturn(converter);
+		when(operations.execute(anyString(), any(ReactiveCollectionCallback.class))).thenAnswer(
+				invocation -> Flux.from(invocation.<ReactiveCollectionCallback<?>> getArgument(1).doInCollection(collection)));
+		when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class)))
+				.thenReturn(Flux.just(BulkWriteResult.unacknowledged()));
+	}
+
+	@Test
+	void mergesUpdatesIntoSingleBulkWrite() {
+
+		ReactiveUpdateBuffer buffer = ReactiveUpdateBuffer.builder(operations, "counters").build();
+
+		buffer.update("id-1", new Update().inc("counter", 1)) //
+				.then(buffer.update("id-1", new Update().inc("counter", 2))) //
+				.then(buffer.update("id-2", new Update().inc("counter", 1))) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		assertThat(buffer.getPendingCount()).isEqualTo(2);
+
+		buffer.flush().as(StepVerifier::create).verifyComplete();
+
+		List<WriteModel<Document>> models = captureBulkWrite();
+
+		assertThat(models).hasSize(2);
+		assertThat(((UpdateOneModel<Document>) models.get(0)).getFilter()).isEqualTo(new Document("_id", "id-1"));
+		assertThat(((UpdateOneModel<Document>) models.get(0)).getUpdate())
+				.isEqualTo(new Document("$inc", new Document("counter", 3)));
+		assertThat(buffer.getPendingCount()).isZero();
+	}
+
+	@Test
+	void flushesPendingUpdatesBeforeConflictingUpdate() {
+
+		ReactiveUpdateBuffer buffer = ReactiveUpdateBuffer.builder(operations, "counters").build();
+
+		buffer.update("id-1", new Update().inc("counter", 1)) //
+				.then(buffer.update("id-1", new Update().set("counter", 0))) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		List<WriteModel<Document>> models = captureBulkWrite();
+
+		assertThat(models).hasSize(1);
+		assertThat(((UpdateOneModel<Document>) models.get(0)).getUpdate())
+				.isEqualTo(new Document("$inc", new Document("counter", 1)));
+		assertThat(buffer.getPendingCount()).isOne();
+	}
+
+	@Test
+	void flushesOnlyDocumentOfConflictingUpdate() {
+
+		ReactiveUpdateBuffer buffer = ReactiveUpdateBuffer.builder(operations, "counters").build();
+
+		buffer.update("id-2", new Update().inc("counter", 1)) //
+				.then(buffer.update("id-1", new Update().push("tags", "luke"))) //
+				.then(buffer.update("id-1", new Update().push("tags", "leia"))) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		List<WriteModel<Document>> models = captureBulkWrite();
+
+		assertThat(models).hasSize(1);
+		assertThat(((UpdateOneModel<Document>) models.get(0)).getFilter()).isEqualTo(new Document("_id", "id-1"));
+		assertThat(buffer.getPendingCount()).isEqualTo(2);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void evictsUpdatedDocumentsFromEntityCache() {
+
+		MongoConverter converter = operations.getConverter();
+		ReactiveMongoTemplate template = mock(ReactiveMongoTemplate.class);
+		EntityCache entityCache = mock(EntityCache.class);
+
+		when(template.getConverter()).thenReturn(converter);
+		when(template.getEntityCache()).thenReturn(entityCache);
+		when(template.execute(anyString(), any(ReactiveCollectionCallback.class))).thenAnswer(
+				invocation -> Flux.from(invocation.<ReactiveCollectionCallback<?>> getArgument(1).doInCollection(collection)));
+
+		ReactiveUpdateBuffer buffer = ReactiveUpdateBuffer.builder(template, "counters").build();
+
+		buffer.update("id-1", new Update().inc("counter", 1)) //
+				.then(buffer.flush()) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		verify(entityCache).evictMatching("counters",
+				new Document("_id", new Document("$in", Collections.singletonList("id-1"))));
+	}
+
+	@Test
+	void closeFlushesAndRejectsFurtherUpdates() {
+
+		ReactiveUpdateBuffer buffer = ReactiveUpdateBuffer.builder(operations, "counters").upsert().build();
+
+		buffer.update("id-1", new Update().inc("counter", 1)) //
+				.then(buffer.close()) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		assertThat(((UpdateOneModel<Document>) captureBulkWrite().get(0)).getOptions().isUpsert()).isTrue();
+
+		buffer.update("id-1", new Update().inc("counter", 1)) //
+				.as(StepVerifier::create) //
+				.verifyError(IllegalStateException.class);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void retainsUpdatesOfFlushCancelledWhileWaitingForPreviousFlush() {
+
+		MonoProcessor<BulkWriteResult> slowWrite = MonoProcessor.create();
+		when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class))).thenReturn(slowWrite.flux(),
+				Flux.just(BulkWriteResult.unacknowledged()));
+
+		ReactiveUpdateBuffer buffer = ReactiveUpdateBuffer.builder(operations, "counters").build();
+
+		buffer.update("id-1", new Update().inc("counter", 1)).as(StepVerifier::create).verifyComplete();
+		buffer.flush().subscribe();
+
+		buffer.update("id-2", new Update().inc("counter", 1)).as(StepVerifier::create).verifyComplete();
+		buffer.flush().as(StepVerifier::create).expectSubscription().thenCancel().verify();
+
+		assertThat(buffer.getPendingCount()).isOne();
+
+		slowWrite.onNext(BulkWriteResult.unacknowledged());
+		buffer.flush().as(StepVerifier::create).verifyComplete();
+
+		ArgumentCaptor<List<WriteModel<Document>>> captor = ArgumentCaptor.forClass(List.class);
+		verify(collection, times(2)).bulkWrite(captor.capture(), any(BulkWriteOptions.class));
+
+		assertThat(captor.getAllValues().get(1)).hasSize(1);
+		assertThat(((UpdateOneModel<Document>) captor.getAllValues().get(1).get(0)).getFilter())
+				.isEqualTo(new Document("_id", "id-2"));
+		assertThat(buffer.getPendingCount()).isZero();
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<WriteModel<Document>> captureBulkWrite() {
+
+		ArgumentCaptor<List<WriteModel<Document>>> captor = ArgumentCaptor.forClass(List.class);
+		verify(collection).bulkWrite(captor.capture(), any(BulkWriteOptions.class));
+
+		return captor.getValue();
+	}
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.mongodb.WriteConcern;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoDatabase;
+
+/**
+ * Unit tests for {@link TenantRoutingMongoDatabaseFactory}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TenantRoutingMongoDatabaseFactoryUnitTests {
+
+	@Mock MongoClient mongoClient;
+	@Mock MongoDatabase defaultDatabase;
+	@Mock MongoDatabase tenantDatabase;
+	@Mock MongoDatabase otherTenantDatabase;
+
+	AtomicReference<String> currentTenant = new AtomicReference<>();
+	TenantRoutingMongoDatabaseFactory factory;
+
+	@BeforeEach
+	void beforeEach() {
+
+		when(mongoClient.getDatabase("default")).thenReturn(defaultDatabase);
+		when(mongoClient.getDatabase("tenant-1")).thenReturn(tenantDatabase);
+		when(mongoClient.getDatabase("tenant-2")).thenReturn(otherTenantDatabase);
+
+		factory = new TenantRoutingMongoDatabaseFactory(mongoClient, "default", currentTenant::get);
+	}
+
+	@Test
+	void usesDefaultDatabaseWithoutTenant() {
+		assertThat(factory.getMongoDatabase()).isSameAs(defaultDatabase);
+	}
+
+	@Test
+	void routesToTenantDatabase() {
+
+		currentTenant.set("tenant-1");
+		assertThat(factory.getMongoDatabase()).isSameAs(tenantDatabase);
+
+		currentTenant.set("tenant-2");
+		assertThat(factory.getMongoDatabase()).isSameAs(otherTenantDatabase);
+	}
+
+	@Test
+	void cachesDatabaseHandles() {
+
+		currentTenant.set("tenant-1");
+
+		factory.getMongoDatabase();
+		factory.getMongoDatabase();
+		factory.getMongoDatabase();
+
+		verify(mongoClient, times(1)).getDatabase("tenant-1");
+		assertThat(factory.getStatistics().getHitCount()).isEqualTo(2);
+		assertThat(factory.getStatistics().getMissCount()).isEqualTo(1);
+	}
+
+	@Test
+	void appliesDatabaseNaming() {
+
+		when(mongoClient.getDatabase("app-tenant-1")).thenReturn(tenantDatabase);
+		factory.setDatabaseNaming(tenant -> "app-" + tenant);
+
+		currentTenant.set("tenant-1");
+
+		assertThat(factory.getMongoDatabase()).isSameAs(tenantDatabase);
+		assertThat(factory.getStatistics().getTenant("tenant-1").getDatabaseName()).isEqualTo("app-tenant-1");
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedHandles() {
+
+		factory.setMaxCachedDatabases(2);
+
+		currentTenant.set("tenant-1");
+		factory.getMongoDatabase();
+
+		currentTenant.set("tenant-2");
+		factory.getMongoDatabase();
+
+		factory.getMongoDatabase("default");
+
+		assertThat(factory.getStatistics().getSize()).isEqualTo(2);
+		assertThat(factory.getStatistics().getEvictionCount()).isEqualTo(1);
+
+		currentTenant.set("tenant-1");
+		factory.getMongoDatabase();
+
+		verify(mongoClient, times(2)).getDatabase("tenant-1");
+		verify(mongoClient, times(1)).getDatabase("tenant-2");
+	}
+
+	@Test
+	void retainsRecentlyUsedHandlesOnEviction() {
+
+		factory.setMaxCachedDatabases(2);
+
+		currentTenant.set("tenant-1");
+		factory.getMongoDatabase();
+
+		currentTenant.set("tenant-2");
+		factory.getMongoDatabase();
+
+		currentTenant.set("tenant-1");
+		factory.getMongoDatabase();
+
+		factory.getMongoDatabase("default");
+
+		factory.getMongoDatabase();
+
+		currentTenant.set("tenant-2");
+		factory.getMongoDatabase();
+
+		verify(mongoClient, times(1)).getDatabase("tenant-1");
+		verify(mongoClient, times(2)).getDatabase("tenant-2");
+	}
+
+	@Test
+	void appliesWriteConcernToCachedHandles() {
+
+		MongoDatabase acknowledged = mock(MongoDatabase.class);
+		when(tenantDatabase.withWriteConcern(WriteConcern.MAJORITY)).thenReturn(acknowledged);
+
+		currentTenant.set("tenant-1");
+		factory.getMongoDatabase();
+
+		factory.setWriteConcern(WriteConcern.MAJORITY);
+
+		assertThat(factory.getMongoDatabase()).isSameAs(acknowledged);
+		assertThat(factory.getMongoDatabase()).isSameAs(acknowledged);
+		verify(tenantDatabase, times(1)).withWriteConcern(WriteConcern.MAJORITY);
+	}
+
+	@Test
+	void initializesTenantOnce() {
+
+		AtomicInteger initializations = new AtomicInteger();
+		factory.setTenantInitializer((tenant, database) -> {
+
+			assertThat(tenant).isEqualTo("tenant-1");
+			assertThat(database).isSameAs(tenantDatabase);
+			initializations.incrementAndGet();
+		});
+
+		currentTenant.set("tenant-1");
+		factory.getMongoDatabase();
+		factory.getMongoDatabase();
+
+		assertThat(initializations).hasValue(1);
+		assertThat(factory.getStatistics().getTenant("tenant-1").isInitialized()).isTrue();
+	}
+
+	@Test
+	void skipsInitializationForCallsIssuedByInitializer() {
+
+		AtomicInteger initializations = new AtomicInteger();
+		factory.setTenantInitializer((tenant, database) -> {
+
+			initializations.incrementAndGet();
+			assertThat(factory.getMongoDatabase()).isSameAs(tenantDatabase);
+		});
+
+		currentTenant.set("tenant-1");
+
+		assertThat(factory.getMongoDatabase()).isSameAs(tenantDatabase);
+		assertThat(initializations).hasValue(1);
+		assertThat(factory.getStatistics().getTenant("tenant-1").isInitialized()).isTrue();
+	}
+
+	@Test
+	void retriesFailedTenantInitialization() {
+
+		AtomicInteger attempts = new AtomicInteger();
+		factory.setTenantInitializer((tenant, database) -> {
+			if (attempts.incrementAndGet() == 1) {
+				throw new IllegalStateException("o_O");
+			}
+		});
+
+		currentTenant.set("tenant-1");
+
+		assertThatIllegalStateException().isThrownBy(factory::getMongoDatabase);
+		assertThat(factory.getStatistics().getTenant("tenant-1").isInitialized()).isFalse();
+
+		assertThat(factory.getMongoDatabase()).isSameAs(tenantDatabase);
+		assertThat(factory.getMongoDatabase()).isSameAs(tenantDatabase);
+		assertThat(attempts).hasValue(2);
+	}
+
+	@Test
+	void recordsTenantStatistics() {
+
+		currentTenant.set("tenant-1");
+		factory.getMongoDatabase();
+		factory.getMongoDatabase();
+
+		currentTenant.set(null);
+		factory.getMongoDatabase();
+
+		TenantRoutingStatistics statistics = factory.getStatistics();
+
+		assertThat(statistics.getTenants()).containsOnlyKeys("tenant-1");
+		assertThat(statistics.getTenant("tenant-1").getLookupCount()).isEqualTo(2);
+		assertThat(statistics.getSize()).isEqualTo(2);
+	}
+
+	@Test
+	void sessionBoundFactoryRoutesToTenant() {
+
+		currentTenant.set("tenant-1");
+
+		assertThat(factory.withSession(mock(ClientSession.class)).getMongoDatabase())
+				.isInstanceOf(MongoDatabase.class);
+		verify(mongoClient).getDatabase("tenant-1");
+	}
+}
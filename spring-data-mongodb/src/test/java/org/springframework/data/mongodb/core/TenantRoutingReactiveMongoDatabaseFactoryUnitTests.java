@@ -0,0 +1,153 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+
+/**
+ * Unit tests for {@link TenantRoutingReactiveMongoDatabaseFactory}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TenantRoutingReactiveMongoDatabaseFactoryUnitTests {
+
+	@Mock MongoClient mongoClient;
+	@Mock MongoDatabase defaultDatabase;
+	@Mock MongoDatabase tenantDatabase;
+
+	TenantRoutingReactiveMongoDatabaseFactory factory;
+
+	@BeforeEach
+	void beforeEach() {
+
+		when(mongoClient.getDatabase("default")).thenReturn(defaultDatabase);
+		when(mongoClient.getDatabase("tenant-1")).thenReturn(tenantDatabase);
+
+		factory = new TenantRoutingReactiveMongoDatabaseFactory(mongoClient, "default",
+				ReactiveTenantResolver.fromContext("tenant"));
+	}
+
+	@Test
+	void usesDefaultDatabaseWithoutTenant() {
+
+		factory.getMongoDatabase() //
+				.as(StepVerifier::create) //
+				.expectNext(defaultDatabase) //
+				.verifyComplete();
+	}
+
+	@Test
+	void routesToTenantFromSubscriberContext() {
+
+		factory.getMongoDatabase() //
+				.subscriberContext(Context.of("tenant", "tenant-1")) //
+				.as(StepVerifier::create) //
+				.expectNext(tenantDatabase) //
+				.verifyComplete();
+	}
+
+	@Test
+	void cachesDatabaseHandles() {
+
+		for (int i = 0; i < 3; i++) {
+
+			factory.getMongoDatabase() //
+					.subscriberContext(Context.of("tenant", "tenant-1")) //
+					.as(StepVerifier::create) //
+					.expectNext(tenantDatabase) //
+					.verifyComplete();
+		}
+
+		verify(mongoClient, times(1)).getDatabase("tenant-1");
+		assertThat(factory.getStatistics().getTenant("tenant-1").getLookupCount()).isEqualTo(3);
+	}
+
+	@Test
+	void initializesTenantOnce() {
+
+		AtomicInteger initializations = new AtomicInteger();
+		factory.setTenantInitializer((tenant, database) -> Mono.fromRunnable(initializations::incrementAndGet));
+
+		for (int i = 0; i < 2; i++) {
+
+			factory.getMongoDatabase() //
+					.subscriberContext(Context.of("tenant", "tenant-1")) //
+					.as(StepVerifier::create) //
+					.expectNext(tenantDatabase) //
+					.verifyComplete();
+		}
+
+		assertThat(initializations).hasValue(1);
+		assertThat(factory.getStatistics().getTenant("tenant-1").isInitialized()).isTrue();
+	}
+
+	@Test
+	void skipsInitializationForCallsIssuedByInitializer() {
+
+		AtomicInteger initializations = new AtomicInteger();
+		factory.setTenantInitializer((tenant, database) -> Mono.fromRunnable(initializations::incrementAndGet)
+				.then(factory.getMongoDatabase()));
+
+		factory.getMongoDatabase() //
+				.subscriberContext(Context.of("tenant", "tenant-1")) //
+				.as(StepVerifier::create) //
+				.expectNext(tenantDatabase) //
+				.verifyComplete();
+
+		assertThat(initializations).hasValue(1);
+		assertThat(factory.getStatistics().getTenant("tenant-1").isInitialized()).isTrue();
+	}
+
+	@Test
+	void retriesFailedTenantInitialization() {
+
+		AtomicInteger attempts = new AtomicInteger();
+		factory.setTenantInitializer((tenant, database) -> Mono.defer(() -> attempts.incrementAndGet() == 1
+				? Mono.error(new IllegalStateException("o_O"))
+				: Mono.empty()));
+
+		factory.getMongoDatabase() //
+				.subscriberContext(Context.of("tenant", "tenant-1")) //
+				.as(StepVerifier::create) //
+				.verifyError(IllegalStateException.class);
+
+		factory.getMongoDatabase() //
+				.subscriberContext(Context.of("tenant", "tenant-1")) //
+				.as(StepVerifier::create) //
+				.expectNext(tenantDatabase) //
+				.verifyComplete();
+
+		assertThat(attempts).hasValue(2);
+	}
+}
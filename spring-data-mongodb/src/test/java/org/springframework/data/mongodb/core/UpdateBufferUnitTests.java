@@ -0,0 +1,209 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+
+import com.mongodb.bulk.BulkWriteResult;
+
+/**
+ * Unit tests for {@link UpdateBuffer}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class UpdateBufferUnitTests {
+
+	@Mock MongoOperations operations;
+	@Mock BulkOperations bulkOperations;
+	@Mock UpdateBufferListener listener;
+
+	@BeforeEach
+	void beforeEach() {
+
+		when(operations.bulkOps(any(), any(), anyString())).thenReturn(bulkOperations);
+		when(bulkOperations.execute()).thenReturn(BulkWriteResult.unacknowledged());
+	}
+
+	@Test
+	void mergesUpdatesIntoSingleBulkWrite() {
+
+		UpdateBuffer buffer = UpdateBuffer.builder(operations, "counters").build();
+
+		buffer.update("id-1", new Update().inc("counter", 1));
+		buffer.update("id-1", new Update().inc("counter", 2));
+		buffer.update("id-2", new Update().inc("counter", 1));
+
+		assertThat(buffer.getPendingCount()).isEqualTo(2);
+
+		buffer.flush();
+
+		List<Pair<Query, Update>> updates = captureUpdateOne();
+
+		verify(operations).bulkOps(BulkMode.UNORDERED, null, "counters");
+		assertThat(updates).hasSize(2);
+		assertThat(updates.get(0).getFirst().getQueryObject()).isEqualTo(new Document("_id", "id-1"));
+		assertThat(updates.get(0).getSecond().getUpdateObject())
+				.isEqualTo(new Document("$inc", new Document("counter", 3)));
+		assertThat(buffer.getPendingCount()).isZero();
+	}
+
+	@Test
+	void flushesWhenMaxSizeReached() {
+
+		UpdateBuffer buffer = UpdateBuffer.builder(operations, "counters").maxSize(2).build();
+
+		buffer.update("id-1", new Update().inc("counter", 1));
+		verifyNoInteractions(bulkOperations);
+
+		buffer.update("id-2", new Update().inc("counter", 1));
+
+		assertThat(captureUpdateOne()).hasSize(2);
+		assertThat(buffer.getPendingCount()).isZero();
+	}
+
+	@Test
+	void flushesPendingUpdatesBeforeConflictingUpdate() {
+
+		UpdateBuffer buffer = UpdateBuffer.builder(operations, "counters").build();
+
+		buffer.update("id-1", new Update().inc("counter", 1));
+		buffer.update("id-1", new Update().set("counter", 0));
+
+		List<Pair<Query, Update>> updates = captureUpdateOne();
+
+		assertThat(updates).hasSize(1);
+		assertThat(updates.get(0).getSecond().getUpdateObject())
+				.isEqualTo(new Document("$inc", new Document("counter", 1)));
+		assertThat(buffer.getPendingCount()).isOne();
+	}
+
+	@Test
+	void flushesOnlyDocumentOfConflictingUpdate() {
+
+		UpdateBuffer buffer = UpdateBuffer.builder(operations, "counters").build();
+
+		buffer.update("id-2", new Update().inc("counter", 1));
+		buffer.update("id-1", new Update().push("tags", "luke"));
+		buffer.update("id-1", new Update().push("tags", "leia"));
+
+		List<Pair<Query, Update>> updates = captureUpdateOne();
+
+		assertThat(updates).hasSize(1);
+		assertThat(updates.get(0).getSecond().getUpdateObject())
+				.isEqualTo(new Document("$push", new Document("tags", "luke")));
+		assertThat(buffer.getPendingCount()).isEqualTo(2);
+	}
+
+	@Test
+	void closeFlushesAndRejectsFurtherUpdates() {
+
+		UpdateBuffer buffer = UpdateBuffer.builder(operations, "counters").build();
+
+		buffer.update("id-1", new Update().inc("counter", 1));
+		buffer.close();
+
+		assertThat(captureUpdateOne()).hasSize(1);
+		assertThatIllegalStateException().isThrownBy(() -> buffer.update("id-1", new Update().inc("counter", 1)));
+	}
+
+	@Test
+	void usesUpsertIfConfigured() {
+
+		UpdateBuffer buffer = UpdateBuffer.builder(operations, "counters").upsert().build();
+
+		buffer.update("id-1", new Update().inc("counter", 1));
+		buffer.flush();
+
+		verify(bulkOperations).upsert(anyList());
+		verify(bulkOperations, never()).updateOne(anyList());
+	}
+
+	@Test
+	void usesEntityCollectionName() {
+
+		when(operations.getCollectionName(Person.class)).thenReturn("person");
+
+		UpdateBuffer buffer = UpdateBuffer.builder(operations, Person.class).build();
+
+		buffer.update("id-1", new Update().inc("counter", 1));
+		buffer.flush();
+
+		verify(operations).bulkOps(BulkMode.UNORDERED, Person.class, "person");
+	}
+
+	@Test
+	void notifiesListener() {
+
+		UpdateBuffer buffer = UpdateBuffer.builder(operations, "counters").listener(listener).build();
+
+		buffer.update("id-1", new Update().inc("counter", 1));
+		buffer.flush();
+
+		verify(listener).beforeFlush(anyMap());
+		verify(listener).afterFlush(anyMap(), eq(BulkWriteResult.unacknowledged()));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void passesFailedUpdatesToListener() {
+
+		DataIntegrityViolationException error = new DataIntegrityViolationException("failed");
+		when(bulkOperations.execute()).thenThrow(error);
+
+		UpdateBuffer buffer = UpdateBuffer.builder(operations, "counters").listener(listener).build();
+
+		buffer.update("id-1", new Update().inc("counter", 1));
+
+		assertThatExceptionOfType(DataIntegrityViolationException.class).isThrownBy(buffer::flush);
+
+		ArgumentCaptor<Map<Object, Update>> captor = ArgumentCaptor.forClass(Map.class);
+		verify(listener).onFlushError(captor.capture(), eq(error));
+		verify(listener, never()).afterFlush(anyMap(), any());
+
+		assertThat(captor.getValue()).containsOnlyKeys("id-1");
+		assertThat(buffer.getPendingCount()).isZero();
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Pair<Query, Update>> captureUpdateOne() {
+
+		ArgumentCaptor<List<Pair<Query, Update>>> captor = ArgumentCaptor.forClass(List.class);
+		verify(bulkOperations).updateOne(captor.capture());
+		verify(bulkOperations).execute();
+
+		return captor.getValue();
+	}
+}
@@ -75,4 +75,23 @@ public class AggregationOptionsTests {
 		assertThat(aggregationOptions.toDocument()).isEqualTo(Document.parse(
 				"{ \"allowDiskUse\" : true , \"explain\" : true , \"cursor\" : { \"batchSize\" : 1}, \"comment\": \"hola!\"}"));
 	}
+
+	@Test
+	public void retainsSkipRawResultsWhenConvertingFromAndToDocument() {
+
+		AggregationOptions options = newAggregationOptions().allowDiskUse(true).skipRawResults().build();
+
+		assertThat(options.toDocument()).containsEntry("skipRawResults", true);
+		assertThat(AggregationOptions.fromDocument(options.toDocument()).isSkipRawResults()).isTrue();
+		assertThat(AggregationOptions.fromDocument(aggregationOptions.toDocument()).isSkipRawResults()).isFalse();
+	}
+
+	@Test
+	public void doesNotApplySkipRawResultsToCommand() {
+
+		AggregationOptions options = newAggregationOptions().skipRawResults().build();
+
+		assertThat(options.applyAndReturnPotentiallyChangedCommand(new Document("aggregate", "person")))
+				.doesNotContainKey("skipRawResults");
+	}
 }
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.aggregation;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+import static org.springframework.data.mongodb.core.aggregation.AggregationParameter.*;
+import static org.springframework.data.mongodb.core.query.Criteria.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.mongodb.test.util.Assertions.*;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * Unit tests for {@link PreparedAggregation}.
+ */
+public class PreparedAggregationUnitTests {
+
+	MongoMappingContext context;
+	MappingMongoConverter converter;
+	QueryMapper mapper;
+
+	@BeforeEach
+	public void setUp() {
+
+		this.context = new MongoMappingContext();
+		this.converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, context);
+		this.mapper = new QueryMapper(converter);
+	}
+
+	@Test
+	public void bindsParametersAtMappedFieldPositions() {
+
+		PreparedAggregation<TenantInvoice> prepared = prepare(newAggregation(TenantInvoice.class, //
+				match(where("tenantId").is(parameter("tenant"))), //
+				limit(parameter("limit", Long.class))));
+
+		List<Document> pipeline = prepared.bind("acme", 10L).toPipeline(DEFAULT_CONTEXT);
+
+		assertThat(pipeline).hasSize(2);
+		assertThat(pipeline.get(0)).isEqualTo(new Document("$match", new Document("tenant_id", "acme")));
+		assertThat(pipeline.get(1)).isEqualTo(new Document("$limit", 10L));
+	}
+
+	@Test
+	public void exposesParametersInOrderOfOccurrence() {
+
+		PreparedAggregation<TenantInvoice> prepared = prepare(newAggregation(TenantInvoice.class, //
+				match(where("tenantId").is(parameter("tenant")).and("status").in(parameter("status"))), //
+				skip(parameter("skip", Long.class)), //
+				limit(parameter("limit", Long.class))));
+
+		assertThat(prepared.getParameters()).extracting(AggregationParameter::getName).containsExactly("tenant", "status",
+				"skip", "limit");
+	}
+
+	@Test
+	public void reusesParameterAcrossStages() {
+
+		PreparedAggregation<TenantInvoice> prepared = prepare(newAggregation(TenantInvoice.class, //
+				match(where("tenantId").is(parameter("tenant"))), //
+				limit(10), //
+				match(where("tenantId").is(parameter("tenant")))));
+
+		List<Document> pipeline = prepared.bind("acme").toPipeline(DEFAULT_CONTEXT);
+
+		assertThat(prepared.getParameters()).hasSize(1);
+		assertThat(pipeline.get(0)).containsEntry("$match.tenant_id", "acme");
+		assertThat(pipeline.get(2)).containsEntry("$match.tenant_id", "acme");
+	}
+
+	@Test
+	public void sharesStagesWithoutParameters() {
+
+		PreparedAggregation<TenantInvoice> prepared = prepare(newAggregation(TenantInvoice.class, //
+				match(where("tenantId").is(parameter("tenant"))), //
+				group("status").count().as("count")));
+
+		List<Document> first = prepared.bind("acme").toPipeline(DEFAULT_CONTEXT);
+		List<Document> second = prepared.bind("umbrella").toPipeline(DEFAULT_CONTEXT);
+
+		assertThat(first.get(0)).containsEntry("$match.tenant_id", "acme");
+		assertThat(second.get(0)).containsEntry("$match.tenant_id", "umbrella");
+		assertThat(first.get(1)).isSameAs(second.get(1));
+	}
+
+	@Test
+	public void bindsParametersByName() {
+
+		PreparedAggregation<TenantInvoice> prepared = prepare(newAggregation(TenantInvoice.class, //
+				match(where("tenantId").is(parameter("tenant"))), //
+				limit(parameter("limit", Long.class))));
+
+		Map<String, Object> values = new LinkedHashMap<>();
+		values.put("limit", 5L);
+		values.put("tenant", "acme");
+
+		List<Document> pipeline = prepared.bind(values).toPipeline(DEFAULT_CONTEXT);
+
+		assertThat(pipeline.get(0)).containsEntry("$match.tenant_id", "acme");
+		assertThat(pipeline.get(1)).containsEntry("$limit", 5L);
+	}
+
+	@Test
+	public void convertsBoundValues() {
+
+		PreparedAggregation<TenantInvoice> prepared = prepare(newAggregation(TenantInvoice.class, //
+				match(where("status").is(parameter("status")))));
+
+		List<Document> pipeline = prepared.bind(Status.PAID).toPipeline(DEFAULT_CONTEXT);
+
+		assertThat(pipeline.get(0)).containsEntry("$match.status", "PAID");
+	}
+
+	@Test
+	public void convertsBoundValuesAgainstTargetProperty() {
+
+		ObjectId id = new ObjectId();
+		PreparedAggregation<TenantInvoice> prepared = prepare(newAggregation(TenantInvoice.class, //
+				match(where("id").is(parameter("id")).and("tenantId").is(parameter("tenant")))));
+
+		List<Document> pipeline = prepared.bind(id.toHexString(), "acme").toPipeline(DEFAULT_CONTEXT);
+
+		assertThat(pipeline.get(0)).containsEntry("$match._id", id);
+		assertThat(pipeline.get(0)).containsEntry("$match.tenant_id", "acme");
+	}
+
+	@Test
+	public void convertsBoundIdsInCollection() {
+
+		ObjectId id = new ObjectId();
+		PreparedAggregation<TenantInvoice> prepared = prepare(newAggregation(TenantInvoice.class, //
+				match(where("id").in(parameter("id"), new ObjectId()))));
+
+		List<Document> pipeline = prepared.bind(id.toHexString()).toPipeline(DEFAULT_CONTEXT);
+
+		assertThat(pipeline.get(0).get("$match", Document.class).get("_id", Document.class).get("$in", List.class))
+				.startsWith(id);
+	}
+
+	@Test
+	public void rendersBoundAggregationWithAnyContext() {
+
+		PreparedAggregation<TenantInvoice> prepared = prepare(newAggregation(TenantInvoice.class, //
+				match(where("tenantId").is(parameter("tenant")))));
+
+		TypedAggregation<TenantInvoice> bound = prepared.bind("acme");
+
+		assertThat(bound.toPipeline(new TypeBasedAggregationOperationContext(TenantInvoice.class, context, mapper)))
+				.isEqualTo(bound.toPipeline(DEFAULT_CONTEXT));
+		assertThat(bound.withOptions(AggregationOptions.builder().allowDiskUse(true).build()).toPipeline(DEFAULT_CONTEXT))
+				.isEqualTo(bound.toPipeline(DEFAULT_CONTEXT));
+	}
+
+	@Test
+	public void rejectsNegativeLimitAndSkip() {
+
+		PreparedAggregation<TenantInvoice> prepared = prepare(newAggregation(TenantInvoice.class, //
+				skip(parameter("skip")), //
+				limit(parameter("limit"))));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> prepared.bind(-1L, 10L));
+		assertThatIllegalArgumentException().isThrownBy(() -> prepared.bind(0L, -1L));
+		assertThatIllegalArgumentException().isThrownBy(() -> prepared.bind("ten", 10L));
+	}
+
+	@Test
+	public void operationsPrepareAggregationUsingTheirConverter() {
+
+		MongoOperations operations = mock(MongoOperations.class, CALLS_REAL_METHODS);
+		doReturn(converter).when(operations).getConverter();
+
+		PreparedAggregation<TenantInvoice> prepared = operations.prepareAggregation(
+				newAggregation(TenantInvoice.class, match(where("tenantId").is(parameter("tenant")))));
+
+		assertThat(prepared.bind("acme").toPipeline(DEFAULT_CONTEXT))
+				.containsExactly(new Document("$match", new Document("tenant_id", "acme")));
+	}
+
+	@Test
+	public void retainsOptionsForBoundAggregation() {
+
+		AggregationOptions options = AggregationOptions.builder().allowDiskUse(true).build();
+		PreparedAggregation<TenantInvoice> prepared = prepare(
+				newAggregation(TenantInvoice.class, match(where("tenantId").is(parameter("tenant")))).withOptions(options));
+
+		assertThat(prepared.bind("acme").getOptions()).isSameAs(options);
+		assertThat(prepared.bind("acme").getInputType()).isEqualTo(TenantInvoice.class);
+	}
+
+	@Test
+	public void rejectsValueOfWrongType() {
+
+		PreparedAggregation<TenantInvoice> prepared = prepare(newAggregation(TenantInvoice.class, //
+				limit(parameter("limit", Long.class))));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> prepared.bind("ten"));
+	}
+
+	@Test
+	public void rejectsWrongNumberOfValues() {
+
+		PreparedAggregation<TenantInvoice> prepared = prepare(newAggregation(TenantInvoice.class, //
+				match(where("tenantId").is(parameter("tenant")))));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> prepared.bind("acme", "umbrella"));
+	}
+
+	@Test
+	public void rejectsMissingNamedValue() {
+
+		PreparedAggregation<TenantInvoice> prepared = prepare(newAggregation(TenantInvoice.class, //
+				match(where("tenantId").is(parameter("tenant")))));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> prepared.bind(Collections.singletonMap("limit", 10L)));
+	}
+
+	@Test
+	public void rejectsSameParameterNameWithDifferentTypes() {
+
+		TypedAggregation<TenantInvoice> aggregation = newAggregation(TenantInvoice.class, //
+				skip(parameter("value", Long.class)), //
+				match(where("tenantId").is(parameter("value", String.class))));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> prepare(aggregation));
+	}
+
+	private <T> PreparedAggregation<T> prepare(TypedAggregation<T> aggregation) {
+		return PreparedAggregation.of(aggregation, converter);
+	}
+
+	enum Status {
+		OPEN, PAID
+	}
+
+	static class TenantInvoice {
+
+		@Id String id;
+		@Field("tenant_id") String tenantId;
+		Status status;
+	}
+}
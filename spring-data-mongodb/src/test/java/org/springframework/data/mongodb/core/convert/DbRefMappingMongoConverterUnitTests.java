@@ -664,6 +664,23 @@ public class DbRefMappingMongoConverterUnitTests {
 		verify(converterSpy, never()).readRef(any());
 	}
 
+	@Test
+	void shouldReadJoinedReferencesDirectlyEvenIfLazy() {
+
+		Document document = new Document("_id", "id") //
+				.append("dbRefToConcreteType", new Document("_id", "single").append("value", "one")) //
+				.append("dbRefToInterface", Arrays.asList(new Document("_id", "first"), null));
+
+		ClassWithLazyDbRefs result = converter.read(ClassWithLazyDbRefs.class, document);
+
+		assertThat(result.dbRefToConcreteType).isExactlyInstanceOf(LazyDbRefTarget.class);
+		assertThat(result.dbRefToConcreteType.getValue()).isEqualTo("one");
+		assertThat(result.dbRefToInterface).extracting(it -> it == null ? null : it.getId()).containsExactly("first",
+				null);
+
+		verify(dbRefResolver, never()).resolveDbRef(any(), any(), any(), any());
+	}
+
 	private Object transport(Object result) {
 		return SerializationUtils.deserialize(SerializationUtils.serialize(result));
 	}
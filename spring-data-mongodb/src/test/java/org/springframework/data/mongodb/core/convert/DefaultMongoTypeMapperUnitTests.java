@@ -16,6 +16,7 @@
 package org.springframework.data.mongodb.core.convert;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -27,7 +28,9 @@ import org.junit.jupiter.api.Test;
 
 import org.springframework.data.convert.ConfigurableTypeInformationMapper;
 import org.springframework.data.convert.SimpleTypeInformationMapper;
+import org.springframework.data.convert.TypeInformationMapper;
 import org.springframework.data.mongodb.core.DocumentTestUtils;
+import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 
 /**
@@ -184,6 +187,42 @@ public class DefaultMongoTypeMapperUnitTests {
 		assertThat(typeMapper.isTypeKey(DefaultMongoTypeMapper.DEFAULT_TYPE_KEY)).isFalse();
 	}
 
+	@Test
+	public void readsDeclaredTypeWithoutResolvingAlias() {
+
+		TypeInformationMapper mapper = spy(configurableTypeInformationMapper);
+		typeMapper = new DefaultMongoTypeMapper(DefaultMongoTypeMapper.DEFAULT_TYPE_KEY, Arrays.asList(mapper));
+
+		TypeInformation<String> declaredType = ClassTypeInformation.from(String.class);
+		Document document = new Document(DefaultMongoTypeMapper.DEFAULT_TYPE_KEY, "1");
+
+		assertThat(typeMapper.readType(document, declaredType)).isSameAs(declaredType);
+		verify(mapper, never()).resolveTypeFrom(any());
+	}
+
+	@Test
+	public void readsMoreSpecificTypeThanDeclared() {
+
+		Document document = new Document(DefaultMongoTypeMapper.DEFAULT_TYPE_KEY, String.class.getName());
+
+		assertThat(typeMapper.readType(document, ClassTypeInformation.OBJECT).getType()).isEqualTo(String.class);
+	}
+
+	@Test
+	public void cachesAliasLookup() {
+
+		TypeInformationMapper mapper = spy(configurableTypeInformationMapper);
+		typeMapper = new DefaultMongoTypeMapper(DefaultMongoTypeMapper.DEFAULT_TYPE_KEY, Arrays.asList(mapper));
+
+		writesTypeToField(new Document(), String.class, "1");
+		writesTypeToField(new Document(), String.class, "1");
+		writesTypeToField(new Document(), Object.class, null);
+		writesTypeToField(new Document(), Object.class, null);
+
+		verify(mapper, times(1)).createAliasFor(ClassTypeInformation.from(String.class));
+		verify(mapper, times(1)).createAliasFor(ClassTypeInformation.OBJECT);
+	}
+
 	private void readsTypeFromField(Document document, Class<?> type) {
 
 		TypeInformation<?> typeInfo = typeMapper.readType(document);
@@ -108,6 +108,41 @@ public class DocumentAccessorUnitTests {
 		assertThat(accessor.hasValue(entity.getRequiredPersistentProperty("name"))).isFalse();
 	}
 
+	@Test
+	void putsAndGetsDeeplyNestedField() {
+
+		MongoPersistentProperty property = context.getRequiredPersistentEntity(TypeWithDeepNesting.class)
+				.getRequiredPersistentProperty("value");
+
+		Document document = new Document();
+		DocumentAccessor accessor = new DocumentAccessor(document);
+		accessor.put(property, "FooBar");
+
+		assertThat(document).isEqualTo(new Document("a", new Document("b", new Document("c", "FooBar"))));
+		assertThat(accessor.get(property)).isEqualTo("FooBar");
+		assertThat(accessor.hasValue(property)).isTrue();
+	}
+
+	@Test
+	void returnsNullForMissingIntermediateDocument() {
+
+		MongoPersistentProperty property = context.getRequiredPersistentEntity(TypeWithDeepNesting.class)
+				.getRequiredPersistentProperty("value");
+
+		DocumentAccessor accessor = new DocumentAccessor(new Document("a", new Document("x", "y")));
+
+		assertThat(accessor.get(property)).isNull();
+		assertThat(accessor.hasValue(property)).isFalse();
+	}
+
+	@Test
+	void reusesFieldNameSegments() {
+
+		assertThat(fooProperty.getFieldNameSegments()).containsExactly("a", "b");
+		assertThat(fooProperty.getFieldNameSegments()).isSameAs(fooProperty.getFieldNameSegments());
+		assertThat(projectingTypeEntity.getRequiredPersistentProperty("name").getFieldNameSegments()).containsExactly("name");
+	}
+
 	static class ProjectingType {
 
 		String name;
@@ -126,4 +161,10 @@ public class DocumentAccessorUnitTests {
 		@Field("a.b") String b;
 		@Field("a.c") String c;
 	}
+
+	static class TypeWithDeepNesting {
+
+		String id;
+		@Field("a.b.c") String value;
+	}
 }
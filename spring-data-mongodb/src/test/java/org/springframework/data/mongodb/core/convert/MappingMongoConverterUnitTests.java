@@ -73,6 +73,7 @@ import org.springframework.data.mongodb.core.geo.Sphere;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 import org.springframework.data.mongodb.core.mapping.FieldType;
+import org.springframework.data.mongodb.core.mapping.LazyElements;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.core.mapping.PersonPojoStringId;
@@ -2180,6 +2181,144 @@ public class MappingMongoConverterUnitTests {
 		assertThat(((LinkedHashMap) result.get("cluster")).get("_id")).isEqualTo(100L);
 	}
 
+	@Test
+	void omitsTypeHintForFinalTypesIfConfigured() {
+
+		converter.setOmitTypeHintsForFinalTypes(true);
+
+		org.bson.Document document = new org.bson.Document();
+		converter.write(new FinalType("id-1"), document);
+
+		assertThat(document).containsEntry("_id", "id-1").doesNotContainKey("_class");
+		assertThat(converter.read(FinalType.class, document).id).isEqualTo("id-1");
+	}
+
+	@Test
+	void writesTypeHintForFinalTypesByDefault() {
+
+		org.bson.Document document = new org.bson.Document();
+		converter.write(new FinalType("id-1"), document);
+
+		assertThat(document).containsEntry("_class", FinalType.class.getName());
+	}
+
+	@Test
+	void usesRegisteredTypeDiscriminators() {
+
+		Map<Class<?>, Object> discriminators = new LinkedHashMap<>();
+		discriminators.put(Ellipse.class, 1);
+		discriminators.put(Rectangle.class, 2);
+		mappingContext.registerTypeDiscriminators(Figure.class, discriminators);
+
+		FigureWrapper wrapper = new FigureWrapper();
+		wrapper.figures = Arrays.asList(new Ellipse(), new Rectangle());
+
+		org.bson.Document document = new org.bson.Document();
+		converter.write(wrapper, document);
+
+		List<org.bson.Document> figures = (List<org.bson.Document>) document.get("figures");
+		assertThat(figures.get(0)).containsEntry("_class", 1);
+		assertThat(figures.get(1)).containsEntry("_class", 2);
+		assertThat(converter.read(FigureWrapper.class, document).figures).extracting(Object::getClass)
+				.containsExactly(Ellipse.class, Rectangle.class);
+	}
+
+	@Test
+	void readsLazyElementsOnFirstAccess() {
+
+		org.bson.Document source = new org.bson.Document("lines",
+				Arrays.asList(new org.bson.Document("sku", "a"), new org.bson.Document("sku", "b")));
+
+		WithLazyElements result = converter.read(WithLazyElements.class, source);
+
+		assertThat(result.lines).isInstanceOf(LazyConvertingList.class).hasSize(2);
+		assertThat(((LazyConvertingList) (List<?>) result.lines).isConverted(1)).isFalse();
+
+		LineItem item = result.lines.get(1);
+
+		assertThat(item.sku).isEqualTo("b");
+		assertThat(((LazyConvertingList) (List<?>) result.lines).isConverted(0)).isFalse();
+		assertThat(((LazyConvertingList) (List<?>) result.lines).isConverted(1)).isTrue();
+		assertThat(result.lines.get(1)).isSameAs(item);
+		assertThat(result.lines).extracting(it -> it.sku).containsExactly("a", "b");
+	}
+
+	@Test
+	void writesUnaccessedLazyElementsAsRead() {
+
+		org.bson.Document source = new org.bson.Document("lines",
+				Arrays.asList(new org.bson.Document("sku", "a").append("unmapped", 1),
+						new org.bson.Document("sku", "b").append("unmapped", 2)));
+
+		WithLazyElements entity = converter.read(WithLazyElements.class, source);
+		entity.lines.get(0).sku = "c";
+
+		org.bson.Document target = new org.bson.Document();
+		converter.write(entity, target);
+
+		List<org.bson.Document> lines = (List<org.bson.Document>) target.get("lines");
+
+		assertThat(lines.get(0)).containsEntry("sku", "c").doesNotContainKey("unmapped");
+		assertThat(lines.get(1)).containsEntry("sku", "b").containsEntry("unmapped", 2);
+	}
+
+	@Test
+	void convertsAllLazyElementsOnStructuralModification() {
+
+		org.bson.Document source = new org.bson.Document("lines",
+				Arrays.asList(new org.bson.Document("sku", "a"), new org.bson.Document("sku", "b")));
+
+		WithLazyElements entity = converter.read(WithLazyElements.class, source);
+
+		LineItem item = new LineItem();
+		item.sku = "c";
+		entity.lines.remove(0);
+		entity.lines.add(item);
+
+		assertThat(entity.lines).extracting(it -> it.sku).containsExactly("b", "c");
+
+		org.bson.Document target = new org.bson.Document();
+		converter.write(entity, target);
+
+		assertThat((List<org.bson.Document>) target.get("lines")).extracting(it -> it.get("sku")).containsExactly("b",
+				"c");
+	}
+
+	@Test
+	void readsAndWritesLazyMapValues() {
+
+		org.bson.Document source = new org.bson.Document("linesBySku",
+				new org.bson.Document("a", new org.bson.Document("sku", "a").append("unmapped", 1)).append("b",
+						new org.bson.Document("sku", "b").append("unmapped", 2)));
+
+		WithLazyElements entity = converter.read(WithLazyElements.class, source);
+
+		assertThat(entity.linesBySku).isInstanceOf(LazyConvertingMap.class);
+		assertThat(entity.linesBySku.keySet()).containsExactly("a", "b");
+		assertThat(((LazyConvertingMap) (Map<?, ?>) entity.linesBySku).isConverted("a")).isFalse();
+
+		entity.linesBySku.get("a").sku = "c";
+
+		org.bson.Document target = new org.bson.Document();
+		converter.write(entity, target);
+
+		org.bson.Document map = (org.bson.Document) target.get("linesBySku");
+
+		assertThat(map.get("a", org.bson.Document.class)).containsEntry("sku", "c").doesNotContainKey("unmapped");
+		assertThat(map.get("b", org.bson.Document.class)).containsEntry("sku", "b").containsEntry("unmapped", 2);
+		assertThat(entity.linesBySku.values()).extracting(it -> it.sku).containsExactly("c", "b");
+	}
+
+	@Test
+	void readsLazyElementsEagerlyForNonListTypes() {
+
+		org.bson.Document source = new org.bson.Document("skus", Arrays.asList("a", "b"));
+
+		WithLazyElements result = converter.read(WithLazyElements.class, source);
+
+		assertThat(result.skus).isInstanceOf(LinkedHashSet.class).containsExactly("a", "b");
+	}
+
 	static class GenericType<T> {
 		T content;
 	}
@@ -2650,4 +2789,34 @@ public class MappingMongoConverterUnitTests {
 			return entity;
 		}
 	}
+
+	static final class FinalType {
+
+		final String id;
+
+		FinalType(String id) {
+			this.id = id;
+		}
+	}
+
+	static abstract class Figure {}
+
+	static class Ellipse extends Figure {}
+
+	static class Rectangle extends Figure {}
+
+	static class FigureWrapper {
+		List<Figure> figures;
+	}
+
+	static class WithLazyElements {
+
+		@LazyElements List<LineItem> lines;
+		@LazyElements Map<String, LineItem> linesBySku;
+		@LazyElements Set<String> skus;
+	}
+
+	static class LineItem {
+		String sku;
+	}
 }
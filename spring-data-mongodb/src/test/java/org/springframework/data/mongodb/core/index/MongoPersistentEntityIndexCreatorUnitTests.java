@@ -18,8 +18,11 @@ package org.springframework.data.mongodb.core.index;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -32,6 +35,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.geo.Point;
 import org.springframework.data.mapping.context.MappingContextEvent;
 import org.springframework.data.mongodb.MongoDatabaseFactory;
@@ -44,8 +48,11 @@ import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 
 import com.mongodb.MongoException;
+import com.mongodb.client.ListIndexesIterable;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.IndexModel;
 import com.mongodb.client.model.IndexOptions;
 
 /**
@@ -224,6 +231,124 @@ public class MongoPersistentEntityIndexCreatorUnitTests {
 				.isInstanceOf(ClassCastException.class);
 	}
 
+	@Test
+	void createsIndexesPerCollectionViaSingleCommandWhenUsingExecutor() {
+
+		stubExistingIndexes();
+
+		MongoMappingContext mappingContext = prepareMappingContext(MultipleIndexes.class);
+		MongoPersistentEntityIndexCreator creator = new MongoPersistentEntityIndexCreator(mappingContext, mongoTemplate,
+				IndexResolver.create(mappingContext), Runnable::run);
+
+		ArgumentCaptor<List<IndexModel>> indexModels = ArgumentCaptor.forClass(List.class);
+		verify(collection).createIndexes(indexModels.capture());
+		verify(collection, never()).createIndex(any(org.bson.Document.class), any(IndexOptions.class));
+
+		assertThat(indexModels.getValue()).extracting(IndexModel::getKeys).containsExactly(
+				new org.bson.Document("firstname", 1), new org.bson.Document("lastname", 1));
+		assertThat(creator.getIndexCreation()).isCompleted();
+	}
+
+	@Test
+	void skipsExistingIndexesWhenUsingExecutor() {
+
+		stubExistingIndexes(new org.bson.Document("name", "firstname").append("key", new org.bson.Document("firstname", 1)));
+
+		MongoMappingContext mappingContext = prepareMappingContext(MultipleIndexes.class);
+		new MongoPersistentEntityIndexCreator(mappingContext, mongoTemplate, IndexResolver.create(mappingContext),
+				Runnable::run);
+
+		ArgumentCaptor<List<IndexModel>> indexModels = ArgumentCaptor.forClass(List.class);
+		verify(collection).createIndexes(indexModels.capture());
+
+		assertThat(indexModels.getValue()).extracting(IndexModel::getKeys)
+				.containsExactly(new org.bson.Document("lastname", 1));
+	}
+
+	@Test
+	void doesNotCreateIndexesIfAllPresentWhenUsingExecutor() {
+
+		stubExistingIndexes(new org.bson.Document("name", "indexName").append("key", new org.bson.Document("fieldname", 1)));
+
+		MongoMappingContext mappingContext = prepareMappingContext(Person.class);
+		new MongoPersistentEntityIndexCreator(mappingContext, mongoTemplate, IndexResolver.create(mappingContext),
+				Runnable::run);
+
+		verify(collection, never()).createIndexes(anyList());
+		verify(collection, never()).createIndex(any(org.bson.Document.class), any(IndexOptions.class));
+	}
+
+	@Test
+	void reportsIndexCreationFailureWhenUsingExecutor() {
+
+		stubExistingIndexes();
+		doThrow(new MongoException(6, "HostUnreachable")).when(collection).createIndexes(anyList());
+
+		MongoMappingContext mappingContext = prepareMappingContext(Person.class);
+		MongoPersistentEntityIndexCreator creator = new MongoPersistentEntityIndexCreator(mappingContext, mongoTemplate,
+				IndexResolver.create(mappingContext), Runnable::run);
+
+		assertThat(creator.getIndexCreation()).isCompletedExceptionally();
+	}
+
+	@Test
+	void createsExistingIndexWithDifferentOptionsWhenUsingExecutor() {
+
+		stubExistingIndexes(new org.bson.Document("name", "firstname")
+				.append("key", new org.bson.Document("firstname", 1)).append("unique", true));
+
+		MongoMappingContext mappingContext = prepareMappingContext(MultipleIndexes.class);
+		new MongoPersistentEntityIndexCreator(mappingContext, mongoTemplate, IndexResolver.create(mappingContext),
+				Runnable::run);
+
+		ArgumentCaptor<List<IndexModel>> indexModels = ArgumentCaptor.forClass(List.class);
+		verify(collection).createIndexes(indexModels.capture());
+
+		assertThat(indexModels.getValue()).extracting(IndexModel::getKeys).containsExactly(
+				new org.bson.Document("firstname", 1), new org.bson.Document("lastname", 1));
+	}
+
+	@Test
+	void createsExistingIndexWithDifferentKeysWhenUsingExecutor() {
+
+		stubExistingIndexes(
+				new org.bson.Document("name", "indexName").append("key", new org.bson.Document("fieldname", -1)));
+
+		MongoMappingContext mappingContext = prepareMappingContext(Person.class);
+		new MongoPersistentEntityIndexCreator(mappingContext, mongoTemplate, IndexResolver.create(mappingContext),
+				Runnable::run);
+
+		verify(collection).createIndexes(anyList());
+	}
+
+	@Test
+	void failsOnIndexConflictWhenUsingExecutorIfConfigured() {
+
+		stubExistingIndexes();
+		doThrow(new MongoException(85, "IndexOptionsConflict")).when(collection).createIndexes(anyList());
+		doThrow(new MongoException(85, "IndexOptionsConflict")).when(collection)
+				.createIndex(any(org.bson.Document.class), any(IndexOptions.class));
+
+		MongoMappingContext mappingContext = prepareMappingContext(Person.class);
+
+		assertThatExceptionOfType(DataIntegrityViolationException.class)
+				.isThrownBy(() -> new MongoPersistentEntityIndexCreator(mappingContext, mongoTemplate,
+						IndexResolver.create(mappingContext), Runnable::run, true));
+	}
+
+	private void stubExistingIndexes(org.bson.Document... indexes) {
+
+		ListIndexesIterable<org.bson.Document> listIndexes = mock(ListIndexesIterable.class);
+		MongoCursor<org.bson.Document> cursor = mock(MongoCursor.class);
+
+		when(collection.listIndexes(org.bson.Document.class)).thenReturn(listIndexes);
+		when(listIndexes.iterator()).thenReturn(cursor);
+
+		Iterator<org.bson.Document> iterator = Arrays.asList(indexes).iterator();
+		when(cursor.hasNext()).then(invocation -> iterator.hasNext());
+		when(cursor.next()).then(invocation -> iterator.next());
+	}
+
 	private static MongoMappingContext prepareMappingContext(Class<?> type) {
 
 		MongoMappingContext mappingContext = new MongoMappingContext();
@@ -287,6 +412,13 @@ public class MongoPersistentEntityIndexCreatorUnitTests {
 		@Indexed String indexedValue;
 	}
 
+	@Document
+	static class MultipleIndexes {
+
+		@Indexed String firstname;
+		@Indexed String lastname;
+	}
+
 	@Document
 	class EntityWithGeneratedIndexName {
 
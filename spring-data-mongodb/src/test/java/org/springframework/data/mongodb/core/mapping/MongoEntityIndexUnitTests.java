@@ -0,0 +1,123 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.mapping;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.SpringProperties;
+
+/**
+ * Unit tests for {@link MongoEntityIndex}.
+ */
+class MongoEntityIndexUnitTests {
+
+	@TempDir Path directory;
+
+	@AfterEach
+	void afterEach() {
+
+		SpringProperties.setProperty(MongoEntityIndex.IGNORE_INDEX_PROPERTY, null);
+		MongoEntityIndex.clearCache();
+	}
+
+	@Test
+	void readsEntityNamesSkippingComments() throws IOException {
+
+		String content = "# generated\ncom.example.Person\n\n  com.example.Outer$Inner  \n";
+
+		assertThat(MongoEntityIndex.read(new StringReader(content))).containsExactly("com.example.Person",
+				"com.example.Outer$Inner");
+	}
+
+	@Test
+	void filtersEntitiesByBasePackage() {
+
+		MongoEntityIndex index = new MongoEntityIndex(new LinkedHashSet<>(
+				Arrays.asList("com.example.Person", "com.example.sub.Order", "com.examples.Other")));
+
+		assertThat(index.getEntityClassNames("com.example")).containsExactly("com.example.Person",
+				"com.example.sub.Order");
+		assertThat(index.getEntityClassNames("com.example.sub")).containsExactly("com.example.sub.Order");
+		assertThat(index.getEntityClassNames("")).isEmpty();
+	}
+
+	@Test
+	void doesNotSupportPackagePatterns() {
+
+		MongoEntityIndex index = new MongoEntityIndex(new LinkedHashSet<>());
+
+		assertThat(index.supports("com.example")).isTrue();
+		assertThat(index.supports("com.*.domain")).isFalse();
+	}
+
+	@Test
+	void loadsIndexFromClassLoader() throws IOException {
+
+		writeIndex("com.example.Person\n");
+
+		try (URLClassLoader classLoader = classLoader()) {
+
+			MongoEntityIndex index = MongoEntityIndex.load(classLoader);
+
+			assertThat(index).isNotNull();
+			assertThat(index.getEntityClassNames()).containsExactly("com.example.Person");
+		}
+	}
+
+	@Test
+	void returnsNullWithoutIndex() throws IOException {
+
+		try (URLClassLoader classLoader = classLoader()) {
+			assertThat(MongoEntityIndex.load(classLoader)).isNull();
+		}
+	}
+
+	@Test
+	void ignoresIndexIfConfigured() throws IOException {
+
+		writeIndex("com.example.Person\n");
+		SpringProperties.setFlag(MongoEntityIndex.IGNORE_INDEX_PROPERTY);
+
+		try (URLClassLoader classLoader = classLoader()) {
+			assertThat(MongoEntityIndex.load(classLoader)).isNull();
+		}
+	}
+
+	private void writeIndex(String content) throws IOException {
+
+		Path index = directory.resolve(MongoEntityIndex.INDEX_LOCATION);
+
+		Files.createDirectories(index.getParent());
+		Files.write(index, content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private URLClassLoader classLoader() throws IOException {
+		return new URLClassLoader(new URL[] { directory.toUri().toURL() }, null);
+	}
+}
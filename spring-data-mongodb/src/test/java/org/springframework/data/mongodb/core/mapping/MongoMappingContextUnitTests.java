@@ -29,9 +29,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.springframework.context.ApplicationContext;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mapping.Alias;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.model.FieldNamingStrategy;
+import org.springframework.data.util.ClassTypeInformation;
 
 import com.mongodb.DBRef;
 
@@ -160,6 +162,39 @@ public class MongoMappingContextUnitTests {
 				.withMessageContaining("score").withMessageContaining("Float").withMessageContaining("Double");
 	}
 
+	@Test
+	void resolvesRegisteredTypeDiscriminators() {
+
+		MongoMappingContext context = new MongoMappingContext();
+		context.registerTypeDiscriminators(Parent.class, Collections.singletonMap(Child.class, 1));
+
+		assertThat(context.getTypeDiscriminator(Child.class)).isEqualTo(Alias.of(1));
+		assertThat(context.getTypeDiscriminator(Parent.class)).isEqualTo(Alias.NONE);
+		assertThat(context.getTypeForDiscriminator(Alias.of(1))).isEqualTo(ClassTypeInformation.from(Child.class));
+		assertThat(context.getTypeForDiscriminator(Alias.of(2))).isNull();
+	}
+
+	@Test
+	void rejectsTypeDiscriminatorForTypeOutsideOfHierarchy() {
+
+		MongoMappingContext context = new MongoMappingContext();
+
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> context.registerTypeDiscriminators(Parent.class, Collections.singletonMap(Person.class, 1)));
+	}
+
+	@Test
+	void rejectsTypeDiscriminatorAlreadyInUse() {
+
+		MongoMappingContext context = new MongoMappingContext();
+		context.registerTypeDiscriminators(Parent.class, Collections.singletonMap(Child.class, "c"));
+
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> context.registerTypeDiscriminators(Parent.class, Collections.singletonMap(Parent.class, "c")));
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> context.registerTypeDiscriminators(Parent.class, Collections.singletonMap(Child.class, "d")));
+	}
+
 	public class SampleClass {
 
 		Map<String, SampleClass> children;
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.monitor;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.OperationPhase;
+
+/**
+ * Unit tests for {@link MicrometerOperationObserver}.
+ */
+class MicrometerOperationObserverUnitTests {
+
+	SimpleMeterRegistry registry;
+	MicrometerOperationObserver observer;
+
+	@BeforeEach
+	void beforeEach() {
+
+		registry = new SimpleMeterRegistry();
+		observer = new MicrometerOperationObserver(registry);
+	}
+
+	@Test
+	void recordsTaggedTimer() {
+
+		observer.record(OperationPhase.QUERY_MAPPING, "find", "person", Person.class, null,
+				TimeUnit.MILLISECONDS.toNanos(2));
+
+		Timer timer = registry.get(MicrometerOperationObserver.DEFAULT_METRIC_NAME) //
+				.tag("phase", "query-mapping") //
+				.tag("operation", "find") //
+				.tag("collection", "person") //
+				.tag("entity", "Person") //
+				.tag("method", "none") //
+				.timer();
+
+		assertThat(timer.count()).isOne();
+		assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2D);
+	}
+
+	@Test
+	void reusesTimerForSameTags() {
+
+		observer.record(OperationPhase.EXECUTION, "find", "person", Person.class, null, 10);
+		observer.record(OperationPhase.EXECUTION, "find", "person", Person.class, null, 20);
+		observer.record(OperationPhase.EXECUTION, "find", "person", null, null, 30);
+
+		assertThat(registry.get(MicrometerOperationObserver.DEFAULT_METRIC_NAME).tag("entity", "Person").timer().count())
+				.isEqualTo(2);
+		assertThat(registry.get(MicrometerOperationObserver.DEFAULT_METRIC_NAME).tag("entity", "none").timer().count())
+				.isOne();
+	}
+
+	@Test
+	void tagsRepositoryMethod() {
+
+		observer.record(OperationPhase.READ_CONVERSION, "find", "person", Person.class,
+				"PersonRepository.findByLastname", 10);
+
+		assertThat(registry.get(MicrometerOperationObserver.DEFAULT_METRIC_NAME)
+				.tag("method", "PersonRepository.findByLastname").timer().count()).isOne();
+	}
+
+	@Test
+	void omitsRepositoryMethodIfDisabled() {
+
+		observer.setRepositoryMethodTagging(false);
+
+		observer.record(OperationPhase.READ_CONVERSION, "find", "person", Person.class,
+				"PersonRepository.findByLastname", 10);
+
+		assertThat(registry.get(MicrometerOperationObserver.DEFAULT_METRIC_NAME).tag("method", "none").timer().count())
+				.isOne();
+	}
+
+	@Test
+	void usesConfiguredMetricName() {
+
+		observer = new MicrometerOperationObserver(registry, "mongo.ops");
+		observer.record(OperationPhase.EVENTS, "insert", "person", Person.class, null, 10);
+
+		assertThat(registry.get("mongo.ops").tag("phase", "events").timer().count()).isOne();
+	}
+
+	static class Person {}
+}
@@ -55,6 +55,7 @@ import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Collation;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.Fetch;
 import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.projection.ProjectionFactory;
@@ -173,6 +174,32 @@ class AbstractMongoQueryUnitTests {
 		assertThat(captor.getValue().getMeta().getComment()).isEqualTo("comment");
 	}
 
+	@Test
+	void fetchPathsShouldBeAddedToQuery() {
+
+		MongoQueryFake query = createQueryForMethod("findByFirstnameAndLastname", String.class, String.class);
+		query.execute(new Object[] { "fake", "fake" });
+
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+
+		verify(withQueryMock).matching(captor.capture());
+
+		assertThat(captor.getValue().getFetchPaths()).containsExactly("creator", "fans");
+	}
+
+	@Test
+	void noFetchPathsAddedToQueryWithoutAnnotation() {
+
+		MongoQueryFake query = createQueryForMethod("findByFirstname", String.class);
+		query.execute(new Object[] { "fake" });
+
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+
+		verify(withQueryMock).matching(captor.capture());
+
+		assertThat(captor.getValue().getFetchPaths()).isEmpty();
+	}
+
 	@Test // DATAMONGO-957
 	void metadataShouldBeAddedToCountQueryCorrectly() {
 
@@ -507,6 +534,9 @@ class AbstractMongoQueryUnitTests {
 
 		List<Person> findByFirstname(String firstname);
 
+		@Fetch({ "creator", "fans" })
+		List<Person> findByFirstnameAndLastname(String firstname, String lastname);
+
 		@Meta(comment = "comment", flags = { org.springframework.data.mongodb.core.query.Meta.CursorOption.NO_TIMEOUT })
 		Page<Person> findByFirstname(String firstnanme, Pageable pageable);
 
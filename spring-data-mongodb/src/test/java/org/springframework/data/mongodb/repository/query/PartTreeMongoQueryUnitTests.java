@@ -186,6 +186,40 @@ public class PartTreeMongoQueryUnitTests {
 		assertThat(createQueryForMethod("findPersonBy").isLimiting()).isFalse();
 	}
 
+	@Test
+	public void doesNotShareFieldSpecificationAcrossInvocations() {
+
+		PartTreeMongoQuery partTreeQuery = createQueryForMethod("findByFirstname", String.class);
+
+		org.springframework.data.mongodb.core.query.Query first = createQuery(partTreeQuery, "foo");
+		first.getFieldsObject().put("lastname", 1);
+
+		org.springframework.data.mongodb.core.query.Query second = createQuery(partTreeQuery, "bar");
+
+		assertThat(second.getFieldsObject()).isEqualTo(new Document("firstname", 1));
+		assertThat(second.getQueryObject()).isEqualTo(new Document("firstname", "bar"));
+	}
+
+	@Test
+	public void bindsArgumentsForEachInvocation() {
+
+		PartTreeMongoQuery partTreeQuery = createQueryForMethod("findPersonDtoByAge", Integer.class);
+
+		org.springframework.data.mongodb.core.query.Query first = createQuery(partTreeQuery, 42);
+		org.springframework.data.mongodb.core.query.Query second = createQuery(partTreeQuery, 21);
+
+		assertThat(first.getQueryObject()).isEqualTo(new Document("age", 42));
+		assertThat(second.getQueryObject()).isEqualTo(new Document("age", 21));
+		assertThat(second.getFieldsObject()).isEqualTo(first.getFieldsObject());
+	}
+
+	private org.springframework.data.mongodb.core.query.Query createQuery(PartTreeMongoQuery partTreeQuery,
+			Object... args) {
+
+		MongoParameterAccessor accessor = new MongoParametersParameterAccessor(partTreeQuery.getQueryMethod(), args);
+		return partTreeQuery.createQuery(new ConvertingParameterAccessor(mongoOperationsMock.getConverter(), accessor));
+	}
+
 	private org.springframework.data.mongodb.core.query.Query deriveQueryFromMethod(String method, Object... args) {
 
 		Class<?>[] types = new Class<?>[args.length];
@@ -39,6 +39,7 @@ import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.repository.Address;
 import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.Contact;
+import org.springframework.data.mongodb.repository.Fetch;
 import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.Person;
 import org.springframework.data.projection.ProjectionFactory;
@@ -177,6 +178,12 @@ public class ReactiveMongoQueryMethodUnitTests {
 		Assertions.assertThat(method.getAnnotatedCollation()).isEqualTo("de_AT");
 	}
 
+	@Test
+	public void rejectsFetchPaths() {
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> queryMethod(PersonRepository.class, "findWithFetchByLastname", String.class));
+	}
+
 	private ReactiveMongoQueryMethod queryMethod(Class<?> repository, String name, Class<?>... parameters)
 			throws Exception {
 
@@ -218,6 +225,9 @@ public class ReactiveMongoQueryMethodUnitTests {
 		@Aggregation(pipeline = "{'$group': { _id: '$templateId', maxVersion : { $max : '$version'} } }",
 				collation = "de_AT")
 		Flux<User> findByAggregationWithCollation();
+
+		@Fetch("address")
+		Flux<User> findWithFetchByLastname(String lastname);
 	}
 
 	interface SampleRepository extends Repository<Contact, Long> {
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.annotation.Persistent;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoEntityIndex;
+import org.springframework.stereotype.Indexed;
+
+/**
+ * Unit tests for {@link MongoEntityIndexProcessor}.
+ */
+class MongoEntityIndexProcessorUnitTests {
+
+	static final String DOCUMENT = Document.class.getName();
+	static final String PERSISTENT = Persistent.class.getName();
+
+	@TempDir Path output;
+
+	@Test
+	void indexesEntities() throws IOException {
+
+		compile(source("com.example.Person", "@" + DOCUMENT + " class Person {}"),
+				source("com.example.Order", "@" + PERSISTENT + " public class Order {}"),
+				source("com.example.Plain", "public class Plain {}"),
+				source("com.example.Base", "@" + DOCUMENT + " abstract class Base {}"),
+				source("com.example.Outer", "public class Outer { @" + DOCUMENT + " static class Inner {} @" + DOCUMENT
+						+ " class NonStatic {} }"));
+
+		assertThat(readIndex()).containsExactly("com.example.Order", "com.example.Outer$Inner", "com.example.Person");
+	}
+
+	@Test
+	void indexesMetaAnnotatedEntities() throws IOException {
+
+		compile(source("com.example.Entity", "@" + DOCUMENT
+				+ " @java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME) public @interface Entity {}"),
+				source("com.example.Person", "@Entity public class Person {}"));
+
+		assertThat(readIndex()).containsExactly("com.example.Person");
+	}
+
+	@Test
+	void indexesSubclassesOfDocuments() throws IOException {
+
+		compile(source("com.example.Base", "@" + DOCUMENT + " public abstract class Base {}"),
+				source("com.example.Child", "public class Child extends Base {}"),
+				source("com.example.GrandChild", "public class GrandChild extends Child {}"),
+				source("com.example.PersistentBase", "@" + PERSISTENT + " public class PersistentBase {}"),
+				source("com.example.PersistentChild", "public class PersistentChild extends PersistentBase {}"));
+
+		assertThat(readIndex()).containsExactly("com.example.Child", "com.example.GrandChild",
+				"com.example.PersistentBase");
+	}
+
+	@Test
+	void retainsExistingEntriesNotCompiledAgain() throws IOException {
+
+		Path index = output.resolve(MongoEntityIndex.INDEX_LOCATION);
+		Files.createDirectories(index.getParent());
+		Files.write(index, Arrays.asList("java.lang.String", "com.example.Gone", "com.example.Person"));
+
+		compile(source("com.example.Person", "public class Person {}"),
+				source("com.example.Order", "@" + PERSISTENT + " public class Order {}"));
+
+		assertThat(readIndex()).containsExactly("com.example.Order", "java.lang.String");
+	}
+
+	private void compile(JavaFileObject... sources) {
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		List<String> options = Arrays.asList("-proc:only", "-d", output.toString(), "-classpath",
+				classPathOf(Document.class, Persistent.class, Indexed.class));
+
+		JavaCompiler.CompilationTask task = compiler.getTask(null, null, null, options, null, Arrays.asList(sources));
+		task.setProcessors(Arrays.asList(new MongoEntityIndexProcessor()));
+
+		assertThat(task.call()).isTrue();
+	}
+
+	private List<String> readIndex() throws IOException {
+
+		try (Stream<String> lines = Files.lines(output.resolve(MongoEntityIndex.INDEX_LOCATION),
+				StandardCharsets.UTF_8)) {
+			return lines.filter(it -> !it.startsWith("#")).collect(Collectors.toList());
+		}
+	}
+
+	private static String classPathOf(Class<?>... types) {
+
+		return Arrays.stream(types) //
+				.map(it -> it.getProtectionDomain().getCodeSource().getLocation().getPath()) //
+				.collect(Collectors.joining(File.pathSeparator));
+	}
+
+	private static JavaFileObject source(String className, String content) {
+
+		String packageName = className.substring(0, className.lastIndexOf('.'));
+		URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+
+		return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+
+			@Override
+			public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+				return "package " + packageName + ";\n" + content;
+			}
+		};
+	}
+}
@@ -90,6 +90,16 @@ public class QuerydslMongoPredicateExecutorIntegrationTests {
 		assertThat(repository.exists(person.firstname.eq("Unknown"))).isFalse();
 	}
 
+	@Test
+	public void fetchCountStopsAtLimit() {
+
+		SpringDataMongodbQuery<Person> query = new SpringDataMongodbQuery<>(operations, Person.class)
+				.where(person.lastname.isNotNull());
+
+		assertThat(query.fetchCount(2)).isEqualTo(2L);
+		assertThat(query.fetchCount(10)).isEqualTo(3L);
+	}
+
 	@Test // DATAMONGO-1167
 	public void shouldSupportFindAllWithPredicateAndSort() {
 
@@ -19,6 +19,8 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,6 +32,7 @@ import org.springframework.data.domain.Example;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Collation;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.repository.query.MongoEntityInformation;
@@ -133,6 +136,42 @@ public class SimpleMongoRepositoryUnitTests {
 		assertThat(query.getValue().getCollation()).contains(collation);
 	}
 
+	@Test
+	public void saveAllShouldDelegateToTemplateSaveAllIfNoEntityIsNew() {
+
+		MongoTemplate template = mock(MongoTemplate.class);
+		repository = new SimpleMongoRepository<>(entityInformation, template);
+
+		TestDummy first = new TestDummy();
+		TestDummy second = new TestDummy();
+
+		when(entityInformation.getCollectionName()).thenReturn("dummy");
+		when(entityInformation.isNew(any())).thenReturn(false);
+		when(template.saveAll(anyCollection(), anyString())).thenReturn(Arrays.asList(first, second));
+
+		assertThat(repository.saveAll(Arrays.asList(first, second))).containsExactly(first, second);
+
+		verify(template).saveAll(Arrays.asList(first, second), "dummy");
+		verify(template, never()).save(any(), anyString());
+	}
+
+	@Test
+	public void saveAllShouldSaveEachEntityIfOperationsIsNoMongoTemplate() {
+
+		TestDummy first = new TestDummy();
+		TestDummy second = new TestDummy();
+
+		when(entityInformation.getCollectionName()).thenReturn("dummy");
+		when(entityInformation.isNew(any())).thenReturn(false);
+		when(mongoOperations.save(any(), anyString())).then(invocation -> invocation.getArgument(0));
+
+		assertThat(repository.saveAll(Arrays.asList(first, second))).containsExactly(first, second);
+
+		verify(mongoOperations).save(first, "dummy");
+		verify(mongoOperations).save(second, "dummy");
+		verify(mongoOperations, never()).saveAll(anyCollection(), anyString());
+	}
+
 	static class TestDummy {
 
 	}
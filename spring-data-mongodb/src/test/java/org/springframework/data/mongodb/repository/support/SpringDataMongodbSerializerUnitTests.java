@@ -19,6 +19,8 @@ import static com.querydsl.core.types.ExpressionUtils.path;
 import static com.querydsl.core.types.ExpressionUtils.predicate;
 import static com.querydsl.core.types.dsl.Expressions.*;
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -225,6 +227,29 @@ public class SpringDataMongodbSerializerUnitTests {
 		assertThat(serializer.handle(testExpression)).isEqualTo(expected);
 	}
 
+	@Test
+	void serializesPredicatesOfSameShapeWithTheirOwnValues() {
+
+		assertThat(serializer.handle(QPerson.person.address.zipCode.eq("01234")))
+				.isEqualTo(new Document("add.zipCode", "01234"));
+		assertThat(serializer.handle(QPerson.person.address.zipCode.eq("98765")))
+				.isEqualTo(new Document("add.zipCode", "98765"));
+	}
+
+	@Test
+	void resolvesMappingMetadataOnlyOnceForPredicatesOfSameShape() {
+
+		MongoMappingContext context = spy(new MongoMappingContext());
+		serializer = new SpringDataMongodbSerializer(new MappingMongoConverter(dbFactory, context));
+
+		serializer.handle(QPerson.person.address.zipCode.eq("01234").and(QPerson.person.firstname.eq("Dave")));
+		clearInvocations(context);
+
+		serializer.handle(QPerson.person.address.zipCode.eq("98765").and(QPerson.person.firstname.eq("Oliver")));
+
+		verify(context, never()).getPersistentEntity(any(Class.class));
+	}
+
 	class Address {
 		String id;
 		String street;
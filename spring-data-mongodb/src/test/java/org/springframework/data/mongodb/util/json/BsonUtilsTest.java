@@ -17,11 +17,18 @@ package org.springframework.data.mongodb.util.json;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
 import org.bson.BsonDouble;
 import org.bson.BsonInt32;
 import org.bson.BsonInt64;
 import org.bson.BsonObjectId;
 import org.bson.BsonString;
+import org.bson.RawBsonDocument;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.mongodb.util.BsonUtils;
@@ -64,4 +71,29 @@ class BsonUtilsTest {
 		assertThatExceptionOfType(IllegalArgumentException.class)
 				.isThrownBy(() -> BsonUtils.simpleToBsonValue(new Object()));
 	}
+
+	@Test
+	void writesRawDocumentAsRelaxedJson() {
+
+		RawBsonDocument source = RawBsonDocument.parse("{ '_id' : { '$oid' : '5f3d8e4a2c1b7a0d9e6f1a2b' }, "
+				+ "'name' : 'grün', 'age' : { '$numberLong' : '42' }, 'tags' : [ 'a', { 'nested' : true } ] }");
+
+		StringWriter writer = new StringWriter();
+		BsonUtils.writeJson(source, writer);
+
+		assertThat(writer.toString())
+				.isEqualTo(source.toJson(JsonWriterSettings.builder().outputMode(JsonMode.RELAXED).build()));
+		assertThat(writer.toString()).contains("\"age\": 42");
+	}
+
+	@Test
+	void writesRawDocumentAsUtf8ToOutputStream() {
+
+		RawBsonDocument source = RawBsonDocument.parse("{ 'name' : 'grün' }");
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		BsonUtils.writeJson(source, out);
+
+		assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("{\"name\": \"grün\"}");
+	}
 }